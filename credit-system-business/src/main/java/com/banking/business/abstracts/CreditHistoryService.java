@@ -25,6 +25,9 @@ public interface CreditHistoryService {
     
     DataResult<Page<CreditHistoryResponse>> getActiveByCustomerId(Long customerId, Pageable pageable);
     
+    DataResult<Page<CreditHistoryResponse>> search(Long customerId, CreditHistoryStatus status, CreditType creditType,
+                                                   LocalDate startDate, LocalDate endDate, Pageable pageable);
+    
     DataResult<CreditHistorySummaryResponse> getSummaryByCustomerId(Long customerId);
     
     DataResult<PaymentPerformanceResponse> getPaymentPerformanceByCustomerId(Long customerId);
@@ -5,7 +5,11 @@ import com.banking.business.dtos.request.TransactionMonitorRequest;
 import com.banking.business.dtos.response.RiskAssessmentResponse;
 import com.banking.business.dtos.response.SuspiciousTransactionResponse;
 import com.banking.business.enums.RiskLevel;
-import com.banking.business.fraud.FraudDetectionRule;
+import com.banking.business.fraud.AMLSuspiciousTransactionWriter;
+import com.banking.core.security.fraud.FraudContext;
+import com.banking.core.security.fraud.FraudReason;
+import com.banking.core.security.fraud.FraudRulePipeline;
+import com.banking.core.security.fraud.FraudVerdict;
 import com.banking.entities.SuspiciousTransaction;
 import com.banking.repositories.abstracts.SuspiciousTransactionRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,24 +27,28 @@ import java.util.stream.Collectors;
 public class AMLManager implements AMLService {
 
     private final SuspiciousTransactionRepository suspiciousTransactionRepository;
-    private final List<FraudDetectionRule> fraudDetectionRules;
+    private final FraudRulePipeline fraudRulePipeline;
+    private final AMLSuspiciousTransactionWriter suspiciousTransactionWriter;
     
     private static final BigDecimal HIGH_AMOUNT_THRESHOLD = new BigDecimal("10000.00");
+    private static final int HIGH_RISK_SCORE = 75;
+    private static final int MEDIUM_RISK_SCORE = 50;
 
     @Override
     public RiskAssessmentResponse monitorTransaction(TransactionMonitorRequest request) {
-        // Apply all fraud detection rules
+        // Apply the fraud detection rules; the highest scoring reason determines the risk level.
+        // Recording rules (known locations) are skipped so that monitoring does not change fraud detection state
         RiskLevel highestRiskLevel = RiskLevel.LOW;
         String riskReason = "";
         
-        for (FraudDetectionRule rule : fraudDetectionRules) {
-            if (rule.isApplicable(request)) {
-                RiskLevel riskLevel = rule.evaluateRisk(request);
-                if (riskLevel.ordinal() > highestRiskLevel.ordinal()) {
-                    highestRiskLevel = riskLevel;
-                    riskReason = rule.getRiskReason();
-                }
-            }
+        FraudVerdict verdict = fraudRulePipeline.evaluateWithoutRecording(toFraudContext(request));
+        Optional<FraudReason> topReason = verdict.getTopReason();
+        if (verdict.isHardBlock()) {
+            highestRiskLevel = RiskLevel.HIGH;
+            riskReason = topReason.map(FraudReason::getMessage).orElse("");
+        } else if (topReason.isPresent() && toRiskLevel(topReason.get().getScore()) != RiskLevel.LOW) {
+            highestRiskLevel = toRiskLevel(topReason.get().getScore());
+            riskReason = topReason.get().getMessage();
         }
         
         // Check for high amount transactions
@@ -67,7 +76,8 @@ public class AMLManager implements AMLService {
             transaction.setDeviceId(request.getDeviceId());
             transaction.setLocation(request.getLocation());
             
-            suspiciousTransactionRepository.save(transaction);
+            // Written in batches off the request thread
+            suspiciousTransactionWriter.submit(request.getCustomerId(), transaction);
         }
         
         return RiskAssessmentResponse.builder()
@@ -193,11 +203,33 @@ public class AMLManager implements AMLService {
             case LOW:
                 return 25;
             case MEDIUM:
-                return 50;
+                return MEDIUM_RISK_SCORE;
             case HIGH:
-                return 75;
+                return HIGH_RISK_SCORE;
             default:
                 return 0;
         }
     }
+    
+    private RiskLevel toRiskLevel(int riskScore) {
+        if (riskScore >= HIGH_RISK_SCORE) {
+            return RiskLevel.HIGH;
+        } else if (riskScore >= MEDIUM_RISK_SCORE) {
+            return RiskLevel.MEDIUM;
+        }
+        return RiskLevel.LOW;
+    }
+    
+    private FraudContext toFraudContext(TransactionMonitorRequest request) {
+        return FraudContext.builder()
+                .customerId(request.getCustomerId())
+                .transactionType(request.getTransactionType())
+                .transactionId(request.getTransactionId())
+                .amount(request.getAmount())
+                .ipAddress(request.getIpAddress())
+                .userAgent(request.getUserAgent())
+                .location(request.getLocation())
+                .deviceId(request.getDeviceId())
+                .build();
+    }
 } 
\ No newline at end of file
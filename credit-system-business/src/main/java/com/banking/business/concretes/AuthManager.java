@@ -7,6 +7,7 @@ import com.banking.business.dtos.requests.RegisterCorporateRequest;
 import com.banking.business.dtos.requests.RegisterIndividualRequest;
 import com.banking.business.dtos.responses.JwtResponse;
 import com.banking.business.rules.AuthBusinessRules;
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.security.jwt.JwtTokenProvider;
 import com.banking.core.utilities.results.DataResult;
 import com.banking.core.utilities.results.Result;
@@ -42,6 +43,7 @@ public class AuthManager implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
     private final AuthBusinessRules rules;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Override
     public DataResult<JwtResponse> login(LoginRequest loginRequest) {
@@ -86,6 +88,9 @@ public class AuthManager implements AuthService {
         customer.setRoles(roles);
 
         individualCustomerRepository.save(customer);
+        negativeLookupCache.invalidate(NegativeLookupCache.USER_EMAIL, customer.getEmail());
+        negativeLookupCache.invalidate(NegativeLookupCache.INDIVIDUAL_IDENTITY_NUMBER, customer.getIdentityNumber());
+        negativeLookupCache.invalidate(NegativeLookupCache.INDIVIDUAL_CUSTOMER_NUMBER, customer.getCustomerNumber());
         return new SuccessResult(Messages.Auth.REGISTER_SUCCESS);
     }
 
@@ -110,6 +115,7 @@ public class AuthManager implements AuthService {
         customer.setRoles(roles);
 
         corporateCustomerRepository.save(customer);
+        negativeLookupCache.invalidate(NegativeLookupCache.USER_EMAIL, customer.getEmail());
         return new SuccessResult(Messages.Auth.REGISTER_SUCCESS);
     }
 } 
\ No newline at end of file
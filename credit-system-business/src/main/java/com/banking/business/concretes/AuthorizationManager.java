@@ -1,16 +1,21 @@
 package com.banking.business.concretes;
 
 import com.banking.business.abstracts.AuthorizationService;
+import com.banking.business.services.authorization.PermissionSnapshotStore;
+import com.banking.core.events.PermissionChangedEvent;
 import com.banking.core.utilities.results.*;
 import com.banking.entities.Permission;
+import com.banking.entities.User;
 import com.banking.entities.UserPermission;
 import com.banking.entities.enums.Role;
 import com.banking.repositories.abstracts.PermissionRepository;
 import com.banking.repositories.abstracts.UserPermissionRepository;
+import com.banking.repositories.abstracts.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,13 +29,15 @@ public class AuthorizationManager implements AuthorizationService {
 
     private final PermissionRepository permissionRepository;
     private final UserPermissionRepository userPermissionRepository;
+    private final UserRepository userRepository;
+    private final PermissionSnapshotStore permissionSnapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    @Cacheable(value = "userPermissions", key = "#userId + '_' + #resource + '_' + #action")
     public Result hasPermission(Long userId, String resource, String action) {
-        log.info("Checking permission for user {} on resource {} with action {}", userId, resource, action);
-        
-        boolean hasPermission = userPermissionRepository.hasPermission(userId, resource, action);
+        log.debug("Checking permission for user {} on resource {} with action {}", userId, resource, action);
+
+        boolean hasPermission = permissionSnapshotStore.hasPermission(userId, resource, action);
         return hasPermission ? 
                 new SuccessResult("User has required permission") :
                 new ErrorResult("User does not have required permission");
@@ -38,7 +45,7 @@ public class AuthorizationManager implements AuthorizationService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "userPermissions", key = "#userId + '*'")
+    @CacheEvict(value = "userPermissions", key = "#userId")
     public Result grantPermission(Long userId, Long permissionId, String grantedBy) {
         log.info("Granting permission {} to user {} by {}", permissionId, userId, grantedBy);
 
@@ -47,21 +54,29 @@ public class AuthorizationManager implements AuthorizationService {
             return new ErrorResult("Permission not found");
         }
 
+        Optional<User> userOpt = userRepository.findById(userId);
+        if (userOpt.isEmpty()) {
+            return new ErrorResult("User not found");
+        }
+
         UserPermission userPermission = new UserPermission();
+        userPermission.setUser(userOpt.get());
         userPermission.setPermission(permissionOpt.get());
         userPermission.setGrantedBy(grantedBy);
         userPermissionRepository.save(userPermission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(this, userId));
 
         return new SuccessResult("Permission granted successfully");
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "userPermissions", key = "#userId + '*'")
+    @CacheEvict(value = "userPermissions", key = "#userId")
     public Result revokePermission(Long userId, Long permissionId) {
         log.info("Revoking permission {} from user {}", permissionId, userId);
 
         userPermissionRepository.deleteByUserIdAndPermissionId(userId, permissionId);
+        eventPublisher.publishEvent(new PermissionChangedEvent(this, userId));
         return new SuccessResult("Permission revoked successfully");
     }
 
@@ -98,6 +113,7 @@ public class AuthorizationManager implements AuthorizationService {
         }
 
         permissionRepository.save(permission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(this, null));
         return new SuccessResult("Permission created successfully");
     }
 
@@ -113,6 +129,7 @@ public class AuthorizationManager implements AuthorizationService {
         }
 
         permissionRepository.save(permission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(this, null));
         return new SuccessResult("Permission updated successfully");
     }
 
@@ -130,6 +147,7 @@ public class AuthorizationManager implements AuthorizationService {
         Permission permission = permissionOpt.get();
         permission.setActive(false);
         permissionRepository.save(permission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(this, null));
 
         return new SuccessResult("Permission deleted successfully");
     }
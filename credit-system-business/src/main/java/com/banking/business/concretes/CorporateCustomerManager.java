@@ -5,6 +5,7 @@ import com.banking.business.constants.Messages;
 import com.banking.business.dtos.requests.CreateCorporateCustomerRequest;
 import com.banking.business.dtos.responses.CorporateCustomerResponse;
 import com.banking.business.rules.CorporateCustomerBusinessRules;
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.utilities.mappers.ModelMapperService;
 import com.banking.core.utilities.results.DataResult;
 import com.banking.core.utilities.results.Result;
@@ -20,13 +21,16 @@ public class CorporateCustomerManager implements CorporateCustomerService {
     private final CorporateCustomerRepository repository;
     private final CorporateCustomerBusinessRules rules;
     private final ModelMapperService mapper;
+    private final NegativeLookupCache negativeLookupCache;
 
     public CorporateCustomerManager(CorporateCustomerRepository repository,
                                   CorporateCustomerBusinessRules rules,
-                                  ModelMapperService mapper) {
+                                  ModelMapperService mapper,
+                                  NegativeLookupCache negativeLookupCache) {
         this.repository = repository;
         this.rules = rules;
         this.mapper = mapper;
+        this.negativeLookupCache = negativeLookupCache;
     }
 
     @Override
@@ -39,6 +43,7 @@ public class CorporateCustomerManager implements CorporateCustomerService {
         customer.setCreatedDate(LocalDateTime.now());
         
         CorporateCustomer savedCustomer = repository.save(customer);
+        negativeLookupCache.invalidate(NegativeLookupCache.USER_EMAIL, savedCustomer.getEmail());
         CorporateCustomerResponse response = mapper.forResponse()
             .map(savedCustomer, CorporateCustomerResponse.class);
         
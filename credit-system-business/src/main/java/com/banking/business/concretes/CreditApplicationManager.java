@@ -5,6 +5,7 @@ import com.banking.business.constants.Messages;
 import com.banking.business.dtos.requests.CreateCreditApplicationRequest;
 import com.banking.business.dtos.responses.CreditApplicationResponse;
 import com.banking.business.rules.CreditApplicationBusinessRules;
+import com.banking.business.services.tracking.CreditApplicationStatusPublisher;
 import com.banking.core.utilities.mappers.ModelMapperService;
 import com.banking.core.utilities.results.DataResult;
 import com.banking.core.utilities.results.Result;
@@ -26,6 +27,7 @@ public class CreditApplicationManager implements CreditApplicationService {
     private final CreditApplicationRepository repository;
     private final CreditApplicationBusinessRules rules;
     private final ModelMapperService mapper;
+    private final CreditApplicationStatusPublisher statusPublisher;
 
     @Override
     public DataResult<CreditApplicationResponse> apply(CreateCreditApplicationRequest request) {
@@ -38,6 +40,7 @@ public class CreditApplicationManager implements CreditApplicationService {
         application.setCreatedDate(LocalDateTime.now());
 
         CreditApplication savedApplication = repository.save(application);
+        statusPublisher.publishSubmitted(savedApplication);
         CreditApplicationResponse response = mapper.forResponse()
             .map(savedApplication, CreditApplicationResponse.class);
 
@@ -47,8 +50,10 @@ public class CreditApplicationManager implements CreditApplicationService {
     @Override
     public Result cancel(Long id) {
         CreditApplication application = repository.findById(id).orElseThrow();
+        CreditApplication.Status previousStatus = application.getStatus();
         application.setStatus(convertStatus(CreditApplicationStatus.CANCELLED));
         repository.save(application);
+        statusPublisher.publish("CANCELLED", application, previousStatus);
         return new SuccessResult(Messages.CreditApplication.CANCELLED);
     }
 
@@ -11,10 +11,12 @@ import com.banking.entities.CreditHistory;
 import com.banking.entities.enums.CreditHistoryStatus;
 import com.banking.entities.enums.CreditType;
 import com.banking.repositories.abstracts.CreditHistoryRepository;
+import com.banking.repositories.projections.CreditHistorySummaryAggregate;
+import com.banking.repositories.projections.PaymentPerformanceAggregate;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -23,7 +25,11 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+
+import static com.banking.repositories.specifications.CreditHistorySpecifications.hasCreditType;
+import static com.banking.repositories.specifications.CreditHistorySpecifications.hasCustomerId;
+import static com.banking.repositories.specifications.CreditHistorySpecifications.hasStatus;
+import static com.banking.repositories.specifications.CreditHistorySpecifications.startDateBetween;
 
 @Service
 @AllArgsConstructor
@@ -58,19 +64,8 @@ public class CreditHistoryManager implements CreditHistoryService {
     public DataResult<Page<CreditHistoryResponse>> getAllByCustomerIdAndStatus(
             Long customerId, CreditHistoryStatus status, Pageable pageable) {
         
-        // Get all credit histories for the customer with the specified status
-        List<CreditHistory> allCreditHistories = creditHistoryRepository.findByCustomerIdAndStatus(customerId, status);
-        
-        // Create a new Page from the filtered list
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allCreditHistories.size());
-        
-        List<CreditHistory> pageContent = start < end ? allCreditHistories.subList(start, end) : List.of();
-        Page<CreditHistory> creditHistoriesPage = new PageImpl<>(pageContent, pageable, allCreditHistories.size());
-        
-        Page<CreditHistoryResponse> response = creditHistoriesPage.map(
-                creditHistory -> modelMapperService.forResponse()
-                        .map(creditHistory, CreditHistoryResponse.class));
+        Page<CreditHistoryResponse> response = findPage(
+                hasCustomerId(customerId).and(hasStatus(status)), pageable);
         
         return new SuccessDataResult<>(response, "Credit histories retrieved successfully");
     }
@@ -79,24 +74,8 @@ public class CreditHistoryManager implements CreditHistoryService {
     public DataResult<Page<CreditHistoryResponse>> getAllByCustomerIdAndCreditType(
             Long customerId, CreditType creditType, Pageable pageable) {
         
-        // Get all credit histories for the customer
-        List<CreditHistory> allCreditHistories = creditHistoryRepository.findAllByCustomerId(customerId);
-        
-        // Filter by credit type
-        List<CreditHistory> filteredCreditHistories = allCreditHistories.stream()
-                .filter(creditHistory -> creditHistory.getCreditType() == creditType)
-                .collect(Collectors.toList());
-        
-        // Create a new Page from the filtered list
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredCreditHistories.size());
-        
-        List<CreditHistory> pageContent = start < end ? filteredCreditHistories.subList(start, end) : List.of();
-        Page<CreditHistory> creditHistoriesPage = new PageImpl<>(pageContent, pageable, filteredCreditHistories.size());
-        
-        Page<CreditHistoryResponse> response = creditHistoriesPage.map(
-                creditHistory -> modelMapperService.forResponse()
-                        .map(creditHistory, CreditHistoryResponse.class));
+        Page<CreditHistoryResponse> response = findPage(
+                hasCustomerId(customerId).and(hasCreditType(creditType)), pageable);
         
         return new SuccessDataResult<>(response, "Credit histories retrieved successfully");
     }
@@ -105,114 +84,98 @@ public class CreditHistoryManager implements CreditHistoryService {
     public DataResult<Page<CreditHistoryResponse>> getAllByCustomerIdAndStartDateBetween(
             Long customerId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
         
-        // Get all credit histories for the customer
-        List<CreditHistory> allCreditHistories = creditHistoryRepository.findAllByCustomerId(customerId);
-        
-        // Filter by start date between
-        List<CreditHistory> filteredCreditHistories = allCreditHistories.stream()
-                .filter(creditHistory -> 
-                        creditHistory.getStartDate().isAfter(startDate.minusDays(1)) && 
-                        creditHistory.getStartDate().isBefore(endDate.plusDays(1)))
-                .collect(Collectors.toList());
-        
-        // Create a new Page from the filtered list
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredCreditHistories.size());
-        
-        List<CreditHistory> pageContent = start < end ? filteredCreditHistories.subList(start, end) : List.of();
-        Page<CreditHistory> creditHistoriesPage = new PageImpl<>(pageContent, pageable, filteredCreditHistories.size());
-        
-        Page<CreditHistoryResponse> response = creditHistoriesPage.map(
-                creditHistory -> modelMapperService.forResponse()
-                        .map(creditHistory, CreditHistoryResponse.class));
+        Page<CreditHistoryResponse> response = findPage(
+                hasCustomerId(customerId).and(startDateBetween(startDate, endDate)), pageable);
         
         return new SuccessDataResult<>(response, "Credit histories retrieved successfully");
     }
 
     @Override
     public DataResult<Page<CreditHistoryResponse>> getActiveByCustomerId(Long customerId, Pageable pageable) {
-        // Get all credit histories for the customer with ACTIVE status
-        List<CreditHistory> allCreditHistories = creditHistoryRepository.findByCustomerIdAndStatus(customerId, CreditHistoryStatus.ACTIVE);
-        
-        // Create a new Page from the filtered list
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allCreditHistories.size());
-        
-        List<CreditHistory> pageContent = start < end ? allCreditHistories.subList(start, end) : List.of();
-        Page<CreditHistory> creditHistoriesPage = new PageImpl<>(pageContent, pageable, allCreditHistories.size());
-        
-        Page<CreditHistoryResponse> response = creditHistoriesPage.map(
-                creditHistory -> modelMapperService.forResponse()
-                        .map(creditHistory, CreditHistoryResponse.class));
+        Page<CreditHistoryResponse> response = findPage(
+                hasCustomerId(customerId).and(hasStatus(CreditHistoryStatus.ACTIVE)), pageable);
         
         return new SuccessDataResult<>(response, "Active credit histories retrieved successfully");
     }
 
     @Override
-    public DataResult<CreditHistorySummaryResponse> getSummaryByCustomerId(Long customerId) {
-        List<CreditHistory> creditHistories = creditHistoryRepository.findAllByCustomerId(customerId);
-        
-        // Calculate summary statistics
-        int totalCredits = creditHistories.size();
-        int activeCredits = (int) creditHistories.stream()
-                .filter(ch -> ch.getStatus() == CreditHistoryStatus.ACTIVE)
-                .count();
-        int completedCredits = (int) creditHistories.stream()
-                .filter(ch -> ch.getStatus() == CreditHistoryStatus.PAID_OFF)
-                .count();
-        int defaultedCredits = (int) creditHistories.stream()
-                .filter(ch -> ch.getStatus() == CreditHistoryStatus.DEFAULT || 
-                        ch.getStatus() == CreditHistoryStatus.CHARGED_OFF)
-                .count();
-        
-        BigDecimal totalCreditAmount = creditHistories.stream()
-                .map(CreditHistory::getOriginalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public DataResult<Page<CreditHistoryResponse>> search(
+            Long customerId, CreditHistoryStatus status, CreditType creditType,
+            LocalDate startDate, LocalDate endDate, Pageable pageable) {
         
-        BigDecimal totalOutstandingAmount = creditHistoryRepository.calculateTotalOutstandingAmountByCustomer(customerId);
+        Specification<CreditHistory> specification = hasCustomerId(customerId)
+                .and(hasStatus(status))
+                .and(hasCreditType(creditType))
+                .and(startDateBetween(startDate, endDate));
         
-        BigDecimal totalPaidAmount = totalCreditAmount.subtract(
-                totalOutstandingAmount != null ? totalOutstandingAmount : BigDecimal.ZERO);
-        
-        // Calculate credit type distribution
-        Map<String, Integer> creditTypeDistribution = creditHistories.stream()
-                .collect(Collectors.groupingBy(
-                        ch -> ch.getCreditType().toString(),
-                        Collectors.summingInt(ch -> 1)));
+        return new SuccessDataResult<>(findPage(specification, pageable), "Credit histories retrieved successfully");
+    }
+
+    @Override
+    public DataResult<CreditHistorySummaryResponse> getSummaryByCustomerId(Long customerId) {
+        // Tek sorguda kredi tipi bazında gruplanmış toplamlar; satır sayısı kredi tipi sayısı ile sınırlıdır
+        List<CreditHistorySummaryAggregate> rows = creditHistoryRepository.summarizeByCustomerGroupedByCreditType(customerId);
+        
+        long totalCredits = 0;
+        long activeCredits = 0;
+        long completedCredits = 0;
+        long defaultedCredits = 0;
+        long delinquentCredits = 0;
+        long troubledCredits = 0;
+        BigDecimal totalCreditAmount = BigDecimal.ZERO;
+        BigDecimal totalOutstandingAmount = BigDecimal.ZERO;
+        BigDecimal outstandingForUtilization = BigDecimal.ZERO;
+        BigDecimal interestRateSum = BigDecimal.ZERO;
+        long interestRateCount = 0;
+        long termMonthsSum = 0;
+        long totalPayments = 0;
+        long onTimePayments = 0;
+        Map<String, Integer> creditTypeDistribution = new HashMap<>();
+        
+        for (CreditHistorySummaryAggregate row : rows) {
+            totalCredits += valueOf(row.getTotalCredits());
+            activeCredits += valueOf(row.getActiveCredits());
+            completedCredits += valueOf(row.getCompletedCredits());
+            defaultedCredits += valueOf(row.getDefaultedCredits());
+            delinquentCredits += valueOf(row.getDelinquentCredits());
+            troubledCredits += valueOf(row.getTroubledCredits());
+            totalCreditAmount = totalCreditAmount.add(valueOf(row.getTotalOriginalAmount()));
+            totalOutstandingAmount = totalOutstandingAmount.add(valueOf(row.getOpenOutstandingAmount()));
+            outstandingForUtilization = outstandingForUtilization.add(valueOf(row.getTotalOutstandingAmount()));
+            interestRateSum = interestRateSum.add(valueOf(row.getInterestRateSum()));
+            interestRateCount += valueOf(row.getInterestRateCount());
+            termMonthsSum += valueOf(row.getTermMonthsSum());
+            totalPayments += valueOf(row.getTotalPaymentsMade());
+            onTimePayments += valueOf(row.getOnTimePayments());
+            if (row.getCreditType() != null) {
+                creditTypeDistribution.put(row.getCreditType().toString(), (int) valueOf(row.getTotalCredits()));
+            }
+        }
         
-        // Calculate average interest rate
-        Double averageInterestRate = creditHistories.stream()
-                .filter(ch -> ch.getInterestRate() != null)
-                .mapToDouble(ch -> ch.getInterestRate().doubleValue())
-                .average()
-                .orElse(0.0);
+        BigDecimal totalPaidAmount = totalCreditAmount.subtract(totalOutstandingAmount);
         
-        // Calculate average term
-        Integer averageTerm = (int) creditHistories.stream()
-                .mapToInt(CreditHistory::getTermMonths)
-                .average()
-                .orElse(0.0);
+        Double averageInterestRate = interestRateCount > 0
+                ? interestRateSum.doubleValue() / interestRateCount
+                : 0.0;
         
-        // Check if there are any overdue payments
-        Boolean hasOverduePayments = creditHistories.stream()
-                .anyMatch(ch -> ch.getStatus() == CreditHistoryStatus.DELINQUENT);
+        Integer averageTerm = totalCredits > 0 ? (int) (termMonthsSum / (double) totalCredits) : 0;
         
-        // Calculate a simple credit score (just for demonstration)
-        Integer creditScore = calculateCreditScore(creditHistories);
+        Integer creditScore = calculateCreditScore(
+                totalPayments, onTimePayments, totalCreditAmount, outstandingForUtilization, troubledCredits);
         
         CreditHistorySummaryResponse response = CreditHistorySummaryResponse.builder()
                 .customerId(customerId)
-                .totalCredits(totalCredits)
-                .activeCredits(activeCredits)
-                .completedCredits(completedCredits)
-                .defaultedCredits(defaultedCredits)
+                .totalCredits((int) totalCredits)
+                .activeCredits((int) activeCredits)
+                .completedCredits((int) completedCredits)
+                .defaultedCredits((int) defaultedCredits)
                 .totalCreditAmount(totalCreditAmount)
-                .totalOutstandingAmount(totalOutstandingAmount != null ? totalOutstandingAmount : BigDecimal.ZERO)
+                .totalOutstandingAmount(totalOutstandingAmount)
                 .totalPaidAmount(totalPaidAmount)
                 .creditTypeDistribution(creditTypeDistribution)
                 .averageInterestRate(averageInterestRate)
                 .averageTerm(averageTerm)
-                .hasOverduePayments(hasOverduePayments)
+                .hasOverduePayments(delinquentCredits > 0)
                 .creditScore(creditScore)
                 .build();
         
@@ -221,50 +184,22 @@ public class CreditHistoryManager implements CreditHistoryService {
 
     @Override
     public DataResult<PaymentPerformanceResponse> getPaymentPerformanceByCustomerId(Long customerId) {
-        List<CreditHistory> creditHistories = creditHistoryRepository.findAllByCustomerId(customerId);
-        
-        // Calculate payment performance statistics
-        int totalPayments = creditHistories.stream()
-                .mapToInt(ch -> ch.getTotalPaymentsMade() != null ? ch.getTotalPaymentsMade() : 0)
-                .sum();
+        // Tek satırlık aggregate sorgusu; entity yüklenmez
+        PaymentPerformanceAggregate aggregate = creditHistoryRepository.calculatePaymentPerformanceByCustomer(customerId);
         
-        int onTimePayments = creditHistories.stream()
-                .mapToInt(ch -> ch.getOnTimePayments() != null ? ch.getOnTimePayments() : 0)
-                .sum();
-        
-        int latePayments = creditHistories.stream()
-                .mapToInt(ch -> ch.getLatePayments() != null ? ch.getLatePayments() : 0)
-                .sum();
-        
-        int missedPayments = creditHistories.stream()
-                .mapToInt(ch -> ch.getMissedPayments() != null ? ch.getMissedPayments() : 0)
-                .sum();
+        int totalPayments = (int) valueOf(aggregate.getTotalPayments());
+        int onTimePayments = (int) valueOf(aggregate.getOnTimePayments());
+        int latePayments = (int) valueOf(aggregate.getLatePayments());
+        int missedPayments = (int) valueOf(aggregate.getMissedPayments());
         
         double onTimePaymentPercentage = totalPayments > 0 
                 ? (double) onTimePayments / totalPayments * 100 
                 : 0.0;
         
-        // Calculate average days late
-        int averageDaysLate = (int) creditHistories.stream()
-                .filter(ch -> ch.getAverageDaysLate() != null)
-                .mapToDouble(CreditHistory::getAverageDaysLate)
-                .average()
-                .orElse(0.0);
-        
-        // Calculate total paid amount (approximation)
-        BigDecimal totalPaidAmount = creditHistories.stream()
-                .map(ch -> {
-                    if (ch.getOriginalAmount() != null && ch.getOutstandingAmount() != null) {
-                        return ch.getOriginalAmount().subtract(ch.getOutstandingAmount());
-                    }
-                    return BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        // Calculate total penalty amount
-        BigDecimal totalPenaltyAmount = creditHistories.stream()
-                .map(ch -> ch.getTotalLateFees() != null ? ch.getTotalLateFees() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int averageDaysLate = aggregate.getAverageDaysLate() != null ? aggregate.getAverageDaysLate().intValue() : 0;
+        
+        BigDecimal totalPaidAmount = valueOf(aggregate.getTotalPaidAmount());
+        BigDecimal totalPenaltyAmount = valueOf(aggregate.getTotalPenaltyAmount());
         
         // Create a simple monthly payment trend (just for demonstration)
         Map<String, Integer> monthlyPaymentTrend = new HashMap<>();
@@ -311,33 +246,28 @@ public class CreditHistoryManager implements CreditHistoryService {
     
     // Helper methods
     
-    private Integer calculateCreditScore(List<CreditHistory> creditHistories) {
+    /**
+     * Filtreleri veritabanına uygular; yalnızca istenen sayfa yüklenir ve DTO'ya dönüştürülür.
+     */
+    private Page<CreditHistoryResponse> findPage(Specification<CreditHistory> specification, Pageable pageable) {
+        return creditHistoryRepository.findAll(specification, pageable)
+                .map(creditHistory -> modelMapperService.forResponse()
+                        .map(creditHistory, CreditHistoryResponse.class));
+    }
+    
+    private Integer calculateCreditScore(long totalPayments, long onTimePayments,
+                                         BigDecimal totalOriginal, BigDecimal totalOutstanding,
+                                         long delinquentCredits) {
         // Base score
         int score = 650;
         
         // Adjust based on payment history
-        int totalPayments = creditHistories.stream()
-                .mapToInt(ch -> ch.getTotalPaymentsMade() != null ? ch.getTotalPaymentsMade() : 0)
-                .sum();
-        
-        int onTimePayments = creditHistories.stream()
-                .mapToInt(ch -> ch.getOnTimePayments() != null ? ch.getOnTimePayments() : 0)
-                .sum();
-        
         if (totalPayments > 0) {
             double onTimeRatio = (double) onTimePayments / totalPayments;
             score += (int) (onTimeRatio * 100);
         }
         
         // Adjust based on credit utilization
-        BigDecimal totalOriginal = creditHistories.stream()
-                .map(ch -> ch.getOriginalAmount() != null ? ch.getOriginalAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalOutstanding = creditHistories.stream()
-                .map(ch -> ch.getOutstandingAmount() != null ? ch.getOutstandingAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
         if (totalOriginal.compareTo(BigDecimal.ZERO) > 0) {
             double utilizationRatio = totalOutstanding.divide(totalOriginal, RoundingMode.HALF_UP).setScale(2, RoundingMode.HALF_UP).doubleValue();
             if (utilizationRatio < 0.3) {
@@ -350,18 +280,20 @@ public class CreditHistoryManager implements CreditHistoryService {
         }
         
         // Adjust based on delinquencies
-        long delinquentCredits = creditHistories.stream()
-                .filter(ch -> ch.getStatus() == CreditHistoryStatus.DELINQUENT || 
-                        ch.getStatus() == CreditHistoryStatus.DEFAULT || 
-                        ch.getStatus() == CreditHistoryStatus.COLLECTION)
-                .count();
-        
         score -= delinquentCredits * 50;
         
         // Ensure score is within reasonable bounds
         return Math.max(300, Math.min(850, score));
     }
     
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+    
+    private static BigDecimal valueOf(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+    
     private String calculatePaymentReliabilityRating(double onTimePaymentPercentage) {
         if (onTimePaymentPercentage >= 95) {
             return "EXCELLENT";
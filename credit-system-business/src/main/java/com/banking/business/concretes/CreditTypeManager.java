@@ -4,64 +4,92 @@ import com.banking.business.abstracts.CreditTypeService;
 import com.banking.business.constants.Messages;
 import com.banking.business.dtos.responses.CreditTypeResponse;
 import com.banking.business.rules.CreditTypeBusinessRules;
+import com.banking.business.services.catalog.CreditTypeCatalogProvider;
+import com.banking.business.services.catalog.CreditTypeEntry;
+import com.banking.core.crosscuttingconcerns.exceptions.BusinessException;
+import com.banking.core.events.CreditTypeChangedEvent;
 import com.banking.core.utilities.mappers.ModelMapperService;
 import com.banking.core.utilities.results.*;
 import com.banking.entities.CreditType;
 import com.banking.repositories.abstracts.CreditTypeRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+/**
+ * Kredi tipi servisi.
+ * Okumalar bellekteki {@link com.banking.business.services.catalog.CreditTypeCatalog} üzerinden yapılır;
+ * değişiklikler veritabanına yazılır ve kataloğun yenilenmesi için olay yayınlanır.
+ */
 @Service
 @AllArgsConstructor
 public class CreditTypeManager implements CreditTypeService {
+
+    private static final Map<String, Comparator<CreditTypeEntry>> SORTABLE_PROPERTIES = Map.of(
+            "id", Comparator.comparing(CreditTypeEntry::getId),
+            "name", Comparator.comparing(CreditTypeEntry::getName),
+            "minInterestRate", Comparator.comparingDouble(CreditTypeEntry::getMinInterestRate),
+            "maxInterestRate", Comparator.comparingDouble(CreditTypeEntry::getMaxInterestRate),
+            "minTermMonths", Comparator.comparingInt(CreditTypeEntry::getMinTermMonths),
+            "maxTermMonths", Comparator.comparingInt(CreditTypeEntry::getMaxTermMonths));
+
     private final CreditTypeRepository repository;
     private final CreditTypeBusinessRules rules;
     private final ModelMapperService mapper;
+    private final CreditTypeCatalogProvider catalogProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public DataResult<CreditTypeResponse> getById(Long id) {
-        rules.checkIfExists(id);
-        CreditType creditType = repository.findById(id).orElseThrow();
-        CreditTypeResponse response = mapper.forResponse().map(creditType, CreditTypeResponse.class);
-        return new SuccessDataResult<>(response);
+        CreditTypeEntry creditType = catalogProvider.getCatalog().findById(id)
+            .orElseThrow(() -> new BusinessException(Messages.CreditType.NOT_FOUND));
+        return new SuccessDataResult<>(creditType.toResponse());
     }
 
     @Override
     public DataResult<CreditTypeResponse> getByName(String name) {
-        CreditType creditType = repository.findByName(name)
+        CreditTypeEntry creditType = catalogProvider.getCatalog().findByName(name)
             .orElseThrow(() -> new RuntimeException(Messages.CreditType.NOT_FOUND));
-        CreditTypeResponse response = mapper.forResponse().map(creditType, CreditTypeResponse.class);
-        return new SuccessDataResult<>(response);
+        return new SuccessDataResult<>(creditType.toResponse());
     }
 
     @Override
     public DataResult<List<CreditTypeResponse>> getAllByCustomerType(boolean isIndividual) {
-        List<CreditType> creditTypes = repository.findAllByIsIndividual(isIndividual);
-        List<CreditTypeResponse> response = creditTypes.stream()
-            .map(creditType -> mapper.forResponse().map(creditType, CreditTypeResponse.class))
-            .collect(Collectors.toList());
+        List<CreditTypeResponse> response = catalogProvider.getCatalog().getAllByCustomerType(isIndividual).stream()
+            .map(CreditTypeEntry::toResponse)
+            .toList();
         return new SuccessDataResult<>(response);
     }
 
     @Override
     public DataResult<Page<CreditTypeResponse>> getAllActive(Pageable pageable) {
-        Page<CreditType> creditTypes = repository.findAllByIsActive(true, pageable);
-        Page<CreditTypeResponse> response = creditTypes
-            .map(creditType -> mapper.forResponse().map(creditType, CreditTypeResponse.class));
-        return new SuccessDataResult<>(response);
+        Comparator<CreditTypeEntry> order = toComparator(pageable.getSort());
+        if (order == null) {
+            Page<CreditType> creditTypes = repository.findAllByIsActive(true, pageable);
+            return new SuccessDataResult<>(creditTypes
+                .map(creditType -> mapper.forResponse().map(creditType, CreditTypeResponse.class)));
+        }
+        return new SuccessDataResult<>(toPage(catalogProvider.getCatalog().getAllActive(), order, pageable));
     }
 
     @Override
     public DataResult<Page<CreditTypeResponse>> getAllActiveByCustomerType(boolean isIndividual, Pageable pageable) {
-        Page<CreditType> creditTypes = repository.findAllByIsIndividualAndIsActive(isIndividual, true, pageable);
-        Page<CreditTypeResponse> response = creditTypes
-            .map(creditType -> mapper.forResponse().map(creditType, CreditTypeResponse.class));
-        return new SuccessDataResult<>(response);
+        Comparator<CreditTypeEntry> order = toComparator(pageable.getSort());
+        if (order == null) {
+            Page<CreditType> creditTypes = repository.findAllByIsIndividualAndIsActive(isIndividual, true, pageable);
+            return new SuccessDataResult<>(creditTypes
+                .map(creditType -> mapper.forResponse().map(creditType, CreditTypeResponse.class)));
+        }
+        return new SuccessDataResult<>(toPage(
+            catalogProvider.getCatalog().getAllActiveByCustomerType(isIndividual), order, pageable));
     }
 
     @Override
@@ -70,6 +98,7 @@ public class CreditTypeManager implements CreditTypeService {
         CreditType creditType = repository.findById(id).orElseThrow();
         creditType.setActive(true);
         repository.save(creditType);
+        eventPublisher.publishEvent(new CreditTypeChangedEvent(this, id));
         return new SuccessResult(Messages.CreditType.ACTIVATED);
     }
 
@@ -79,6 +108,7 @@ public class CreditTypeManager implements CreditTypeService {
         CreditType creditType = repository.findById(id).orElseThrow();
         creditType.setActive(false);
         repository.save(creditType);
+        eventPublisher.publishEvent(new CreditTypeChangedEvent(this, id));
         return new SuccessResult(Messages.CreditType.DEACTIVATED);
     }
 
@@ -91,6 +121,7 @@ public class CreditTypeManager implements CreditTypeService {
         creditType.setMinInterestRate(minRate);
         creditType.setMaxInterestRate(maxRate);
         repository.save(creditType);
+        eventPublisher.publishEvent(new CreditTypeChangedEvent(this, id));
         
         return new SuccessResult(Messages.CreditType.INTEREST_RATES_UPDATED);
     }
@@ -104,7 +135,41 @@ public class CreditTypeManager implements CreditTypeService {
         creditType.setMinTermMonths(minMonths);
         creditType.setMaxTermMonths(maxMonths);
         repository.save(creditType);
+        eventPublisher.publishEvent(new CreditTypeChangedEvent(this, id));
         
         return new SuccessResult(Messages.CreditType.TERM_MONTHS_UPDATED);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Sıralamayı katalog kayıtları için karşılaştırıcıya çevirir; bilinmeyen bir alan varsa null döner.
+     */
+    private static Comparator<CreditTypeEntry> toComparator(Sort sort) {
+        Comparator<CreditTypeEntry> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<CreditTypeEntry> property = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                return null;
+            }
+            if (order.isDescending()) {
+                property = property.reversed();
+            }
+            comparator = comparator == null ? property : comparator.thenComparing(property);
+        }
+        // Katalog listeleri zaten ada göre sıralıdır
+        return comparator != null ? comparator : SORTABLE_PROPERTIES.get("name");
+    }
+
+    private static Page<CreditTypeResponse> toPage(List<CreditTypeEntry> entries, Comparator<CreditTypeEntry> order,
+                                                   Pageable pageable) {
+        List<CreditTypeEntry> sorted = entries.stream().sorted(order).toList();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted.stream().map(CreditTypeEntry::toResponse).toList(), pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        List<CreditTypeResponse> content = sorted.subList(from, to).stream()
+            .map(CreditTypeEntry::toResponse)
+            .toList();
+        return new PageImpl<>(content, pageable, sorted.size());
+    }
+}
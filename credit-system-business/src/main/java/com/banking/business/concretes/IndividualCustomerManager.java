@@ -5,6 +5,7 @@ import com.banking.business.dtos.requests.CreateIndividualCustomerRequest;
 import com.banking.business.dtos.requests.UpdateIndividualCustomerRequest;
 import com.banking.business.dtos.responses.IndividualCustomerResponse;
 import com.banking.business.rules.IndividualCustomerBusinessRules;
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.utilities.results.DataResult;
 import com.banking.core.utilities.results.Result;
 import com.banking.core.utilities.results.SuccessDataResult;
@@ -23,13 +24,16 @@ public class IndividualCustomerManager implements IndividualCustomerService {
     private final IndividualCustomerRepository repository;
     private final IndividualCustomerBusinessRules rules;
     private final ModelMapperService mapper;
+    private final NegativeLookupCache negativeLookupCache;
 
     public IndividualCustomerManager(IndividualCustomerRepository repository,
                                    IndividualCustomerBusinessRules rules,
-                                   ModelMapperService mapper) {
+                                   ModelMapperService mapper,
+                                   NegativeLookupCache negativeLookupCache) {
         this.repository = repository;
         this.rules = rules;
         this.mapper = mapper;
+        this.negativeLookupCache = negativeLookupCache;
     }
 
     @Override
@@ -41,6 +45,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         customer.setCreatedDate(LocalDateTime.now());
         
         IndividualCustomer savedCustomer = repository.save(customer);
+        invalidateNegativeLookups(savedCustomer);
         
         IndividualCustomerResponse response = mapper.forResponse().map(savedCustomer, IndividualCustomerResponse.class);
         return new SuccessDataResult<>(response, Messages.Individual.ADDED);
@@ -55,6 +60,7 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         customer.setUpdatedDate(LocalDateTime.now());
         
         repository.save(customer);
+        invalidateNegativeLookups(customer);
         
         return new SuccessResult(Messages.Individual.UPDATED);
     }
@@ -110,6 +116,15 @@ public class IndividualCustomerManager implements IndividualCustomerService {
         return new SuccessDataResult<>(responsePage);
     }
     
+    /**
+     * Kaydın artık bulunabilir olduğu anahtarlar için "bulunamadı" işaretlerini siler
+     */
+    private void invalidateNegativeLookups(IndividualCustomer customer) {
+        negativeLookupCache.invalidate(NegativeLookupCache.INDIVIDUAL_IDENTITY_NUMBER, customer.getIdentityNumber());
+        negativeLookupCache.invalidate(NegativeLookupCache.INDIVIDUAL_CUSTOMER_NUMBER, customer.getCustomerNumber());
+        negativeLookupCache.invalidate(NegativeLookupCache.USER_EMAIL, customer.getEmail());
+    }
+
     private String generateCustomerNumber() {
         return "IC" + System.currentTimeMillis();
     }
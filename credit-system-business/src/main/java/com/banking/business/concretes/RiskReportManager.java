@@ -3,6 +3,7 @@ package com.banking.business.concretes;
 import com.banking.business.abstracts.RiskReportService;
 import com.banking.core.dtos.response.*;
 import com.banking.core.cache.CacheService;
+import com.banking.core.cache.RefreshAheadCache;
 import com.banking.core.integration.CentralBankClient;
 import com.banking.core.utilities.results.DataResult;
 import com.banking.core.utilities.results.SuccessDataResult;
@@ -21,15 +22,21 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RiskReportManager implements RiskReportService {
 
+    private static final String REPORT_CACHE_PREFIX = "central_bank_report:";
+    private static final String RISK_SCORE_CACHE_PREFIX = "central_bank_risk_score:";
+    private static final String BLACKLIST_CACHE_PREFIX = "central_bank_blacklist:";
+
     private final CentralBankClient centralBankClient;
     private final CustomerRepository<Customer> customerRepository;
     private final CacheService cacheService;
+    private final RefreshAheadCache refreshAheadCache;
     private final RiskReportRepository riskReportRepository;
 
     @Value("${central.bank.cache.duration:30}")
@@ -39,78 +46,45 @@ public class RiskReportManager implements RiskReportService {
     public CentralBankReportResponse getCentralBankReport(Long customerId, String identityNumber) {
         log.info("Getting Central Bank report for customer: {}", customerId);
 
-        // Check cache first
-        Optional<CentralBankReportResponse> cachedReport = getCachedReportData(customerId);
-        if (cachedReport.isPresent() && isCachedDataValid(customerId)) {
-            log.info("Returning cached Central Bank report for customer: {}", customerId);
-            return cachedReport.get();
-        }
-
-        // Get customer details
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
-
-        // Get report from Central Bank
-        CentralBankReportResponse report = centralBankClient.getCustomerReport(identityNumber);
-        report.setCustomerId(customerId);
-        report.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        report.setReportDate(LocalDateTime.now());
-
-        // Cache the report
-        cacheReportData(customerId, report);
-
-        return report;
+        return getCachedOrLoad(REPORT_CACHE_PREFIX + customerId, CentralBankReportResponse.class,
+                () -> loadCentralBankReport(findCustomer(customerId), identityNumber));
     }
 
     @Override
     public CreditHistorySummaryResponse getCreditHistorySummary(Long customerId) {
         log.info("Getting credit history summary for customer: {}", customerId);
 
-        // Get customer details
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
-
-        return centralBankClient.getCreditHistorySummary(customer.getIdentityNumber());
+        return centralBankClient.getCreditHistorySummary(findCustomer(customerId).getIdentityNumber());
     }
 
     @Override
     public BlacklistStatusResponse getBlacklistStatus(Long customerId) {
         log.info("Checking blacklist status for customer: {}", customerId);
 
-        // Get customer details
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
-
-        return centralBankClient.getBlacklistStatus(customer.getIdentityNumber());
+        return getCachedOrLoad(BLACKLIST_CACHE_PREFIX + customerId, BlacklistStatusResponse.class,
+                () -> centralBankClient.getBlacklistStatus(findCustomer(customerId).getIdentityNumber()));
     }
 
     @Override
     public List<PaymentDelayResponse> getPaymentDelays(Long customerId) {
         log.info("Getting payment delays for customer: {}", customerId);
 
-        // Get customer details
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
-
-        return centralBankClient.getPaymentDelays(customer.getIdentityNumber());
+        return centralBankClient.getPaymentDelays(findCustomer(customerId).getIdentityNumber());
     }
 
     @Override
     public RiskScoreResponse calculateRiskScore(Long customerId) {
         log.info("Calculating risk score for customer: {}", customerId);
 
-        // Get customer details
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
-
-        return centralBankClient.calculateRiskScore(customer.getIdentityNumber());
+        return getCachedOrLoad(RISK_SCORE_CACHE_PREFIX + customerId, RiskScoreResponse.class,
+                () -> centralBankClient.calculateRiskScore(findCustomer(customerId).getIdentityNumber()));
     }
 
     @Override
     public boolean cacheReportData(Long customerId, CentralBankReportResponse report) {
         log.info("Caching Central Bank report for customer: {}", customerId);
 
-        String cacheKey = "central_bank_report:" + customerId;
+        String cacheKey = REPORT_CACHE_PREFIX + customerId;
         report.setCached(true);
         report.setCacheDate(LocalDateTime.now());
 
@@ -121,7 +95,7 @@ public class RiskReportManager implements RiskReportService {
     public Optional<CentralBankReportResponse> getCachedReportData(Long customerId) {
         log.info("Getting cached Central Bank report for customer: {}", customerId);
 
-        String cacheKey = "central_bank_report:" + customerId;
+        String cacheKey = REPORT_CACHE_PREFIX + customerId;
         return cacheService.get(cacheKey, CentralBankReportResponse.class);
     }
 
@@ -129,32 +103,25 @@ public class RiskReportManager implements RiskReportService {
     public boolean isCachedDataValid(Long customerId) {
         log.info("Checking if cached Central Bank report is valid for customer: {}", customerId);
 
-        Optional<CentralBankReportResponse> cachedReport = getCachedReportData(customerId);
-        if (cachedReport.isEmpty()) {
-            return false;
-        }
-
-        LocalDateTime cacheDate = cachedReport.get().getCacheDate();
-        LocalDateTime expirationDate = cacheDate.plusMinutes(cacheDurationMinutes);
-        return LocalDateTime.now().isBefore(expirationDate);
+        return getCachedReportData(customerId).map(this::isValid).orElse(false);
     }
 
     @Override
     public boolean clearCachedData(Long customerId) {
         log.info("Clearing cached Central Bank report for customer: {}", customerId);
 
-        String cacheKey = "central_bank_report:" + customerId;
-        return cacheService.remove(cacheKey);
+        cacheService.remove(RISK_SCORE_CACHE_PREFIX + customerId);
+        cacheService.remove(BLACKLIST_CACHE_PREFIX + customerId);
+        return cacheService.remove(REPORT_CACHE_PREFIX + customerId);
     }
 
     @Override
     public DataResult<RiskReport> getReport(Long customerId) {
         log.info("Getting risk report for customer: {}", customerId);
-        
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
-                
-        CentralBankReportResponse report = getCentralBankReport(customerId, customer.getIdentityNumber());
+
+        // Müşteri yalnızca önbellekte geçerli rapor yoksa yüklenir
+        CentralBankReportResponse report = getCachedOrLoad(REPORT_CACHE_PREFIX + customerId,
+                CentralBankReportResponse.class, () -> loadCentralBankReport(findCustomer(customerId)));
         RiskScoreResponse riskScore = calculateRiskScore(customerId);
         BlacklistStatusResponse blacklistStatus = getBlacklistStatus(customerId);
         
@@ -196,4 +163,36 @@ public class RiskReportManager implements RiskReportService {
         List<RiskReport> blacklistedReports = riskReportRepository.findByBlacklistStatusIsTrue();
         return new SuccessDataResult<>(blacklistedReports, "Blacklisted customers retrieved successfully");
     }
-} 
\ No newline at end of file
+
+    private boolean isValid(CentralBankReportResponse report) {
+        LocalDateTime cacheDate = report.getCacheDate();
+        return cacheDate != null && LocalDateTime.now().isBefore(cacheDate.plusMinutes(cacheDurationMinutes));
+    }
+
+    /**
+     * Merkez Bankası yanıtını geçerlilik süresi boyunca önbellekten döner, yoksa yükleyip önbelleğe alır.
+     * Sık okunan kayıtlar süresi dolmadan arka planda yenilenir.
+     */
+    private <T> T getCachedOrLoad(String cacheKey, Class<T> type, Supplier<T> loader) {
+        return refreshAheadCache.get(cacheKey, type, Duration.ofMinutes(cacheDurationMinutes), loader);
+    }
+
+    private CentralBankReportResponse loadCentralBankReport(Customer customer) {
+        return loadCentralBankReport(customer, customer.getIdentityNumber());
+    }
+
+    private CentralBankReportResponse loadCentralBankReport(Customer customer, String identityNumber) {
+        CentralBankReportResponse report = centralBankClient.getCustomerReport(identityNumber);
+        report.setCustomerId(customer.getId());
+        report.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
+        report.setReportDate(LocalDateTime.now());
+        report.setCached(true);
+        report.setCacheDate(LocalDateTime.now());
+        return report;
+    }
+
+    private Customer findCustomer(Long customerId) {
+        return customerRepository.findById(customerId)
+                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + customerId));
+    }
+}
@@ -1,5 +1,6 @@
 package com.banking.business.concretes;
 
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.repositories.abstracts.UserRepository;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,10 +12,12 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
+        return negativeLookupCache.find(NegativeLookupCache.USER_EMAIL, username,
+                        () -> userRepository.findByEmail(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.banking.business.fraud;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * AML izlemesinde yazılmayı bekleyen şüpheli işlem satırı.
+ */
+@Value
+@Builder
+@Jacksonized
+public class AMLSuspiciousTransactionRow {
+    Long customerId;
+    String transactionType;
+    String transactionId;
+    BigDecimal amount;
+    LocalDateTime transactionDate;
+    LocalDateTime detectionDate;
+    Integer riskScore;
+    String riskLevel;
+    String riskReason;
+    String detectionRule;
+    String description;
+    String status;
+    String ipAddress;
+    String deviceId;
+    String userAgent;
+    String location;
+    boolean falsePositive;
+}
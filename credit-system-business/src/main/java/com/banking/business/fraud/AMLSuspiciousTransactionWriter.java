@@ -0,0 +1,109 @@
+package com.banking.business.fraud;
+
+import com.banking.core.security.fraud.SuspiciousTransactionInsert;
+import com.banking.core.security.fraud.SuspiciousTransactionWriteBehind;
+import com.banking.entities.SuspiciousTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * AML izlemesinde tespit edilen şüpheli işlemleri {@link SuspiciousTransactionWriteBehind} üzerinden yazar.
+ * Müşteri kimliği doğrudan {@code customer_id} sütununa yazılır; müşteri varlığının yüklenmesi gerekmez.
+ */
+@Component
+@RequiredArgsConstructor
+public class AMLSuspiciousTransactionWriter implements SuspiciousTransactionInsert<AMLSuspiciousTransactionRow> {
+
+    static final String NAME = "aml";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO suspicious_transactions (customer_id, transaction_type, transaction_id, amount,
+                transaction_date, detection_date, risk_score, risk_level, risk_reason, detection_rule, description,
+                status, ip_address, device_id, user_agent, location, is_false_positive, created_date, is_active)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final SuspiciousTransactionWriteBehind writeBehind;
+
+    /**
+     * Şüpheli işlemi yazılmak üzere kuyruğa ekler; etkin bir işlem varsa işlem onaylandıktan sonra.
+     *
+     * @param customerId Müşteri ID
+     * @param transaction Şüpheli işlem
+     */
+    public void submit(Long customerId, SuspiciousTransaction transaction) {
+        writeBehind.submit(this, toRow(customerId, transaction));
+    }
+
+    static AMLSuspiciousTransactionRow toRow(Long customerId, SuspiciousTransaction transaction) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("Suspicious transaction must have a customer id");
+        }
+        return AMLSuspiciousTransactionRow.builder()
+                .customerId(customerId)
+                .transactionType(name(transaction.getTransactionType()))
+                .transactionId(transaction.getTransactionId())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .detectionDate(transaction.getDetectionDate())
+                .riskScore(transaction.getRiskScore())
+                .riskLevel(name(transaction.getRiskLevel()))
+                .riskReason(transaction.getRiskReason())
+                .detectionRule(transaction.getDetectionRule())
+                .description(transaction.getDescription())
+                .status(name(transaction.getStatus()))
+                .ipAddress(transaction.getIpAddress())
+                .deviceId(transaction.getDeviceId())
+                .userAgent(transaction.getUserAgent())
+                .location(transaction.getLocation())
+                .falsePositive(transaction.isFalsePositive())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Class<AMLSuspiciousTransactionRow> getRowType() {
+        return AMLSuspiciousTransactionRow.class;
+    }
+
+    @Override
+    public String getSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    public void bind(PreparedStatement ps, AMLSuspiciousTransactionRow row) throws SQLException {
+        ps.setLong(1, row.getCustomerId());
+        ps.setString(2, row.getTransactionType());
+        ps.setString(3, row.getTransactionId());
+        ps.setBigDecimal(4, row.getAmount());
+        ps.setObject(5, row.getTransactionDate(), Types.TIMESTAMP);
+        ps.setObject(6, row.getDetectionDate(), Types.TIMESTAMP);
+        ps.setObject(7, row.getRiskScore(), Types.INTEGER);
+        ps.setString(8, row.getRiskLevel());
+        ps.setString(9, row.getRiskReason());
+        ps.setString(10, row.getDetectionRule());
+        ps.setString(11, row.getDescription());
+        ps.setString(12, row.getStatus());
+        ps.setString(13, row.getIpAddress());
+        ps.setString(14, row.getDeviceId());
+        ps.setString(15, row.getUserAgent());
+        ps.setString(16, row.getLocation());
+        ps.setBoolean(17, row.isFalsePositive());
+        ps.setObject(18, LocalDateTime.now(), Types.TIMESTAMP);
+        ps.setBoolean(19, true);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
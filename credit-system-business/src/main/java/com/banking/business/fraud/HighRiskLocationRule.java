@@ -0,0 +1,87 @@
+package com.banking.business.fraud;
+
+import com.banking.core.security.fraud.FraudContext;
+import com.banking.core.security.fraud.FraudDetectionRule;
+import com.banking.core.security.fraud.FraudVerdict;
+import com.banking.core.security.fraud.geo.CountryCodes;
+import com.banking.core.security.fraud.geo.CountrySet;
+import com.banking.core.security.fraud.geo.IpCountryResolver;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Yüksek ve orta riskli ülkelerden gelen işlemleri işaretleyen kural.
+ * Ülke, istekteki lokasyon bilgisinden; lokasyon yoksa IP adresinden gömülü IP-ülke dizini ile bulunur.
+ */
+@Component
+@RequiredArgsConstructor
+public class HighRiskLocationRule implements FraudDetectionRule {
+
+    public static final String CODE = "HIGH_RISK_LOCATION";
+
+    private final IpCountryResolver ipCountryResolver;
+
+    private CountrySet highRiskCountries;
+    private CountrySet mediumRiskCountries;
+
+    @Value("${fraud.rules.high-risk-location.high-risk-countries:XY,ZZ,YY}")
+    private String[] highRiskCountryCodes;
+
+    @Value("${fraud.rules.high-risk-location.medium-risk-countries:AB,CD,EF}")
+    private String[] mediumRiskCountryCodes;
+
+    @Value("${fraud.rules.high-risk-location.high-score:75}")
+    private int highRiskScore;
+
+    @Value("${fraud.rules.high-risk-location.medium-score:50}")
+    private int mediumRiskScore;
+
+    @PostConstruct
+    void init() {
+        highRiskCountries = CountrySet.of(highRiskCountryCodes);
+        mediumRiskCountries = CountrySet.of(mediumRiskCountryCodes);
+    }
+
+    @Override
+    public String getCode() {
+        return CODE;
+    }
+
+    @Override
+    public FraudVerdict evaluate(FraudContext context) {
+        int country = resolveCountry(context);
+        if (country == CountryCodes.UNKNOWN) {
+            return FraudVerdict.PASS;
+        }
+
+        if (highRiskCountries.contains(country)) {
+            return FraudVerdict.of(CODE, "Transaction from high-risk location: " + CountryCodes.decode(country), highRiskScore);
+        } else if (mediumRiskCountries.contains(country)) {
+            return FraudVerdict.of(CODE, "Transaction from medium-risk location: " + CountryCodes.decode(country), mediumRiskScore);
+        }
+
+        // Müşterinin normal lokasyonundan farklı bir lokasyon kontrolü UnusualLocationRule tarafından yapılır
+        return FraudVerdict.PASS;
+    }
+
+    private int resolveCountry(FraudContext context) {
+        String location = context.getLocation();
+        if (location != null && !location.isEmpty()) {
+            return CountryCodes.encode(extractCountryCode(location));
+        }
+        return context.getIpAddress() != null ? ipCountryResolver.countryOf(context.getIpAddress()) : CountryCodes.UNKNOWN;
+    }
+
+    // Lokasyon bilgisinden ülke kodunu çıkaran yardımcı metod
+    private String extractCountryCode(String location) {
+        // Gerçek uygulamada, lokasyon bilgisinden ülke kodunu çıkarmak için
+        // daha karmaşık bir mantık kullanılabilir
+        if (location.contains(",")) {
+            String[] parts = location.split(",");
+            return parts[parts.length - 1].trim();
+        }
+        return location.substring(0, Math.min(location.length(), 2));
+    }
+}
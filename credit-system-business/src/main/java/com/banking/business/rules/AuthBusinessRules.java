@@ -1,6 +1,7 @@
 package com.banking.business.rules;
 
 import com.banking.business.constants.Messages;
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.crosscuttingconcerns.exceptions.BusinessException;
 import com.banking.repositories.abstracts.UserRepository;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class AuthBusinessRules {
     private final UserRepository userRepository;
+    private final NegativeLookupCache negativeLookupCache;
 
     public void checkIfEmailExists(String email) {
         if (userRepository.existsByEmail(email)) {
@@ -18,7 +20,11 @@ public class AuthBusinessRules {
     }
 
     public void checkIfEmailNotExists(String email) {
+        if (negativeLookupCache.isKnownMissing(NegativeLookupCache.USER_EMAIL, email)) {
+            throw new BusinessException(Messages.Auth.EMAIL_NOT_FOUND);
+        }
         if (!userRepository.existsByEmail(email)) {
+            negativeLookupCache.recordMissing(NegativeLookupCache.USER_EMAIL, email);
             throw new BusinessException(Messages.Auth.EMAIL_NOT_FOUND);
         }
     }
@@ -1,6 +1,7 @@
 package com.banking.business.rules;
 
 import com.banking.business.constants.Messages;
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.crosscuttingconcerns.exceptions.BusinessException;
 import com.banking.entities.IndividualCustomer;
 import com.banking.repositories.abstracts.IndividualCustomerRepository;
@@ -11,10 +12,13 @@ import java.util.Optional;
 @Service
 public class IndividualCustomerBusinessRules extends BaseBusinessRules<IndividualCustomer, Long> {
     private final IndividualCustomerRepository individualCustomerRepository;
+    private final NegativeLookupCache negativeLookupCache;
 
-    public IndividualCustomerBusinessRules(IndividualCustomerRepository individualCustomerRepository) {
+    public IndividualCustomerBusinessRules(IndividualCustomerRepository individualCustomerRepository,
+                                           NegativeLookupCache negativeLookupCache) {
         super(individualCustomerRepository);
         this.individualCustomerRepository = individualCustomerRepository;
+        this.negativeLookupCache = negativeLookupCache;
     }
 
     public void checkIfIdentityNumberExists(String identityNumber) {
@@ -30,7 +34,8 @@ public class IndividualCustomerBusinessRules extends BaseBusinessRules<Individua
     }
 
     public IndividualCustomer getByIdentityNumber(String identityNumber) {
-        Optional<IndividualCustomer> customer = individualCustomerRepository.findByIdentityNumber(identityNumber);
+        Optional<IndividualCustomer> customer = negativeLookupCache.find(NegativeLookupCache.INDIVIDUAL_IDENTITY_NUMBER,
+                identityNumber, () -> individualCustomerRepository.findByIdentityNumber(identityNumber));
         if (!customer.isPresent()) {
             throw new BusinessException(Messages.Individual.NOT_FOUND);
         }
@@ -38,7 +43,8 @@ public class IndividualCustomerBusinessRules extends BaseBusinessRules<Individua
     }
 
     public IndividualCustomer getByCustomerNumber(String customerNumber) {
-        Optional<IndividualCustomer> customer = individualCustomerRepository.findByCustomerNumber(customerNumber);
+        Optional<IndividualCustomer> customer = negativeLookupCache.find(NegativeLookupCache.INDIVIDUAL_CUSTOMER_NUMBER,
+                customerNumber, () -> individualCustomerRepository.findByCustomerNumber(customerNumber));
         if (!customer.isPresent()) {
             throw new BusinessException(Messages.Individual.NOT_FOUND);
         }
@@ -0,0 +1,172 @@
+package com.banking.business.services.analysis;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.core.utilities.counters.TimeBucketedCounter;
+import com.banking.entities.CreditApplication;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import com.banking.repositories.projections.DailyCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Günlük dilimlerde kredi başvurusu ve onay sayılarını tutan pencere takipçisi.
+ * Açılışta veritabanından gün bazında gruplu sorgularla doldurulur, sonrasında başvuru olaylarıyla beslenir.
+ * "Son N gün" sorguları saklama süresi içinde N dilim okuyarak yanıtlanır.
+ */
+@Component
+@Slf4j
+public class ApplicationVolumeTracker {
+
+    private final CreditApplicationRepository creditApplicationRepository;
+    private final Clock clock;
+    private final int retentionDays;
+    private final AtomicLong version = new AtomicLong();
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    @Value("${credit.application.volume.max-seed-attempts:3}")
+    private int maxSeedAttempts;
+
+    private volatile TimeBucketedCounter applications;
+    private volatile TimeBucketedCounter approvals;
+
+    public ApplicationVolumeTracker(CreditApplicationRepository creditApplicationRepository,
+                                    @Value("${credit.application.volume.retention-days:90}") int retentionDays) {
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.clock = Clock.systemDefaultZone();
+        this.retentionDays = retentionDays;
+        this.applications = newCounter();
+        this.approvals = newCounter();
+    }
+
+    /**
+     * Sayaçları saklama süresi boyunca veritabanındaki başvurulardan doldurur.
+     * Sorgular sürerken bir başvuru olayı işlenirse olayın sorgu sonucuna dahil olup olmadığı bilinemez;
+     * bu durumda sonuç atılır ve sorgular tekrarlanır. Son denemede de yarış olursa sonuç yine yazılır,
+     * sapma yalnızca yarışan olay sayısı kadar olur.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDate firstDay = LocalDate.now(clock).minusDays(retentionDays - 1L);
+
+        for (int attempt = 1; attempt <= maxSeedAttempts; attempt++) {
+            long expectedVersion = version.get();
+
+            TimeBucketedCounter seededApplications = newCounter();
+            seed(seededApplications, creditApplicationRepository.countDailyCreatedSince(firstDay.atStartOfDay()));
+
+            TimeBucketedCounter seededApprovals = newCounter();
+            seed(seededApprovals, creditApplicationRepository.countDailyApprovedSince(
+                    CreditApplication.Status.APPROVED, firstDay.atStartOfDay()));
+
+            boolean lastAttempt = attempt == maxSeedAttempts;
+            if (swap(expectedVersion, seededApplications, seededApprovals, lastAttempt)) {
+                log.info("Application volume windows seeded for the last {} days. Applications: {}, approvals: {}",
+                        retentionDays, seededApplications.sum(retentionDays), seededApprovals.sum(retentionDays));
+                return;
+            }
+            log.debug("Application events arrived while seeding volume windows, retrying. Attempt: {}", attempt);
+        }
+    }
+
+    /**
+     * Yeni başvuruları ve onaylanan başvuruları ilgili günlük dilime ekler.
+     *
+     * @param event Kredi başvurusu olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditApplicationEvent(CreditApplicationEvent event) {
+        Map<String, Object> data = event.getData();
+        if (data == null) {
+            return;
+        }
+
+        String approved = CreditApplication.Status.APPROVED.name();
+        swapLock.readLock().lock();
+        try {
+            if (data.get(CreditApplicationEvent.DATA_PREVIOUS_STATUS) == null) {
+                applications.add(1);
+            }
+            if (approved.equals(data.get(CreditApplicationEvent.DATA_STATUS))
+                    && !approved.equals(data.get(CreditApplicationEvent.DATA_PREVIOUS_STATUS))) {
+                approvals.add(1);
+            }
+            version.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bugün dahil son {@code days} gündeki başvuru sayısı
+     */
+    public long getApplications(int days) {
+        return applications.sum(checkDays(days));
+    }
+
+    /**
+     * Bugün dahil son {@code days} gündeki onay sayısı
+     */
+    public long getApprovals(int days) {
+        return approvals.sum(checkDays(days));
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    private int checkDays(int days) {
+        if (days <= 0 || days > retentionDays) {
+            throw new IllegalArgumentException("Days must be between 1 and " + retentionDays + ": " + days);
+        }
+        return days;
+    }
+
+    /**
+     * Sorgular başladığından beri olay işlenmediyse veya {@code force} verildiyse sayaçları değiştirir.
+     */
+    private boolean swap(long expectedVersion, TimeBucketedCounter seededApplications,
+                         TimeBucketedCounter seededApprovals, boolean force) {
+        swapLock.writeLock().lock();
+        try {
+            if (version.get() != expectedVersion) {
+                if (!force) {
+                    return false;
+                }
+                log.warn("Application volume windows seeded while events kept arriving, the racing events may be off by {}",
+                        version.get() - expectedVersion);
+            }
+            applications = seededApplications;
+            approvals = seededApprovals;
+            return true;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void seed(TimeBucketedCounter counter, List<DailyCount> dailyCounts) {
+        for (DailyCount dailyCount : dailyCounts) {
+            if (dailyCount.getDay() == null || dailyCount.getCount() == null) {
+                continue;
+            }
+            long dayStart = dailyCount.getDay().atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            counter.add(dayStart, dailyCount.getCount());
+        }
+    }
+
+    private TimeBucketedCounter newCounter() {
+        return new TimeBucketedCounter(Duration.ofDays(1), retentionDays, clock);
+    }
+}
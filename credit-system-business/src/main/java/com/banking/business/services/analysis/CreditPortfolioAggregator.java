@@ -0,0 +1,245 @@
+package com.banking.business.services.analysis;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.entities.CreditApplication;
+import com.banking.entities.enums.CreditType;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import com.banking.repositories.projections.CreditApplicationAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Kredi portföyü için artımlı toplam motoru.
+ * Kredi tipi ve başvuru durumu bazında başvuru sayısı ile toplam tutarı bellekte tutar;
+ * başvuru olaylarıyla güncellenir ve periyodik olarak veritabanıyla mutabakat yapılır.
+ * Sorgular kredi tipi sayısı kadar işlem yapar, tablo taraması gerektirmez.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CreditPortfolioAggregator {
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private final CreditApplicationRepository creditApplicationRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Totals totals = new Totals();
+
+    @Value("${credit.portfolio.reconcile.max-attempts:3}")
+    private int maxReconcileAttempts;
+
+    /**
+     * Uygulama açıldığında toplamları veritabanından yükler.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Toplamları tek bir gruplu sorgu ile veritabanından yeniden hesaplar.
+     * Olay kaçırılması veya uygulama dışı güncellemelerden kaynaklanan sapmaları düzeltir.
+     * Yeni toplamlar yalnızca sorgu sürerken hiç olay işlenmediyse yazılır; aksi halde olayın sorgu sonucuna
+     * dahil olup olmadığı bilinemeyeceği için sonuç atılır ve sorgu tekrarlanır. Tüm denemeler yarışa takılırsa
+     * artımlı toplamlar korunur ve bir sonraki mutabakat beklenir.
+     */
+    @Scheduled(fixedDelayString = "${credit.portfolio.reconcile.interval.ms:900000}",
+            initialDelayString = "${credit.portfolio.reconcile.interval.ms:900000}")
+    public void reconcile() {
+        for (int attempt = 1; attempt <= maxReconcileAttempts; attempt++) {
+            long expectedVersion = version.get();
+            Totals reloaded = new Totals();
+            for (CreditApplicationAggregate row : creditApplicationRepository.summarizeByCreditTypeAndStatus()) {
+                if (row.getCreditType() == null || row.getStatus() == null) {
+                    continue;
+                }
+                reloaded.add(row.getCreditType(), row.getStatus(), row.getApplicationCount(), row.getTotalAmount());
+            }
+
+            if (swap(expectedVersion, reloaded)) {
+                log.info("Credit portfolio aggregates reconciled. Approved amount: {}",
+                        getTotalAmount(CreditApplication.Status.APPROVED));
+                return;
+            }
+            log.debug("Credit portfolio aggregates changed during reconcile, retrying. Attempt: {}", attempt);
+        }
+
+        log.warn("Credit portfolio reconcile gave up after {} attempts, keeping incremental aggregates",
+                maxReconcileAttempts);
+    }
+
+    /**
+     * Başvuru oluşturma, onay, red ve iptal olaylarını toplamlara yansıtır.
+     *
+     * @param event Kredi başvurusu olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditApplicationEvent(CreditApplicationEvent event) {
+        Map<String, Object> data = event.getData();
+        if (data == null || !(data.get(CreditApplicationEvent.DATA_CREDIT_TYPE) instanceof CreditType creditType)
+                || !(data.get(CreditApplicationEvent.DATA_AMOUNT) instanceof BigDecimal amount)) {
+            return;
+        }
+
+        CreditApplication.Status previousStatus = parseStatus(data.get(CreditApplicationEvent.DATA_PREVIOUS_STATUS));
+        CreditApplication.Status status = parseStatus(data.get(CreditApplicationEvent.DATA_STATUS));
+        if (previousStatus == status) {
+            return;
+        }
+
+        // Olaylar birbirini beklemez; yalnızca mutabakatın toplamları değiştirdiği an ile yarışmaz
+        swapLock.readLock().lock();
+        try {
+            Totals current = totals;
+            if (previousStatus != null) {
+                current.add(creditType, previousStatus, -1, amount.negate());
+            }
+            if (status != null) {
+                current.add(creditType, status, 1, amount);
+            }
+            version.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Belirtilen durumdaki başvuruların toplam tutarını döner.
+     */
+    public BigDecimal getTotalAmount(CreditApplication.Status status) {
+        Totals current = totals;
+        long minorUnits = 0;
+        for (CreditType creditType : CreditType.values()) {
+            minorUnits += current.amount(creditType, status);
+        }
+        return toAmount(minorUnits);
+    }
+
+    /**
+     * Belirtilen durumdaki başvuru sayısını döner.
+     */
+    public long getCount(CreditApplication.Status status) {
+        Totals current = totals;
+        long count = 0;
+        for (CreditType creditType : CreditType.values()) {
+            count += current.count(creditType, status);
+        }
+        return count;
+    }
+
+    /**
+     * Belirtilen durumdaki başvuruların ortalama tutarını döner.
+     */
+    public BigDecimal getAverageAmount(CreditApplication.Status status) {
+        long count = getCount(status);
+        if (count <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return getTotalAmount(status).divide(BigDecimal.valueOf(count), AMOUNT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Belirtilen durumdaki başvuruların kredi tiplerine göre tutar dağılımını döner.
+     * Tutarı sıfır olan kredi tipleri sonuca eklenmez.
+     */
+    public Map<CreditType, BigDecimal> getAmountByCreditType(CreditApplication.Status status) {
+        Totals current = totals;
+        Map<CreditType, BigDecimal> distribution = new EnumMap<>(CreditType.class);
+        for (CreditType creditType : CreditType.values()) {
+            long minorUnits = current.amount(creditType, status);
+            if (minorUnits != 0) {
+                distribution.put(creditType, toAmount(minorUnits));
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * Sorgu başladığından beri olay işlenmediyse toplamları değiştirir.
+     */
+    private boolean swap(long expectedVersion, Totals reloaded) {
+        swapLock.writeLock().lock();
+        try {
+            if (version.get() != expectedVersion) {
+                return false;
+            }
+            totals = reloaded;
+            return true;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private CreditApplication.Status parseStatus(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CreditApplication.Status.valueOf(value.toString());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown credit application status in event: {}", value);
+            return null;
+        }
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, AMOUNT_SCALE);
+    }
+
+    /**
+     * Kredi tipi x durum matrisinde tutulan sayaçlar.
+     * Tutarlar taşma ve yuvarlama hatası olmaması için kuruş cinsinden saklanır.
+     */
+    private static final class Totals {
+
+        private final LongAdder[][] counts = newMatrix();
+        private final LongAdder[][] amounts = newMatrix();
+
+        void add(CreditType creditType, CreditApplication.Status status, long count, BigDecimal amount) {
+            counts[creditType.ordinal()][status.ordinal()].add(count);
+            if (amount != null) {
+                amounts[creditType.ordinal()][status.ordinal()].add(toMinorUnits(amount));
+            }
+        }
+
+        long count(CreditType creditType, CreditApplication.Status status) {
+            return counts[creditType.ordinal()][status.ordinal()].sum();
+        }
+
+        long amount(CreditType creditType, CreditApplication.Status status) {
+            return amounts[creditType.ordinal()][status.ordinal()].sum();
+        }
+
+        private static LongAdder[][] newMatrix() {
+            LongAdder[][] matrix = new LongAdder[CreditType.values().length][CreditApplication.Status.values().length];
+            for (LongAdder[] row : matrix) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = new LongAdder();
+                }
+            }
+            return matrix;
+        }
+    }
+}
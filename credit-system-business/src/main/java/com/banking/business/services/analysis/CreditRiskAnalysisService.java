@@ -1,7 +1,6 @@
 package com.banking.business.services.analysis;
 
 import com.banking.entities.CreditApplication;
-import com.banking.entities.enums.CreditApplicationStatus;
 import com.banking.entities.enums.CreditType;
 import com.banking.repositories.abstracts.CreditApplicationRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,12 +9,8 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Kredi risk analizi servisi.
@@ -27,6 +22,9 @@ import java.util.stream.Collectors;
 public class CreditRiskAnalysisService {
 
     private final CreditApplicationRepository creditApplicationRepository;
+    private final CreditPortfolioAggregator creditPortfolioAggregator;
+    private final PortfolioStatisticsService portfolioStatisticsService;
+    private final ApplicationVolumeTracker applicationVolumeTracker;
     
     /**
      * Bankanın genel kredi risk analizini yapar
@@ -71,6 +69,22 @@ public class CreditRiskAnalysisService {
         return results;
     }
     
+    /**
+     * Son n gündeki başvuru hacmini ve onay oranını döner.
+     * Sonuçlar günlük dilimli sayaçlardan okunur, tablo taraması yapılmaz.
+     * 
+     * @param days Gün sayısı (bugün dahil, saklama süresi ile sınırlı)
+     * @return Başvuru sayısı, onay sayısı ve onay oranı
+     */
+    public Map<String, Object> getApplicationVolume(int days) {
+        Map<String, Object> results = new HashMap<>();
+        results.put("days", days);
+        results.put("applications", calculateApplicationsInLastDays(days));
+        results.put("approvedApplications", calculateApprovedApplicationsInLastDays(days));
+        results.put("approvalRate", calculateApprovalRate(days));
+        return results;
+    }
+    
     /**
      * Belirli bir kredi başvurusunun risk analizini yapar
      * 
@@ -82,10 +96,14 @@ public class CreditRiskAnalysisService {
         
         Map<String, Object> results = new HashMap<>();
         
-        // Başvuru miktarının ortalama kredi miktarına oranı
-        BigDecimal averageCreditAmount = calculateAverageCreditAmount();
-        BigDecimal amountToAverageRatio = application.getAmount().divide(averageCreditAmount, 2, RoundingMode.HALF_UP);
+        // Başvuru miktarının ortalama kredi miktarına oranı (sabit sürede okunan portföy istatistiklerinden)
+        PortfolioStatistics statistics = portfolioStatisticsService.getStatistics();
+        BigDecimal averageCreditAmount = statistics.getMean();
+        BigDecimal amountToAverageRatio = averageCreditAmount.signum() == 0
+                ? BigDecimal.ONE
+                : application.getAmount().divide(averageCreditAmount, 2, RoundingMode.HALF_UP);
         results.put("amountToAverageRatio", amountToAverageRatio);
+        results.put("portfolioStatisticsVersion", statistics.getVersion());
         
         // Kredi tipine göre risk faktörü
         double creditTypeRiskFactor = getCreditTypeRiskFactor(application.getCreditType());
@@ -118,74 +136,35 @@ public class CreditRiskAnalysisService {
      * Toplam aktif kredi miktarını hesaplar
      */
     private BigDecimal calculateTotalActiveCredit() {
-        List<CreditApplication> activeApplications = creditApplicationRepository.findAll().stream()
-                .filter(app -> convertStatus(app.getStatus()) == CreditApplicationStatus.APPROVED && app.getDeletedDate() == null)
-                .collect(Collectors.toList());
-        
-        return activeApplications.stream()
-                .map(CreditApplication::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return creditPortfolioAggregator.getTotalAmount(CreditApplication.Status.APPROVED);
     }
     
     /**
      * Kredi tiplerine göre dağılımı hesaplar
      */
     private Map<CreditType, BigDecimal> calculateDistributionByCreditType() {
-        List<CreditApplication> activeApplications = creditApplicationRepository.findAll().stream()
-                .filter(app -> convertStatus(app.getStatus()) == CreditApplicationStatus.APPROVED && app.getDeletedDate() == null)
-                .collect(Collectors.toList());
-        
-        return activeApplications.stream()
-                .collect(Collectors.groupingBy(
-                        CreditApplication::getCreditType,
-                        Collectors.reducing(
-                                BigDecimal.ZERO,
-                                CreditApplication::getAmount,
-                                BigDecimal::add)));
+        return creditPortfolioAggregator.getAmountByCreditType(CreditApplication.Status.APPROVED);
     }
     
     /**
      * Ortalama kredi miktarını hesaplar
      */
     private BigDecimal calculateAverageCreditAmount() {
-        List<CreditApplication> activeApplications = creditApplicationRepository.findAll().stream()
-                .filter(app -> convertStatus(app.getStatus()) == CreditApplicationStatus.APPROVED && app.getDeletedDate() == null)
-                .collect(Collectors.toList());
-        
-        if (activeApplications.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        
-        BigDecimal totalAmount = activeApplications.stream()
-                .map(CreditApplication::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        return totalAmount.divide(new BigDecimal(activeApplications.size()), 2, RoundingMode.HALF_UP);
+        return creditPortfolioAggregator.getAverageAmount(CreditApplication.Status.APPROVED);
     }
     
     /**
      * Son n gündeki kredi başvurularını hesaplar
      */
     private int calculateApplicationsInLastDays(int days) {
-        LocalDateTime startDate = LocalDateTime.now().minus(days, ChronoUnit.DAYS);
-        
-        return (int) creditApplicationRepository.findAll().stream()
-                .filter(app -> app.getCreatedDate() != null && app.getCreatedDate().isAfter(startDate) && app.getDeletedDate() == null)
-                .count();
+        return (int) applicationVolumeTracker.getApplications(days);
     }
     
     /**
      * Son n gündeki onaylanan kredi başvurularını hesaplar
      */
     private int calculateApprovedApplicationsInLastDays(int days) {
-        LocalDateTime startDate = LocalDateTime.now().minus(days, ChronoUnit.DAYS);
-        
-        return (int) creditApplicationRepository.findAll().stream()
-                .filter(app -> convertStatus(app.getStatus()) == CreditApplicationStatus.APPROVED 
-                        && app.getApprovalDate() != null 
-                        && app.getApprovalDate().isAfter(startDate)
-                        && app.getDeletedDate() == null)
-                .count();
+        return (int) applicationVolumeTracker.getApprovals(days);
     }
     
     /**
@@ -318,8 +297,4 @@ public class CreditRiskAnalysisService {
             return 1.0; // Çok uzun vade, çok yüksek risk
         }
     }
-
-    private CreditApplicationStatus convertStatus(CreditApplication.Status status) {
-        return CreditApplicationStatus.valueOf(status.name());
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.banking.business.services.analysis;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Onaylı kredi tutarlarına ait değişmez portföy istatistikleri anlık görüntüsü.
+ * Her güncellemede sürüm numarası artar; okuyucular sabit sürede erişir.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PortfolioStatistics {
+
+    private static final int SCALE = 2;
+
+    long version;
+    long count;
+    BigDecimal sum;
+    BigDecimal sumOfSquares;
+    LocalDateTime reconciledAt;
+
+    public static PortfolioStatistics empty() {
+        return PortfolioStatistics.builder()
+                .version(0)
+                .count(0)
+                .sum(BigDecimal.ZERO)
+                .sumOfSquares(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * Ortalama onaylı kredi tutarı
+     */
+    public BigDecimal getMean() {
+        if (count <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return sum.divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Onaylı kredi tutarlarının anakütle varyansı: E[x²] - E[x]²
+     */
+    public BigDecimal getVariance() {
+        if (count <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal n = BigDecimal.valueOf(count);
+        BigDecimal mean = sum.divide(n, MathContext.DECIMAL64);
+        BigDecimal variance = sumOfSquares.divide(n, MathContext.DECIMAL64).subtract(mean.multiply(mean));
+        // Artımlı güncellemelerde oluşabilecek küçük negatif yuvarlama hatalarını sıfırla
+        return variance.signum() < 0 ? BigDecimal.ZERO : variance.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Onaylı kredi tutarlarının standart sapması
+     */
+    public BigDecimal getStandardDeviation() {
+        return getVariance().sqrt(MathContext.DECIMAL64).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    PortfolioStatistics plus(BigDecimal amount) {
+        return toBuilder()
+                .version(version + 1)
+                .count(count + 1)
+                .sum(sum.add(amount))
+                .sumOfSquares(sumOfSquares.add(amount.multiply(amount)))
+                .build();
+    }
+
+    PortfolioStatistics minus(BigDecimal amount) {
+        return toBuilder()
+                .version(version + 1)
+                .count(Math.max(0, count - 1))
+                .sum(sum.subtract(amount))
+                .sumOfSquares(sumOfSquares.subtract(amount.multiply(amount)))
+                .build();
+    }
+}
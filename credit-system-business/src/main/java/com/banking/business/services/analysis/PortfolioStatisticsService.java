@@ -0,0 +1,155 @@
+package com.banking.business.services.analysis;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.entities.CreditApplication;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import com.banking.repositories.projections.AmountStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Onaylı kredi tutarları için sürümlü portföy istatistikleri servisi.
+ * Başvuru risk skorlaması her çağrıda tüm başvuruları yüklemek yerine buradaki anlık görüntüyü sabit sürede okur.
+ * Anlık görüntü onay olaylarıyla artımlı güncellenir; yapılandırılan eskime süresi aşıldığında
+ * veritabanından arka planda yeniden hesaplanır.
+ */
+@Service
+@Slf4j
+public class PortfolioStatisticsService {
+
+    private final CreditApplicationRepository creditApplicationRepository;
+    private final Executor taskExecutor;
+
+    private final AtomicReference<PortfolioStatistics> snapshot = new AtomicReference<>(PortfolioStatistics.empty());
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+
+    @Value("${credit.portfolio.statistics.max-staleness-seconds:300}")
+    private long maxStalenessSeconds;
+
+    @Value("${credit.portfolio.statistics.max-refresh-attempts:3}")
+    private int maxRefreshAttempts;
+
+    public PortfolioStatisticsService(CreditApplicationRepository creditApplicationRepository,
+                                      @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * Güncel istatistik anlık görüntüsünü döner.
+     * Anlık görüntü eskime sınırını aştıysa mevcut değer dönülür ve yenileme arka planda başlatılır.
+     *
+     * @return Portföy istatistikleri
+     */
+    public PortfolioStatistics getStatistics() {
+        PortfolioStatistics current = snapshot.get();
+        if (isStale(current)) {
+            scheduleRefresh();
+        }
+        return current;
+    }
+
+    /**
+     * İstatistikleri tek bir aggregate sorgusu ile veritabanından yeniden hesaplar.
+     * Yeni değer, sorgu öncesi okunan sürüme karşı karşılaştır-ve-değiştir ile yazılır. Sorgu sürerken gelen
+     * bir onay olayı sürümü değiştirdiyse, olayın sorgu sonucuna dahil olup olmadığı bilinemeyeceği için sonuç
+     * atılır ve sorgu tekrarlanır. Tüm denemeler yarışa takılırsa artımlı anlık görüntü korunur; mutabakat
+     * zamanı değişmediğinden bir sonraki okumada yenileme yeniden planlanır.
+     *
+     * @return Yazılan veya korunan anlık görüntü
+     */
+    public PortfolioStatistics refresh() {
+        for (int attempt = 1; attempt <= maxRefreshAttempts; attempt++) {
+            PortfolioStatistics expected = snapshot.get();
+            AmountStatistics statistics = creditApplicationRepository
+                    .calculateAmountStatisticsByStatus(CreditApplication.Status.APPROVED);
+
+            PortfolioStatistics reloaded = PortfolioStatistics.builder()
+                    .version(expected.getVersion() + 1)
+                    .count(statistics.getCount() != null ? statistics.getCount() : 0)
+                    .sum(statistics.getTotal() != null ? statistics.getTotal() : BigDecimal.ZERO)
+                    .sumOfSquares(statistics.getTotalOfSquares() != null ? statistics.getTotalOfSquares() : BigDecimal.ZERO)
+                    .reconciledAt(LocalDateTime.now())
+                    .build();
+
+            if (snapshot.compareAndSet(expected, reloaded)) {
+                log.info("Portfolio statistics refreshed. Version: {}, approved count: {}, mean: {}",
+                        reloaded.getVersion(), reloaded.getCount(), reloaded.getMean());
+                return reloaded;
+            }
+            log.debug("Portfolio statistics changed during refresh, retrying. Attempt: {}", attempt);
+        }
+
+        PortfolioStatistics current = snapshot.get();
+        log.warn("Portfolio statistics refresh gave up after {} attempts, keeping version {}",
+                maxRefreshAttempts, current.getVersion());
+        return current;
+    }
+
+    /**
+     * Onaya giren veya onaydan çıkan başvuruları anlık görüntüye yansıtır.
+     *
+     * @param event Kredi başvurusu olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditApplicationEvent(CreditApplicationEvent event) {
+        Map<String, Object> data = event.getData();
+        if (data == null || !(data.get(CreditApplicationEvent.DATA_AMOUNT) instanceof BigDecimal amount)) {
+            return;
+        }
+
+        String approved = CreditApplication.Status.APPROVED.name();
+        boolean wasApproved = approved.equals(data.get(CreditApplicationEvent.DATA_PREVIOUS_STATUS));
+        boolean isApproved = approved.equals(data.get(CreditApplicationEvent.DATA_STATUS));
+
+        if (isApproved && !wasApproved) {
+            snapshot.updateAndGet(current -> current.plus(amount));
+        } else if (wasApproved && !isApproved) {
+            snapshot.updateAndGet(current -> current.minus(amount));
+        }
+    }
+
+    private boolean isStale(PortfolioStatistics statistics) {
+        return statistics.getReconciledAt() == null
+                || statistics.getReconciledAt().plus(Duration.ofSeconds(maxStalenessSeconds)).isBefore(LocalDateTime.now());
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    log.error("Portfolio statistics refresh failed", e);
+                } finally {
+                    refreshInProgress.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshInProgress.set(false);
+            log.warn("Portfolio statistics refresh rejected by executor, serving stale snapshot");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.banking.business.services.authorization;
+
+import com.banking.entities.Permission;
+import com.banking.entities.enums.Role;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aktif yetkilerin değişmez kataloğu.
+ * Her farklı kaynak/işlem çifti bir bit numarası alır; aynı çifti farklı rollere tanımlayan yetkiler aynı biti paylaşır.
+ * Rollerin yetkileri de önceden bit kümelerine derlenir.
+ */
+public final class PermissionCatalog {
+
+    private final long version;
+    private final Map<String, Integer> bitsByResourceAction;
+    private final Map<Long, Integer> bitsByPermissionId;
+    private final Map<Role, BitSet> bitsByRole;
+
+    private PermissionCatalog(long version,
+                              Map<String, Integer> bitsByResourceAction,
+                              Map<Long, Integer> bitsByPermissionId,
+                              Map<Role, BitSet> bitsByRole) {
+        this.version = version;
+        this.bitsByResourceAction = bitsByResourceAction;
+        this.bitsByPermissionId = bitsByPermissionId;
+        this.bitsByRole = bitsByRole;
+    }
+
+    /**
+     * Aktif yetkilerden katalog oluşturur.
+     *
+     * @param version Katalog sürümü
+     * @param permissions Aktif yetkiler
+     * @return Katalog
+     */
+    public static PermissionCatalog build(long version, Collection<Permission> permissions) {
+        Map<String, Integer> bitsByResourceAction = new HashMap<>();
+        Map<Long, Integer> bitsByPermissionId = new HashMap<>();
+        Map<Role, BitSet> bitsByRole = new EnumMap<>(Role.class);
+
+        for (Permission permission : permissions) {
+            int bit = bitsByResourceAction.computeIfAbsent(
+                    key(permission.getResource(), permission.getAction()), k -> bitsByResourceAction.size());
+            bitsByPermissionId.put(permission.getId(), bit);
+            if (permission.getRole() != null) {
+                bitsByRole.computeIfAbsent(permission.getRole(), role -> new BitSet()).set(bit);
+            }
+        }
+
+        return new PermissionCatalog(version, Map.copyOf(bitsByResourceAction), Map.copyOf(bitsByPermissionId),
+                bitsByRole);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return bitsByResourceAction.size();
+    }
+
+    /**
+     * @return Kaynak/işlem çiftinin bit numarası, katalogda yoksa -1
+     */
+    public int bitOf(String resource, String action) {
+        return bitsByResourceAction.getOrDefault(key(resource, action), -1);
+    }
+
+    /**
+     * @return Yetkinin bit numarası, katalogda yoksa -1
+     */
+    public int bitOf(Long permissionId) {
+        return bitsByPermissionId.getOrDefault(permissionId, -1);
+    }
+
+    /**
+     * Rolün yetki bitlerini verilen kümeye ekler.
+     */
+    void addRoleBits(Role role, BitSet target) {
+        BitSet roleBits = bitsByRole.get(role);
+        if (roleBits != null) {
+            target.or(roleBits);
+        }
+    }
+
+    private static String key(String resource, String action) {
+        return resource + ':' + action;
+    }
+}
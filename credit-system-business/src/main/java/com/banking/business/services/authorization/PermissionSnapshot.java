@@ -0,0 +1,51 @@
+package com.banking.business.services.authorization;
+
+import java.util.BitSet;
+
+/**
+ * Bir kullanıcının derlenmiş yetki görüntüsü.
+ * Doğrudan verilen ve rollerden gelen yetkilerin katalog bitleri üzerindeki birleşimidir. Oluşturulduğu kullanıcı
+ * yetki sürümü ve katalog sürümünü taşır; sürümlerden biri ilerlemişse görüntü bayattır.
+ */
+public final class PermissionSnapshot {
+
+    private final Long userId;
+    private final long userVersion;
+    private final long catalogVersion;
+    private final BitSet bits;
+
+    PermissionSnapshot(Long userId, long userVersion, long catalogVersion, BitSet bits) {
+        this.userId = userId;
+        this.userVersion = userVersion;
+        this.catalogVersion = catalogVersion;
+        this.bits = (BitSet) bits.clone();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getUserVersion() {
+        return userVersion;
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * @param bit Katalog bit numarası
+     * @return Kullanıcı bu yetkiye sahipse true
+     */
+    public boolean has(int bit) {
+        return bit >= 0 && bits.get(bit);
+    }
+
+    public int getPermissionCount() {
+        return bits.cardinality();
+    }
+
+    boolean isCurrent(long currentUserVersion, long currentCatalogVersion) {
+        return userVersion == currentUserVersion && catalogVersion == currentCatalogVersion;
+    }
+}
@@ -0,0 +1,215 @@
+package com.banking.business.services.authorization;
+
+import com.banking.core.events.PermissionChangedEvent;
+import com.banking.entities.Permission;
+import com.banking.entities.User;
+import com.banking.entities.UserPermission;
+import com.banking.entities.enums.Role;
+import com.banking.repositories.abstracts.PermissionRepository;
+import com.banking.repositories.abstracts.UserPermissionRepository;
+import com.banking.repositories.abstracts.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kullanıcı yetki görüntülerini tutan bileşen.
+ * Her kullanıcı için artan bir yetki sürümü tutulur; yetki verme ve geri alma işlemleri commit sonrasında yalnızca ilgili
+ * kullanıcının sürümünü artırır. Katalog değişiklikleri katalog sürümünü artırır ve tüm görüntüleri bayatlatır.
+ * Sürümü geride kalan görüntü kullanılmaz, bir sonraki kontrolde yeniden derlenir; böylece değişiklikle eşzamanlı
+ * derlenen eski bir görüntü de kalıcı olamaz. Yetki kontrolü tek bir bit testidir.
+ * Görüntüler düğüm bazındadır; yerel değişiklikler commit sonrasında Redis kanalı üzerinden diğer düğümlere duyurulur
+ * ve onlar da aynı sürümü artırır. Kaçırılan bir duyuru en geç {@code authorization.snapshot.ttl-minutes} sonra
+ * yansır.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionSnapshotStore implements MessageListener {
+
+    private static final String CATALOG = "*";
+
+    private final PermissionRepository permissionRepository;
+    private final UserPermissionRepository userPermissionRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Long, Long> userVersions = new ConcurrentHashMap<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Object catalogLock = new Object();
+    private volatile PermissionCatalog catalog;
+    private Cache<Long, PermissionSnapshot> snapshots;
+
+    @Value("${authorization.snapshot.maximum-size:50000}")
+    private long maximumSize;
+
+    @Value("${authorization.snapshot.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${authorization.snapshot.channel:authorization:permissions}")
+    private String channel;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * Kullanıcının kaynak üzerinde işlem yetkisi olup olmadığını kontrol eder.
+     * Katalogda olmayan kaynak/işlem çiftleri için veritabanına gidilmeden false döner.
+     */
+    public boolean hasPermission(Long userId, String resource, String action) {
+        PermissionCatalog currentCatalog = getCatalog();
+        int bit = currentCatalog.bitOf(resource, action);
+        if (bit < 0) {
+            return false;
+        }
+        return getSnapshot(userId, currentCatalog).has(bit);
+    }
+
+    /**
+     * Kullanıcının güncel yetki görüntüsünü döner, bayatsa yeniden derler.
+     */
+    public PermissionSnapshot getSnapshot(Long userId) {
+        return getSnapshot(userId, getCatalog());
+    }
+
+    public PermissionCatalog getCatalog() {
+        PermissionCatalog current = catalog;
+        long version = catalogVersion.get();
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+
+        synchronized (catalogLock) {
+            current = catalog;
+            version = catalogVersion.get();
+            if (current == null || current.getVersion() != version) {
+                List<Permission> permissions = permissionRepository.findAll().stream()
+                        .filter(Permission::isActive)
+                        .toList();
+                current = PermissionCatalog.build(version, permissions);
+                catalog = current;
+                log.info("Permission catalog compiled. Version: {}, permissions: {}, distinct bits: {}",
+                        version, permissions.size(), current.size());
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Yetki değişikliklerini commit sonrasında uygular ve diğer düğümlere duyurur.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionChanged(PermissionChangedEvent event) {
+        invalidate(event.getUserId());
+        String target = event.isCatalogChange() ? CATALOG : event.getUserId().toString();
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId + ':' + target);
+        } catch (RuntimeException e) {
+            // Diğer düğümler en geç görüntü süresi dolduğunda değişikliği görür
+            log.warn("Permission change could not be published: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Diğer düğümlerden gelen yetki değişikliği duyurularını işler.
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0 || nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        String target = body.substring(separator + 1);
+        if (CATALOG.equals(target)) {
+            invalidate(null);
+            return;
+        }
+        try {
+            invalidate(Long.valueOf(target));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed permission change message: {}", body);
+        }
+    }
+
+    /**
+     * Kullanıcının yetki sürümü
+     */
+    public long getUserVersion(Long userId) {
+        return userVersions.getOrDefault(userId, 0L);
+    }
+
+    private void invalidate(Long userId) {
+        if (userId == null) {
+            catalogVersion.incrementAndGet();
+            snapshots.invalidateAll();
+            log.debug("Permission catalog invalidated");
+            return;
+        }
+
+        userVersions.merge(userId, 1L, Long::sum);
+        snapshots.invalidate(userId);
+        log.debug("Permission snapshot invalidated for user {}", userId);
+    }
+
+    private PermissionSnapshot getSnapshot(Long userId, PermissionCatalog currentCatalog) {
+        long userVersion = userVersions.getOrDefault(userId, 0L);
+        PermissionSnapshot snapshot = snapshots.getIfPresent(userId);
+        if (snapshot != null && snapshot.isCurrent(userVersion, currentCatalog.getVersion())) {
+            return snapshot;
+        }
+
+        // Sürüm veriler okunmadan önce alınır; okuma sırasında gelen bir değişiklik görüntüyü bayat bırakır
+        snapshot = compile(userId, userVersion, currentCatalog);
+        snapshots.put(userId, snapshot);
+        return snapshot;
+    }
+
+    private PermissionSnapshot compile(Long userId, long userVersion, PermissionCatalog currentCatalog) {
+        BitSet bits = new BitSet(currentCatalog.size());
+
+        for (UserPermission userPermission : userPermissionRepository.findActivePermissionsByUserId(userId)) {
+            int bit = currentCatalog.bitOf(userPermission.getPermission().getId());
+            if (bit >= 0) {
+                bits.set(bit);
+            }
+        }
+
+        Set<Role> roles = userRepository.findById(userId).map(User::getRoles).orElse(Set.of());
+        for (Role role : roles) {
+            currentCatalog.addRoleBits(role, bits);
+        }
+
+        return new PermissionSnapshot(userId, userVersion, currentCatalog.getVersion(), bits);
+    }
+}
@@ -0,0 +1,79 @@
+package com.banking.business.services.catalog;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Kredi tiplerinin değişmez anlık görüntüsü.
+ * ID, ad, müşteri tipi (bireysel/kurumsal) ve aktiflik indeksleri oluşturulurken hazırlanır; okumalar kilitsizdir.
+ * Listeler ada göre sıralıdır.
+ */
+public final class CreditTypeCatalog {
+
+    private static final Comparator<CreditTypeEntry> BY_NAME = Comparator.comparing(CreditTypeEntry::getName);
+
+    private final long version;
+    private final Map<Long, CreditTypeEntry> byId;
+    private final Map<String, CreditTypeEntry> byName;
+    private final List<CreditTypeEntry> active;
+    private final List<CreditTypeEntry> individual;
+    private final List<CreditTypeEntry> corporate;
+    private final List<CreditTypeEntry> activeIndividual;
+    private final List<CreditTypeEntry> activeCorporate;
+
+    private CreditTypeCatalog(long version, Collection<CreditTypeEntry> entries) {
+        this.version = version;
+        List<CreditTypeEntry> sorted = entries.stream().sorted(BY_NAME).toList();
+
+        Map<Long, CreditTypeEntry> idIndex = new HashMap<>();
+        Map<String, CreditTypeEntry> nameIndex = new HashMap<>();
+        for (CreditTypeEntry entry : sorted) {
+            idIndex.put(entry.getId(), entry);
+            nameIndex.put(entry.getName(), entry);
+        }
+        this.byId = Map.copyOf(idIndex);
+        this.byName = Map.copyOf(nameIndex);
+
+        this.active = sorted.stream().filter(CreditTypeEntry::isActive).toList();
+        this.individual = sorted.stream().filter(CreditTypeEntry::isIndividual).toList();
+        this.corporate = sorted.stream().filter(entry -> !entry.isIndividual()).toList();
+        this.activeIndividual = individual.stream().filter(CreditTypeEntry::isActive).toList();
+        this.activeCorporate = corporate.stream().filter(CreditTypeEntry::isActive).toList();
+    }
+
+    public static CreditTypeCatalog of(long version, Collection<CreditTypeEntry> entries) {
+        return new CreditTypeCatalog(version, entries);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public Optional<CreditTypeEntry> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<CreditTypeEntry> findByName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    public List<CreditTypeEntry> getAllByCustomerType(boolean isIndividual) {
+        return isIndividual ? individual : corporate;
+    }
+
+    public List<CreditTypeEntry> getAllActive() {
+        return active;
+    }
+
+    public List<CreditTypeEntry> getAllActiveByCustomerType(boolean isIndividual) {
+        return isIndividual ? activeIndividual : activeCorporate;
+    }
+}
@@ -0,0 +1,114 @@
+package com.banking.business.services.catalog;
+
+import com.banking.core.events.CreditTypeChangedEvent;
+import com.banking.repositories.abstracts.CreditTypeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Kredi tipi kataloğunu bellekte tutan bileşen.
+ * Katalog açılışta yüklenir ve her değişiklikte yeniden oluşturulup tek bir atomik referans değişimiyle yayınlanır;
+ * okuyucular kilit almadan o anki görüntüyü kullanır. Yerel değişiklikler commit sonrasında Redis kanalı üzerinden
+ * diğer düğümlere duyurulur. Kaçırılan mesajlara karşı katalog belirli aralıklarla da tazelenir.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CreditTypeCatalogProvider implements MessageListener {
+
+    private final CreditTypeRepository creditTypeRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final AtomicReference<CreditTypeCatalog> catalog = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final Object refreshLock = new Object();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${credit-type.catalog.channel:catalog:credit-types}")
+    private String channel;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * Güncel katalog. Açılış yüklemesinden önce çağrılırsa katalog hemen yüklenir.
+     */
+    public CreditTypeCatalog getCatalog() {
+        CreditTypeCatalog current = catalog.get();
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Kataloğu veritabanından yeniden oluşturur ve yayınlar.
+     * Yenilemeler sıralanır; böylece eski bir okuma yeni bir görüntünün üzerine yazılamaz.
+     */
+    public CreditTypeCatalog refresh() {
+        synchronized (refreshLock) {
+            List<CreditTypeEntry> entries = creditTypeRepository.findAll().stream()
+                    .map(CreditTypeEntry::from)
+                    .toList();
+            CreditTypeCatalog refreshed = CreditTypeCatalog.of(versions.incrementAndGet(), entries);
+            catalog.set(refreshed);
+            log.info("Credit type catalog loaded. Version: {}, credit types: {}", refreshed.getVersion(), refreshed.size());
+            return refreshed;
+        }
+    }
+
+    /**
+     * Yerel değişiklikten sonra kataloğu yeniler ve diğer düğümlere duyurur.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreditTypeChanged(CreditTypeChangedEvent event) {
+        refresh();
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId);
+        } catch (RuntimeException e) {
+            // Diğer düğümler en geç periyodik tazelemede değişikliği görür
+            log.warn("Credit type catalog change could not be published: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Diğer düğümlerden gelen değişiklik duyurularını işler.
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String publisher = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!nodeId.equals(publisher)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${credit-type.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${credit-type.catalog.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+}
@@ -0,0 +1,42 @@
+package com.banking.business.services.catalog;
+
+import com.banking.business.dtos.responses.CreditTypeResponse;
+import com.banking.entities.CreditType;
+import lombok.Value;
+
+/**
+ * Katalogdaki bir kredi tipinin değişmez kopyası.
+ */
+@Value
+public class CreditTypeEntry {
+    Long id;
+    String name;
+    String description;
+    double minInterestRate;
+    double maxInterestRate;
+    int minTermMonths;
+    int maxTermMonths;
+    boolean active;
+    boolean individual;
+
+    public static CreditTypeEntry from(CreditType creditType) {
+        return new CreditTypeEntry(
+                creditType.getId(),
+                creditType.getName(),
+                creditType.getDescription(),
+                creditType.getMinInterestRate(),
+                creditType.getMaxInterestRate(),
+                creditType.getMinTermMonths(),
+                creditType.getMaxTermMonths(),
+                creditType.isActive(),
+                creditType.isIndividual());
+    }
+
+    /**
+     * Çağırana ait yeni bir yanıt nesnesi oluşturur; katalog kaydı paylaşılmaz.
+     */
+    public CreditTypeResponse toResponse() {
+        return new CreditTypeResponse(name, description, minInterestRate, maxInterestRate,
+                minTermMonths, maxTermMonths, active);
+    }
+}
@@ -1,5 +1,6 @@
 package com.banking.business.services.refinance;
 
+import com.banking.business.services.tracking.CreditApplicationStatusPublisher;
 import com.banking.entities.CreditApplication;
 import com.banking.entities.Customer;
 import com.banking.entities.enums.CreditApplicationStatus;
@@ -8,6 +9,7 @@ import com.banking.repositories.abstracts.CreditApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -24,9 +26,11 @@ import java.util.List;
 public class CreditRefinanceService {
 
     private final CreditApplicationRepository creditApplicationRepository;
+    private final CreditApplicationStatusPublisher statusPublisher;
     
     /**
-     * Müşterinin mevcut kredisini yeniler
+     * Müşterinin mevcut kredisini yeniler.
+     * Yeni başvuru ve eski başvurunun iptali tek işlemde kaydedilir; her iki durum değişikliği de yayınlanır.
      * 
      * @param existingApplicationId Mevcut kredi başvurusu ID
      * @param customer Müşteri bilgileri
@@ -35,6 +39,7 @@ public class CreditRefinanceService {
      * @param extendTermMonths Ek süre (ay cinsinden, opsiyonel)
      * @return Yenilenen kredi başvurusu
      */
+    @Transactional
     public CreditApplication refinanceCredit(
             Long existingApplicationId, 
             Customer customer, 
@@ -79,11 +84,14 @@ public class CreditRefinanceService {
         
         // Yeni başvuruyu kaydet
         CreditApplication savedApplication = creditApplicationRepository.save(refinancedApplication);
+        statusPublisher.publishSubmitted(savedApplication);
         
         // Eski başvuruyu güncelle (refinance edildi olarak işaretle)
+        CreditApplication.Status previousStatus = existingApplication.getStatus();
         existingApplication.setStatus(CreditApplication.Status.valueOf(CreditApplicationStatus.CANCELLED.name()));
         existingApplication.setNotes("Refinanced to application ID: " + savedApplication.getId());
-        creditApplicationRepository.save(existingApplication);
+        CreditApplication cancelledApplication = creditApplicationRepository.save(existingApplication);
+        statusPublisher.publish(CreditApplicationStatus.CANCELLED.name(), cancelledApplication, previousStatus);
         
         log.info("Credit application successfully refinanced. Old ID: {}, New ID: {}", 
                 existingApplicationId, savedApplication.getId());
@@ -0,0 +1,52 @@
+package com.banking.business.services.tracking;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.core.events.EventService;
+import com.banking.entities.CreditApplication;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kredi başvurusu durum değişikliklerini {@link CreditApplicationEvent} olarak yayınlayan bileşen.
+ * Olay verileri portföy toplamları gibi dinleyicilerin beklediği kredi tipi, tutar ve önceki/yeni durumu taşır.
+ */
+@Component
+@RequiredArgsConstructor
+public class CreditApplicationStatusPublisher {
+
+    /** Yeni oluşturulan başvurular için olay tipi */
+    public static final String SUBMITTED = "SUBMITTED";
+
+    private final EventService eventService;
+
+    /**
+     * Yeni kaydedilen başvuruyu duyurur.
+     *
+     * @param application Kaydedilmiş başvuru
+     */
+    public void publishSubmitted(CreditApplication application) {
+        publish(SUBMITTED, application, null);
+    }
+
+    /**
+     * Başvurunun güncel durumunu önceki durumuyla birlikte duyurur.
+     *
+     * @param eventType Olay tipi
+     * @param application Kaydedilmiş başvuru
+     * @param previousStatus Değişiklik öncesi durum, yeni başvurularda null
+     */
+    public void publish(String eventType, CreditApplication application, CreditApplication.Status previousStatus) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(CreditApplicationEvent.DATA_CREDIT_TYPE, application.getCreditType());
+        data.put(CreditApplicationEvent.DATA_AMOUNT, application.getAmount());
+        data.put(CreditApplicationEvent.DATA_STATUS, application.getStatus().name());
+        if (previousStatus != null) {
+            data.put(CreditApplicationEvent.DATA_PREVIOUS_STATUS, previousStatus.name());
+        }
+        Long customerId = application.getCustomer() != null ? application.getCustomer().getId() : null;
+        eventService.publishCreditApplicationEvent(eventType, application.getId(), customerId, data);
+    }
+}
@@ -1,10 +1,15 @@
 package com.banking.business.services.tracking;
 
+import com.banking.core.utilities.paging.KeysetCursor;
+import com.banking.core.utilities.paging.KeysetPage;
 import com.banking.entities.CreditApplication;
 import com.banking.entities.enums.CreditApplicationStatus;
 import com.banking.repositories.abstracts.CreditApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -24,7 +29,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CreditApplicationTrackingService {
 
+    private static final int MAX_STALE_PAGE_SIZE = 1000;
+    
+    /**
+     * İşlem bekleyen (backlog) başvuru durumları
+     */
+    private static final List<CreditApplication.Status> STALE_STATUSES = List.of(
+            CreditApplication.Status.PENDING,
+            CreditApplication.Status.UNDER_REVIEW);
+
     private final CreditApplicationRepository creditApplicationRepository;
+    private final CreditApplicationStatusPublisher statusPublisher;
     
     /**
      * Müşterinin tüm kredi başvurularını durumlarına göre gruplandırır
@@ -33,9 +48,10 @@ public class CreditApplicationTrackingService {
      * @return Durumlara göre gruplandırılmış kredi başvuruları
      */
     public Map<CreditApplicationStatus, List<CreditApplication>> getApplicationsByStatus(Long customerId) {
-        List<CreditApplication> applications = creditApplicationRepository.findAll().stream()
-                .filter(app -> app.getCustomer().getId().equals(customerId) && app.getDeletedDate() == null)
-                .collect(Collectors.toList());
+        // customer_id indeksi ile yalnızca müşterinin başvuruları okunur (sayfasız, count sorgusu yok)
+        List<CreditApplication> applications = creditApplicationRepository
+                .findAllByCustomerId(customerId, Pageable.unpaged())
+                .getContent();
         
         return applications.stream()
                 .collect(Collectors.groupingBy(app -> CreditApplicationStatus.valueOf(app.getStatus().name())));
@@ -124,33 +140,49 @@ public class CreditApplicationTrackingService {
     }
     
     /**
-     * Belirli bir durumdaki tüm kredi başvurularını getirir
+     * Belirli bir durumdaki kredi başvurularını sayfalı olarak getirir
      * 
      * @param status Kredi başvurusu durumu
-     * @return Belirtilen durumdaki kredi başvuruları
+     * @param pageable Sayfalama ve sıralama bilgisi
+     * @return Belirtilen durumdaki kredi başvurularının istenen sayfası
      */
-    public List<CreditApplication> getApplicationsByStatus(CreditApplicationStatus status) {
-        return creditApplicationRepository.findAll().stream()
-                .filter(app -> app.getStatus() == CreditApplication.Status.valueOf(status.name()) && app.getDeletedDate() == null)
-                .collect(Collectors.toList());
+    public Page<CreditApplication> getApplicationsByStatus(CreditApplicationStatus status, Pageable pageable) {
+        return creditApplicationRepository.findPageByStatus(CreditApplication.Status.valueOf(status.name()), pageable);
     }
     
     /**
-     * Belirli bir süre içinde işlem yapılmamış kredi başvurularını getirir
+     * Belirli bir süre içinde işlem yapılmamış kredi başvurularını keyset sayfalama ile getirir.
+     * Son işlem zamanı ve ID sırasıyla ilerler; tablo boyutundan bağımsız olarak yalnızca bir sayfa bellekte tutulur.
      * 
      * @param days Gün sayısı
-     * @return İşlem yapılmamış kredi başvuruları
+     * @param cursor Bir önceki sayfanın imleci, ilk sayfa için null
+     * @param size Sayfa boyutu
+     * @return İşlem yapılmamış kredi başvuruları ve sonraki sayfa imleci
      */
-    public List<CreditApplication> getStaleApplications(int days) {
+    public KeysetPage<CreditApplication> getStaleApplications(int days, KeysetCursor cursor, int size) {
+        if (size <= 0 || size > MAX_STALE_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_STALE_PAGE_SIZE + ": " + size);
+        }
         LocalDateTime threshold = LocalDateTime.now().minus(days, ChronoUnit.DAYS);
+        // Bir fazla kayıt okunarak sonraki sayfanın varlığı count sorgusu olmadan anlaşılır
+        Pageable limit = PageRequest.of(0, size + 1);
+        
+        List<CreditApplication> applications = cursor == null
+                ? creditApplicationRepository.findStaleApplications(STALE_STATUSES, threshold, limit)
+                : creditApplicationRepository.findStaleApplicationsAfter(
+                        STALE_STATUSES, threshold, cursor.getLastTimestamp(), cursor.getLastId(), limit);
         
-        return creditApplicationRepository.findAll().stream()
-                .filter(app -> (app.getStatus() == CreditApplication.Status.valueOf(CreditApplicationStatus.PENDING.name()) || 
-                               app.getStatus() == CreditApplication.Status.valueOf(CreditApplicationStatus.IN_REVIEW.name()) || 
-                               app.getStatus() == CreditApplication.Status.valueOf(CreditApplicationStatus.PENDING_APPROVAL.name())) && 
-                               app.getDeletedDate() == null &&
-                               app.getUpdatedDate().isBefore(threshold))
-                .collect(Collectors.toList());
+        boolean hasNext = applications.size() > size;
+        List<CreditApplication> content = hasNext ? applications.subList(0, size) : applications;
+        
+        KeysetCursor nextCursor = null;
+        if (hasNext) {
+            CreditApplication last = content.get(content.size() - 1);
+            LocalDateTime lastActivity = last.getUpdatedDate() != null ? last.getUpdatedDate() : last.getCreatedDate();
+            nextCursor = new KeysetCursor(lastActivity, last.getId());
+        }
+        
+        return new KeysetPage<>(content, nextCursor, hasNext);
     }
     
     /**
@@ -165,7 +197,8 @@ public class CreditApplicationTrackingService {
         CreditApplication application = creditApplicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Credit application not found: " + applicationId));
         
-        CreditApplicationStatus oldStatus = CreditApplicationStatus.valueOf(application.getStatus().name());
+        CreditApplication.Status previousStatus = application.getStatus();
+        CreditApplicationStatus oldStatus = CreditApplicationStatus.valueOf(previousStatus.name());
         application.setStatus(CreditApplication.Status.valueOf(newStatus.name()));
         
         // Durum değişikliğine göre tarih alanlarını güncelle
@@ -191,7 +224,12 @@ public class CreditApplicationTrackingService {
         log.info("Credit application status updated. ID: {}, Old status: {}, New status: {}", 
                 applicationId, oldStatus, newStatus);
         
-        return creditApplicationRepository.save(application);
+        CreditApplication savedApplication = creditApplicationRepository.save(application);
+        
+        // Durum değişikliğini portföy toplamları gibi dinleyicilere bildir
+        statusPublisher.publish(newStatus.name(), savedApplication, previousStatus);
+        
+        return savedApplication;
     }
     
     /**
@@ -0,0 +1,84 @@
+package com.banking.business.concretes;
+
+import com.banking.business.dtos.request.TransactionMonitorRequest;
+import com.banking.business.dtos.response.RiskAssessmentResponse;
+import com.banking.business.fraud.AMLSuspiciousTransactionWriter;
+import com.banking.core.security.fraud.FraudContext;
+import com.banking.core.security.fraud.FraudRulePipeline;
+import com.banking.core.security.fraud.FraudVerdict;
+import com.banking.entities.SuspiciousTransaction;
+import com.banking.repositories.abstracts.SuspiciousTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AMLManagerTest {
+
+    @Mock
+    private SuspiciousTransactionRepository suspiciousTransactionRepository;
+
+    @Mock
+    private FraudRulePipeline fraudRulePipeline;
+
+    @Mock
+    private AMLSuspiciousTransactionWriter suspiciousTransactionWriter;
+
+    @InjectMocks
+    private AMLManager manager;
+
+    private TransactionMonitorRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        request = TransactionMonitorRequest.builder()
+                .customerId(7L)
+                .transactionType("TRANSFER")
+                .transactionId("TX-1")
+                .amount(new BigDecimal("500.00"))
+                .ipAddress("10.0.0.1")
+                .build();
+    }
+
+    @Test
+    void monitorTransaction_ShouldNotRunRecordingRules() {
+        // Arrange
+        when(fraudRulePipeline.evaluateWithoutRecording(any(FraudContext.class))).thenReturn(FraudVerdict.PASS);
+
+        // Act
+        RiskAssessmentResponse response = manager.monitorTransaction(request);
+
+        // Assert
+        assertEquals("LOW", response.getRiskLevel());
+        verify(fraudRulePipeline).evaluateWithoutRecording(any(FraudContext.class));
+        verify(fraudRulePipeline, never()).evaluate(any(FraudContext.class));
+        verifyNoInteractions(suspiciousTransactionWriter);
+    }
+
+    @Test
+    void monitorTransaction_ShouldSubmitSuspiciousTransaction_WhenTopReasonIsHighRisk() {
+        // Arrange
+        when(fraudRulePipeline.evaluateWithoutRecording(any(FraudContext.class)))
+                .thenReturn(FraudVerdict.of("HIGH_RISK_LOCATION", "High risk location", 80));
+
+        // Act
+        RiskAssessmentResponse response = manager.monitorTransaction(request);
+
+        // Assert
+        ArgumentCaptor<SuspiciousTransaction> transaction = ArgumentCaptor.forClass(SuspiciousTransaction.class);
+        verify(suspiciousTransactionWriter).submit(eq(7L), transaction.capture());
+        assertEquals("HIGH", response.getRiskLevel());
+        assertEquals("High risk location", response.getRiskReason());
+        assertEquals(SuspiciousTransaction.RiskLevel.HIGH, transaction.getValue().getRiskLevel());
+    }
+}
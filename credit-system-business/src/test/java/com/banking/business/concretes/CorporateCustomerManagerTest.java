@@ -0,0 +1,69 @@
+package com.banking.business.concretes;
+
+import com.banking.business.dtos.requests.CreateCorporateCustomerRequest;
+import com.banking.business.dtos.responses.CorporateCustomerResponse;
+import com.banking.business.rules.CorporateCustomerBusinessRules;
+import com.banking.core.cache.NegativeLookupCache;
+import com.banking.core.utilities.mappers.ModelMapperService;
+import com.banking.core.utilities.results.DataResult;
+import com.banking.entities.CorporateCustomer;
+import com.banking.repositories.abstracts.CorporateCustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.modelmapper.ModelMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CorporateCustomerManagerTest {
+
+    @Mock
+    private CorporateCustomerRepository repository;
+
+    @Mock
+    private CorporateCustomerBusinessRules rules;
+
+    @Mock
+    private ModelMapperService mapper;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @InjectMocks
+    private CorporateCustomerManager manager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mapper.forRequest()).thenReturn(modelMapper);
+        when(mapper.forResponse()).thenReturn(modelMapper);
+    }
+
+    @Test
+    void add_ShouldInvalidateNegativeEmailLookup_WhenCustomerIsSaved() {
+        // Arrange
+        CreateCorporateCustomerRequest request = new CreateCorporateCustomerRequest();
+        request.setTaxNumber("1234567890");
+
+        CorporateCustomer customer = new CorporateCustomer();
+        customer.setEmail("finance@acme.com");
+
+        when(modelMapper.map(request, CorporateCustomer.class)).thenReturn(customer);
+        when(repository.save(any(CorporateCustomer.class))).thenReturn(customer);
+        when(modelMapper.map(customer, CorporateCustomerResponse.class)).thenReturn(new CorporateCustomerResponse());
+
+        // Act
+        DataResult<CorporateCustomerResponse> result = manager.add(request);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        verify(negativeLookupCache).invalidate(NegativeLookupCache.USER_EMAIL, "finance@acme.com");
+    }
+}
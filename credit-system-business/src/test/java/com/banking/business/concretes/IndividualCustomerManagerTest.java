@@ -3,6 +3,7 @@ package com.banking.business.concretes;
 import com.banking.business.dtos.requests.CreateIndividualCustomerRequest;
 import com.banking.business.dtos.responses.IndividualCustomerResponse;
 import com.banking.business.rules.IndividualCustomerBusinessRules;
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.utilities.mappers.ModelMapperService;
 import com.banking.core.utilities.results.DataResult;
 import com.banking.entities.IndividualCustomer;
@@ -33,6 +34,9 @@ class IndividualCustomerManagerTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private IndividualCustomerManager manager;
 
@@ -0,0 +1,111 @@
+package com.banking.business.concretes;
+
+import com.banking.core.cache.CacheService;
+import com.banking.core.cache.RefreshAheadCache;
+import com.banking.core.dtos.response.BlacklistStatusResponse;
+import com.banking.core.dtos.response.CentralBankReportResponse;
+import com.banking.core.dtos.response.RiskScoreResponse;
+import com.banking.core.integration.CentralBankClient;
+import com.banking.core.utilities.results.DataResult;
+import com.banking.entities.Customer;
+import com.banking.entities.IndividualCustomer;
+import com.banking.entities.RiskReport;
+import com.banking.repositories.abstracts.CustomerRepository;
+import com.banking.repositories.abstracts.RiskReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RiskReportManagerTest {
+
+    private static final Long CUSTOMER_ID = 7L;
+    private static final String IDENTITY_NUMBER = "12345678901";
+
+    private final CentralBankClient centralBankClient = mock(CentralBankClient.class);
+    @SuppressWarnings("unchecked")
+    private final CustomerRepository<Customer> customerRepository = mock(CustomerRepository.class);
+    private final RefreshAheadCache refreshAheadCache = mock(RefreshAheadCache.class);
+    private final Map<String, Object> cachedValues = new HashMap<>();
+    private RiskReportManager manager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        manager = new RiskReportManager(centralBankClient, customerRepository, mock(CacheService.class),
+                refreshAheadCache, mock(RiskReportRepository.class));
+        ReflectionTestUtils.setField(manager, "cacheDurationMinutes", 30L);
+
+        // Read-through stand-in: the loader runs only when the key is not cached yet
+        when(refreshAheadCache.get(anyString(), any(), any(Duration.class), any())).thenAnswer(invocation ->
+                cachedValues.computeIfAbsent(invocation.getArgument(0),
+                        key -> ((Supplier<Object>) invocation.getArgument(3)).get()));
+
+        IndividualCustomer customer = new IndividualCustomer();
+        customer.setId(CUSTOMER_ID);
+        customer.setIdentityNumber(IDENTITY_NUMBER);
+        customer.setFirstName("Ayşe");
+        customer.setLastName("Yılmaz");
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+
+        CentralBankReportResponse report = new CentralBankReportResponse();
+        report.setReportId("CB-1");
+        RiskScoreResponse riskScore = new RiskScoreResponse();
+        riskScore.setScore(42.0);
+        when(centralBankClient.getCustomerReport(IDENTITY_NUMBER)).thenReturn(report);
+        when(centralBankClient.calculateRiskScore(IDENTITY_NUMBER)).thenReturn(riskScore);
+        when(centralBankClient.getBlacklistStatus(IDENTITY_NUMBER)).thenReturn(new BlacklistStatusResponse());
+    }
+
+    @Test
+    void getReport_ShouldLoadCustomerOnlyOnCacheMiss() {
+        // Arrange
+        manager.getReport(CUSTOMER_ID);
+        clearInvocations(customerRepository, centralBankClient);
+
+        // Act
+        DataResult<RiskReport> result = manager.getReport(CUSTOMER_ID);
+
+        // Assert
+        assertEquals("CB-1", result.getData().getReportReference());
+        assertEquals(42.0, result.getData().getRiskScore());
+        verifyNoInteractions(customerRepository, centralBankClient);
+    }
+
+    @Test
+    void getReport_ShouldLoadCustomerOncePerMissingEntry() {
+        // Act
+        manager.getReport(CUSTOMER_ID);
+
+        // Assert
+        CentralBankReportResponse report = (CentralBankReportResponse) cachedValues.get("central_bank_report:7");
+        assertEquals(CUSTOMER_ID, report.getCustomerId());
+        assertEquals("Ayşe Yılmaz", report.getCustomerName());
+        verify(customerRepository, times(3)).findById(CUSTOMER_ID);
+        verify(centralBankClient).getCustomerReport(IDENTITY_NUMBER);
+    }
+
+    @Test
+    void getCentralBankReport_ShouldNotLoadCustomer_WhenReportIsCached() {
+        // Arrange
+        manager.getCentralBankReport(CUSTOMER_ID, IDENTITY_NUMBER);
+        clearInvocations(customerRepository, centralBankClient);
+
+        // Act
+        CentralBankReportResponse report = manager.getCentralBankReport(CUSTOMER_ID, IDENTITY_NUMBER);
+
+        // Assert
+        assertEquals("CB-1", report.getReportId());
+        verifyNoInteractions(customerRepository, centralBankClient);
+    }
+}
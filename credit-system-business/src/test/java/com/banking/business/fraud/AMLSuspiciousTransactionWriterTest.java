@@ -0,0 +1,101 @@
+package com.banking.business.fraud;
+
+import com.banking.core.security.fraud.SuspiciousTransactionWriteBehind;
+import com.banking.entities.SuspiciousTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AMLSuspiciousTransactionWriterTest {
+
+    private static final LocalDateTime TRANSACTION_DATE = LocalDateTime.of(2024, 3, 1, 10, 15);
+    private static final LocalDateTime DETECTION_DATE = LocalDateTime.of(2024, 3, 1, 10, 16);
+
+    private final SuspiciousTransactionWriteBehind writeBehind = mock(SuspiciousTransactionWriteBehind.class);
+    private final AMLSuspiciousTransactionWriter writer = new AMLSuspiciousTransactionWriter(writeBehind);
+
+    private SuspiciousTransaction transaction() {
+        SuspiciousTransaction transaction = new SuspiciousTransaction();
+        transaction.setTransactionType(SuspiciousTransaction.TransactionType.TRANSFER);
+        transaction.setTransactionId("TX-9");
+        transaction.setAmount(new BigDecimal("250000.00"));
+        transaction.setTransactionDate(TRANSACTION_DATE);
+        transaction.setDetectionDate(DETECTION_DATE);
+        transaction.setRiskScore(80);
+        transaction.setRiskLevel(SuspiciousTransaction.RiskLevel.HIGH);
+        transaction.setRiskReason("Large transfer");
+        transaction.setDetectionRule("AML_THRESHOLD");
+        transaction.setDescription("Transfer above AML threshold");
+        transaction.setStatus(SuspiciousTransaction.Status.DETECTED);
+        transaction.setIpAddress("10.0.0.2");
+        transaction.setDeviceId("device-1");
+        transaction.setUserAgent("JUnit");
+        transaction.setLocation("TR");
+        return transaction;
+    }
+
+    @Test
+    void bind_ShouldSetColumnsInInsertOrder() throws Exception {
+        // Arrange
+        AMLSuspiciousTransactionRow row = AMLSuspiciousTransactionWriter.toRow(3L, transaction());
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        // Act
+        writer.bind(ps, row);
+
+        // Assert
+        verify(ps).setLong(1, 3L);
+        verify(ps).setString(2, "TRANSFER");
+        verify(ps).setString(3, "TX-9");
+        verify(ps).setBigDecimal(4, new BigDecimal("250000.00"));
+        verify(ps).setObject(5, TRANSACTION_DATE, Types.TIMESTAMP);
+        verify(ps).setObject(6, DETECTION_DATE, Types.TIMESTAMP);
+        verify(ps).setObject(7, 80, Types.INTEGER);
+        verify(ps).setString(8, "HIGH");
+        verify(ps).setString(9, "Large transfer");
+        verify(ps).setString(10, "AML_THRESHOLD");
+        verify(ps).setString(11, "Transfer above AML threshold");
+        verify(ps).setString(12, "DETECTED");
+        verify(ps).setString(13, "10.0.0.2");
+        verify(ps).setString(14, "device-1");
+        verify(ps).setString(15, "JUnit");
+        verify(ps).setString(16, "TR");
+        verify(ps).setBoolean(17, false);
+        verify(ps).setObject(eq(18), any(LocalDateTime.class), eq(Types.TIMESTAMP));
+        verify(ps).setBoolean(19, true);
+    }
+
+    @Test
+    void submit_ShouldQueueRowForCustomer() {
+        // Arrange
+        SuspiciousTransaction transaction = transaction();
+
+        // Act
+        writer.submit(3L, transaction);
+
+        // Assert
+        verify(writeBehind).submit(eq(writer), eq(AMLSuspiciousTransactionWriter.toRow(3L, transaction)));
+    }
+
+    @Test
+    void submit_ShouldRejectMissingCustomerId() {
+        // Arrange
+        SuspiciousTransaction transaction = transaction();
+
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> writer.submit(null, transaction));
+
+        // Assert
+        assertEquals("Suspicious transaction must have a customer id", error.getMessage());
+        verifyNoInteractions(writeBehind);
+    }
+}
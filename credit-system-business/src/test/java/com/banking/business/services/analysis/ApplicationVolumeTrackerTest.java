@@ -0,0 +1,148 @@
+package com.banking.business.services.analysis;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.entities.CreditApplication;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import com.banking.repositories.projections.DailyCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ApplicationVolumeTrackerTest {
+
+    private final CreditApplicationRepository repository = mock(CreditApplicationRepository.class);
+    private final ApplicationVolumeTracker tracker = new ApplicationVolumeTracker(repository, 30);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "maxSeedAttempts", 3);
+        when(repository.countDailyApprovedSince(eq(CreditApplication.Status.APPROVED), any())).thenReturn(List.of());
+    }
+
+    private static List<DailyCount> today(long count) {
+        LocalDate day = LocalDate.now();
+        return List.of(new DailyCount() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        });
+    }
+
+    private static CreditApplicationEvent created() {
+        Map<String, Object> data = new HashMap<>();
+        data.put(CreditApplicationEvent.DATA_PREVIOUS_STATUS, null);
+        data.put(CreditApplicationEvent.DATA_STATUS, CreditApplication.Status.PENDING.name());
+        return new CreditApplicationEvent(new Object(), "event-1", "CREATED", 1L, 2L, data);
+    }
+
+    @Test
+    void initialize_ShouldSeedWindowsFromDatabase() {
+        // Arrange
+        when(repository.countDailyCreatedSince(any())).thenReturn(today(5));
+
+        // Act
+        tracker.initialize();
+
+        // Assert
+        assertEquals(5, tracker.getApplications(1));
+        assertEquals(0, tracker.getApprovals(30));
+    }
+
+    @Test
+    void initialize_ShouldRetryWhenEventArrivesDuringQueries() {
+        // Arrange
+        when(repository.countDailyCreatedSince(any()))
+                .thenAnswer(invocation -> {
+                    tracker.onCreditApplicationEvent(created());
+                    return today(5);
+                })
+                .thenReturn(today(6));
+
+        // Act
+        tracker.initialize();
+
+        // Assert
+        verify(repository, times(2)).countDailyCreatedSince(any());
+        assertEquals(6, tracker.getApplications(1));
+    }
+
+    @Test
+    void initialize_ShouldUseLastResultWhenEveryAttemptRaces() {
+        // Arrange
+        when(repository.countDailyCreatedSince(any())).thenAnswer(invocation -> {
+            tracker.onCreditApplicationEvent(created());
+            return today(5);
+        });
+
+        // Act
+        tracker.initialize();
+
+        // Assert
+        verify(repository, times(3)).countDailyCreatedSince(any());
+        assertEquals(5, tracker.getApplications(1));
+    }
+
+    @Test
+    void initialize_ShouldNeitherLoseNorDoubleCountConcurrentEvents() throws Exception {
+        // Arrange
+        // The stand-in database commits an application and publishes its event in one step
+        ReflectionTestUtils.setField(tracker, "maxSeedAttempts", Integer.MAX_VALUE);
+        Object database = new Object();
+        long[] committed = new long[1];
+        CountDownLatch seeding = new CountDownLatch(1);
+        when(repository.countDailyCreatedSince(any())).thenAnswer(invocation -> {
+            seeding.countDown();
+            synchronized (database) {
+                return today(committed[0]);
+            }
+        });
+        int threads = 4;
+        int eventsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        Future<?> initialization = executor.submit(tracker::initialize);
+        assertTrue(seeding.await(5, TimeUnit.SECONDS));
+        List<Future<?>> writers = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    synchronized (database) {
+                        committed[0]++;
+                        tracker.onCreditApplicationEvent(created());
+                    }
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        initialization.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertEquals((long) threads * eventsPerThread, tracker.getApplications(1));
+    }
+}
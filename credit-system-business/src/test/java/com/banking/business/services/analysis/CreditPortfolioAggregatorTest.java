@@ -0,0 +1,168 @@
+package com.banking.business.services.analysis;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.entities.CreditApplication;
+import com.banking.entities.enums.CreditType;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import com.banking.repositories.projections.CreditApplicationAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CreditPortfolioAggregatorTest {
+
+    private final CreditApplicationRepository repository = mock(CreditApplicationRepository.class);
+    private final CreditPortfolioAggregator aggregator = new CreditPortfolioAggregator(repository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(aggregator, "maxReconcileAttempts", 3);
+    }
+
+    private static CreditApplicationAggregate row(CreditApplication.Status status, long count, String amount) {
+        return new CreditApplicationAggregate() {
+            @Override
+            public CreditType getCreditType() {
+                return CreditType.PERSONAL_FINANCE;
+            }
+
+            @Override
+            public CreditApplication.Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getApplicationCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return new BigDecimal(amount);
+            }
+        };
+    }
+
+    private static CreditApplicationEvent event(CreditApplication.Status previousStatus,
+                                                CreditApplication.Status status, String amount) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(CreditApplicationEvent.DATA_CREDIT_TYPE, CreditType.PERSONAL_FINANCE);
+        data.put(CreditApplicationEvent.DATA_AMOUNT, new BigDecimal(amount));
+        data.put(CreditApplicationEvent.DATA_PREVIOUS_STATUS, previousStatus != null ? previousStatus.name() : null);
+        data.put(CreditApplicationEvent.DATA_STATUS, status.name());
+        return new CreditApplicationEvent(new Object(), "event-1", status.name(), 1L, 2L, data);
+    }
+
+    @Test
+    void reconcile_ShouldReplaceTotalsWithDatabaseAggregates() {
+        // Arrange
+        aggregator.onCreditApplicationEvent(event(null, CreditApplication.Status.APPROVED, "999.00"));
+        when(repository.summarizeByCreditTypeAndStatus())
+                .thenReturn(List.of(row(CreditApplication.Status.APPROVED, 2, "300.00")));
+
+        // Act
+        aggregator.reconcile();
+
+        // Assert
+        assertEquals(2, aggregator.getCount(CreditApplication.Status.APPROVED));
+        assertEquals(new BigDecimal("300.00"), aggregator.getTotalAmount(CreditApplication.Status.APPROVED));
+    }
+
+    @Test
+    void reconcile_ShouldRetryWhenEventArrivesDuringQuery() {
+        // Arrange
+        when(repository.summarizeByCreditTypeAndStatus())
+                .thenAnswer(invocation -> {
+                    aggregator.onCreditApplicationEvent(
+                            event(CreditApplication.Status.PENDING, CreditApplication.Status.APPROVED, "200.00"));
+                    return List.of(row(CreditApplication.Status.APPROVED, 1, "100.00"),
+                            row(CreditApplication.Status.PENDING, 1, "200.00"));
+                })
+                .thenReturn(List.of(row(CreditApplication.Status.APPROVED, 2, "300.00")));
+
+        // Act
+        aggregator.reconcile();
+
+        // Assert
+        verify(repository, times(2)).summarizeByCreditTypeAndStatus();
+        assertEquals(2, aggregator.getCount(CreditApplication.Status.APPROVED));
+        assertEquals(new BigDecimal("300.00"), aggregator.getTotalAmount(CreditApplication.Status.APPROVED));
+        assertEquals(0, aggregator.getCount(CreditApplication.Status.PENDING));
+    }
+
+    @Test
+    void reconcile_ShouldKeepIncrementalTotalsWhenEveryAttemptRaces() {
+        // Arrange
+        aggregator.onCreditApplicationEvent(event(null, CreditApplication.Status.APPROVED, "100.00"));
+        when(repository.summarizeByCreditTypeAndStatus())
+                .thenAnswer(invocation -> {
+                    aggregator.onCreditApplicationEvent(event(null, CreditApplication.Status.APPROVED, "50.00"));
+                    return List.of();
+                });
+
+        // Act
+        aggregator.reconcile();
+
+        // Assert
+        verify(repository, times(3)).summarizeByCreditTypeAndStatus();
+        assertEquals(4, aggregator.getCount(CreditApplication.Status.APPROVED));
+        assertEquals(new BigDecimal("250.00"), aggregator.getTotalAmount(CreditApplication.Status.APPROVED));
+    }
+
+    @Test
+    void reconcile_ShouldNeitherLoseNorDoubleCountConcurrentEvents() throws Exception {
+        // Arrange
+        // The stand-in database commits an application and publishes its event in one step,
+        // so the aggregates are exact whenever reconcile and the events interleave correctly
+        Object database = new Object();
+        long[] committed = new long[1];
+        when(repository.summarizeByCreditTypeAndStatus()).thenAnswer(invocation -> {
+            synchronized (database) {
+                return committed[0] == 0 ? List.of()
+                        : List.of(row(CreditApplication.Status.APPROVED, committed[0], committed[0] + ".00"));
+            }
+        });
+        int threads = 4;
+        int eventsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    synchronized (database) {
+                        committed[0]++;
+                        aggregator.onCreditApplicationEvent(event(null, CreditApplication.Status.APPROVED, "1.00"));
+                    }
+                }
+            }));
+        }
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            aggregator.reconcile();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Assert
+        long expected = (long) threads * eventsPerThread;
+        assertEquals(expected, aggregator.getCount(CreditApplication.Status.APPROVED));
+        assertEquals(new BigDecimal(expected + ".00"), aggregator.getTotalAmount(CreditApplication.Status.APPROVED));
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.business.services.analysis;
+
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.entities.CreditApplication;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import com.banking.repositories.projections.AmountStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PortfolioStatisticsServiceTest {
+
+    private final CreditApplicationRepository repository = mock(CreditApplicationRepository.class);
+    private final Executor executor = mock(Executor.class);
+    private final PortfolioStatisticsService service = new PortfolioStatisticsService(repository, executor);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxStalenessSeconds", 300L);
+        ReflectionTestUtils.setField(service, "maxRefreshAttempts", 3);
+    }
+
+    private static AmountStatistics statistics(long count, String total, String totalOfSquares) {
+        AmountStatistics statistics = mock(AmountStatistics.class);
+        when(statistics.getCount()).thenReturn(count);
+        when(statistics.getTotal()).thenReturn(new BigDecimal(total));
+        when(statistics.getTotalOfSquares()).thenReturn(new BigDecimal(totalOfSquares));
+        return statistics;
+    }
+
+    private static CreditApplicationEvent approved(String amount) {
+        return new CreditApplicationEvent(new Object(), "event-1", "APPROVED", 1L, 2L, Map.of(
+                CreditApplicationEvent.DATA_AMOUNT, new BigDecimal(amount),
+                CreditApplicationEvent.DATA_PREVIOUS_STATUS, CreditApplication.Status.PENDING.name(),
+                CreditApplicationEvent.DATA_STATUS, CreditApplication.Status.APPROVED.name()));
+    }
+
+    @Test
+    void refresh_ShouldReplaceSnapshotWithDatabaseTotals() {
+        // Arrange
+        AmountStatistics loaded = statistics(2, "300", "50000");
+        when(repository.calculateAmountStatisticsByStatus(CreditApplication.Status.APPROVED)).thenReturn(loaded);
+
+        // Act
+        PortfolioStatistics result = service.refresh();
+
+        // Assert
+        assertEquals(1, result.getVersion());
+        assertEquals(2, result.getCount());
+        assertEquals(new BigDecimal("150.00"), result.getMean());
+        assertSame(result, service.getStatistics());
+        verify(executor, never()).execute(any());
+    }
+
+    @Test
+    void refresh_ShouldRetryWhenApprovalArrivesDuringQuery() {
+        // Arrange
+        AmountStatistics beforeApproval = statistics(1, "100", "10000");
+        AmountStatistics afterApproval = statistics(2, "300", "50000");
+        when(repository.calculateAmountStatisticsByStatus(CreditApplication.Status.APPROVED))
+                .thenAnswer(invocation -> {
+                    service.onCreditApplicationEvent(approved("200"));
+                    return beforeApproval;
+                })
+                .thenReturn(afterApproval);
+
+        // Act
+        PortfolioStatistics result = service.refresh();
+
+        // Assert
+        verify(repository, times(2)).calculateAmountStatisticsByStatus(CreditApplication.Status.APPROVED);
+        assertEquals(2, result.getCount());
+        assertEquals(new BigDecimal("300"), result.getSum());
+        assertEquals(2, result.getVersion());
+        assertSame(result, service.getStatistics());
+    }
+
+    @Test
+    void refresh_ShouldKeepIncrementsWhenEveryAttemptRaces() {
+        // Arrange
+        service.onCreditApplicationEvent(approved("100"));
+        AmountStatistics stale = statistics(0, "0", "0");
+        when(repository.calculateAmountStatisticsByStatus(CreditApplication.Status.APPROVED))
+                .thenAnswer(invocation -> {
+                    service.onCreditApplicationEvent(approved("50"));
+                    return stale;
+                });
+
+        // Act
+        PortfolioStatistics result = service.refresh();
+
+        // Assert
+        verify(repository, times(3)).calculateAmountStatisticsByStatus(CreditApplication.Status.APPROVED);
+        assertEquals(4, result.getCount());
+        assertEquals(new BigDecimal("250"), result.getSum());
+        assertNull(result.getReconciledAt());
+        assertSame(result, service.getStatistics());
+    }
+}
@@ -0,0 +1,151 @@
+package com.banking.business.services.authorization;
+
+import com.banking.core.events.PermissionChangedEvent;
+import com.banking.entities.Permission;
+import com.banking.entities.UserPermission;
+import com.banking.entities.enums.Role;
+import com.banking.repositories.abstracts.PermissionRepository;
+import com.banking.repositories.abstracts.UserPermissionRepository;
+import com.banking.repositories.abstracts.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PermissionSnapshotStoreTest {
+
+    private static final String CHANNEL = "authorization:permissions";
+    private static final Long USER_ID = 42L;
+
+    private final PermissionRepository permissionRepository = mock(PermissionRepository.class);
+    private final UserPermissionRepository userPermissionRepository = mock(UserPermissionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private PermissionSnapshotStore nodeA;
+    private PermissionSnapshotStore nodeB;
+    private UserPermission grant;
+
+    @BeforeEach
+    void setUp() {
+        Permission permission = new Permission();
+        permission.setId(1L);
+        permission.setName("CREDIT_APPROVE");
+        permission.setRole(Role.ROLE_ADMIN);
+        permission.setResource("credit");
+        permission.setAction("approve");
+        grant = new UserPermission();
+        grant.setPermission(permission);
+
+        when(permissionRepository.findAll()).thenReturn(List.of(permission));
+        when(userPermissionRepository.findActivePermissionsByUserId(USER_ID)).thenReturn(List.of(grant));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        nodeA = store();
+        nodeB = store();
+    }
+
+    private PermissionSnapshotStore store() {
+        PermissionSnapshotStore store = new PermissionSnapshotStore(permissionRepository, userPermissionRepository,
+                userRepository, redisTemplate, mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(store, "maximumSize", 1000L);
+        ReflectionTestUtils.setField(store, "ttlMinutes", 30L);
+        ReflectionTestUtils.setField(store, "channel", CHANNEL);
+        store.init();
+        return store;
+    }
+
+    private Message publishedMessage() {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, atLeastOnce()).convertAndSend(eq(CHANNEL), body.capture());
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getValue().getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+
+    @Test
+    void onMessage_ShouldApplyRevokeFromAnotherNode() {
+        // Arrange
+        assertTrue(nodeA.hasPermission(USER_ID, "credit", "approve"));
+        assertTrue(nodeB.hasPermission(USER_ID, "credit", "approve"));
+        when(userPermissionRepository.findActivePermissionsByUserId(USER_ID)).thenReturn(List.of());
+
+        // Act
+        nodeA.onPermissionChanged(new PermissionChangedEvent(this, USER_ID));
+        nodeB.onMessage(publishedMessage(), null);
+
+        // Assert
+        assertFalse(nodeA.hasPermission(USER_ID, "credit", "approve"));
+        assertFalse(nodeB.hasPermission(USER_ID, "credit", "approve"));
+        assertEquals(1, nodeB.getUserVersion(USER_ID));
+    }
+
+    @Test
+    void onPermissionChanged_ShouldBumpOnlyChangedUserVersion() {
+        // Arrange
+        PermissionSnapshot before = nodeA.getSnapshot(USER_ID);
+
+        // Act
+        nodeA.onPermissionChanged(new PermissionChangedEvent(this, USER_ID));
+        PermissionSnapshot after = nodeA.getSnapshot(USER_ID);
+
+        // Assert
+        assertEquals(0, before.getUserVersion());
+        assertEquals(1, after.getUserVersion());
+        assertEquals(before.getCatalogVersion(), after.getCatalogVersion());
+        assertEquals(0, nodeA.getUserVersion(7L));
+        verify(userPermissionRepository, times(2)).findActivePermissionsByUserId(USER_ID);
+    }
+
+    @Test
+    void onMessage_ShouldBumpCatalogVersionForCatalogChange() {
+        // Arrange
+        long catalogVersion = nodeB.getCatalog().getVersion();
+        nodeA.onPermissionChanged(new PermissionChangedEvent(this, null));
+
+        // Act
+        nodeB.onMessage(publishedMessage(), null);
+
+        // Assert
+        assertEquals(catalogVersion + 1, nodeB.getCatalog().getVersion());
+        assertEquals(catalogVersion + 1, nodeB.getSnapshot(USER_ID).getCatalogVersion());
+        verify(permissionRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreOwnAnnouncement() {
+        // Arrange
+        nodeA.onPermissionChanged(new PermissionChangedEvent(this, USER_ID));
+        Message own = publishedMessage();
+
+        // Act
+        nodeA.onMessage(own, null);
+
+        // Assert
+        assertEquals(1, nodeA.getUserVersion(USER_ID));
+    }
+
+    @Test
+    void onPermissionChanged_ShouldApplyLocallyWhenPublishFails() {
+        // Arrange
+        doThrow(new IllegalStateException("redis down")).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+
+        // Act
+        nodeA.onPermissionChanged(new PermissionChangedEvent(this, USER_ID));
+
+        // Assert
+        assertEquals(1, nodeA.getUserVersion(USER_ID));
+    }
+}
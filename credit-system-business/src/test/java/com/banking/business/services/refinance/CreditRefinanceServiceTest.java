@@ -0,0 +1,98 @@
+package com.banking.business.services.refinance;
+
+import com.banking.business.services.tracking.CreditApplicationStatusPublisher;
+import com.banking.core.events.CreditApplicationEvent;
+import com.banking.core.events.EventService;
+import com.banking.entities.CreditApplication;
+import com.banking.entities.IndividualCustomer;
+import com.banking.entities.enums.CreditType;
+import com.banking.entities.enums.CustomerCategory;
+import com.banking.repositories.abstracts.CreditApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CreditRefinanceServiceTest {
+
+    private final CreditApplicationRepository repository = mock(CreditApplicationRepository.class);
+    private final EventService eventService = mock(EventService.class);
+    private final CreditRefinanceService service = new CreditRefinanceService(repository,
+            new CreditApplicationStatusPublisher(eventService));
+
+    private IndividualCustomer customer;
+    private CreditApplication existing;
+
+    @BeforeEach
+    void setUp() {
+        customer = new IndividualCustomer();
+        customer.setId(5L);
+
+        existing = new CreditApplication();
+        existing.setId(10L);
+        existing.setCustomer(customer);
+        existing.setCreditType(CreditType.MORTGAGE);
+        existing.setAmount(new BigDecimal("100000.00"));
+        existing.setMonthlyIncome(new BigDecimal("20000.00"));
+        existing.setTermMonths(120);
+        existing.setStatus(CreditApplication.Status.APPROVED);
+
+        when(repository.findById(10L)).thenReturn(Optional.of(existing));
+        when(repository.save(any(CreditApplication.class))).thenAnswer(invocation -> {
+            CreditApplication application = invocation.getArgument(0);
+            if (application.getId() == null) {
+                application.setId(11L);
+            }
+            return application;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> eventData(String eventType, Long applicationId) {
+        ArgumentCaptor<Map<String, Object>> data = ArgumentCaptor.forClass(Map.class);
+        verify(eventService).publishCreditApplicationEvent(eq(eventType), eq(applicationId), eq(5L), data.capture());
+        return data.getValue();
+    }
+
+    @Test
+    void refinanceCredit_ShouldPublishSubmittedAndCancelledEvents() {
+        // Arrange
+        BigDecimal newRate = new BigDecimal("1.20");
+
+        // Act
+        CreditApplication refinanced = service.refinanceCredit(10L, customer, CustomerCategory.VIP, newRate, 12);
+
+        // Assert
+        assertEquals(132, refinanced.getTermMonths());
+        Map<String, Object> submitted = eventData(CreditApplicationStatusPublisher.SUBMITTED, 11L);
+        assertEquals("APPROVED", submitted.get(CreditApplicationEvent.DATA_STATUS));
+        assertFalse(submitted.containsKey(CreditApplicationEvent.DATA_PREVIOUS_STATUS));
+        assertEquals(CreditType.MORTGAGE, submitted.get(CreditApplicationEvent.DATA_CREDIT_TYPE));
+
+        Map<String, Object> cancelled = eventData("CANCELLED", 10L);
+        assertEquals("APPROVED", cancelled.get(CreditApplicationEvent.DATA_PREVIOUS_STATUS));
+        assertEquals("CANCELLED", cancelled.get(CreditApplicationEvent.DATA_STATUS));
+        assertEquals(new BigDecimal("100000.00"), cancelled.get(CreditApplicationEvent.DATA_AMOUNT));
+    }
+
+    @Test
+    void refinanceCredit_ShouldNotPublishWhenApplicationIsNotApproved() {
+        // Arrange
+        existing.setStatus(CreditApplication.Status.PENDING);
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> service.refinanceCredit(10L, customer, CustomerCategory.VIP, BigDecimal.ONE, null));
+
+        // Assert
+        verifyNoInteractions(eventService);
+    }
+}
@@ -0,0 +1,37 @@
+package com.banking.core.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link CacheService} anahtar-değer önbelleğinin depolama katmanı.
+ * Uygulamalar kayıt bazında yaşam süresini desteklemeli ve süresi dolmuş kayıtları döndürmemelidir.
+ */
+public interface CacheBackend {
+
+    /**
+     * @param key Anahtar
+     * @param value Değer (null olamaz)
+     * @param ttl Kaydın yaşam süresi
+     */
+    void put(String key, Object value, Duration ttl);
+
+    /**
+     * @param key Anahtar
+     * @return Geçerli kayıt veya boş
+     */
+    Optional<CacheEntry> get(String key);
+
+    /**
+     * @param key Anahtar
+     * @return Kayıt silindiyse {@code true}
+     */
+    boolean remove(String key);
+
+    /**
+     * Yaklaşık kayıt sayısı; bilinmiyorsa -1
+     */
+    long size();
+
+    String getName();
+}
@@ -1,32 +1,53 @@
 package com.banking.core.cache;
 
+import com.banking.core.dtos.response.BlacklistStatusResponse;
+import com.banking.core.dtos.response.CentralBankReportResponse;
+import com.banking.core.dtos.response.CreditHistorySummaryResponse;
+import com.banking.core.dtos.response.PaymentDelayResponse;
+import com.banking.core.dtos.response.PaymentStatusResponse;
+import com.banking.core.dtos.response.RiskScoreResponse;
+import com.banking.core.dtos.response.SignedAgreementResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Redis önbellekleme yapılandırması.
- * Kredi skor hesaplamaları, müşteri bilgileri gibi sık kullanılan verileri önbellekleyerek performansı artırır.
+ * Önbellekleme yapılandırması.
+ * Uygulamadaki tek önbellek yöneticisi, Redis (L2) önünde sınırlı boyutlu bir Caffeine (L1) yakın önbelleği kullanır.
+ * Sık okunan kayıtlar Redis'e gitmeden düğüm belleğinden döner; yazma ve silmeler Redis pub/sub ile
+ * diğer düğümlerin L1 kopyalarını geçersizleştirir. Uygulamaya verilen yönetici her önbelleği metrik toplayan
+ * {@link InstrumentedCache} ile sarar.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final String KEY_VALUE_PREFIX = "kv:";
+
     @Value("${spring.redis.host:localhost}")
     private String redisHost;
 
@@ -36,6 +57,30 @@ public class CacheConfig {
     @Value("${spring.redis.password:}")
     private String redisPassword;
 
+    @Value("${cache.invalidation.channel:cache:invalidation}")
+    private String invalidationChannel;
+
+    @Value("${cache.local.default.maximum-size:1000}")
+    private long defaultLocalMaximumSize;
+
+    @Value("${cache.local.default.ttl-seconds:60}")
+    private long defaultLocalTtlSeconds;
+
+    @Value("${cache.kv.backend:tiered}")
+    private String keyValueBackend;
+
+    @Value("${cache.kv.local.maximum-size:10000}")
+    private long keyValueLocalMaximumSize;
+
+    @Value("${cache.kv.value-format:COMPACT}")
+    private CacheValueFormat keyValueFormat;
+
+    @Value("${cache.compact.compression-threshold-bytes:512}")
+    private int compactCompressionThreshold;
+
+    @Value("${cache.metrics.tracked-keys:1000}")
+    private long metricsTrackedKeys;
+
     /**
      * Redis bağlantı fabrikası
      */
@@ -60,46 +105,196 @@ public class CacheConfig {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory());
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(jsonSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(jsonSerializer());
         template.afterPropertiesSet();
         return template;
     }
 
     /**
-     * Önbellek yöneticisi yapılandırması
+     * Geçersizleştirme mesajları için metin tabanlı Redis şablonu
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        // Varsayılan önbellek yapılandırması
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30)) // Varsayılan TTL: 30 dakika
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-                .disableCachingNullValues();
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
 
-        // Farklı önbellekler için özel TTL değerleri
-        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+    /**
+     * Sınıf adı yerine tip numarası yazan ikili serileştirici
+     */
+    @Bean
+    public CompactRedisSerializer compactRedisSerializer() {
+        return new CompactRedisSerializer(cacheTypeRegistry(), compactCompressionThreshold);
+    }
+
+    /**
+     * Kısa ikili biçimde saklanabilen tipler. Numaralar Redis'teki kayıtlarda kullanıldığı için değiştirilmemelidir.
+     */
+    static CacheTypeRegistry cacheTypeRegistry() {
+        return new CacheTypeRegistry()
+                .register(1, String.class)
+                .register(2, Long.class)
+                .register(3, Integer.class)
+                .register(4, Boolean.class)
+                .register(5, Double.class)
+                .register(6, BigDecimal.class)
+                // Merkez Bankası yanıtları
+                .register(100, CentralBankReportResponse.class)
+                .register(101, CreditHistorySummaryResponse.class)
+                .register(102, BlacklistStatusResponse.class)
+                .register(103, RiskScoreResponse.class)
+                .register(104, PaymentDelayResponse.class)
+                .register(105, PaymentStatusResponse.class)
+                .register(106, SignedAgreementResponse.class);
+    }
+
+    /**
+     * Önbellek bazında L1/L2 politikaları
+     */
+    private static Map<String, CachePolicy> cachePolicies() {
+        Map<String, CachePolicy> policies = new HashMap<>();
+        
+        // Kredi skoru önbelleği: Redis 1 saat
+        policies.put("creditScores", policy(Duration.ofHours(1), Duration.ofMinutes(5), 10_000));
         
-        // Kredi skoru önbelleği: 1 saat
-        cacheConfigurations.put("creditScores", defaultConfig.entryTtl(Duration.ofHours(1)));
+        // Müşteri bilgileri önbelleği: Redis 2 saat
+        policies.put("customers", policy(Duration.ofHours(2), Duration.ofMinutes(5), 10_000));
+        policies.put("individualCustomerById", policy(Duration.ofHours(2), Duration.ofMinutes(5), 10_000));
+        policies.put("corporateCustomerById", policy(Duration.ofHours(2), Duration.ofMinutes(5), 10_000));
         
-        // Müşteri bilgileri önbelleği: 2 saat
-        cacheConfigurations.put("customers", defaultConfig.entryTtl(Duration.ofHours(2)));
+        // Kredi başvuruları önbelleği: Redis 15 dakika, durum değişiklikleri sık olduğu için L1 kısa tutulur
+        policies.put("creditApplications", policy(Duration.ofMinutes(15), Duration.ofMinutes(1), 5_000));
+        policies.put("creditApplicationById", policy(Duration.ofMinutes(15), Duration.ofMinutes(1), 10_000));
         
-        // Kredi başvuruları önbelleği: 15 dakika
-        cacheConfigurations.put("creditApplications", defaultConfig.entryTtl(Duration.ofMinutes(15)));
+        // Kampanyalar önbelleği: Redis 6 saat
+        policies.put("campaigns", policy(Duration.ofHours(6), Duration.ofMinutes(10), 500));
         
-        // Kampanyalar önbelleği: 6 saat
-        cacheConfigurations.put("campaigns", defaultConfig.entryTtl(Duration.ofHours(6)));
+        // Kredi tipleri önbelleği: Redis 12 saat, küçük ve nadiren değişen veri
+        policies.put("creditTypes", policy(Duration.ofHours(12), Duration.ofMinutes(10), 500));
+        policies.put("activeIndividualCreditTypes", policy(Duration.ofHours(12), Duration.ofMinutes(10), 100));
+        policies.put("activeCorporateCreditTypes", policy(Duration.ofHours(12), Duration.ofMinutes(10), 100));
         
-        // Kredi tipleri önbelleği: 12 saat
-        cacheConfigurations.put("creditTypes", defaultConfig.entryTtl(Duration.ofHours(12)));
+        // Kullanıcı ve yetki önbellekleri: Redis 30 dakika
+        policies.put("userByEmail", policy(Duration.ofMinutes(30), Duration.ofMinutes(2), 10_000));
+        policies.put("userPermissions", policy(Duration.ofMinutes(30), Duration.ofMinutes(1), 10_000));
+        policies.put("rolePermissions", policy(Duration.ofMinutes(30), Duration.ofMinutes(5), 1_000));
+
+        // Bulunamayan kayıt işaretleri: kısa ömürlü, yalnızca Boolean değer tutar
+        policies.put(NegativeLookupCache.CACHE_NAME, policy(Duration.ofSeconds(60), Duration.ofSeconds(30), 50_000)
+                .toBuilder().valueFormat(CacheValueFormat.COMPACT).build());
+        
+        return policies;
+    }
+
+    /**
+     * Uygulamanın kullandığı, metrik toplayan önbellek yöneticisi
+     */
+    @Bean
+    @Primary
+    public InstrumentedCacheManager cacheManager(TwoLevelCacheManager twoLevelCacheManager, MeterRegistry meterRegistry) {
+        return new InstrumentedCacheManager(twoLevelCacheManager, meterRegistry, metricsTrackedKeys);
+    }
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+    /**
+     * Caffeine L1 + Redis L2 önbellek yöneticisi yapılandırması
+     */
+    @Bean
+    public TwoLevelCacheManager twoLevelCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             CompactRedisSerializer compactRedisSerializer,
+                                             SingleFlight singleFlight) {
+        Map<String, CachePolicy> cachePolicies = cachePolicies();
+        CachePolicy defaultPolicy = policy(Duration.ofMinutes(30), Duration.ofSeconds(defaultLocalTtlSeconds),
+                defaultLocalMaximumSize);
+
+        // Varsayılan Redis yapılandırması
+        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(defaultPolicy.getRemoteTtl())
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer()))
+                .disableCachingNullValues();
+
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cachePolicies.forEach((name, policy) -> {
+            RedisCacheConfiguration config = defaultConfig.entryTtl(policy.getRemoteTtl());
+            if (policy.getValueFormat() == CacheValueFormat.COMPACT) {
+                config = config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(compactRedisSerializer));
+            }
+            cacheConfigurations.put(name, config);
+        });
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, invalidationChannel,
+                cachePolicies, defaultPolicy, singleFlight);
+    }
+
+    /**
+     * {@link CacheService} anahtar-değer önbelleğinin depolama katmanı.
+     * {@code memory}: yalnızca düğüm belleği, {@code redis}: yalnızca Redis, {@code tiered}: Redis önünde düğüm belleği
+     */
+    @Bean
+    public CacheBackend keyValueCacheBackend(RedisConnectionFactory redisConnectionFactory,
+                                             RedisTemplate<String, Object> redisTemplate,
+                                             CompactRedisSerializer compactRedisSerializer) {
+        Clock clock = Clock.systemUTC();
+        RedisTemplate<String, Object> valueTemplate = keyValueFormat == CacheValueFormat.COMPACT
+                ? compactRedisTemplate(redisConnectionFactory, compactRedisSerializer)
+                : redisTemplate;
+        return switch (keyValueBackend) {
+            case "memory" -> new InMemoryCacheBackend(keyValueLocalMaximumSize, clock);
+            case "redis" -> new RedisCacheBackend(valueTemplate, KEY_VALUE_PREFIX, clock);
+            case "tiered" -> new TieredCacheBackend(new InMemoryCacheBackend(keyValueLocalMaximumSize, clock),
+                    new RedisCacheBackend(valueTemplate, KEY_VALUE_PREFIX, clock));
+            default -> throw new IllegalArgumentException("Unknown key-value cache backend: " + keyValueBackend);
+        };
+    }
+
+    /**
+     * Diğer düğümlerden gelen L1 geçersizleştirme mesajlarını dinleyen kapsayıcı
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager twoLevelCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(twoLevelCacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    private static RedisTemplate<String, Object> compactRedisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                                      CompactRedisSerializer compactRedisSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(compactRedisSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Tip bilgisini saklayan ve java.time tiplerini destekleyen JSON serileştirici.
+     * Önceki sürümdeki varsayılan {@link GenericJackson2JsonRedisSerializer} temel alınır; tip bilgisi final sınıflar
+     * dahil her değere yazılmaya devam eder, böylece Redis'te önceki sürümün yazdığı kayıtlar okunabilir ve anahtar
+     * ön eki değiştirmek gerekmez. Yalnızca java.time desteği ve bilinmeyen alanlara tolerans eklenir.
+     */
+    static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        return new GenericJackson2JsonRedisSerializer().configure(objectMapper -> objectMapper
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    private static CachePolicy policy(Duration remoteTtl, Duration localTtl, long localMaximumSize) {
+        return CachePolicy.builder()
+                .remoteTtl(remoteTtl)
+                .localTtl(localTtl)
+                .localMaximumSize(localMaximumSize)
+                .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.banking.core.cache;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Anahtar-değer önbelleğindeki bir kayıt ve son geçerlilik zamanı.
+ */
+@Value
+public class CacheEntry {
+
+    Object value;
+    Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Kaydın kalan yaşam süresi; süresi dolmuşsa sıfır
+     */
+    public Duration remainingTtl(Instant now) {
+        return isExpired(now) ? Duration.ZERO : Duration.between(now, expiresAt);
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.core.cache;
+
+import lombok.Value;
+
+/**
+ * Düğümler arası L1 geçersizleştirme mesajı.
+ * Anahtar yoksa önbelleğin tamamı temizlenir. Mesaj satır sonu ile ayrılmış düz metin olarak taşınır.
+ */
+@Value
+public class CacheInvalidationMessage {
+
+    private static final String SEPARATOR = "\n";
+
+    String nodeId;
+    String cacheName;
+    String key;
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String encode() {
+        return key == null
+                ? nodeId + SEPARATOR + cacheName
+                : nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+    }
+
+    /**
+     * @param payload Kodlanmış mesaj
+     * @return Çözülen mesaj veya biçim hatalıysa {@code null}
+     */
+    public static CacheInvalidationMessage decode(String payload) {
+        String[] parts = payload.split(SEPARATOR, 3);
+        if (parts.length < 2) {
+            return null;
+        }
+        return new CacheInvalidationMessage(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.banking.core.cache;
+
+import lombok.Value;
+
+/**
+ * Bir önbellek anahtarının yaklaşık erişim sayısı.
+ */
+@Value
+public class CacheKeyFrequency {
+    String key;
+    long accesses;
+}
@@ -0,0 +1,63 @@
+package com.banking.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Önbellek kullanımını gösteren actuator uç noktası.
+ * {@code /actuator/cachekeys} önbellek bazında isabet oranı ve kayıt sayısını,
+ * {@code /actuator/cachekeys/{cache}?limit=N} bir önbellekte en sık erişilen anahtarları döner.
+ * Anahtarlar e-posta, kimlik numarası gibi kişisel veri içerebildiğinden açık halleri dönülmez; her anahtarın
+ * SHA-256 özetinin ilk {@value #MASKED_KEY_LENGTH} karakteri dönülür. Şüpheli bir anahtar, özeti hesaplanarak
+ * listede aranabilir. Uç nokta yalnızca ADMIN rolüne açıktır; URL kuralına (bkz. SecurityConfig) ek olarak metot
+ * güvenliği de rolü kontrol eder, böylece uç nokta başka bir yoldan açılsa da korunur.
+ */
+@Component
+@Endpoint(id = "cachekeys")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class CacheKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    static final int MASKED_KEY_LENGTH = 16;
+
+    private final InstrumentedCacheManager cacheManager;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> caches() {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        for (InstrumentedCache cache : cacheManager.getInstrumentedCaches()) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("hits", cache.getHits());
+            values.put("misses", cache.getMisses());
+            values.put("hitRate", cache.getHitRate());
+            values.put("size", cache.getEstimatedSize());
+            summary.put(cache.getName(), values);
+        }
+        return summary;
+    }
+
+    @ReadOperation
+    public List<CacheKeyFrequency> topKeys(@Selector String cache, @Nullable Integer limit) {
+        if (!(cacheManager.getCache(cache) instanceof InstrumentedCache instrumentedCache)) {
+            return List.of();
+        }
+        return instrumentedCache.getTopKeys(limit != null && limit > 0 ? limit : DEFAULT_LIMIT).stream()
+                .map(frequency -> new CacheKeyFrequency(mask(frequency.getKey()), frequency.getAccesses()))
+                .toList();
+    }
+
+    static String mask(String key) {
+        return "sha256:" + DigestUtils.sha256Hex(key).substring(0, MASKED_KEY_LENGTH);
+    }
+}
@@ -0,0 +1,37 @@
+package com.banking.core.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Bir önbelleğin katman bazında boyut ve süre politikası.
+ * Yerel (L1) katman düğüm belleğini sınırlamak için kısa süreli ve boyut sınırlı tutulur;
+ * Redis (L2) katmanı düğümler arasında paylaşılan asıl kopyadır.
+ */
+@Value
+@Builder(toBuilder = true)
+public class CachePolicy {
+
+    /**
+     * L1 katmanında tutulacak en fazla kayıt sayısı
+     */
+    long localMaximumSize;
+
+    /**
+     * L1 kaydının yazıldıktan sonraki yaşam süresi
+     */
+    Duration localTtl;
+
+    /**
+     * L2 (Redis) kaydının yaşam süresi
+     */
+    Duration remoteTtl;
+
+    /**
+     * L2 (Redis) değer biçimi
+     */
+    @Builder.Default
+    CacheValueFormat valueFormat = CacheValueFormat.JSON;
+}
@@ -7,10 +7,13 @@ import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Önbellekleme işlemleri için yardımcı servis.
  * Önbellek yönetimi ve manuel önbellekleme işlemleri için kullanılır.
+ * {@link #put(String, Object, Duration)}, {@link #get(String, Class)} ve {@link #remove(String)} kayıt bazında
+ * yaşam süreli anahtar-değer önbelleğidir; depolama {@link CacheBackend} ile değiştirilebilir.
  */
 @Service
 @RequiredArgsConstructor
@@ -18,6 +21,12 @@ import java.util.Optional;
 public class CacheService {
 
     private final CacheManager cacheManager;
+    private final CacheBackend cacheBackend;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder removals = new LongAdder();
 
     /**
      * Belirtilen önbellekteki bir anahtarı temizler
@@ -106,18 +115,101 @@ public class CacheService {
         return null;
     }
 
+    /**
+     * Değeri verilen süre boyunca önbellekte saklar
+     * 
+     * @param key Anahtar
+     * @param value Değer
+     * @param duration Yaşam süresi
+     * @return Değer saklandıysa {@code true}
+     */
     public <T> boolean put(String key, T value, Duration duration) {
-        // Implementation needed
-        return false;
+        if (key == null || value == null || duration == null || duration.isZero() || duration.isNegative()) {
+            log.warn("Invalid cache put ignored. Key: {}, duration: {}", key, duration);
+            return false;
+        }
+        try {
+            cacheBackend.put(key, value, duration);
+            puts.increment();
+            log.debug("Value cached. Key: {}, TTL: {}", key, duration);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Value could not be cached. Key: {}", key, e);
+            return false;
+        }
     }
 
+    /**
+     * Süresi dolmamış değeri döner
+     * 
+     * @param key Anahtar
+     * @param type Beklenen değer tipi
+     * @return Değer; yoksa, süresi dolmuşsa veya tipi uyuşmuyorsa boş
+     */
     public <T> Optional<T> get(String key, Class<T> type) {
-        // Implementation needed
+        return getEntry(key, type).map(entry -> type.cast(entry.getValue()));
+    }
+
+    /**
+     * Süresi dolmamış kaydı son geçerlilik zamanıyla birlikte döner
+     * 
+     * @param key Anahtar
+     * @param type Beklenen değer tipi
+     * @return Kayıt; yoksa, süresi dolmuşsa veya değer tipi uyuşmuyorsa boş
+     */
+    public Optional<CacheEntry> getEntry(String key, Class<?> type) {
+        Optional<CacheEntry> entry;
+        try {
+            entry = cacheBackend.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Cache read failed. Key: {}", key, e);
+            entry = Optional.empty();
+        }
+
+        if (entry.isPresent() && type.isInstance(entry.get().getValue())) {
+            hits.increment();
+            log.debug("Cache hit. Key: {}", key);
+            return entry;
+        }
+        if (entry.isPresent()) {
+            log.warn("Cached value type mismatch. Key: {}, expected: {}, actual: {}",
+                    key, type.getName(), entry.get().getValue().getClass().getName());
+        }
+        misses.increment();
+        log.debug("Cache miss. Key: {}", key);
         return Optional.empty();
     }
 
+    /**
+     * Değeri önbellekten siler
+     * 
+     * @param key Anahtar
+     * @return Kayıt silindiyse {@code true}
+     */
     public boolean remove(String key) {
-        // Implementation needed
-        return false;
+        try {
+            boolean removed = cacheBackend.remove(key);
+            if (removed) {
+                removals.increment();
+            }
+            return removed;
+        } catch (RuntimeException e) {
+            log.warn("Cache delete failed. Key: {}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * Anahtar-değer önbelleğinin isabet/ıska istatistikleri
+     */
+    public CacheStatistics getStatistics() {
+        return CacheStatistics.builder()
+                .backend(cacheBackend.getName())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .puts(puts.sum())
+                .removals(removals.sum())
+                .size(cacheBackend.size())
+                .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.banking.core.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Anahtar-değer önbelleğinin isabet/ıska istatistikleri.
+ */
+@Value
+@Builder
+public class CacheStatistics {
+
+    String backend;
+    long hits;
+    long misses;
+    long puts;
+    long removals;
+
+    /**
+     * Yaklaşık kayıt sayısı; arka uç bilmiyorsa -1
+     */
+    long size;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
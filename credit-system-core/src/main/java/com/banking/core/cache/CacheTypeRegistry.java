@@ -0,0 +1,46 @@
+package com.banking.core.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CompactRedisSerializer} için tip numarası kaydı.
+ * Sınıf adı yerine her kayda iki baytlık bir numara yazılır. Numaralar Redis'teki kayıtlarla birlikte yaşadığı için
+ * dağıtımlar arasında sabit kalmalıdır; bir tip kaldırıldığında numarası yeniden kullanılmamalıdır.
+ */
+public class CacheTypeRegistry {
+
+    private final Map<Integer, Class<?>> typesById = new HashMap<>();
+    private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+
+    /**
+     * @param id Tip numarası (1 - 32767)
+     * @param type Değer tipi
+     * @return Bu kayıt
+     */
+    public CacheTypeRegistry register(int id, Class<?> type) {
+        if (id <= 0 || id > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Type id must be between 1 and " + Short.MAX_VALUE + ": " + id);
+        }
+        if (typesById.containsKey(id) || idsByType.containsKey(type)) {
+            throw new IllegalArgumentException("Type or type id already registered: " + id + " -> " + type.getName());
+        }
+        typesById.put(id, type);
+        idsByType.put(type, id);
+        return this;
+    }
+
+    /**
+     * @return Tipin numarası; kayıtlı değilse {@code null}
+     */
+    public Integer idOf(Class<?> type) {
+        return idsByType.get(type);
+    }
+
+    /**
+     * @return Numaraya karşılık gelen tip; kayıtlı değilse {@code null}
+     */
+    public Class<?> typeOf(int id) {
+        return typesById.get(id);
+    }
+}
@@ -0,0 +1,16 @@
+package com.banking.core.cache;
+
+/**
+ * Redis'te saklanan önbellek değerlerinin biçimi.
+ */
+public enum CacheValueFormat {
+    /**
+     * Sınıf adı gömülü JSON; her tip için çalışır
+     */
+    JSON,
+
+    /**
+     * {@link CacheTypeRegistry} ile kayıtlı tipler için kısa tip numaralı ikili biçim, gerekirse LZ4 sıkıştırmalı
+     */
+    COMPACT
+}
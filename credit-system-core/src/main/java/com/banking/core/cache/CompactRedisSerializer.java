@@ -0,0 +1,124 @@
+package com.banking.core.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Önbellek değerleri için kısa ikili Redis serileştiricisi.
+ * Kayıt biçimi: sürüm (1 bayt), bayraklar (1 bayt), tip numarası (2 bayt), sıkıştırılmışsa açık uzunluk (4 bayt)
+ * ve Smile ile kodlanmış değer. Sınıf adı yerine {@link CacheTypeRegistry} numarası yazılır; eşik üzerindeki
+ * değerler, kazanç sağlıyorsa LZ4 ile sıkıştırılır. Kayıtlı olmayan tipler serileştirilmez; bu tiplerin
+ * saklandığı önbellekler {@link CacheValueFormat#JSON} kullanmalıdır.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_SIZE = 4;
+    private static final int UNCOMPRESSED_LENGTH_SIZE = 4;
+
+    private final CacheTypeRegistry typeRegistry;
+    private final int compressionThreshold;
+    private final ObjectMapper objectMapper;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * @param typeRegistry Tip numarası kaydı
+     * @param compressionThreshold Sıkıştırma denenecek en küçük değer boyutu (bayt); 0 veya negatifse sıkıştırma yapılmaz
+     */
+    public CompactRedisSerializer(CacheTypeRegistry typeRegistry, int compressionThreshold) {
+        this.typeRegistry = typeRegistry;
+        this.compressionThreshold = compressionThreshold;
+        this.objectMapper = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        Integer typeId = typeRegistry.idOf(value.getClass());
+        if (typeId == null) {
+            throw new SerializationException("Type is not registered for compact cache serialization: "
+                    + value.getClass().getName());
+        }
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize cache value of type " + value.getClass().getName(), e);
+        }
+
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = new byte[HEADER_SIZE + UNCOMPRESSED_LENGTH_SIZE + compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length,
+                    compressed, HEADER_SIZE + UNCOMPRESSED_LENGTH_SIZE);
+            if (compressedLength + UNCOMPRESSED_LENGTH_SIZE < payload.length) {
+                ByteBuffer.wrap(compressed)
+                        .put(FORMAT_VERSION)
+                        .put(FLAG_COMPRESSED)
+                        .putShort(typeId.shortValue())
+                        .putInt(payload.length);
+                byte[] result = new byte[HEADER_SIZE + UNCOMPRESSED_LENGTH_SIZE + compressedLength];
+                System.arraycopy(compressed, 0, result, 0, result.length);
+                return result;
+            }
+        }
+
+        byte[] result = new byte[HEADER_SIZE + payload.length];
+        ByteBuffer.wrap(result)
+                .put(FORMAT_VERSION)
+                .put((byte) 0)
+                .putShort(typeId.shortValue())
+                .put(payload);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            throw new SerializationException("Unsupported compact cache value format");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        byte flags = buffer.get();
+        int typeId = buffer.getShort();
+        Class<?> type = typeRegistry.typeOf(typeId);
+        if (type == null) {
+            throw new SerializationException("Unknown compact cache type id: " + typeId);
+        }
+
+        try {
+            if ((flags & FLAG_COMPRESSED) == 0) {
+                return objectMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+            }
+            int uncompressedLength = buffer.getInt();
+            byte[] payload = new byte[uncompressedLength];
+            decompressor.decompress(bytes, HEADER_SIZE + UNCOMPRESSED_LENGTH_SIZE, payload, 0, uncompressedLength);
+            return objectMapper.readValue(payload, type);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not deserialize compact cache value of type " + type.getName(), e);
+        }
+    }
+}
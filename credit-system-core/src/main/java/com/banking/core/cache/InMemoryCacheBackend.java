@@ -0,0 +1,94 @@
+package com.banking.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.lang.NonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Düğüm belleğinde tutulan, boyut sınırlı anahtar-değer önbelleği.
+ * Her kayıt kendi yaşam süresiyle saklanır; Caffeine süresi dolan kayıtları ve boyut aşımında en az kullanılanları atar.
+ */
+public class InMemoryCacheBackend implements CacheBackend {
+
+    private final Cache<String, CacheEntry> entries;
+    private final Clock clock;
+
+    public InMemoryCacheBackend(long maximumSize, Clock clock) {
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CacheEntry>() {
+                    @Override
+                    public long expireAfterCreate(@NonNull String key, @NonNull CacheEntry entry, long currentTime) {
+                        return entry.remainingTtl(clock.instant()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(@NonNull String key, @NonNull CacheEntry entry,
+                                                  long currentTime, long currentDuration) {
+                        return entry.remainingTtl(clock.instant()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(@NonNull String key, @NonNull CacheEntry entry,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public InMemoryCacheBackend(long maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        put(key, new CacheEntry(value, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Son geçerlilik zamanı bilinen bir kaydı saklar (örn. uzak katmandan gelen kayıt).
+     */
+    public void put(String key, CacheEntry entry) {
+        if (entry.isExpired(clock.instant())) {
+            entries.invalidate(key);
+            return;
+        }
+        entries.put(key, entry);
+    }
+
+    @Override
+    public Optional<CacheEntry> get(String key) {
+        CacheEntry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.instant())) {
+            entries.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return entries.asMap().remove(key) != null;
+    }
+
+    @Override
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+}
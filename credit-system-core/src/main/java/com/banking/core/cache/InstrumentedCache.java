@@ -0,0 +1,282 @@
+package com.banking.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bir önbelleği saran ve isabet, ıska, yükleme süresi, silme ve kayıt sayısı metriklerini Micrometer'a yayınlayan sınıf.
+ * Yükleme süresi iki yoldan ölçülür: {@link #get(Object, Callable)} çağrılarında yükleyicinin süresi, senkron olmayan
+ * {@code @Cacheable} çağrılarında ise aynı iş parçacığındaki ıska ile aynı anahtarın yazılması arasındaki süre.
+ * Anahtar erişim sıklıkları sınırlı bir tabloda yaklaşık olarak tutulur; seyrek erişilen anahtarlar tablodan düşer.
+ * Örnekler {@link #create(Cache, MeterRegistry, long)} ile oluşturulur.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LongAdder> keyFrequencies;
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+
+    private InstrumentedCache(Cache delegate, MeterRegistry registry, long trackedKeys) {
+        this.delegate = delegate;
+        this.keyFrequencies = trackedKeys > 0
+                ? Caffeine.newBuilder().maximumSize(trackedKeys).build()
+                : null;
+
+        Tags tags = tags(delegate);
+        this.hits = Counter.builder("cache.gets").tags(tags).tag("result", "hit")
+                .description("Cache lookups that returned a value").register(registry);
+        this.misses = Counter.builder("cache.gets").tags(tags).tag("result", "miss")
+                .description("Cache lookups that found no value").register(registry);
+        this.puts = Counter.builder("cache.puts").tags(tags)
+                .description("Entries written to the cache").register(registry);
+        this.evictions = Counter.builder("cache.evictions").tags(tags)
+                .description("Explicit evictions and clears").register(registry);
+        this.loadSuccess = loadTimer(registry, tags, "success");
+        this.loadFailure = loadTimer(registry, tags, "failure");
+    }
+
+    /**
+     * Önbelleği sarar ve metriklerini kaydeder.
+     * Boyut göstergesi sarmalayıcıyı referans aldığından kurucu tamamlandıktan sonra kaydedilir.
+     *
+     * @param delegate Asıl önbellek
+     * @param registry Metrik kaydı
+     * @param trackedKeys Sıklığı tutulacak en fazla anahtar sayısı, 0 ise takip yapılmaz
+     * @return Sarmalanmış önbellek
+     */
+    public static InstrumentedCache create(Cache delegate, MeterRegistry registry, long trackedKeys) {
+        InstrumentedCache cache = new InstrumentedCache(delegate, registry, trackedKeys);
+        Tags tags = tags(delegate);
+        Gauge.builder("cache.size", cache, InstrumentedCache::getEstimatedSize).tags(tags)
+                .description("Approximate number of entries held on this node").register(registry);
+        if (delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            FunctionCounter.builder("cache.local.evictions", nativeCache, c -> c.stats().evictionCount()).tags(tags)
+                    .description("Entries evicted from the local tier by size or expiry").register(registry);
+        }
+        return cache;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(@NonNull Object key) {
+        ValueWrapper value = delegate.get(key);
+        recordAccess(key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        recordAccess(key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        trackKey(key);
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            long start = System.nanoTime();
+            try {
+                T result = valueLoader.call();
+                loadSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Exception | Error e) {
+                loadFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        });
+        (loaded[0] ? misses : hits).increment();
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(@NonNull Object key) {
+        trackKey(key);
+        CompletableFuture<?> future = delegate.retrieve(key);
+        return future == null ? null : future.whenComplete((value, error) -> {
+            if (error == null) {
+                (value != null ? hits : misses).increment();
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        trackKey(key);
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        delegate.put(key, value);
+        puts.increment();
+        completePendingLoad(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        completePendingLoad(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        delegate.evict(key);
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        evictions.increment();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        evictions.increment();
+        return invalidated;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Düğümdeki yaklaşık kayıt sayısı; asıl önbellek boyut bilgisi vermiyorsa NaN
+     */
+    public double getEstimatedSize() {
+        if (delegate instanceof TwoLevelCache twoLevelCache) {
+            return twoLevelCache.getLocalSize();
+        }
+        if (delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return nativeCache.estimatedSize();
+        }
+        return Double.NaN;
+    }
+
+    public long getHits() {
+        return (long) hits.count();
+    }
+
+    public long getMisses() {
+        return (long) misses.count();
+    }
+
+    public double getHitRate() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 0.0 : (double) getHits() / total;
+    }
+
+    /**
+     * En sık erişilen anahtarlar, erişim sayısına göre azalan sırada.
+     *
+     * @param limit En fazla anahtar sayısı
+     * @return Anahtar ve erişim sayıları; takip kapalıysa boş liste
+     */
+    public List<CacheKeyFrequency> getTopKeys(int limit) {
+        if (keyFrequencies == null) {
+            return List.of();
+        }
+        return keyFrequencies.asMap().entrySet().stream()
+                .map(entry -> new CacheKeyFrequency(entry.getKey(), entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(CacheKeyFrequency::getAccesses).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private void recordAccess(Object key, boolean hit) {
+        trackKey(key);
+        if (hit) {
+            hits.increment();
+            // Önceki ıskanın yüklemesi hata verip put çağrılmadıysa kalan kayıt burada temizlenir
+            pendingLoad.remove();
+            return;
+        }
+        misses.increment();
+        pendingLoad.set(new PendingLoad(key, System.nanoTime()));
+    }
+
+    private void trackKey(Object key) {
+        if (keyFrequencies != null) {
+            keyFrequencies.get(key.toString(), k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * {@code @Cacheable} ıskadan sonra metodu çalıştırıp sonucu aynı iş parçacığında yazar; bu aralık yükleme süresidir.
+     * Başka bir anahtarın yazılması bekleyen yüklemenin tamamlanmadığını gösterir; kayıt ölçülmeden silinir.
+     */
+    private void completePendingLoad(Object key) {
+        PendingLoad pending = pendingLoad.get();
+        if (pending == null) {
+            return;
+        }
+        pendingLoad.remove();
+        if (pending.key().equals(key)) {
+            loadSuccess.record(System.nanoTime() - pending.startNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Tags tags(Cache delegate) {
+        return Tags.of("cache", delegate.getName());
+    }
+
+    private static Timer loadTimer(MeterRegistry registry, Tags tags, String result) {
+        return Timer.builder("cache.load").tags(tags).tag("result", result)
+                .description("Time spent loading values on a miss")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private record PendingLoad(Object key, long startNanos) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.banking.core.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Asıl önbellek yöneticisinin döndürdüğü her önbelleği {@link InstrumentedCache} ile saran yönetici.
+ * Sarmalayıcılar önbellek başına bir kez oluşturulur, böylece metrikler tek kez kaydedilir.
+ */
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry registry;
+    private final long trackedKeys;
+    private final Map<String, InstrumentedCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate Asıl önbellek yöneticisi
+     * @param registry Metrik kaydı
+     * @param trackedKeys Önbellek başına sıklığı tutulacak en fazla anahtar sayısı
+     */
+    public InstrumentedCacheManager(CacheManager delegate, MeterRegistry registry, long trackedKeys) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.trackedKeys = trackedKeys;
+    }
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        InstrumentedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> InstrumentedCache.create(target, registry, trackedKeys));
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Şimdiye kadar kullanılmış önbellekler, ada göre sıralı
+     */
+    public List<InstrumentedCache> getInstrumentedCaches() {
+        return caches.values().stream()
+                .sorted((left, right) -> left.getName().compareTo(right.getName()))
+                .toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.banking.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Bulunamayan kayıt sorgularını kısa süreliğine hatırlayan önbellek.
+ * {@code @Cacheable} boş sonuçları saklamadığından var olmayan anahtarlarla yapılan tekrar sorgular her seferinde
+ * veritabanına gider. Bu sınıf "bulunamadı" bilgisini ayrı, kısa ömürlü ve sınırlı boyutlu {@value #CACHE_NAME}
+ * önbelleğinde tutar. Kayıt oluşturan kod ilgili anahtarı {@link #invalidate(String, Object)} ile temizlemelidir;
+ * temizleme işlem içindeyse commit sonrasında tekrarlanır, böylece commit öncesi yapılan bir sorgunun yazdığı işaret
+ * da silinir.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NegativeLookupCache {
+
+    public static final String CACHE_NAME = "negativeLookups";
+
+    /** Kullanıcı e-posta adresi */
+    public static final String USER_EMAIL = "user-email";
+    /** Bireysel müşteri TC kimlik numarası */
+    public static final String INDIVIDUAL_IDENTITY_NUMBER = "individual-identity-number";
+    /** Bireysel müşteri numarası */
+    public static final String INDIVIDUAL_CUSTOMER_NUMBER = "individual-customer-number";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Anahtar yakın zamanda bulunamadıysa sorgu yapmadan boş döner; aksi halde sorgular ve boş sonucu işaretler.
+     *
+     * @param namespace Anahtar alanı
+     * @param key Aranan anahtar
+     * @param loader Asıl sorgu
+     * @return Sorgu sonucu
+     */
+    public <T> Optional<T> find(String namespace, Object key, Supplier<Optional<T>> loader) {
+        if (isKnownMissing(namespace, key)) {
+            return Optional.empty();
+        }
+        Optional<T> result = loader.get();
+        if (result.isEmpty()) {
+            recordMissing(namespace, key);
+        }
+        return result;
+    }
+
+    public boolean isKnownMissing(String namespace, Object key) {
+        return key != null && cache().get(cacheKey(namespace, key)) != null;
+    }
+
+    public void recordMissing(String namespace, Object key) {
+        if (key != null) {
+            cache().put(cacheKey(namespace, key), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Anahtar için kayıt oluşturulduğunda çağrılır.
+     */
+    public void invalidate(String namespace, Object key) {
+        if (key == null) {
+            return;
+        }
+        String cacheKey = cacheKey(namespace, key);
+        cache().evict(cacheKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(cacheKey);
+                }
+            });
+        }
+        log.debug("Negative lookup invalidated. Namespace: {}", namespace);
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache is not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+
+    private static String cacheKey(String namespace, Object key) {
+        return namespace + ':' + key;
+    }
+}
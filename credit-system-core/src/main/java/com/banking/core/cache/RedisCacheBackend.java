@@ -0,0 +1,61 @@
+package com.banking.core.cache;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis üzerinde, düğümler arasında paylaşılan anahtar-değer önbelleği.
+ * Yaşam süresi Redis'in kendi anahtar süresiyle uygulanır; değerler şablonun değer serileştiricisi ile saklanır.
+ */
+public class RedisCacheBackend implements CacheBackend {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String keyPrefix;
+    private final Clock clock;
+
+    public RedisCacheBackend(RedisTemplate<String, Object> redisTemplate, String keyPrefix, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.clock = clock;
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        redisTemplate.opsForValue().set(keyPrefix + key, value, ttl);
+    }
+
+    @Override
+    public Optional<CacheEntry> get(String key) {
+        Object value = redisTemplate.opsForValue().get(keyPrefix + key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        Long remainingMillis = redisTemplate.getExpire(keyPrefix + key, TimeUnit.MILLISECONDS);
+        if (remainingMillis == null || remainingMillis == -2) {
+            // Anahtar iki çağrı arasında silinmiş veya süresi dolmuş
+            return Optional.empty();
+        }
+        // -1: anahtarın süresi yok; yerel kopyalar için en fazla bir gün geçerli sayılır
+        Duration remaining = remainingMillis < 0 ? Duration.ofDays(1) : Duration.ofMillis(remainingMillis);
+        return Optional.of(new CacheEntry(value, clock.instant().plus(remaining)));
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return Boolean.TRUE.equals(redisTemplate.delete(keyPrefix + key));
+    }
+
+    @Override
+    public long size() {
+        return -1;
+    }
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+}
@@ -0,0 +1,162 @@
+package com.banking.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@link CacheService} üzerinde süresi dolmadan yenileme (refresh-ahead) yapan önbellek.
+ * Kaydın yaşam süresinin son {@code cache.refresh-ahead.window-ratio} kısmında gelen bir okuma, kayıt o yaşam
+ * süresi içinde en az {@code cache.refresh-ahead.min-accesses} kez okunduysa arka planda yenileme başlatır ve
+ * beklemeden eldeki değeri döner. Seyrek okunan kayıtlar yenilenmez, süreleri dolunca normal yoldan yüklenir.
+ * Yenilemeler sınırlı {@code refreshAheadExecutor} havuzunda çalışır, aynı anahtar için aynı anda tek yenileme yapılır.
+ * Hem havuz sınırı hem de anahtar başına tek yenileme kuralı düğüm başınadır: N düğümlü bir kümede aynı anahtar
+ * en fazla N kez, uzak servis en fazla N x havuz boyutu kadar eşzamanlı yenilenebilir.
+ * Iska durumundaki eşzamanlı yüklemeler {@link SingleFlight} ile birleştirilir.
+ * Yenilemeler {@code cache.refresh.ahead} sayacında sonuç bazında ({@code started}, {@code skipped},
+ * {@code rejected}, {@code failed}) tutulur.
+ */
+@Component
+@Slf4j
+public class RefreshAheadCache {
+
+    private static final String SINGLE_FLIGHT_GROUP = "refresh-ahead";
+
+    private final CacheService cacheService;
+    private final SingleFlight singleFlight;
+    private final Executor refreshExecutor;
+    private final Clock clock = Clock.systemUTC();
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter startedRefreshes;
+    private final Counter skippedRefreshes;
+    private final Counter rejectedRefreshes;
+    private final Counter failedRefreshes;
+    private Cache<String, LongAdder> accessCounts;
+
+    @Value("${cache.refresh-ahead.window-ratio:0.2}")
+    private double windowRatio;
+
+    @Value("${cache.refresh-ahead.min-accesses:3}")
+    private long minAccesses;
+
+    @Value("${cache.refresh-ahead.tracked-keys:10000}")
+    private long trackedKeys;
+
+    public RefreshAheadCache(CacheService cacheService,
+                             SingleFlight singleFlight,
+                             @Qualifier("refreshAheadExecutor") Executor refreshExecutor,
+                             MeterRegistry meterRegistry) {
+        this.cacheService = cacheService;
+        this.singleFlight = singleFlight;
+        this.refreshExecutor = refreshExecutor;
+        this.startedRefreshes = refreshCounter(meterRegistry, "started");
+        this.skippedRefreshes = refreshCounter(meterRegistry, "skipped");
+        this.rejectedRefreshes = refreshCounter(meterRegistry, "rejected");
+        this.failedRefreshes = refreshCounter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    void init() {
+        if (windowRatio <= 0 || windowRatio >= 1) {
+            throw new IllegalArgumentException("cache.refresh-ahead.window-ratio must be between 0 and 1: " + windowRatio);
+        }
+        accessCounts = Caffeine.newBuilder().maximumSize(trackedKeys).build();
+    }
+
+    /**
+     * Değeri önbellekten döner; yoksa yükleyip saklar. Sık okunan ve süresi dolmak üzere olan kayıtları arka planda yeniler.
+     *
+     * @param key Anahtar
+     * @param type Değer tipi
+     * @param ttl Kayıt yaşam süresi
+     * @param loader Değeri yükleyen çağrı; null dönerse değer saklanmaz
+     * @return Değer
+     */
+    public <T> T get(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        Optional<CacheEntry> entry = cacheService.getEntry(key, type);
+        if (entry.isEmpty()) {
+            return singleFlight.execute(SINGLE_FLIGHT_GROUP, key, () -> load(key, ttl, loader));
+        }
+
+        LongAdder accessCount = accessCounts.get(key, k -> new LongAdder());
+        accessCount.increment();
+        long accesses = accessCount.sum();
+
+        Duration remaining = entry.get().remainingTtl(clock.instant());
+        if (accesses >= minAccesses && remaining.toMillis() <= ttl.toMillis() * windowRatio) {
+            scheduleRefresh(key, ttl, loader);
+        }
+        return type.cast(entry.get().getValue());
+    }
+
+    /**
+     * Başlatılan ve havuz dolu olduğu için reddedilen yenileme sayıları
+     */
+    public long getRefreshCount() {
+        return (long) startedRefreshes.count();
+    }
+
+    public long getRejectedRefreshCount() {
+        return (long) rejectedRefreshes.count();
+    }
+
+    private void scheduleRefresh(String key, Duration ttl, Supplier<?> loader) {
+        if (!refreshing.add(key)) {
+            skippedRefreshes.increment();
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, ttl, loader);
+                    log.debug("Cache entry refreshed ahead of expiry. Key: {}", key);
+                } catch (RuntimeException e) {
+                    // Eski değer süresi dolana kadar sunulmaya devam eder
+                    failedRefreshes.increment();
+                    log.warn("Refresh-ahead failed. Key: {}, error: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            startedRefreshes.increment();
+        } catch (TaskRejectedException e) {
+            refreshing.remove(key);
+            rejectedRefreshes.increment();
+            log.debug("Refresh-ahead rejected, executor is saturated. Key: {}", key);
+        }
+    }
+
+    private <T> T load(String key, Duration ttl, Supplier<T> loader) {
+        T value = loader.get();
+        if (value != null) {
+            cacheService.put(key, value, ttl);
+        }
+        // Erişim sayısı her yaşam süresi için yeniden başlar
+        accessCounts.invalidate(key);
+        return value;
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.refresh.ahead")
+                .tag("result", result)
+                .description("Refresh-ahead attempts by result")
+                .register(meterRegistry);
+    }
+}
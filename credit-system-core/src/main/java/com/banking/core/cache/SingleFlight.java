@@ -0,0 +1,160 @@
+package com.banking.core.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Aynı anahtar için eşzamanlı pahalı çağrıları tek çağrıda birleştiren bileşen (single-flight).
+ * Bir anahtar için ilk gelen çağıran işi kendi iş parçacığında yürütür; iş sürerken aynı anahtarı isteyenler
+ * yeni çağrı yapmak yerine aynı {@link CompletableFuture} sonucunu bekler. İş bittiğinde kayıt silinir,
+ * sonuç saklanmaz; saklama önbelleğin işidir.
+ * Yalnızca yan etkisiz (idempotent) çağrılar için kullanılmalıdır.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, SingleFlightStatistics> statistics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long followerTimeoutMillis;
+
+    /**
+     * @param meterRegistry Grup sayaçlarının yayınlandığı metrik kaydı
+     * @param followerTimeoutMillis Bekleyen çağıranın süren çağrıyı en fazla bekleme süresi
+     */
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${cache.single-flight.follower-timeout-ms:30000}") long followerTimeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.followerTimeoutMillis = followerTimeoutMillis;
+    }
+
+    /**
+     * Çağrıyı yürütür veya aynı anahtar için süren çağrının sonucunu bekler.
+     * Bekleyen çağıranlar süre sınırını aşarsa çağrıyı kendileri yürütür.
+     *
+     * @param group Çağrı grubu (metrik ve anahtar alanı, örn. "central-bank-report")
+     * @param key Grup içindeki anahtar
+     * @param loader Asıl çağrı
+     * @return Çağrının sonucu
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        String flightKey = group + ':' + key;
+        SingleFlightStatistics groupStatistics = statisticsFor(group);
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            groupStatistics.recordCollapsed();
+            log.debug("Call collapsed into in-flight request. Group: {}", group);
+            return (T) await(existing, group, loader);
+        }
+
+        groupStatistics.recordExecution();
+        try {
+            T value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Asenkron çağrıları birleştirir; aynı anahtar için süren çağrı varsa aynı future döner.
+     *
+     * @param group Çağrı grubu
+     * @param key Grup içindeki anahtar
+     * @param loader Asıl asenkron çağrı
+     * @return Paylaşılan future
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String group, Object key, Supplier<CompletableFuture<T>> loader) {
+        String flightKey = group + ':' + key;
+        SingleFlightStatistics groupStatistics = statisticsFor(group);
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            groupStatistics.recordCollapsed();
+            return (CompletableFuture<T>) existing;
+        }
+
+        groupStatistics.recordExecution();
+        CompletableFuture<T> result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((value, error) -> {
+            inFlight.remove(flightKey, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return (CompletableFuture<T>) flight;
+    }
+
+    /**
+     * Grup bazında yürütülen ve birleştirilen çağrı sayıları
+     */
+    public Map<String, SingleFlightStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Şu anda süren çağrı sayısı
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private SingleFlightStatistics statisticsFor(String group) {
+        return statistics.computeIfAbsent(group, g -> new SingleFlightStatistics(g, meterRegistry));
+    }
+
+    private Object await(CompletableFuture<Object> flight, String group, Supplier<?> loader) {
+        try {
+            return flight.get(followerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("In-flight call did not finish within {} ms, calling directly. Group: {}", followerTimeoutMillis, group);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight call: " + group, e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+}
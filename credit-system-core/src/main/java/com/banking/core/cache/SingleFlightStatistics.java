@@ -0,0 +1,64 @@
+package com.banking.core.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bir single-flight grubunun sayaçları.
+ * Sayaçlar {@code cache.single.flight.calls} metriği olarak {@code group} ve {@code result} (executed, collapsed)
+ * etiketleriyle yayınlanır.
+ */
+public class SingleFlightStatistics {
+
+    private final String group;
+    private final Counter executions;
+    private final Counter collapsed;
+
+    public SingleFlightStatistics(String group, MeterRegistry meterRegistry) {
+        this.group = group;
+        this.executions = Counter.builder("cache.single.flight.calls")
+                .description("Calls executed by the caller")
+                .tag("group", group)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.collapsed = Counter.builder("cache.single.flight.calls")
+                .description("Calls that joined an in-flight call instead of executing")
+                .tag("group", group)
+                .tag("result", "collapsed")
+                .register(meterRegistry);
+    }
+
+    void recordExecution() {
+        executions.increment();
+    }
+
+    void recordCollapsed() {
+        collapsed.increment();
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    /**
+     * Gerçekten yürütülen çağrı sayısı
+     */
+    public long getExecutions() {
+        return (long) executions.count();
+    }
+
+    /**
+     * Süren bir çağrıya bağlanarak yürütülmeyen çağrı sayısı
+     */
+    public long getCollapsed() {
+        return (long) collapsed.count();
+    }
+
+    /**
+     * Tüm isteklerin birleştirilen oranı
+     */
+    public double getCollapseRate() {
+        long total = getExecutions() + getCollapsed();
+        return total == 0 ? 0.0 : (double) getCollapsed() / total;
+    }
+}
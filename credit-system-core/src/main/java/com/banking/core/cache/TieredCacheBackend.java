@@ -0,0 +1,71 @@
+package com.banking.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bellek içi katmanı Redis önünde kullanan anahtar-değer önbelleği.
+ * Yerel ıskada Redis'ten okunan kayıt, Redis'teki kalan süresiyle yerel katmana alınır;
+ * böylece bir kayıt hiçbir düğümde geçerlilik süresinden uzun yaşamaz.
+ * Redis erişilemezse yerel katmanla devam edilir.
+ */
+@Slf4j
+public class TieredCacheBackend implements CacheBackend {
+
+    private final InMemoryCacheBackend local;
+    private final CacheBackend remote;
+
+    public TieredCacheBackend(InMemoryCacheBackend local, CacheBackend remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        local.put(key, value, ttl);
+        try {
+            remote.put(key, value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Remote cache write failed, entry kept locally. Key: {}", key, e);
+        }
+    }
+
+    @Override
+    public Optional<CacheEntry> get(String key) {
+        Optional<CacheEntry> entry = local.get(key);
+        if (entry.isPresent()) {
+            return entry;
+        }
+        try {
+            Optional<CacheEntry> remoteEntry = remote.get(key);
+            remoteEntry.ifPresent(value -> local.put(key, value));
+            return remoteEntry;
+        } catch (RuntimeException e) {
+            log.warn("Remote cache read failed. Key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean remove(String key) {
+        boolean removed = local.remove(key);
+        try {
+            removed |= remote.remove(key);
+        } catch (RuntimeException e) {
+            log.warn("Remote cache delete failed. Key: {}", key, e);
+        }
+        return removed;
+    }
+
+    @Override
+    public long size() {
+        return local.size();
+    }
+
+    @Override
+    public String getName() {
+        return "tiered";
+    }
+}
@@ -0,0 +1,148 @@
+package com.banking.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Caffeine (L1) ve Redis (L2) katmanlarından oluşan önbellek.
+ * Okumalar önce düğüm belleğindeki L1 katmanına bakar, yalnızca L1 ıskasında Redis'e gidilir ve sonuç L1'e alınır.
+ * Yazma ve silme işlemleri önce Redis'e uygulanır, ardından diğer düğümlerin L1 kopyaları geçersizleştirilir.
+ * L1 anahtarları Redis anahtarlarıyla aynı metin biçiminde tutulur; böylece uzaktan gelen
+ * geçersizleştirme mesajları doğrudan uygulanabilir.
+ * {@code @Cacheable(sync = true)} çağrılarında aynı anahtar için eşzamanlı yüklemeler {@link SingleFlight} ile
+ * tek yüklemede birleştirilir.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final String nodeId;
+    private final SingleFlight singleFlight;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         String nodeId,
+                         Consumer<CacheInvalidationMessage> invalidationPublisher,
+                         SingleFlight singleFlight) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.nodeId = nodeId;
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(@NonNull Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            return null;
+        }
+        localCache.put(localKey, remoteValue.get());
+        return remoteValue.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        String localKey = toLocalKey(key);
+        return singleFlight.execute("cache:" + name, localKey, () -> {
+            T loaded = remoteCache.get(key, valueLoader);
+            if (loaded != null) {
+                localCache.put(localKey, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(toLocalKey(key), value);
+        publish(toLocalKey(key));
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        publish(toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        publish(null);
+    }
+
+    /**
+     * Başka bir düğümden gelen geçersizleştirmeyi yalnızca L1 katmanına uygular.
+     *
+     * @param message Geçersizleştirme mesajı
+     */
+    void applyRemoteInvalidation(CacheInvalidationMessage message) {
+        if (message.isClear()) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(message.getKey());
+        }
+    }
+
+    /**
+     * L1 katmanındaki yaklaşık kayıt sayısı
+     */
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    private void publish(String localKey) {
+        try {
+            invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, name, localKey));
+        } catch (RuntimeException e) {
+            // Diğer düğümlerdeki kopyalar en geç L1 yaşam süresi dolunca tazelenir
+            log.warn("Cache invalidation could not be published. Cache: {}, key: {}", name, localKey, e);
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return key.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package com.banking.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caffeine L1 + Redis L2 önbellek yöneticisi.
+ * Her önbellek kendi {@link CachePolicy} değerleriyle oluşturulur; tanımlı olmayan önbellekler varsayılan politikayı alır.
+ * Yazma ve silmeler Redis pub/sub kanalı üzerinden diğer düğümlere duyurulur, gelen mesajlar yalnızca L1 katmanını
+ * geçersizleştirir. Düğüm kendi yayınladığı mesajları yok sayar.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final Map<String, CachePolicy> policies;
+    private final CachePolicy defaultPolicy;
+    private final SingleFlight singleFlight;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * @param remoteCacheManager Önbellek bazında TTL değerleriyle yapılandırılmış Redis önbellek yöneticisi
+     * @param redisTemplate Geçersizleştirme mesajlarını yayınlamak için kullanılır
+     * @param invalidationChannel Geçersizleştirme kanalı
+     * @param policies Önbellek adı - politika eşlemesi
+     * @param defaultPolicy Tanımlı olmayan önbellekler için politika
+     * @param singleFlight Eşzamanlı yüklemeleri birleştiren bileşen
+     */
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                String invalidationChannel,
+                                Map<String, CachePolicy> policies,
+                                CachePolicy defaultPolicy,
+                                SingleFlight singleFlight) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.policies = Map.copyOf(policies);
+        this.defaultPolicy = defaultPolicy;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    @NonNull
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        policies.forEach((name, policy) -> caches.add(createCache(name, policy)));
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(@NonNull String name) {
+        return createCache(name, defaultPolicy);
+    }
+
+    /**
+     * Diğer düğümlerden gelen geçersizleştirme mesajlarını işler.
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation = CacheInvalidationMessage.decode(
+                new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null || nodeId.equals(invalidation.getNodeId())) {
+            return;
+        }
+
+        // Bu düğümde hiç kullanılmamış bir önbellek için yeni önbellek oluşturulmaz
+        if (lookupCache(invalidation.getCacheName()) instanceof TwoLevelCache cache) {
+            cache.applyRemoteInvalidation(invalidation);
+            log.debug("Remote cache invalidation applied. Cache: {}, key: {}",
+                    invalidation.getCacheName(), invalidation.getKey());
+        }
+    }
+
+    public CachePolicy getPolicy(String cacheName) {
+        return policies.getOrDefault(cacheName, defaultPolicy);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private TwoLevelCache createCache(String name, CachePolicy policy) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            throw new IllegalStateException("Redis cache could not be created: " + name);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(policy.getLocalMaximumSize())
+                .expireAfterWrite(policy.getLocalTtl())
+                .recordStats()
+                .build();
+
+        return new TwoLevelCache(name, localCache, remoteCache, nodeId,
+                message -> redisTemplate.convertAndSend(invalidationChannel, message.encode()), singleFlight);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Asenkron işlemler için yapılandırma sınıfı.
@@ -33,6 +34,15 @@ public class AsyncConfig implements AsyncConfigurer {
     @Value("${async.thread.name.prefix:banking-async-}")
     private String threadNamePrefix;
 
+    @Value("${cache.refresh-ahead.max-concurrency:2}")
+    private int refreshAheadMaxConcurrency;
+
+    @Value("${cache.refresh-ahead.queue-capacity:100}")
+    private int refreshAheadQueueCapacity;
+
+    @Value("${fraud.pipeline.max-concurrency:4}")
+    private int fraudRuleMaxConcurrency;
+
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
@@ -49,6 +59,39 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Önbellek kayıtlarını süresi dolmadan yenileyen işler için sınırlı havuz.
+     * İş parçacığı sayısı bu düğümden uzak servise aynı anda yapılan yenileme çağrılarının üst sınırıdır; sınır
+     * düğüm başınadır, kümedeki toplam eşzamanlılık düğüm sayısıyla çarpılır. Kuyruk dolduğunda yeni yenilemeler
+     * reddedilir ve kayıt süresi dolunca normal yoldan yüklenir.
+     */
+    @Bean(name = "refreshAheadExecutor")
+    public ThreadPoolTaskExecutor refreshAheadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refreshAheadMaxConcurrency);
+        executor.setMaxPoolSize(refreshAheadMaxConcurrency);
+        executor.setQueueCapacity(refreshAheadQueueCapacity);
+        executor.setThreadNamePrefix("refresh-ahead-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pahalı dolandırıcılık kurallarını paralel değerlendiren havuz.
+     * Havuz dolduğunda kural çağıranın iş parçacığında çalışır; değerlendirme hiçbir zaman atlanmaz.
+     */
+    @Bean(name = "fraudRuleExecutor")
+    public ThreadPoolTaskExecutor fraudRuleExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fraudRuleMaxConcurrency);
+        executor.setMaxPoolSize(fraudRuleMaxConcurrency);
+        executor.setQueueCapacity(fraudRuleMaxConcurrency * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("fraud-rule-");
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new CustomAsyncExceptionHandler();
@@ -0,0 +1,13 @@
+package com.banking.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Zamanlanmış görevler için yapılandırma sınıfı.
+ * {@code @Scheduled} ile işaretlenmiş periyodik işlerin (mutabakat, gece batch işleri vb.) çalışmasını sağlar.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
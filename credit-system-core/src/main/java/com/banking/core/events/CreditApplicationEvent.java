@@ -11,6 +11,15 @@ import java.util.Map;
 @Getter
 public class CreditApplicationEvent extends ApplicationEvent {
 
+    /** Başvurunun kredi tipi ({@code CreditType}) */
+    public static final String DATA_CREDIT_TYPE = "creditType";
+    /** Başvuru tutarı ({@code BigDecimal}) */
+    public static final String DATA_AMOUNT = "amount";
+    /** Değişiklik öncesi durum adı, yeni başvurularda yoktur */
+    public static final String DATA_PREVIOUS_STATUS = "previousStatus";
+    /** Değişiklik sonrası durum adı */
+    public static final String DATA_STATUS = "status";
+
     private final String eventId;
     private final String eventType;
     private final Long applicationId;
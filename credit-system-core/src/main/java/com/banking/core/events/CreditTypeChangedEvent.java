@@ -0,0 +1,22 @@
+package com.banking.core.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Bir kredi tipi tanımı değiştiğinde yayınlanan olay.
+ */
+@Getter
+public class CreditTypeChangedEvent extends ApplicationEvent {
+
+    private final Long creditTypeId;
+
+    /**
+     * @param source Olayı yayınlayan kaynak
+     * @param creditTypeId Değişen kredi tipi ID
+     */
+    public CreditTypeChangedEvent(Object source, Long creditTypeId) {
+        super(source);
+        this.creditTypeId = creditTypeId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.banking.core.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Yetki tanımları veya bir kullanıcının yetkileri değiştiğinde yayınlanan olay.
+ * {@code userId} boş ise yetki kataloğunun kendisi değişmiştir ve tüm kullanıcılar etkilenir.
+ */
+@Getter
+public class PermissionChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    /**
+     * @param source Olayı yayınlayan kaynak
+     * @param userId Yetkileri değişen kullanıcı, katalog değişikliğinde null
+     */
+    public PermissionChangedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+
+    public boolean isCatalogChange() {
+        return userId == null;
+    }
+}
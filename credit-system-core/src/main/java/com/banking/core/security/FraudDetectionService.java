@@ -2,16 +2,19 @@ package com.banking.core.security;
 
 import com.banking.core.audit.AuditService;
 import com.banking.core.logging.LogAnalyticsService;
+import com.banking.core.security.fraud.velocity.VelocityEngine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Dolandırıcılık tespit servisi.
@@ -24,6 +27,7 @@ public class FraudDetectionService {
 
     private final LogAnalyticsService logAnalyticsService;
     private final AuditService auditService;
+    private final VelocityEngine velocityEngine;
     
     @Value("${fraud.detection.enabled:true}")
     private boolean fraudDetectionEnabled;
@@ -37,13 +41,24 @@ public class FraudDetectionService {
     @Value("${fraud.detection.amount.threshold:10000}")
     private double amountThreshold;
     
-    // Başarısız giriş denemelerini izlemek için
-    private final Map<String, AtomicInteger> failedLoginAttempts = new ConcurrentHashMap<>();
-    private final Map<String, LocalDateTime> lastFailedAttemptTime = new ConcurrentHashMap<>();
+    // Başarısız giriş denemeleri bu pencerede ve tüm düğümlerde birlikte sayılır
+    @Value("${fraud.detection.failed-login.window:1h}")
+    private String failedLoginWindowSpec;
+    
+    private Duration failedLoginWindow;
     
     // Şüpheli işlemleri izlemek için
     private final Map<String, Map<String, Object>> suspiciousActivities = new ConcurrentHashMap<>();
 
+    @PostConstruct
+    void init() {
+        failedLoginWindow = DurationStyle.detectAndParse(failedLoginWindowSpec);
+        if (!velocityEngine.supports(failedLoginWindow)) {
+            throw new IllegalStateException("fraud.detection.failed-login.window must be one of fraud.velocity.windows "
+                    + velocityEngine.getWindows() + ": " + failedLoginWindow);
+        }
+    }
+
     /**
      * Başarısız giriş denemesini kaydeder ve şüpheli aktivite olup olmadığını kontrol eder.
      * 
@@ -57,14 +72,9 @@ public class FraudDetectionService {
             return false;
         }
         
-        String key = username + ":" + ipAddress;
-        
         // Başarısız giriş denemesi sayısını artır
-        AtomicInteger attempts = failedLoginAttempts.computeIfAbsent(key, k -> new AtomicInteger(0));
-        int currentAttempts = attempts.incrementAndGet();
-        
-        // Son başarısız deneme zamanını güncelle
-        lastFailedAttemptTime.put(key, LocalDateTime.now());
+        int currentAttempts = (int) velocityEngine.record(failedLoginKey(username, ipAddress), null)
+                .getCount(failedLoginWindow);
         
         // Şüpheli aktiviteyi logla
         Map<String, Object> details = new HashMap<>();
@@ -95,9 +105,11 @@ public class FraudDetectionService {
      * @param ipAddress IP adresi
      */
     public void resetFailedLoginAttempts(String username, String ipAddress) {
-        String key = username + ":" + ipAddress;
-        failedLoginAttempts.remove(key);
-        lastFailedAttemptTime.remove(key);
+        velocityEngine.reset(failedLoginKey(username, ipAddress));
+    }
+    
+    private static String failedLoginKey(String username, String ipAddress) {
+        return "failed_login:" + username + ":" + ipAddress;
     }
     
     /**
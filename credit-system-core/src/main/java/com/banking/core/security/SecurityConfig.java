@@ -53,6 +53,7 @@ public class SecurityConfig {
                 "/v3/api-docs/**"
             ).permitAll()
             .requestMatchers("/api/admin/**").hasRole("ADMIN")
+            .requestMatchers("/actuator/cachekeys", "/actuator/cachekeys/**").hasRole("ADMIN")
             .requestMatchers("/api/supervisor/**").hasRole("SUPERVISOR")
             .requestMatchers("/api/fraud/**").hasRole("FRAUD_ANALYST")
             .requestMatchers("/api/compliance/**").hasRole("COMPLIANCE_OFFICER")
@@ -0,0 +1,22 @@
+package com.banking.core.security.fraud;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Dolandırıcılık kurallarına verilen işlem bilgileri. Uygulanmayan alanlar null olabilir.
+ */
+@Value
+@Builder
+public class FraudContext {
+    Long customerId;
+    String transactionType;
+    String transactionId;
+    BigDecimal amount;
+    String ipAddress;
+    String userAgent;
+    String location;
+    String deviceId;
+}
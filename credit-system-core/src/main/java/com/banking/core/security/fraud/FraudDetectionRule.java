@@ -1,44 +1,46 @@
 package com.banking.core.security.fraud;
 
-import com.banking.entities.Customer;
-
-import java.math.BigDecimal;
-
 /**
  * Dolandırıcılık tespit kuralı arayüzü.
- * Farklı dolandırıcılık tespit kuralları bu arayüzü uygular.
+ * Kurallar durumsuzdur: değerlendirme sonucu örnek alanlarında tutulmaz, değişmez bir {@link FraudVerdict} olarak
+ * döner. Böylece aynı kural eşzamanlı isteklerde güvenle kullanılır. İşlemi paylaşılan bir depoya kaydeden kurallar
+ * {@link #isRecording()} ile bunu bildirir. Kurallar {@link FraudRulePipeline} içinde
+ * maliyetlerine göre sıralanarak çalıştırılır.
  */
 public interface FraudDetectionRule {
-    
+
     /**
-     * Kuralı değerlendirir.
-     * 
-     * @param customer Müşteri
-     * @param amount İşlem tutarı
-     * @param ipAddress IP adresi
-     * @param userAgent Kullanıcı ajanı
-     * @return Kural tetiklendiyse true, değilse false
+     * Kuralın tekil kodu (örn. "UNUSUAL_LOCATION"); gerekçe kodu ve metrik etiketi olarak kullanılır.
+     *
+     * @return Kural kodu
      */
-    boolean evaluate(Customer customer, BigDecimal amount, String ipAddress, String userAgent);
-    
+    String getCode();
+
     /**
-     * Kuralın adını döndürür.
-     * 
-     * @return Kural adı
+     * Kuralın değerlendirme maliyeti; ucuz kurallar önce çalışır.
+     *
+     * @return Maliyet sınıfı
      */
-    String getName();
-    
+    default FraudRuleCost getCost() {
+        return FraudRuleCost.CHEAP;
+    }
+
     /**
-     * Kuralın açıklamasını döndürür.
-     * 
-     * @return Kural açıklaması
+     * Kural değerlendirme sırasında işlemi paylaşılan bir depoya kaydediyor mu (örn. bilinen konumlar).
+     * Böyle kurallar {@link FraudRulePipeline#evaluateWithoutRecording} ile atlanır, böylece aynı işlem
+     * ikinci kez değerlendirildiğinde kayıt tekrarlanmaz.
+     *
+     * @return Kural durum kaydediyorsa true
      */
-    String getDescription();
-    
+    default boolean isRecording() {
+        return false;
+    }
+
     /**
-     * Kuralın risk skorunu döndürür.
-     * 
-     * @return Risk skoru
+     * Kuralı değerlendirir. Kural işleme uygulanamıyorsa {@link FraudVerdict#PASS} döner.
+     *
+     * @param context İşlem bilgileri
+     * @return Skor ve gerekçeleri içeren sonuç
      */
-    int getRiskScore();
-} 
\ No newline at end of file
+    FraudVerdict evaluate(FraudContext context);
+}
@@ -1,26 +1,25 @@
 package com.banking.core.security.fraud;
 
-import com.banking.core.events.EventService;
+import com.banking.core.security.fraud.velocity.VelocityEngine;
+import com.banking.core.security.fraud.velocity.VelocitySnapshot;
 import com.banking.entities.Customer;
 import com.banking.entities.SuspiciousTransaction;
 import com.banking.entities.enums.RiskLevel;
 import com.banking.entities.enums.TransactionStatus;
 import com.banking.entities.enums.TransactionType;
 import com.banking.repositories.abstracts.CustomerRepository;
-import com.banking.repositories.abstracts.SuspiciousTransactionRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Dolandırıcılık tespit servisi.
@@ -31,13 +30,13 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class FraudDetectionService {
 
-    private final SuspiciousTransactionRepository suspiciousTransactionRepository;
+    private final SuspiciousTransactionWriter suspiciousTransactionWriter;
     private final CustomerRepository customerRepository;
-    private final EventService eventService;
-    private final List<FraudDetectionRule> fraudDetectionRules;
+    private final FraudRulePipeline fraudRulePipeline;
+    private final VelocityEngine velocityEngine;
     
-    // İşlem sayılarını izlemek için
-    private final Map<String, TransactionCounter> transactionCounters = new ConcurrentHashMap<>();
+    // Sıklık ve toplam tutar kontrollerinde kullanılan kayan pencere
+    private Duration velocityWindow;
     
     @Value("${fraud.detection.enabled:true}")
     private boolean fraudDetectionEnabled;
@@ -54,6 +53,15 @@ public class FraudDetectionService {
     @Value("${fraud.detection.time.window.minutes:60}")
     private int timeWindowMinutes;
     
+    @PostConstruct
+    void init() {
+        velocityWindow = Duration.ofMinutes(timeWindowMinutes);
+        if (!velocityEngine.supports(velocityWindow)) {
+            throw new IllegalStateException("fraud.detection.time.window.minutes must be one of fraud.velocity.windows "
+                    + velocityEngine.getWindows() + ": " + velocityWindow);
+        }
+    }
+    
     /**
      * Kredi başvurusunu dolandırıcılık açısından kontrol eder.
      * 
@@ -80,9 +88,9 @@ public class FraudDetectionService {
         }
         
         // İşlem sayacını güncelle
-        String key = "credit_application:" + customerId;
-        TransactionCounter counter = transactionCounters.computeIfAbsent(key, k -> new TransactionCounter());
-        counter.incrementCount(amount);
+        VelocitySnapshot velocity = velocityEngine.record("credit_application:" + customerId, amount);
+        long applicationCount = velocity.getCount(velocityWindow);
+        BigDecimal totalAmount = velocity.getAmount(velocityWindow);
         
         // Kural tabanlı kontroller
         int riskScore = 0;
@@ -105,30 +113,37 @@ public class FraudDetectionService {
         }
         
         // Sık işlem kontrolü
-        if (counter.getCount() > frequencyThreshold) {
+        if (applicationCount > frequencyThreshold) {
             riskScore += 25;
             detectionRule = "FREQUENT_APPLICATIONS";
-            description = "Frequent credit applications: " + counter.getCount() + " in the last " + timeWindowMinutes + " minutes";
-            log.warn("Frequent credit applications detected for customer: {}, count: {}", customerId, counter.getCount());
+            description = "Frequent credit applications: " + applicationCount + " in the last " + timeWindowMinutes + " minutes";
+            log.warn("Frequent credit applications detected for customer: {}, count: {}", customerId, applicationCount);
         }
         
         // Toplam tutar kontrolü
-        if (counter.getTotalAmount().compareTo(highAmountThreshold.multiply(BigDecimal.valueOf(2))) >= 0) {
+        if (velocity.getAmountMinor(velocityWindow) >= velocityEngine.toMinorUnits(highAmountThreshold.multiply(BigDecimal.valueOf(2)))) {
             riskScore += 20;
             detectionRule = "HIGH_TOTAL_AMOUNT";
-            description = "High total amount in credit applications: " + counter.getTotalAmount();
+            description = "High total amount in credit applications: " + totalAmount;
             log.warn("High total amount in credit applications detected for customer: {}, total: {}", 
-                    customerId, counter.getTotalAmount());
+                    customerId, totalAmount);
         }
         
         // Kural motoru ile kontrol
-        for (FraudDetectionRule rule : fraudDetectionRules) {
-            if (rule.evaluate(customer, amount, ipAddress, userAgent)) {
-                riskScore += rule.getRiskScore();
-                detectionRule = rule.getName();
-                description = rule.getDescription();
-                log.warn("Fraud detection rule triggered: {} for customer: {}", rule.getName(), customerId);
-            }
+        FraudVerdict verdict = fraudRulePipeline.evaluate(FraudContext.builder()
+                .customerId(customerId)
+                .transactionType(TransactionType.CREDIT_APPLICATION.name())
+                .transactionId(applicationId.toString())
+                .amount(amount)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .build());
+        if (verdict.isTriggered()) {
+            FraudReason topReason = verdict.getTopReason().orElseThrow();
+            riskScore += verdict.getScore();
+            detectionRule = topReason.getCode();
+            description = topReason.getMessage();
+            log.warn("Fraud detection rules triggered: {} for customer: {}", verdict.getReasonCodes(), customerId);
         }
         
         // Şüpheli işlem kaydı oluştur
@@ -148,18 +163,15 @@ public class FraudDetectionService {
             suspiciousTransaction.setIpAddress(ipAddress);
             suspiciousTransaction.setUserAgent(userAgent);
             
-            suspiciousTransactionRepository.save(suspiciousTransaction);
-            
-            // Olay yayınla
+            // Kayıt toplu yazılır, olay kayıt yazıldıktan sonra yayınlanır
             Map<String, Object> eventData = new HashMap<>();
-            eventData.put("suspiciousTransactionId", suspiciousTransaction.getId());
             eventData.put("customerId", customerId);
             eventData.put("applicationId", applicationId);
             eventData.put("riskScore", riskScore);
             eventData.put("riskLevel", suspiciousTransaction.getRiskLevel());
             eventData.put("detectionRule", detectionRule);
             
-            eventService.publishEvent("fraud.detection.credit.application", eventData);
+            suspiciousTransactionWriter.submit(suspiciousTransaction, "fraud.detection.credit.application", eventData);
             
             return true;
         }
@@ -194,9 +206,8 @@ public class FraudDetectionService {
         }
         
         // İşlem sayacını güncelle
-        String key = "customer_update:" + customerId;
-        TransactionCounter counter = transactionCounters.computeIfAbsent(key, k -> new TransactionCounter());
-        counter.incrementCount(BigDecimal.ZERO);
+        long updateCount = velocityEngine.record("customer_update:" + customerId, BigDecimal.ZERO)
+                .getCount(velocityWindow);
         
         // Kural tabanlı kontroller
         int riskScore = 0;
@@ -218,21 +229,27 @@ public class FraudDetectionService {
         }
         
         // Sık güncelleme kontrolü
-        if (counter.getCount() > frequencyThreshold) {
+        if (updateCount > frequencyThreshold) {
             riskScore += 25;
             detectionRule = "FREQUENT_UPDATES";
-            description = "Frequent customer info updates: " + counter.getCount() + " in the last " + timeWindowMinutes + " minutes";
-            log.warn("Frequent customer info updates detected for customer: {}, count: {}", customerId, counter.getCount());
+            description = "Frequent customer info updates: " + updateCount + " in the last " + timeWindowMinutes + " minutes";
+            log.warn("Frequent customer info updates detected for customer: {}, count: {}", customerId, updateCount);
         }
         
         // Kural motoru ile kontrol
-        for (FraudDetectionRule rule : fraudDetectionRules) {
-            if (rule.evaluate(customer, BigDecimal.ZERO, ipAddress, userAgent)) {
-                riskScore += rule.getRiskScore();
-                detectionRule = rule.getName();
-                description = rule.getDescription();
-                log.warn("Fraud detection rule triggered: {} for customer: {}", rule.getName(), customerId);
-            }
+        FraudVerdict verdict = fraudRulePipeline.evaluate(FraudContext.builder()
+                .customerId(customerId)
+                .transactionType(TransactionType.CUSTOMER_INFO_UPDATE.name())
+                .amount(BigDecimal.ZERO)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .build());
+        if (verdict.isTriggered()) {
+            FraudReason topReason = verdict.getTopReason().orElseThrow();
+            riskScore += verdict.getScore();
+            detectionRule = topReason.getCode();
+            description = topReason.getMessage();
+            log.warn("Fraud detection rules triggered: {} for customer: {}", verdict.getReasonCodes(), customerId);
         }
         
         // Şüpheli işlem kaydı oluştur
@@ -252,11 +269,8 @@ public class FraudDetectionService {
             suspiciousTransaction.setIpAddress(ipAddress);
             suspiciousTransaction.setUserAgent(userAgent);
             
-            suspiciousTransactionRepository.save(suspiciousTransaction);
-            
-            // Olay yayınla
+            // Kayıt toplu yazılır, olay kayıt yazıldıktan sonra yayınlanır
             Map<String, Object> eventData = new HashMap<>();
-            eventData.put("suspiciousTransactionId", suspiciousTransaction.getId());
             eventData.put("customerId", customerId);
             eventData.put("fieldName", fieldName);
             eventData.put("oldValue", oldValue);
@@ -265,7 +279,7 @@ public class FraudDetectionService {
             eventData.put("riskLevel", suspiciousTransaction.getRiskLevel());
             eventData.put("detectionRule", detectionRule);
             
-            eventService.publishEvent("fraud.detection.customer.info.update", eventData);
+            suspiciousTransactionWriter.submit(suspiciousTransaction, "fraud.detection.customer.info.update", eventData);
             
             return true;
         }
@@ -282,68 +296,4 @@ public class FraudDetectionService {
             return RiskLevel.LOW;
         }
     }
-    
-    /**
-     * İşlem sayaçlarını temizler.
-     * Her gün gece yarısı çalışır.
-     */
-    @Scheduled(cron = "0 0 0 * * ?")
-    public void cleanupTransactionCounters() {
-        log.info("Cleaning up transaction counters");
-        transactionCounters.clear();
-    }
-    
-    /**
-     * İşlem sayacı sınıfı.
-     * İşlem sayısı, toplam tutar ve son güncelleme zamanını tutar.
-     */
-    private class TransactionCounter {
-        private int count;
-        private BigDecimal totalAmount;
-        private LocalDateTime lastUpdateTime;
-        
-        public TransactionCounter() {
-            this.count = 0;
-            this.totalAmount = BigDecimal.ZERO;
-            this.lastUpdateTime = LocalDateTime.now();
-        }
-        
-        public void incrementCount(BigDecimal amount) {
-            LocalDateTime now = LocalDateTime.now();
-            
-            // Zaman penceresi dışındaysa sayacı sıfırla
-            if (lastUpdateTime.plusMinutes(timeWindowMinutes).isBefore(now)) {
-                count = 0;
-                totalAmount = BigDecimal.ZERO;
-            }
-            
-            count++;
-            totalAmount = totalAmount.add(amount);
-            lastUpdateTime = now;
-        }
-        
-        public int getCount() {
-            LocalDateTime now = LocalDateTime.now();
-            
-            // Zaman penceresi dışındaysa sayacı sıfırla
-            if (lastUpdateTime.plusMinutes(timeWindowMinutes).isBefore(now)) {
-                count = 0;
-                totalAmount = BigDecimal.ZERO;
-            }
-            
-            return count;
-        }
-        
-        public BigDecimal getTotalAmount() {
-            LocalDateTime now = LocalDateTime.now();
-            
-            // Zaman penceresi dışındaysa sayacı sıfırla
-            if (lastUpdateTime.plusMinutes(timeWindowMinutes).isBefore(now)) {
-                count = 0;
-                totalAmount = BigDecimal.ZERO;
-            }
-            
-            return totalAmount;
-        }
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.banking.core.security.fraud;
+
+import lombok.Value;
+
+/**
+ * Bir kuralın tetiklenme gerekçesi
+ */
+@Value
+public class FraudReason {
+    String code;
+    String message;
+    int score;
+}
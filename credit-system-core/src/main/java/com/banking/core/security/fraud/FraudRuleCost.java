@@ -0,0 +1,21 @@
+package com.banking.core.security.fraud;
+
+/**
+ * Dolandırıcılık kuralının değerlendirme maliyeti.
+ */
+public enum FraudRuleCost {
+    /**
+     * Yalnızca bellekteki verilerle çalışan kurallar
+     */
+    CHEAP,
+
+    /**
+     * Yerel önbellek veya hesaplama gerektiren kurallar
+     */
+    MODERATE,
+
+    /**
+     * Veritabanı veya uzak servis çağrısı yapan kurallar; paralel değerlendirilebilir
+     */
+    EXPENSIVE
+}
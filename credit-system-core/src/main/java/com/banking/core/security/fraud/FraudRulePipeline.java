@@ -0,0 +1,222 @@
+package com.banking.core.security.fraud;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dolandırıcılık kurallarını sıralı bir değerlendirme hattına derleyen ve çalıştıran bileşen.
+ * Kurallar başlangıçta bir kez maliyetlerine göre sıralanır (eşit maliyette {@code @Order} sırası korunur).
+ * Toplam skor {@code fraud.pipeline.hard-block-score} değerine ulaştığında kalan kurallar çalıştırılmaz.
+ * {@code fraud.pipeline.parallel-expensive-rules} açıksa {@link FraudRuleCost#EXPENSIVE} kurallar ucuz kurallardan
+ * sonra {@code fraudRuleExecutor} havuzunda paralel değerlendirilir.
+ * Her kuralın değerlendirme sayısı ve süresi {@code fraud.rule.evaluation} metriğinde sonuç bazında tutulur.
+ * <p>
+ * {@link FraudDetectionRule#isRecording()} olan kurallar işlemi paylaşılan duruma kaydeder; bu kurallar yalnızca
+ * {@link #evaluate(FraudContext)} ile çalışır. Aynı işlemin ikinci kez değerlendirildiği izleme akışları
+ * {@link #evaluateWithoutRecording(FraudContext)} kullanır.
+ */
+@Component
+@Slf4j
+public class FraudRulePipeline {
+
+    private final List<FraudDetectionRule> rules;
+    private final MeterRegistry meterRegistry;
+    private final Executor ruleExecutor;
+
+    private Plan plan;
+    private Plan readOnlyPlan;
+    private Counter shortCircuits;
+
+    @Value("${fraud.pipeline.hard-block-score:100}")
+    private int hardBlockScore;
+
+    @Value("${fraud.pipeline.parallel-expensive-rules:false}")
+    private boolean parallelExpensiveRules;
+
+    public FraudRulePipeline(List<FraudDetectionRule> rules,
+                             MeterRegistry meterRegistry,
+                             @Qualifier("fraudRuleExecutor") Executor ruleExecutor) {
+        this.rules = rules;
+        this.meterRegistry = meterRegistry;
+        this.ruleExecutor = ruleExecutor;
+    }
+
+    @PostConstruct
+    void compile() {
+        List<FraudDetectionRule> ordered = new ArrayList<>(rules);
+        AnnotationAwareOrderComparator.sort(ordered);
+        ordered.sort(Comparator.comparing(FraudDetectionRule::getCost));
+
+        Set<String> codes = new HashSet<>();
+        List<CompiledRule> compiled = new ArrayList<>(ordered.size());
+        for (FraudDetectionRule rule : ordered) {
+            if (!codes.add(rule.getCode())) {
+                throw new IllegalStateException("Duplicate fraud rule code: " + rule.getCode());
+            }
+            compiled.add(new CompiledRule(rule, meterRegistry));
+        }
+
+        plan = plan(compiled);
+        readOnlyPlan = plan(compiled.stream().filter(rule -> !rule.rule.isRecording()).toList());
+        shortCircuits = Counter.builder("fraud.pipeline.short.circuits")
+                .description("Evaluations stopped early after reaching the hard-block score")
+                .register(meterRegistry);
+        log.info("Fraud rule pipeline compiled. Sequential: {}, parallel: {}, hard-block score: {}",
+                codes(plan.sequential()), codes(plan.parallel()), hardBlockScore);
+    }
+
+    private Plan plan(List<CompiledRule> compiled) {
+        List<CompiledRule> sequential = new ArrayList<>();
+        List<CompiledRule> parallel = new ArrayList<>();
+        for (CompiledRule rule : compiled) {
+            if (parallelExpensiveRules && rule.rule.getCost() == FraudRuleCost.EXPENSIVE) {
+                parallel.add(rule);
+            } else {
+                sequential.add(rule);
+            }
+        }
+        // Tek pahalı kural için havuza geçmenin faydası yok
+        if (parallel.size() == 1) {
+            sequential.addAll(parallel);
+            parallel.clear();
+        }
+        return new Plan(sequential.toArray(CompiledRule[]::new), parallel.toArray(CompiledRule[]::new));
+    }
+
+    /**
+     * İşlemi tüm kurallarla değerlendirir.
+     *
+     * @param context İşlem bilgileri
+     * @return Tetiklenen kuralların birleşik sonucu; skor eşiği aşıldıysa {@link FraudVerdict#isHardBlock()} true
+     */
+    public FraudVerdict evaluate(FraudContext context) {
+        return evaluate(plan, context);
+    }
+
+    /**
+     * İşlemi kayıt yapan kurallar dışındaki kurallarla değerlendirir; paylaşılan durum değişmez.
+     *
+     * @param context İşlem bilgileri
+     * @return Tetiklenen kuralların birleşik sonucu
+     */
+    public FraudVerdict evaluateWithoutRecording(FraudContext context) {
+        return evaluate(readOnlyPlan, context);
+    }
+
+    private FraudVerdict evaluate(Plan plan, FraudContext context) {
+        CompiledRule[] sequentialRules = plan.sequential();
+        CompiledRule[] parallelRules = plan.parallel();
+        FraudVerdict verdict = FraudVerdict.PASS;
+        for (int i = 0; i < sequentialRules.length; i++) {
+            verdict = verdict.merge(sequentialRules[i].evaluate(context));
+            if (verdict.getScore() >= hardBlockScore) {
+                if (i < sequentialRules.length - 1 || parallelRules.length > 0) {
+                    shortCircuits.increment();
+                }
+                return verdict.asHardBlock();
+            }
+        }
+        if (parallelRules.length == 0) {
+            return verdict;
+        }
+
+        List<CompletableFuture<FraudVerdict>> futures = new ArrayList<>(parallelRules.length);
+        for (CompiledRule rule : parallelRules) {
+            futures.add(CompletableFuture.supplyAsync(() -> rule.evaluate(context), ruleExecutor));
+        }
+        for (CompletableFuture<FraudVerdict> future : futures) {
+            verdict = verdict.merge(join(future));
+        }
+        return verdict.getScore() >= hardBlockScore ? verdict.asHardBlock() : verdict;
+    }
+
+    /**
+     * Derlenmiş değerlendirme sırasındaki kural kodları
+     */
+    public List<String> getRuleCodes() {
+        List<String> codes = new ArrayList<>(codes(plan.sequential()));
+        codes.addAll(codes(plan.parallel()));
+        return codes;
+    }
+
+    private static List<String> codes(CompiledRule[] compiledRules) {
+        List<String> codes = new ArrayList<>(compiledRules.length);
+        for (CompiledRule rule : compiledRules) {
+            codes.add(rule.rule.getCode());
+        }
+        return codes;
+    }
+
+    private static FraudVerdict join(CompletableFuture<FraudVerdict> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sıralı ve paralel çalışacak derlenmiş kurallar
+     */
+    private record Plan(CompiledRule[] sequential, CompiledRule[] parallel) {
+    }
+
+    /**
+     * Kural ve sonuç bazındaki zamanlayıcıları önceden kaydedilmiş kural
+     */
+    private static final class CompiledRule {
+
+        private final FraudDetectionRule rule;
+        private final Timer triggered;
+        private final Timer passed;
+        private final Timer failed;
+
+        CompiledRule(FraudDetectionRule rule, MeterRegistry registry) {
+            this.rule = rule;
+            this.triggered = timer(registry, rule, "triggered");
+            this.passed = timer(registry, rule, "passed");
+            this.failed = timer(registry, rule, "failed");
+        }
+
+        FraudVerdict evaluate(FraudContext context) {
+            long start = System.nanoTime();
+            try {
+                FraudVerdict verdict = rule.evaluate(context);
+                (verdict.isTriggered() ? triggered : passed).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return verdict;
+            } catch (RuntimeException e) {
+                failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        private static Timer timer(MeterRegistry registry, FraudDetectionRule rule, String result) {
+            return Timer.builder("fraud.rule.evaluation")
+                    .tag("rule", rule.getCode())
+                    .tag("cost", rule.getCost().name())
+                    .tag("result", result)
+                    .description("Fraud rule evaluations and their duration")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.banking.core.security.fraud;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dolandırıcılık değerlendirmesinin değişmez sonucu: toplam risk skoru ve tetiklenen kuralların gerekçeleri.
+ */
+@Value
+public class FraudVerdict {
+
+    /**
+     * Hiçbir kuralın tetiklenmediği sonuç
+     */
+    public static final FraudVerdict PASS = new FraudVerdict(0, List.of(), false);
+
+    int score;
+    List<FraudReason> reasons;
+    boolean hardBlock;
+
+    /**
+     * Tek gerekçeli sonuç oluşturur.
+     *
+     * @param code Kural kodu
+     * @param message Açıklama
+     * @param score Risk skoru
+     */
+    public static FraudVerdict of(String code, String message, int score) {
+        return new FraudVerdict(score, List.of(new FraudReason(code, message, score)), false);
+    }
+
+    public boolean isTriggered() {
+        return !reasons.isEmpty();
+    }
+
+    public List<String> getReasonCodes() {
+        return reasons.stream().map(FraudReason::getCode).toList();
+    }
+
+    /**
+     * En yüksek skorlu gerekçe
+     */
+    public Optional<FraudReason> getTopReason() {
+        return reasons.stream().max(Comparator.comparingInt(FraudReason::getScore));
+    }
+
+    /**
+     * İki sonucun skorlarını toplar ve gerekçelerini birleştirir.
+     */
+    public FraudVerdict merge(FraudVerdict other) {
+        if (!other.isTriggered()) {
+            return this;
+        }
+        if (!isTriggered()) {
+            return other;
+        }
+        List<FraudReason> merged = new ArrayList<>(reasons.size() + other.reasons.size());
+        merged.addAll(reasons);
+        merged.addAll(other.reasons);
+        return new FraudVerdict(score + other.score, List.copyOf(merged), hardBlock || other.hardBlock);
+    }
+
+    public FraudVerdict asHardBlock() {
+        return hardBlock ? this : new FraudVerdict(score, reasons, true);
+    }
+}
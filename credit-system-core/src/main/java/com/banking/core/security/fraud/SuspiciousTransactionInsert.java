@@ -0,0 +1,37 @@
+package com.banking.core.security.fraud;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * {@link SuspiciousTransactionWriteBehind} üzerinden toplu eklenen bir şüpheli işlem kaydı türü.
+ * Uygulama yalnızca SQL'i ve parametre bağlamayı sağlar; kuyruk, günlük ve işlem yönetimi ortaktır.
+ * Satır türü JSON olarak günlüğe yazılabilmelidir.
+ *
+ * @param <R> Satır türü
+ */
+public interface SuspiciousTransactionInsert<R> {
+
+    /**
+     * Günlükte satırın türünü belirten sabit ad; değiştirilirse eski günlük kayıtları okunamaz
+     */
+    String getName();
+
+    Class<R> getRowType();
+
+    /**
+     * Tek satırlık {@code INSERT}; üretilen {@code id} sütunu geri okunur
+     */
+    String getSql();
+
+    void bind(PreparedStatement ps, R row) throws SQLException;
+
+    /**
+     * Satır işlemi onaylandıktan sonra çağrılır (örn. olay yayını).
+     *
+     * @param row Yazılan satır
+     * @param id Üretilen kimlik; sürücü dönmediyse null
+     */
+    default void afterInsert(R row, Long id) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.banking.core.security.fraud;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Dolandırıcılık tespitinde yazılmayı bekleyen şüpheli işlem satırı ve kayıt yazıldıktan sonra yayınlanacak olay.
+ */
+@Value
+@Builder
+@Jacksonized
+public class SuspiciousTransactionRow {
+    Long customerId;
+    String transactionId;
+    BigDecimal amount;
+    LocalDateTime transactionDate;
+    LocalDateTime detectionDate;
+    String detectionRule;
+    String description;
+    String ipAddress;
+    String userAgent;
+    String reason;
+    Double riskScore;
+    String riskLevel;
+    String status;
+    String transactionType;
+    String eventType;
+    Map<String, Object> eventData;
+}
@@ -0,0 +1,272 @@
+package com.banking.core.security.fraud;
+
+import com.banking.core.utilities.writebehind.FileWriteBehindJournal;
+import com.banking.core.utilities.writebehind.WriteBehindQueue;
+import com.banking.core.utilities.writebehind.WriteBehindSettings;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Şüpheli işlem kayıtlarını istek iş parçacığından ayırarak JDBC toplu ekleme ile yazan ortak kuyruk.
+ * Tüm {@link SuspiciousTransactionInsert} türleri tek bir {@link WriteBehindQueue} ve tek bir dosya günlüğü
+ * paylaşır. Bir gruptaki satırlar türlerine göre ayrılır ve tek işlemde, her tür için tek {@code INSERT} toplu
+ * çağrısıyla eklenir. Kimlikler veritabanında üretildiği için Hibernate bu eklemeleri gruplayamaz, bu nedenle
+ * JPA yerine JDBC kullanılır.
+ * <p>
+ * Çağıranın etkin bir işlemi varsa satır, işlem onaylandıktan sonra kuyruğa alınır; geri alınan işlemin şüpheli
+ * işlem kaydı ve olayı oluşmaz. Satırlar kendi işlemlerinde yazılır.
+ * Bağlantı ve işlem hataları geçici sayılıp yeniden denenir, kısıt ihlalleri ölü kayıt dosyasına taşınır.
+ */
+@Component
+@Slf4j
+public class SuspiciousTransactionWriteBehind {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<SuspiciousTransactionInsert<?>> insertProvider;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Map<String, SuspiciousTransactionInsert<?>> inserts;
+    private WriteBehindQueue<PendingInsert> queue;
+
+    @Value("${fraud.suspicious-transactions.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${fraud.suspicious-transactions.write-behind.batch-size:100}")
+    private int batchSize;
+
+    @Value("${fraud.suspicious-transactions.write-behind.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${fraud.suspicious-transactions.write-behind.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${fraud.suspicious-transactions.write-behind.initial-backoff-ms:200}")
+    private long initialBackoffMillis;
+
+    @Value("${fraud.suspicious-transactions.write-behind.max-backoff-ms:30000}")
+    private long maxBackoffMillis;
+
+    @Value("${fraud.suspicious-transactions.write-behind.journal.directory:data/write-behind/suspicious-transactions}")
+    private String journalDirectory;
+
+    @Value("${fraud.suspicious-transactions.write-behind.journal.segment-records:10000}")
+    private int journalSegmentRecords;
+
+    @Value("${fraud.suspicious-transactions.write-behind.journal.fsync:false}")
+    private boolean journalFsync;
+
+    public SuspiciousTransactionWriteBehind(JdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager,
+                                            ObjectMapper objectMapper,
+                                            ObjectProvider<SuspiciousTransactionInsert<?>> insertProvider,
+                                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.insertProvider = insertProvider;
+        this.meterRegistry = meterRegistry;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void init() {
+        WriteBehindSettings settings = WriteBehindSettings.builder()
+                .capacity(capacity)
+                .batchSize(batchSize)
+                .offerTimeout(Duration.ofMillis(offerTimeoutMillis))
+                .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMillis))
+                .initialBackoff(Duration.ofMillis(initialBackoffMillis))
+                .maxBackoff(Duration.ofMillis(maxBackoffMillis))
+                .build();
+        FileWriteBehindJournal<PendingInsert> journal = new FileWriteBehindJournal<>(Path.of(journalDirectory),
+                journalSegmentRecords, journalFsync, PendingInsert::encode, PendingInsert::decode);
+        queue = new WriteBehindQueue<>("suspicious-transactions", settings, this::write, journal,
+                SuspiciousTransactionWriteBehind::isRetryable, meterRegistry);
+        log.info("Suspicious transaction write-behind initialized. Capacity: {}, batch size: {}, journal: {}",
+                capacity, batchSize, journalDirectory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        queue.close();
+    }
+
+    /**
+     * Satırı yazılmak üzere kuyruğa ekler. Etkin bir işlem içinde çağrılırsa satır işlem onaylandıktan sonra
+     * kuyruğa alınır.
+     *
+     * @param insert Satırın türü
+     * @param row Yazılacak satır
+     */
+    public <R> void submit(SuspiciousTransactionInsert<R> insert, R row) {
+        // Satır hemen serileştirilir; çağıranın varlığı onaydan önce değişse de tespit anındaki değerler yazılır
+        PendingInsert pending = toPending(insert, row);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            queue.submit(pending);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    queue.submit(pending);
+                } catch (RuntimeException e) {
+                    // Çağıranın işlemi onaylandı; hata çağırana iletilmez
+                    log.error("Suspicious transaction could not be written after commit. Insert: {}: {}",
+                            pending.insert(), e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Yazılmayı bekleyen kayıt sayısı
+     */
+    public int getQueueDepth() {
+        return queue.getDepth();
+    }
+
+    <R> PendingInsert toPending(SuspiciousTransactionInsert<R> insert, R row) {
+        try {
+            return new PendingInsert(insert.getName(), objectMapper.writeValueAsString(row));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Suspicious transaction row could not be serialized: " + insert.getName(), e);
+        }
+    }
+
+    /**
+     * Grubu türlerine göre ayırıp tek işlemde yazar; olaylar işlem onaylandıktan sonra yayınlanır.
+     */
+    void write(List<PendingInsert> batch) {
+        Map<String, List<PendingInsert>> byInsert = batch.stream()
+                .collect(Collectors.groupingBy(PendingInsert::insert, LinkedHashMap::new, Collectors.toList()));
+        List<Runnable> afterCommit = new ArrayList<>(batch.size());
+        batchTransaction.executeWithoutResult(status ->
+                byInsert.forEach((name, pending) -> afterCommit.addAll(insert(insertFor(name), pending))));
+        for (Runnable callback : afterCommit) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                log.error("Post-insert callback failed for suspicious transaction: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Bağlantı ve işlem hataları geçicidir; veri kaynaklı hatalar yeniden denemeyle düzelmez.
+     */
+    static boolean isRetryable(RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException
+                || e instanceof InvalidDataAccessApiUsageException
+                || e instanceof TypeMismatchDataAccessException) {
+            return false;
+        }
+        return e instanceof DataAccessException || e instanceof TransactionException;
+    }
+
+    private <R> List<Runnable> insert(SuspiciousTransactionInsert<R> insert, List<PendingInsert> pending) {
+        List<R> rows = new ArrayList<>(pending.size());
+        for (PendingInsert record : pending) {
+            rows.add(decode(insert, record.payload()));
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(insert.getSql(), new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        insert.bind(ps, rows.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Runnable> callbacks = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            R row = rows.get(i);
+            Long id = i < keys.size() && keys.get(i).get("id") instanceof Number number ? number.longValue() : null;
+            callbacks.add(() -> insert.afterInsert(row, id));
+        }
+        return callbacks;
+    }
+
+    private <R> R decode(SuspiciousTransactionInsert<R> insert, String payload) {
+        try {
+            return objectMapper.readValue(payload, insert.getRowType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Suspicious transaction row could not be read: " + insert.getName(), e);
+        }
+    }
+
+    private SuspiciousTransactionInsert<?> insertFor(String name) {
+        Map<String, SuspiciousTransactionInsert<?>> resolved = inserts;
+        if (resolved == null) {
+            resolved = insertProvider.orderedStream()
+                    .collect(Collectors.toMap(SuspiciousTransactionInsert::getName, Function.identity()));
+            inserts = resolved;
+        }
+        SuspiciousTransactionInsert<?> insert = resolved.get(name);
+        if (insert == null) {
+            throw new IllegalStateException("Unknown suspicious transaction insert: " + name);
+        }
+        return insert;
+    }
+
+    /**
+     * Kuyruktaki satır: türün adı ve JSON gövdesi.
+     */
+    record PendingInsert(String insert, String payload) {
+
+        String encode() {
+            return insert + '\t' + payload;
+        }
+
+        static PendingInsert decode(String line) {
+            int tab = line.indexOf('\t');
+            if (tab <= 0) {
+                throw new IllegalArgumentException("Malformed write-behind journal record");
+            }
+            return new PendingInsert(line.substring(0, tab), line.substring(tab + 1));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.banking.core.security.fraud;
+
+import com.banking.core.events.EventService;
+import com.banking.entities.SuspiciousTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dolandırıcılık tespitinde oluşan şüpheli işlemleri {@link SuspiciousTransactionWriteBehind} üzerinden yazar.
+ * Olay, kayıt yazıldıktan sonra üretilen kimlikle ({@code suspiciousTransactionId}) yayınlanır.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuspiciousTransactionWriter implements SuspiciousTransactionInsert<SuspiciousTransactionRow> {
+
+    static final String NAME = "fraud-detection";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO suspicious_transactions (customer_id, transaction_id, amount, transaction_date, detection_date,
+                detection_rule, description, ip_address, user_agent, reason, risk_score, flagged_at, risk_level,
+                status, transaction_type, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final SuspiciousTransactionWriteBehind writeBehind;
+    private final EventService eventService;
+
+    /**
+     * Şüpheli işlemi yazılmak üzere kuyruğa ekler; etkin bir işlem varsa işlem onaylandıktan sonra.
+     *
+     * @param transaction Şüpheli işlem; müşterisi dolu olmalıdır
+     * @param eventType Kayıt yazıldıktan sonra yayınlanacak olay tipi
+     * @param eventData Olay verileri
+     */
+    public void submit(SuspiciousTransaction transaction, String eventType, Map<String, Object> eventData) {
+        writeBehind.submit(this, toRow(transaction, eventType, eventData));
+    }
+
+    static SuspiciousTransactionRow toRow(SuspiciousTransaction transaction, String eventType,
+                                          Map<String, Object> eventData) {
+        if (transaction.getCustomer() == null || transaction.getCustomer().getId() == null) {
+            throw new IllegalArgumentException("Suspicious transaction must reference a persisted customer");
+        }
+        LocalDateTime detectionDate = transaction.getDetectionDate() != null
+                ? transaction.getDetectionDate() : LocalDateTime.now();
+        String reason = transaction.getReason() != null ? transaction.getReason()
+                : transaction.getDescription() != null ? transaction.getDescription()
+                : transaction.getDetectionRule();
+        return SuspiciousTransactionRow.builder()
+                .customerId(transaction.getCustomer().getId())
+                .transactionId(transaction.getTransactionId())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .detectionDate(detectionDate)
+                .detectionRule(transaction.getDetectionRule())
+                .description(transaction.getDescription())
+                .ipAddress(transaction.getIpAddress())
+                .userAgent(transaction.getUserAgent())
+                .reason(reason)
+                .riskScore(transaction.getRiskScore())
+                .riskLevel(name(transaction.getRiskLevel()))
+                .status(name(transaction.getStatus()))
+                .transactionType(name(transaction.getTransactionType()))
+                .eventType(eventType)
+                .eventData(eventData)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Class<SuspiciousTransactionRow> getRowType() {
+        return SuspiciousTransactionRow.class;
+    }
+
+    @Override
+    public String getSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    public void bind(PreparedStatement ps, SuspiciousTransactionRow row) throws SQLException {
+        ps.setLong(1, row.getCustomerId());
+        ps.setString(2, row.getTransactionId());
+        ps.setBigDecimal(3, row.getAmount());
+        ps.setObject(4, row.getTransactionDate(), Types.TIMESTAMP);
+        ps.setObject(5, row.getDetectionDate(), Types.TIMESTAMP);
+        ps.setString(6, row.getDetectionRule());
+        ps.setString(7, row.getDescription());
+        ps.setString(8, row.getIpAddress());
+        ps.setString(9, row.getUserAgent());
+        ps.setString(10, row.getReason());
+        ps.setObject(11, row.getRiskScore(), Types.DOUBLE);
+        ps.setObject(12, row.getDetectionDate(), Types.TIMESTAMP);
+        ps.setString(13, row.getRiskLevel());
+        ps.setString(14, row.getStatus());
+        ps.setString(15, row.getTransactionType());
+        ps.setObject(16, LocalDateTime.now(), Types.TIMESTAMP);
+    }
+
+    @Override
+    public void afterInsert(SuspiciousTransactionRow row, Long id) {
+        if (row.getEventType() == null) {
+            return;
+        }
+        Map<String, Object> eventData = new HashMap<>(row.getEventData() != null ? row.getEventData() : Map.of());
+        eventData.put("suspiciousTransactionId", id);
+        eventService.publishEvent(row.getEventType(), eventData);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
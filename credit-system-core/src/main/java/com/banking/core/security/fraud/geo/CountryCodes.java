@@ -0,0 +1,54 @@
+package com.banking.core.security.fraud.geo;
+
+/**
+ * İki harfli ISO 3166-1 ülke kodlarını 0-675 arasında tamsayıya çeviren yardımcı sınıf.
+ * Kodlanmış ülkeler bit kümelerinde ve ilkel dizilerde nesne oluşturmadan tutulabilir.
+ */
+public final class CountryCodes {
+
+    /**
+     * Ülkesi bilinmeyen veya geçersiz kod
+     */
+    public static final int UNKNOWN = -1;
+
+    public static final int CODE_SPACE = 26 * 26;
+
+    private static final String[] NAMES = new String[CODE_SPACE];
+
+    static {
+        for (int code = 0; code < CODE_SPACE; code++) {
+            NAMES[code] = new String(new char[]{(char) ('A' + code / 26), (char) ('A' + code % 26)});
+        }
+    }
+
+    private CountryCodes() {
+    }
+
+    /**
+     * Ülke kodunu tamsayıya çevirir; büyük-küçük harf duyarsızdır.
+     *
+     * @param country İki harfli ülke kodu (örn. "TR")
+     * @return Kod veya {@link #UNKNOWN}
+     */
+    public static int encode(CharSequence country) {
+        if (country == null || country.length() != 2) {
+            return UNKNOWN;
+        }
+        int first = Character.toUpperCase(country.charAt(0)) - 'A';
+        int second = Character.toUpperCase(country.charAt(1)) - 'A';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26) {
+            return UNKNOWN;
+        }
+        return first * 26 + second;
+    }
+
+    /**
+     * Kodlanmış ülkeyi iki harfli koda çevirir; önceden oluşturulmuş değerler döner.
+     *
+     * @param code Kodlanmış ülke
+     * @return Ülke kodu veya kod geçersizse null
+     */
+    public static String decode(int code) {
+        return code >= 0 && code < CODE_SPACE ? NAMES[code] : null;
+    }
+}
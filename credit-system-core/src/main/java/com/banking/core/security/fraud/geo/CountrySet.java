@@ -0,0 +1,65 @@
+package com.banking.core.security.fraud.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Değişmez ülke kümesi; her ülke {@link CountryCodes} koduna karşılık gelen tek bir bittir.
+ * Üyelik kontrolü nesne oluşturmadan tek bir bit okumasıdır.
+ */
+public final class CountrySet {
+
+    private final long[] bits = new long[(CountryCodes.CODE_SPACE + Long.SIZE - 1) / Long.SIZE];
+
+    private CountrySet() {
+    }
+
+    /**
+     * @param countries İki harfli ülke kodları
+     * @throws IllegalArgumentException Geçersiz ülke kodu varsa
+     */
+    public static CountrySet of(Collection<String> countries) {
+        CountrySet set = new CountrySet();
+        for (String country : countries) {
+            int code = CountryCodes.encode(country.trim());
+            if (code == CountryCodes.UNKNOWN) {
+                throw new IllegalArgumentException("Invalid country code: " + country);
+            }
+            set.bits[code >>> 6] |= 1L << code;
+        }
+        return set;
+    }
+
+    public static CountrySet of(String... countries) {
+        return of(List.of(countries));
+    }
+
+    public boolean contains(int code) {
+        return code >= 0 && code < CountryCodes.CODE_SPACE && (bits[code >>> 6] & (1L << code)) != 0;
+    }
+
+    public boolean contains(CharSequence country) {
+        return contains(CountryCodes.encode(country));
+    }
+
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        List<String> countries = new ArrayList<>();
+        for (int code = 0; code < CountryCodes.CODE_SPACE; code++) {
+            if (contains(code)) {
+                countries.add(CountryCodes.decode(code));
+            }
+        }
+        return countries.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package com.banking.core.security.fraud.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * IPv4 adres aralıklarını ülke kodlarına eşleyen değişmez dizin.
+ * Aralıklar başlangıç adresine göre sıralı ilkel dizilerde tutulur; sorgu ikili arama ile yapılır ve nesne
+ * oluşturmaz. IPv6 adresleri desteklenmez, {@link CountryCodes#UNKNOWN} döner.
+ * <p>
+ * Dosya biçimi satır başına {@code başlangıç,bitiş,ülke} şeklindedir. Adresler noktalı gösterimde
+ * ({@code 1.2.3.0}) veya ondalık tamsayı olarak yazılabilir, değerler tırnak içinde olabilir.
+ * Boş satırlar ve {@code #} ile başlayan satırlar yok sayılır.
+ */
+public final class IpCountryIndex {
+
+    public static final IpCountryIndex EMPTY = new IpCountryIndex(new long[0], new long[0], new short[0]);
+
+    private static final long MAX_IPV4 = 0xFFFFFFFFL;
+
+    private final long[] starts;
+    private final long[] ends;
+    private final short[] countries;
+
+    private IpCountryIndex(long[] starts, long[] ends, short[] countries) {
+        this.starts = starts;
+        this.ends = ends;
+        this.countries = countries;
+    }
+
+    /**
+     * Dosyadan dizin oluşturur.
+     *
+     * @param file Aralık dosyası
+     * @return Dizin
+     * @throws IOException Dosya okunamazsa
+     * @throws IllegalArgumentException Satır geçersizse veya aralıklar çakışıyorsa
+     */
+    public static IpCountryIndex load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    public static IpCountryIndex read(BufferedReader reader) throws IOException {
+        long[] starts = new long[1024];
+        long[] ends = new long[1024];
+        short[] countries = new short[1024];
+        int size = 0;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length < 3) {
+                throw new IllegalArgumentException("Invalid IP range at line " + lineNumber + ": " + line);
+            }
+            long start = parseAddress(unquote(fields[0]));
+            long end = parseAddress(unquote(fields[1]));
+            int country = CountryCodes.encode(unquote(fields[2]));
+            if (start < 0 || end < start || country == CountryCodes.UNKNOWN) {
+                throw new IllegalArgumentException("Invalid IP range at line " + lineNumber + ": " + line);
+            }
+
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                countries = Arrays.copyOf(countries, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            countries[size] = (short) country;
+            size++;
+        }
+        return build(starts, ends, countries, size);
+    }
+
+    /**
+     * Adresin ülkesini döner.
+     *
+     * @param ipAddress Noktalı gösterimde IPv4 adresi
+     * @return Kodlanmış ülke veya {@link CountryCodes#UNKNOWN}
+     */
+    public int lookup(CharSequence ipAddress) {
+        long address = parseIpv4(ipAddress);
+        return address < 0 ? CountryCodes.UNKNOWN : lookup(address);
+    }
+
+    public int lookup(long address) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= address) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // high: başlangıcı adresten küçük veya eşit olan son aralık
+        return high >= 0 && address <= ends[high] ? countries[high] : CountryCodes.UNKNOWN;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Noktalı gösterimdeki IPv4 adresini sayıya çevirir.
+     *
+     * @return 0 ile 2^32-1 arasında adres veya adres geçersizse -1
+     */
+    public static long parseIpv4(CharSequence value) {
+        if (value == null) {
+            return -1;
+        }
+        int length = value.length();
+        long address = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && dots < 3) {
+                address = (address << 8) | octet;
+                octet = -1;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || octet < 0) {
+            return -1;
+        }
+        return (address << 8) | octet;
+    }
+
+    private static long parseAddress(String value) {
+        if (value.indexOf('.') >= 0) {
+            return parseIpv4(value);
+        }
+        try {
+            long address = Long.parseLong(value);
+            return address <= MAX_IPV4 ? address : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+
+    private static IpCountryIndex build(long[] starts, long[] ends, short[] countries, int size) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+
+        long[] sortedStarts = new long[size];
+        long[] sortedEnds = new long[size];
+        short[] sortedCountries = new short[size];
+        for (int i = 0; i < size; i++) {
+            int source = order[i];
+            sortedStarts[i] = starts[source];
+            sortedEnds[i] = ends[source];
+            sortedCountries[i] = countries[source];
+            if (i > 0 && sortedStarts[i] <= sortedEnds[i - 1]) {
+                throw new IllegalArgumentException("Overlapping IP ranges starting at " + sortedStarts[i - 1]
+                        + " and " + sortedStarts[i]);
+            }
+        }
+        return new IpCountryIndex(sortedStarts, sortedEnds, sortedCountries);
+    }
+}
@@ -0,0 +1,84 @@
+package com.banking.core.security.fraud.geo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * IP adreslerinden ülke bulan, yerel dosyadan yüklenen gömülü dizin.
+ * Dizin {@code fraud.geo.ip-country-file} dosyasından yüklenir ve dosya değiştiğinde yeniden başlatma gerekmeden
+ * atomik olarak değiştirilir; sorgular her zaman tam yüklenmiş bir dizini görür. Dosya tanımlı değilse veya
+ * yüklenemezse tüm adresler bilinmeyen ülke olarak döner, hatalı bir güncelleme eski dizini bozmaz.
+ */
+@Component
+@Slf4j
+public class IpCountryResolver {
+
+    private final AtomicReference<IpCountryIndex> index = new AtomicReference<>(IpCountryIndex.EMPTY);
+    private volatile FileTime loadedModifiedTime;
+
+    @Value("${fraud.geo.ip-country-file:}")
+    private String indexFile;
+
+    @PostConstruct
+    void init() {
+        reloadIfChanged();
+    }
+
+    /**
+     * Adresin ülkesini döner.
+     *
+     * @param ipAddress IPv4 adresi
+     * @return Kodlanmış ülke veya {@link CountryCodes#UNKNOWN}
+     */
+    public int countryOf(CharSequence ipAddress) {
+        return index.get().lookup(ipAddress);
+    }
+
+    /**
+     * Adresin iki harfli ülke kodunu döner.
+     *
+     * @param ipAddress IPv4 adresi
+     * @return Ülke kodu veya bilinmiyorsa null
+     */
+    public String countryCodeOf(CharSequence ipAddress) {
+        return CountryCodes.decode(countryOf(ipAddress));
+    }
+
+    /**
+     * Dosya son yüklemeden sonra değiştiyse dizini yeniden yükler.
+     */
+    @Scheduled(fixedDelayString = "${fraud.geo.reload-interval-ms:300000}",
+            initialDelayString = "${fraud.geo.reload-interval-ms:300000}")
+    public void reloadIfChanged() {
+        if (indexFile == null || indexFile.isBlank()) {
+            return;
+        }
+        Path file = Path.of(indexFile);
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(file);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+            IpCountryIndex loaded = IpCountryIndex.load(file);
+            index.set(loaded);
+            loadedModifiedTime = modifiedTime;
+            log.info("IP country index loaded. File: {}, ranges: {}", file, loaded.size());
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("IP country index could not be loaded, keeping {} ranges. File: {}, error: {}",
+                    index.get().size(), file, e.getMessage());
+        }
+    }
+
+    public int getRangeCount() {
+        return index.get().size();
+    }
+}
@@ -0,0 +1,163 @@
+package com.banking.core.security.fraud.location;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Çok büyük müşteri tabanları için sabit bellekli, olasılıksal konum deposu.
+ * Müşteri-konum çiftleri iki kuşaklı bir Bloom filtresinde tutulur: yazmalar güncel kuşağa yapılır, okumalar iki
+ * kuşağa da bakar. Her {@code rotation} süresinde önceki kuşak atılır ve boş bir kuşak açılır; böylece
+ * {@code rotation} ile iki katı arasında görülmeyen konumlar unutulur. Bellek kullanımı toplam bellek bütçesiyle
+ * sabittir, kuşak başına yarısı kullanılır.
+ * <p>
+ * Yanlış pozitif (görülmemiş konumu bilinen sayma) oranı, kuşak başına {@code m} bit, {@code n} kayıt ve {@code k}
+ * özet fonksiyonu için yaklaşık {@code p = (1 - e^(-k*n/m))^k}, iki kuşakta birlikte {@code 1 - (1 - p)^2} olur.
+ * {@code k}, {@code m/n * ln 2} olarak seçilir. Örneğin 16 MiB bütçe ve kuşak başına 5 milyon kayıt için oran
+ * yaklaşık %0,3'tür. Yanlış negatif olmaz; hata yalnızca yeni bir konumun gözden kaçması yönündedir.
+ */
+public class BloomLocationStore implements KnownLocationStore {
+
+    private static final int MAX_HASH_COUNT = 16;
+
+    private final long bitsPerGeneration;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final long rotationMillis;
+    private final Clock clock;
+    private final AtomicReference<Generations> generations;
+
+    /**
+     * @param memoryBudgetBytes İki kuşağın toplam bellek bütçesi
+     * @param expectedInsertions Bir kuşak süresince beklenen farklı müşteri-konum çifti sayısı
+     * @param rotation Kuşak süresi
+     * @param clock Zaman kaynağı
+     */
+    public BloomLocationStore(long memoryBudgetBytes, long expectedInsertions, Duration rotation, Clock clock) {
+        long words = memoryBudgetBytes / 2 / Long.BYTES;
+        if (words <= 0 || words > Integer.MAX_VALUE || expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing. Memory budget: " + memoryBudgetBytes
+                    + " bytes, expected insertions: " + expectedInsertions);
+        }
+        this.bitsPerGeneration = words * Long.SIZE;
+        this.expectedInsertions = expectedInsertions;
+        this.hashCount = (int) Math.max(1, Math.min(MAX_HASH_COUNT,
+                Math.round((double) bitsPerGeneration / expectedInsertions * Math.log(2))));
+        this.rotationMillis = rotation.toMillis();
+        this.clock = clock;
+        this.generations = new AtomicReference<>(new Generations(
+                new BitArray((int) words), new BitArray((int) words), clock.millis()));
+    }
+
+    @Override
+    public boolean checkAndRecord(long customerId, String location) {
+        Generations current = currentGenerations();
+        long hash1 = hash(customerId, location);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        boolean known = current.current.mightContain(hash1, hash2, hashCount, bitsPerGeneration)
+                || current.previous.mightContain(hash1, hash2, hashCount, bitsPerGeneration);
+        // Bilinen konum da güncel kuşağa yazılır; böylece kullanılmaya devam eden konumlar unutulmaz
+        current.current.put(hash1, hash2, hashCount, bitsPerGeneration);
+        return known;
+    }
+
+    /**
+     * Bir kuşak beklenen kayıt sayısına ulaştığında iki kuşak için beklenen yanlış pozitif oranı
+     */
+    public double getExpectedFalsePositiveRate() {
+        double perGeneration = Math.pow(1 - Math.exp(-(double) hashCount * expectedInsertions / bitsPerGeneration), hashCount);
+        return 1 - (1 - perGeneration) * (1 - perGeneration);
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    public long getBitsPerGeneration() {
+        return bitsPerGeneration;
+    }
+
+    private Generations currentGenerations() {
+        long now = clock.millis();
+        while (true) {
+            Generations existing = generations.get();
+            long elapsed = now - existing.startedAt;
+            if (elapsed < rotationMillis) {
+                return existing;
+            }
+            int words = (int) (bitsPerGeneration / Long.SIZE);
+            // İki kuşak süresi boyunca hiç erişilmediyse önceki kuşak da geçerliliğini yitirmiştir
+            BitArray previous = elapsed < 2 * rotationMillis ? existing.current : new BitArray(words);
+            Generations rotated = new Generations(new BitArray(words), previous, now);
+            if (generations.compareAndSet(existing, rotated)) {
+                return rotated;
+            }
+        }
+    }
+
+    private static long hash(long customerId, String location) {
+        long hash = mix(customerId);
+        for (int i = 0; i < location.length(); i++) {
+            hash = (hash ^ location.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 karıştırma fonksiyonu
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Generations {
+
+        private final BitArray current;
+        private final BitArray previous;
+        private final long startedAt;
+
+        Generations(BitArray current, BitArray previous, long startedAt) {
+            this.current = current;
+            this.previous = previous;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * Kilitsiz bit dizisi; bitler CAS ile kurulur ve hiç silinmez.
+     */
+    private static final class BitArray {
+
+        private final AtomicLongArray words;
+
+        BitArray(int wordCount) {
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        boolean mightContain(long hash1, long hash2, int hashCount, long bitCount) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash1, long hash2, int hashCount, long bitCount) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words.get(index) & mask) == 0) {
+                    words.getAndAccumulate(index, mask, (current, update) -> current | update);
+                }
+            }
+        }
+    }
+}
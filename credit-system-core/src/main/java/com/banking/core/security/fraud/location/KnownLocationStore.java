@@ -0,0 +1,17 @@
+package com.banking.core.security.fraud.location;
+
+/**
+ * Müşterilerin daha önce işlem yaptığı konumları (IP adresi, ülke vb.) tutan depo.
+ * Uzun süre görülmeyen konumlar zamanla unutulur; depo boyutu yapılandırma ile sınırlıdır.
+ */
+public interface KnownLocationStore {
+
+    /**
+     * Konumun müşteri için bilinip bilinmediğini döner ve konumu son görülme zamanıyla kaydeder.
+     *
+     * @param customerId Müşteri ID
+     * @param location Konum (örn. IP adresi)
+     * @return Konum daha önce görülmüş ve henüz unutulmamışsa true
+     */
+    boolean checkAndRecord(long customerId, String location);
+}
@@ -0,0 +1,56 @@
+package com.banking.core.security.fraud.location;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Bilinen konum deposu yapılandırması.
+ */
+@Configuration
+@Slf4j
+public class KnownLocationStoreConfig {
+
+    @Value("${fraud.location.store:exact}")
+    private String storeType;
+
+    @Value("${fraud.location.decay-days:90}")
+    private long decayDays;
+
+    @Value("${fraud.location.history.maximum-customers:200000}")
+    private long maximumCustomers;
+
+    @Value("${fraud.location.history.max-locations:8}")
+    private int maxLocations;
+
+    @Value("${fraud.location.bloom.memory-bytes:16777216}")
+    private long bloomMemoryBytes;
+
+    @Value("${fraud.location.bloom.expected-insertions:5000000}")
+    private long bloomExpectedInsertions;
+
+    /**
+     * {@code exact}: müşteri başına son konumları tutan sınırlı geçmiş,
+     * {@code bloom}: sabit bellekli, olasılıksal iki kuşaklı Bloom filtresi
+     */
+    @Bean
+    public KnownLocationStore knownLocationStore() {
+        Clock clock = Clock.systemUTC();
+        Duration decay = Duration.ofDays(decayDays);
+        return switch (storeType) {
+            case "exact" -> new LocationHistoryStore(maximumCustomers, maxLocations, decay, clock);
+            case "bloom" -> {
+                BloomLocationStore store = new BloomLocationStore(bloomMemoryBytes, bloomExpectedInsertions, decay, clock);
+                log.info("Bloom location store initialized. Bits per generation: {}, hash functions: {}, "
+                                + "expected false positive rate: {}", store.getBitsPerGeneration(), store.getHashCount(),
+                        String.format("%.4f", store.getExpectedFalsePositiveRate()));
+                yield store;
+            }
+            default -> throw new IllegalArgumentException("Unknown known-location store: " + storeType);
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.banking.core.security.fraud.location;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Müşteri başına son {@code maxLocations} farklı konumu son görülme zamanlarıyla tutan kesin depo.
+ * {@code decay} süresinden uzun süredir görülmeyen konum bilinmiyor sayılır; liste dolduğunda en uzun süredir
+ * görülmeyen konumun yerine yazılır. Müşteri geçmişleri boyut sınırlı bir Caffeine önbelleğinde tutulur ve
+ * {@code decay} süresi boyunca erişilmeyen müşteriler silinir. Aynı müşterinin eşzamanlı çağrıları yalnızca o
+ * müşterinin geçmişi üzerinde senkronize olur.
+ */
+public class LocationHistoryStore implements KnownLocationStore {
+
+    private final Cache<Long, LocationHistory> histories;
+    private final int maxLocations;
+    private final long decayMillis;
+    private final Clock clock;
+
+    /**
+     * @param maximumCustomers Geçmişi tutulacak en fazla müşteri sayısı
+     * @param maxLocations Müşteri başına tutulacak farklı konum sayısı
+     * @param decay Görülmeyen konumun unutulma süresi
+     * @param clock Zaman kaynağı
+     */
+    public LocationHistoryStore(long maximumCustomers, int maxLocations, Duration decay, Clock clock) {
+        if (maxLocations <= 0) {
+            throw new IllegalArgumentException("Location history size must be positive: " + maxLocations);
+        }
+        this.maxLocations = maxLocations;
+        this.decayMillis = decay.toMillis();
+        this.clock = clock;
+        this.histories = Caffeine.newBuilder()
+                .maximumSize(maximumCustomers)
+                .expireAfterAccess(decay)
+                .build();
+    }
+
+    @Override
+    public boolean checkAndRecord(long customerId, String location) {
+        LocationHistory history = histories.get(customerId, id -> new LocationHistory(maxLocations));
+        return history.checkAndRecord(location, clock.millis(), decayMillis);
+    }
+
+    /**
+     * Bu düğümde geçmişi tutulan yaklaşık müşteri sayısı
+     */
+    public long getTrackedCustomerCount() {
+        return histories.estimatedSize();
+    }
+
+    private static final class LocationHistory {
+
+        private final String[] locations;
+        private final long[] lastSeen;
+        private int size;
+
+        LocationHistory(int capacity) {
+            this.locations = new String[capacity];
+            this.lastSeen = new long[capacity];
+        }
+
+        synchronized boolean checkAndRecord(String location, long now, long decayMillis) {
+            int oldest = 0;
+            for (int i = 0; i < size; i++) {
+                if (locations[i].equals(location)) {
+                    boolean known = now - lastSeen[i] <= decayMillis;
+                    lastSeen[i] = now;
+                    return known;
+                }
+                if (lastSeen[i] < lastSeen[oldest]) {
+                    oldest = i;
+                }
+            }
+
+            int index = size < locations.length ? size++ : oldest;
+            locations[index] = location;
+            lastSeen[index] = now;
+            return false;
+        }
+    }
+}
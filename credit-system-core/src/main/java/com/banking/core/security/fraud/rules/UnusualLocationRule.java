@@ -1,60 +1,53 @@
 package com.banking.core.security.fraud.rules;
 
+import com.banking.core.security.fraud.FraudContext;
 import com.banking.core.security.fraud.FraudDetectionRule;
-import com.banking.entities.Customer;
+import com.banking.core.security.fraud.FraudVerdict;
+import com.banking.core.security.fraud.location.KnownLocationStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Olağandışı konum kuralı.
- * Müşterinin daha önce kullanmadığı bir IP adresinden işlem yapması durumunda tetiklenir.
+ * Müşterinin daha önce kullanmadığı veya uzun süredir kullanmadığı bir IP adresinden işlem yapması durumunda tetiklenir.
+ * Değerlendirilen IP adresi {@link KnownLocationStore} içine kaydedilir, bu nedenle kural kayıt yapan kuraldır.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class UnusualLocationRule implements FraudDetectionRule {
 
+    public static final String CODE = "UNUSUAL_LOCATION";
+
     // Müşteri başına son kullanılan IP adreslerini saklar
-    private final Set<String> knownIpAddresses = new HashSet<>();
+    private final KnownLocationStore knownLocationStore;
     
     @Value("${fraud.rules.unusual.location.score:40}")
     private int riskScore;
     
     @Override
-    public boolean evaluate(Customer customer, BigDecimal amount, String ipAddress, String userAgent) {
-        String customerIpKey = customer.getId() + ":" + ipAddress;
-        
-        if (!knownIpAddresses.contains(customerIpKey)) {
-            // Yeni IP adresi tespit edildi
-            log.info("Unusual location detected for customer {}: {}", customer.getId(), ipAddress);
-            
-            // IP adresini bilinen adresler listesine ekle
-            knownIpAddresses.add(customerIpKey);
-            
-            return true;
-        }
-        
-        return false;
+    public String getCode() {
+        return CODE;
     }
     
     @Override
-    public String getName() {
-        return "UNUSUAL_LOCATION";
+    public boolean isRecording() {
+        return true;
     }
     
     @Override
-    public String getDescription() {
-        return "Transaction from an unusual location or IP address";
-    }
-    
-    @Override
-    public int getRiskScore() {
-        return riskScore;
+    public FraudVerdict evaluate(FraudContext context) {
+        if (context.getCustomerId() == null || context.getIpAddress() == null) {
+            return FraudVerdict.PASS;
+        }
+        // IP adresini bilinen adreslere kaydet; daha önce bilinmiyorsa konum olağandışıdır
+        if (!knownLocationStore.checkAndRecord(context.getCustomerId(), context.getIpAddress())) {
+            log.info("Unusual location detected for customer {}: {}", context.getCustomerId(), context.getIpAddress());
+            return FraudVerdict.of(CODE, "Transaction from an unusual location or IP address", riskScore);
+        }
+        
+        return FraudVerdict.PASS;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,209 @@
+package com.banking.core.security.fraud.velocity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Düğüm sayaçlarını {@link SharedVelocityCounters} üzerinden diğer düğümlerle birleştiren katman.
+ * Düğümün kendi işlemleri yerel kilitsiz sayaçlara anında, paylaşılan depoya ise düğümde toplanarak periyodik
+ * {@link #flush()} ile toplu yazılır; böylece her işlem bir ağ çağrısı gerektirmez. Okumada düğümün kendi
+ * katkısı yerel sayaçlardan, diğer düğümlerin katkısı kısa süreli önbelleğe alınmış paylaşılan depo okumasından
+ * gelir. Diğer düğümlerin işlemleri en fazla yazma aralığı ile okuma önbelleği süresinin toplamı kadar gecikmeli
+ * görülür. Paylaşılan depoya erişilemezse yalnızca yerel sayaçlar kullanılır, yazılamayan değişiklikler
+ * sonraki yazmada yeniden denenir.
+ * <p>
+ * Değişiklikler anahtar ve en kısa pencerenin dilimi bazında toplanır ve işlemin zamanını taşır; gecikmeli bir
+ * yazma değişikliği yazma anının değil işlemin dilimine ekler. En uzun pencereden eski değişiklikler hiçbir
+ * pencereyi etkilemeyeceği için yazılmadan atılır.
+ * <p>
+ * {@link #delete(String)} paylaşılan depodaki sayaçları siler ve silmeyi duyurur; duyuruyu alan her düğüm
+ * anahtarın yerel sayaçlarını ve yazılmamış değişikliklerini temizler. Duyurudan önce yola çıkmış bir yazma
+ * silinen değerin bir kısmını geri getirebilir.
+ */
+@Slf4j
+public class ClusterVelocityBackend implements VelocityBackend {
+
+    private final LocalVelocityBackend local;
+    private final SharedVelocityCounters shared;
+    private final String nodeId;
+    private final int maxPendingKeys;
+    private final Clock clock;
+    private final long slotMillis;
+    private final long longestWindowMillis;
+
+    private final Map<Slot, VelocityDelta> pending = new ConcurrentHashMap<>();
+    private final Cache<String, List<VelocityWindowTotals>> otherNodes;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final LongAdder droppedDeltas = new LongAdder();
+
+    /**
+     * @param local Düğümün kendi sayaçları
+     * @param shared Paylaşılan depo
+     * @param nodeId Düğüm kimliği
+     * @param readCacheTtl Diğer düğümlerin toplamlarının önbellekte tutulma süresi
+     * @param maxPendingKeys Yazılmayı bekleyen en fazla anahtar/dilim; aşılırsa yazma çağıranın iş parçacığında yapılır
+     * @param clock Zaman kaynağı
+     */
+    public ClusterVelocityBackend(LocalVelocityBackend local,
+                                  SharedVelocityCounters shared,
+                                  String nodeId,
+                                  Duration readCacheTtl,
+                                  int maxPendingKeys,
+                                  Clock clock) {
+        this.local = local;
+        this.shared = shared;
+        this.nodeId = nodeId;
+        this.maxPendingKeys = maxPendingKeys;
+        this.clock = clock;
+        List<Duration> windows = local.getWindows();
+        this.slotMillis = Math.max(1, windows.get(0).toMillis() / local.getBucketsPerWindow());
+        this.longestWindowMillis = windows.get(windows.size() - 1).toMillis();
+        this.otherNodes = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxPendingKeys, 1000) * 10L)
+                .expireAfterWrite(readCacheTtl)
+                .build();
+        shared.addDeleteListener(this::clearLocal);
+    }
+
+    @Override
+    public VelocitySnapshot record(String key, long epochMillis, long amountMinor) {
+        VelocitySnapshot own = local.record(key, epochMillis, amountMinor);
+        long slot = Math.floorDiv(epochMillis, slotMillis);
+        pending.merge(new Slot(key, slot), new VelocityDelta(key, slot * slotMillis, 1, amountMinor),
+                VelocityDelta::plus);
+        if (pending.size() >= maxPendingKeys) {
+            flush();
+        }
+        return combine(own, otherNodeTotals(key, epochMillis));
+    }
+
+    @Override
+    public VelocitySnapshot snapshot(String key, long epochMillis) {
+        return combine(local.snapshot(key, epochMillis), otherNodeTotals(key, epochMillis));
+    }
+
+    @Override
+    public void delete(String key) {
+        clearLocal(key);
+        shared.delete(key);
+    }
+
+    /**
+     * Bekleyen değişiklikleri tek toplu yazmayla paylaşılan depoya gönderir.
+     * Aynı anda tek yazma yapılır; süren bir yazma varsa çağrı beklemeden döner.
+     */
+    @Override
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long oldest = clock.millis() - longestWindowMillis;
+            List<VelocityDelta> batch = new ArrayList<>();
+            for (Slot slot : pending.keySet()) {
+                VelocityDelta delta = pending.remove(slot);
+                if (delta == null) {
+                    continue;
+                }
+                if (delta.getEpochMillis() + slotMillis <= oldest) {
+                    droppedDeltas.increment();
+                } else {
+                    batch.add(delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                shared.apply(nodeId, batch);
+            } catch (RuntimeException e) {
+                requeue(batch);
+                log.warn("Velocity counters could not be written to the shared store, {} keys will be retried: {}",
+                        batch.size(), e.getMessage());
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    @Override
+    public long getTrackedKeyCount() {
+        return local.getTrackedKeyCount();
+    }
+
+    public int getPendingKeyCount() {
+        return pending.size();
+    }
+
+    /**
+     * Paylaşılan depoya yazılmadan atılan değişiklik sayısı: yazma başarısız olduğunda bekleyen sınır dolu
+     * olduğu için yeniden sıraya alınamayanlar ve yazılamadan en uzun pencerenin dışına düşenler
+     */
+    public long getDroppedDeltaCount() {
+        return droppedDeltas.sum();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void requeue(List<VelocityDelta> batch) {
+        for (VelocityDelta delta : batch) {
+            Slot slot = new Slot(delta.getKey(), Math.floorDiv(delta.getEpochMillis(), slotMillis));
+            if (pending.size() < maxPendingKeys || pending.containsKey(slot)) {
+                pending.merge(slot, delta, VelocityDelta::plus);
+            } else {
+                droppedDeltas.increment();
+            }
+        }
+    }
+
+    /**
+     * Anahtarın bu düğümdeki sayaçlarını, yazılmamış değişikliklerini ve diğer düğümler için önbelleğini siler.
+     */
+    private void clearLocal(String key) {
+        local.delete(key);
+        pending.keySet().removeIf(slot -> slot.key().equals(key));
+        otherNodes.invalidate(key);
+    }
+
+    private List<VelocityWindowTotals> otherNodeTotals(String key, long epochMillis) {
+        return otherNodes.get(key, k -> {
+            try {
+                return shared.otherNodeTotals(nodeId, k, epochMillis);
+            } catch (RuntimeException e) {
+                log.debug("Shared velocity counters unavailable, using node counters only. Key: {}, error: {}",
+                        k, e.getMessage());
+                return List.of();
+            }
+        });
+    }
+
+    private static VelocitySnapshot combine(VelocitySnapshot own, List<VelocityWindowTotals> others) {
+        if (others.isEmpty()) {
+            return own;
+        }
+        List<VelocityWindowTotals> combined = new ArrayList<>(own.getWindows().size());
+        for (int i = 0; i < own.getWindows().size(); i++) {
+            VelocityWindowTotals ownTotals = own.getWindows().get(i);
+            VelocityWindowTotals otherTotals = others.get(i);
+            combined.add(new VelocityWindowTotals(ownTotals.getWindow(),
+                    ownTotals.getCount() + otherTotals.getCount(),
+                    ownTotals.getAmountMinor() + otherTotals.getAmountMinor()));
+        }
+        return new VelocitySnapshot(List.copyOf(combined), own.getMinorUnitDigits());
+    }
+
+    private record Slot(String key, long slot) {
+    }
+}
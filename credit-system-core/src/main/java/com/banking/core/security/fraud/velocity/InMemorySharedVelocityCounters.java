@@ -0,0 +1,81 @@
+package com.banking.core.security.fraud.velocity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis yerine kullanılabilen, tek JVM içinde paylaşılan sayaç deposu.
+ * Testlerde birden fazla düğümü aynı depoya bağlayarak çok düğümlü davranışı Redis olmadan denemek için kullanılır.
+ * Silmeler aynı depoya bağlı tüm düğümlerin dinleyicilerine eşzamanlı iletilir.
+ */
+public class InMemorySharedVelocityCounters implements SharedVelocityCounters {
+
+    private final List<Duration> windows;
+    private final int bucketsPerWindow;
+    private final int minorUnitDigits;
+    private final Cache<String, Map<String, VelocityCounters>> counters;
+    private final List<Consumer<String>> deleteListeners = new CopyOnWriteArrayList<>();
+
+    public InMemorySharedVelocityCounters(List<Duration> windows, int bucketsPerWindow, int minorUnitDigits,
+                                          long maximumKeys) {
+        this.windows = List.copyOf(windows);
+        this.bucketsPerWindow = bucketsPerWindow;
+        this.minorUnitDigits = minorUnitDigits;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(this.windows.get(this.windows.size() - 1))
+                .build();
+    }
+
+    @Override
+    public void apply(String nodeId, Collection<VelocityDelta> deltas) {
+        for (VelocityDelta delta : deltas) {
+            counters.get(delta.getKey(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(nodeId, id -> new VelocityCounters(windows, bucketsPerWindow, minorUnitDigits))
+                    .record(delta.getEpochMillis(), delta.getCount(), delta.getAmountMinor());
+        }
+    }
+
+    @Override
+    public List<VelocityWindowTotals> otherNodeTotals(String nodeId, String key, long epochMillis) {
+        long[] counts = new long[windows.size()];
+        long[] amounts = new long[windows.size()];
+        Map<String, VelocityCounters> nodes = counters.getIfPresent(key);
+        if (nodes != null) {
+            nodes.forEach((node, nodeCounters) -> {
+                if (!node.equals(nodeId)) {
+                    List<VelocityWindowTotals> totals = nodeCounters.snapshot(epochMillis).getWindows();
+                    for (int i = 0; i < totals.size(); i++) {
+                        counts[i] += totals.get(i).getCount();
+                        amounts[i] += totals.get(i).getAmountMinor();
+                    }
+                }
+            });
+        }
+        List<VelocityWindowTotals> result = new ArrayList<>(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            result.add(new VelocityWindowTotals(windows.get(i), counts[i], amounts[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(String key) {
+        counters.invalidate(key);
+        deleteListeners.forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void addDeleteListener(Consumer<String> listener) {
+        deleteListeners.add(listener);
+    }
+}
@@ -0,0 +1,74 @@
+package com.banking.core.security.fraud.velocity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Sayaçları yalnızca düğüm belleğinde tutan katman.
+ * Anahtarlar boyut sınırlı bir Caffeine önbelleğinde tutulur ve en uzun pencere boyunca erişilmeyenler silinir.
+ */
+public class LocalVelocityBackend implements VelocityBackend {
+
+    private final List<Duration> windows;
+    private final int bucketsPerWindow;
+    private final int minorUnitDigits;
+    private final Cache<String, VelocityCounters> counters;
+
+    /**
+     * @param windows Artan sırada pencere süreleri
+     * @param bucketsPerWindow Her pencerenin bölüneceği dilim sayısı
+     * @param minorUnitDigits Küçük para biriminin ondalık basamak sayısı
+     * @param maximumKeys Tutulacak en fazla anahtar sayısı
+     */
+    public LocalVelocityBackend(List<Duration> windows, int bucketsPerWindow, int minorUnitDigits, long maximumKeys) {
+        this.windows = List.copyOf(windows);
+        this.bucketsPerWindow = bucketsPerWindow;
+        this.minorUnitDigits = minorUnitDigits;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(this.windows.get(this.windows.size() - 1))
+                .build();
+    }
+
+    @Override
+    public VelocitySnapshot record(String key, long epochMillis, long amountMinor) {
+        VelocityCounters keyCounters = counters.get(key, k -> newCounters());
+        keyCounters.record(epochMillis, amountMinor);
+        return keyCounters.snapshot(epochMillis);
+    }
+
+    @Override
+    public VelocitySnapshot snapshot(String key, long epochMillis) {
+        VelocityCounters keyCounters = counters.getIfPresent(key);
+        return (keyCounters != null ? keyCounters : newCounters()).snapshot(epochMillis);
+    }
+
+    @Override
+    public void delete(String key) {
+        counters.invalidate(key);
+    }
+
+    @Override
+    public long getTrackedKeyCount() {
+        return counters.estimatedSize();
+    }
+
+    public List<Duration> getWindows() {
+        return windows;
+    }
+
+    public int getBucketsPerWindow() {
+        return bucketsPerWindow;
+    }
+
+    public int getMinorUnitDigits() {
+        return minorUnitDigits;
+    }
+
+    private VelocityCounters newCounters() {
+        return new VelocityCounters(windows, bucketsPerWindow, minorUnitDigits);
+    }
+}
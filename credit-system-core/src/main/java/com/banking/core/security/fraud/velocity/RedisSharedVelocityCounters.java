@@ -0,0 +1,204 @@
+package com.banking.core.security.fraud.velocity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis üzerinde paylaşılan sayaç deposu.
+ * Her anahtar ve pencere için bir hash tutulur ({@code fraud:velocity:{anahtar}:<pencere ms>}); alanlar
+ * {@code c:<dilim>:<düğüm>} ve {@code a:<dilim>:<düğüm>} biçimindedir. Artırmalar Lua betiğiyle atomik yapılır,
+ * betik pencereden düşen dilimleri siler ve hash'in süresini uzatır. Bir yazma turundaki tüm anahtarlar tek
+ * pipeline ile gönderilir. Okuma, diğer düğümlerin toplamlarını sunucuda hesaplayan tek bir betik çağrısıdır.
+ * Silinen anahtarlar {@code resetChannel} kanalında duyurulur; her düğüm kendi yerel sayaçlarını ve yazılmamış
+ * değişikliklerini temizler.
+ */
+@Slf4j
+public class RedisSharedVelocityCounters implements SharedVelocityCounters {
+
+    private static final String KEY_PREFIX = "fraud:velocity:";
+
+    private static final String INCREMENT_SCRIPT = """
+            local node = ARGV[1]
+            for i = 1, #KEYS do
+              local base = 3 + (i - 1) * 3
+              local bucket = ARGV[base + 1]
+              local oldest = tonumber(ARGV[base + 2])
+              redis.call('HINCRBY', KEYS[i], 'c:' .. bucket .. ':' .. node, ARGV[2])
+              if ARGV[3] ~= '0' then
+                redis.call('HINCRBY', KEYS[i], 'a:' .. bucket .. ':' .. node, ARGV[3])
+              end
+              for _, field in ipairs(redis.call('HKEYS', KEYS[i])) do
+                local id = tonumber(string.match(field, '^%a:(%-?%d+):'))
+                if id and id < oldest then
+                  redis.call('HDEL', KEYS[i], field)
+                end
+              end
+              redis.call('PEXPIRE', KEYS[i], ARGV[base + 3])
+            end
+            return #KEYS
+            """;
+
+    private static final String OTHER_NODES_SCRIPT = """
+            local node = ARGV[1]
+            local result = {}
+            for i = 1, #KEYS do
+              local oldest = tonumber(ARGV[1 + i])
+              local count, amount = 0, 0
+              local entries = redis.call('HGETALL', KEYS[i])
+              for j = 1, #entries, 2 do
+                local kind, id, owner = string.match(entries[j], '^(%a):(%-?%d+):(.+)$')
+                if owner ~= node and tonumber(id) >= oldest then
+                  if kind == 'c' then
+                    count = count + tonumber(entries[j + 1])
+                  else
+                    amount = amount + tonumber(entries[j + 1])
+                  end
+                end
+              end
+              result[2 * i - 1] = count
+              result[2 * i] = amount
+            end
+            return result
+            """;
+
+    private static final byte[] INCREMENT_SCRIPT_BYTES = INCREMENT_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> OTHER_NODES = new DefaultRedisScript<>(OTHER_NODES_SCRIPT, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String resetChannel;
+    private final List<Duration> windows;
+    private final long[] bucketMillis;
+    private final int bucketsPerWindow;
+    private final List<Consumer<String>> deleteListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param redisTemplate Redis erişimi
+     * @param listenerContainer Silme duyurularının dinlendiği kapsayıcı
+     * @param resetChannel Silme duyurularının yayınlandığı kanal
+     * @param windows Artan sırada pencere süreleri
+     * @param bucketsPerWindow Her pencerenin bölüneceği dilim sayısı
+     */
+    public RedisSharedVelocityCounters(StringRedisTemplate redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       String resetChannel,
+                                       List<Duration> windows,
+                                       int bucketsPerWindow) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.resetChannel = resetChannel;
+        this.windows = List.copyOf(windows);
+        this.bucketsPerWindow = bucketsPerWindow;
+        this.bucketMillis = new long[windows.size()];
+        for (int i = 0; i < bucketMillis.length; i++) {
+            bucketMillis[i] = windows.get(i).toMillis() / bucketsPerWindow;
+        }
+    }
+
+    @Override
+    public void apply(String nodeId, Collection<VelocityDelta> deltas) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach(delta -> increment(connection, nodeId, delta));
+            return null;
+        });
+    }
+
+    @Override
+    public List<VelocityWindowTotals> otherNodeTotals(String nodeId, String key, long epochMillis) {
+        List<String> args = new ArrayList<>(windows.size() + 1);
+        args.add(nodeId);
+        for (int i = 0; i < windows.size(); i++) {
+            args.add(Long.toString(currentBucket(i, epochMillis) - bucketsPerWindow + 1));
+        }
+
+        List<?> totals = redisTemplate.execute(OTHER_NODES, keys(key), args.toArray());
+        List<VelocityWindowTotals> result = new ArrayList<>(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            long count = totals != null ? ((Number) totals.get(2 * i)).longValue() : 0;
+            long amount = totals != null ? ((Number) totals.get(2 * i + 1)).longValue() : 0;
+            result.add(new VelocityWindowTotals(windows.get(i), count, amount));
+        }
+        return result;
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(keys(key));
+        redisTemplate.convertAndSend(resetChannel, key);
+    }
+
+    @Override
+    public void addDeleteListener(Consumer<String> listener) {
+        synchronized (deleteListeners) {
+            if (deleteListeners.isEmpty()) {
+                listenerContainer.addMessageListener((message, pattern) -> {
+                    String key = new String(message.getBody(), StandardCharsets.UTF_8);
+                    for (Consumer<String> deleteListener : deleteListeners) {
+                        try {
+                            deleteListener.accept(key);
+                        } catch (RuntimeException e) {
+                            log.warn("Velocity reset could not be applied. Key: {}, error: {}", key, e.getMessage());
+                        }
+                    }
+                }, new ChannelTopic(resetChannel));
+            }
+            deleteListeners.add(listener);
+        }
+    }
+
+    private void increment(RedisConnection connection, String nodeId, VelocityDelta delta) {
+        long epochMillis = delta.getEpochMillis();
+        List<String> keys = keys(delta.getKey());
+        byte[][] keysAndArgs = new byte[keys.size() + 3 + windows.size() * 3][];
+        int index = 0;
+        for (String redisKey : keys) {
+            keysAndArgs[index++] = bytes(redisKey);
+        }
+        keysAndArgs[index++] = bytes(nodeId);
+        keysAndArgs[index++] = bytes(Long.toString(delta.getCount()));
+        keysAndArgs[index++] = bytes(Long.toString(delta.getAmountMinor()));
+        for (int i = 0; i < windows.size(); i++) {
+            long bucket = currentBucket(i, epochMillis);
+            keysAndArgs[index++] = bytes(Long.toString(bucket));
+            keysAndArgs[index++] = bytes(Long.toString(bucket - bucketsPerWindow + 1));
+            keysAndArgs[index++] = bytes(Long.toString(windows.get(i).toMillis() + bucketMillis[i]));
+        }
+        connection.scriptingCommands().eval(INCREMENT_SCRIPT_BYTES, ReturnType.INTEGER, keys.size(), keysAndArgs);
+    }
+
+    private long currentBucket(int window, long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis[window]);
+    }
+
+    /**
+     * Aynı anahtarın tüm pencereleri, betiğin tek düğümde çalışabilmesi için aynı hash etiketini kullanır.
+     */
+    private List<String> keys(String key) {
+        List<String> keys = new ArrayList<>(windows.size());
+        for (Duration window : windows) {
+            keys.add(KEY_PREFIX + '{' + key + "}:" + window.toMillis());
+        }
+        return keys;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
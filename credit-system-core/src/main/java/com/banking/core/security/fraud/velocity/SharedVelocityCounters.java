@@ -0,0 +1,39 @@
+package com.banking.core.security.fraud.velocity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Düğümlerin işlem hızı sayaçlarını paylaştığı depo.
+ * Her düğüm kendi katkısını düğüm kimliğiyle yazar; okumada diğer düğümlerin toplamı döner, düğümün kendi katkısı
+ * yerel sayaçlardan kesin olarak eklenir.
+ */
+public interface SharedVelocityCounters {
+
+    /**
+     * Düğümde toplanan değişiklikleri, her birini kendi zamanının dilimine ekleyerek yazar.
+     *
+     * @param nodeId Yazan düğüm
+     * @param deltas Anahtar ve zaman dilimi bazında değişiklikler
+     */
+    void apply(String nodeId, Collection<VelocityDelta> deltas);
+
+    /**
+     * Verilen düğüm dışındaki tüm düğümlerin pencere toplamları, pencere sırasıyla.
+     */
+    List<VelocityWindowTotals> otherNodeTotals(String nodeId, String key, long epochMillis);
+
+    /**
+     * Anahtarın paylaşılan sayaçlarını siler ve silmeyi tüm düğümlerin {@link #addDeleteListener(Consumer)}
+     * dinleyicilerine duyurur.
+     */
+    void delete(String key);
+
+    /**
+     * Herhangi bir düğümde silinen anahtarlar için çağrılacak dinleyiciyi kaydeder.
+     *
+     * @param listener Silinen anahtarı alan dinleyici
+     */
+    void addDeleteListener(Consumer<String> listener);
+}
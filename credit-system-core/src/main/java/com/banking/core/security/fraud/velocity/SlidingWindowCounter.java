@@ -0,0 +1,117 @@
+package com.banking.core.security.fraud.velocity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Tek bir zaman penceresi için işlem sayısı ve tutar (küçük para birimi cinsinden) tutan kayan pencere sayacı.
+ * Pencere eşit genişlikte dilimlere bölünür ve dilimler halka tamponda tutulur. Dilim yalnızca o zaman diliminde
+ * işlem geldiğinde oluşturulur; tampon döndükçe eski dilim, yeni dilim nesnesiyle CAS ile değiştirilir.
+ * Ekleme ve okuma kilitsizdir. Pencere toplamı, dilim sınırına göre pencerenin (n-1)/n ile tamamı arasındaki
+ * süreyi kapsar; hassasiyet dilim sayısı ile ayarlanır.
+ */
+public class SlidingWindowCounter {
+
+    private final Duration window;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * @param window Pencere süresi (örn. 1 dakika, 1 saat)
+     * @param bucketCount Pencerenin bölüneceği dilim sayısı
+     */
+    public SlidingWindowCounter(Duration window, int bucketCount) {
+        if (bucketCount <= 0 || window.toMillis() < bucketCount) {
+            throw new IllegalArgumentException("Window must be at least one millisecond per bucket: " + window);
+        }
+        this.window = window;
+        this.bucketMillis = window.toMillis() / bucketCount;
+        this.bucketCount = bucketCount;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * Verilen zamana ait dilime bir işlem ekler.
+     * Pencereden eski zamanlar ve dilimi daha yeni bir zamana geçmiş olaylar yok sayılır.
+     *
+     * @param epochMillis İşlem zamanı (epoch milisaniye)
+     * @param amountMinor İşlem tutarı (küçük para birimi cinsinden)
+     */
+    public void record(long epochMillis, long amountMinor) {
+        record(epochMillis, 1, amountMinor);
+    }
+
+    /**
+     * Verilen zamana ait dilime önceden toplanmış işlemleri ekler.
+     *
+     * @param epochMillis İşlem zamanı (epoch milisaniye)
+     * @param count İşlem sayısı
+     * @param amountMinor Toplam tutar (küçük para birimi cinsinden)
+     */
+    public void record(long epochMillis, long count, long amountMinor) {
+        Bucket bucket = bucketFor(Math.floorDiv(epochMillis, bucketMillis));
+        if (bucket != null) {
+            Bucket.COUNT.addAndGet(bucket, count);
+            if (amountMinor != 0) {
+                Bucket.AMOUNT.addAndGet(bucket, amountMinor);
+            }
+        }
+    }
+
+    /**
+     * Verilen zamanda sona eren penceredeki işlem sayısı ve toplam tutar
+     *
+     * @param epochMillis Pencere sonu (epoch milisaniye)
+     * @return Pencere toplamları
+     */
+    public VelocityWindowTotals totals(long epochMillis) {
+        long currentBucketId = Math.floorDiv(epochMillis, bucketMillis);
+        long count = 0;
+        long amountMinor = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.id <= currentBucketId && bucket.id > currentBucketId - bucketCount) {
+                count += bucket.count;
+                amountMinor += bucket.amount;
+            }
+        }
+        return new VelocityWindowTotals(window, count, amountMinor);
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    private Bucket bucketFor(long bucketId) {
+        int index = (int) Math.floorMod(bucketId, (long) bucketCount);
+        while (true) {
+            Bucket existing = buckets.get(index);
+            if (existing != null && existing.id == bucketId) {
+                return existing;
+            }
+            if (existing != null && existing.id > bucketId) {
+                return null;
+            }
+            Bucket fresh = new Bucket(bucketId);
+            if (buckets.compareAndSet(index, existing, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        static final AtomicLongFieldUpdater<Bucket> COUNT = AtomicLongFieldUpdater.newUpdater(Bucket.class, "count");
+        static final AtomicLongFieldUpdater<Bucket> AMOUNT = AtomicLongFieldUpdater.newUpdater(Bucket.class, "amount");
+
+        final long id;
+        volatile long count;
+        volatile long amount;
+
+        Bucket(long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.core.security.fraud.velocity;
+
+/**
+ * {@link VelocityEngine} sayaçlarının tutulduğu katman.
+ */
+public interface VelocityBackend {
+
+    /**
+     * İşlemi anahtarın tüm pencerelerine ekler.
+     *
+     * @param key Sayaç anahtarı
+     * @param epochMillis İşlem zamanı
+     * @param amountMinor İşlem tutarı (küçük para birimi cinsinden)
+     * @return İşlem dahil güncel hız
+     */
+    VelocitySnapshot record(String key, long epochMillis, long amountMinor);
+
+    VelocitySnapshot snapshot(String key, long epochMillis);
+
+    /**
+     * Anahtarın tüm sayaçlarını siler.
+     */
+    void delete(String key);
+
+    /**
+     * Bekleyen yazmaları paylaşılan depoya gönderir; yerel katmanda işlem yapmaz.
+     */
+    default void flush() {
+    }
+
+    long getTrackedKeyCount();
+}
@@ -0,0 +1,47 @@
+package com.banking.core.security.fraud.velocity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tek bir anahtarın tüm pencerelerdeki sayaçları.
+ * Her pencere kendi dilim genişliğiyle tutulur; böylece 1 dakikalık pencere saniyeler, 24 saatlik pencere ise
+ * dakikalar mertebesinde hassasiyetle ölçülür.
+ */
+public class VelocityCounters {
+
+    private final SlidingWindowCounter[] counters;
+    private final int minorUnitDigits;
+
+    /**
+     * @param windows Pencere süreleri
+     * @param bucketsPerWindow Her pencerenin bölüneceği dilim sayısı
+     * @param minorUnitDigits Küçük para biriminin ondalık basamak sayısı
+     */
+    public VelocityCounters(List<Duration> windows, int bucketsPerWindow, int minorUnitDigits) {
+        this.counters = new SlidingWindowCounter[windows.size()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new SlidingWindowCounter(windows.get(i), bucketsPerWindow);
+        }
+        this.minorUnitDigits = minorUnitDigits;
+    }
+
+    public void record(long epochMillis, long amountMinor) {
+        record(epochMillis, 1, amountMinor);
+    }
+
+    public void record(long epochMillis, long count, long amountMinor) {
+        for (SlidingWindowCounter counter : counters) {
+            counter.record(epochMillis, count, amountMinor);
+        }
+    }
+
+    public VelocitySnapshot snapshot(long epochMillis) {
+        List<VelocityWindowTotals> totals = new ArrayList<>(counters.length);
+        for (SlidingWindowCounter counter : counters) {
+            totals.add(counter.totals(epochMillis));
+        }
+        return new VelocitySnapshot(List.copyOf(totals), minorUnitDigits);
+    }
+}
@@ -0,0 +1,21 @@
+package com.banking.core.security.fraud.velocity;
+
+import lombok.Value;
+
+/**
+ * Paylaşılan depoya henüz yazılmamış, düğümde bir anahtar ve zaman dilimi için toplanmış işlem sayısı ve tutar.
+ * {@code epochMillis} değişikliğin ait olduğu dilimin başlangıcıdır; depo değişikliği yazma anına değil bu zamana
+ * göre pencere dilimine ekler.
+ */
+@Value
+public class VelocityDelta {
+    String key;
+    long epochMillis;
+    long count;
+    long amountMinor;
+
+    public VelocityDelta plus(VelocityDelta other) {
+        return new VelocityDelta(key, Math.max(epochMillis, other.epochMillis),
+                count + other.count, amountMinor + other.amountMinor);
+    }
+}
@@ -0,0 +1,162 @@
+package com.banking.core.security.fraud.velocity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Anahtar bazında (örn. "credit_application:42") kayan pencereli işlem hızı motoru.
+ * Her anahtar için {@code fraud.velocity.windows} pencerelerinde işlem sayısı ve küçük para birimi cinsinden
+ * toplam tutar tutulur. Güncellemeler kilitsizdir. En uzun pencere boyunca erişilmeyen anahtarlar kendiliğinden
+ * silinir, anahtar sayısı {@code fraud.velocity.maximum-keys} ile sınırlıdır.
+ * <p>
+ * {@code fraud.velocity.store}: {@code local} yalnızca düğüm sayaçları, {@code redis} tüm düğümlerin Redis
+ * üzerinden birleştirilen sayaçları, {@code memory} Redis yerine JVM içi paylaşılan depo (testler için).
+ */
+@Component
+@Slf4j
+public class VelocityEngine {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Clock clock = Clock.systemUTC();
+
+    private List<Duration> windows;
+    private VelocityBackend backend;
+
+    @Value("${fraud.velocity.windows:1m,1h,24h}")
+    private String[] windowSpecs;
+
+    @Value("${fraud.velocity.buckets-per-window:30}")
+    private int bucketsPerWindow;
+
+    @Value("${fraud.velocity.maximum-keys:200000}")
+    private long maximumKeys;
+
+    @Value("${fraud.velocity.minor-unit-digits:2}")
+    private int minorUnitDigits;
+
+    @Value("${fraud.velocity.store:local}")
+    private String store;
+
+    @Value("${fraud.velocity.cluster.read-cache-ms:500}")
+    private long readCacheMillis;
+
+    @Value("${fraud.velocity.cluster.max-pending-keys:10000}")
+    private int maxPendingKeys;
+
+    @Value("${fraud.velocity.cluster.reset-channel:fraud:velocity:reset}")
+    private String resetChannel;
+
+    public VelocityEngine(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void init() {
+        windows = Arrays.stream(windowSpecs)
+                .map(String::trim)
+                .map(DurationStyle::detectAndParse)
+                .distinct()
+                .sorted()
+                .toList();
+        if (windows.isEmpty()) {
+            throw new IllegalArgumentException("At least one velocity window must be configured");
+        }
+
+        LocalVelocityBackend local = new LocalVelocityBackend(windows, bucketsPerWindow, minorUnitDigits, maximumKeys);
+        backend = switch (store) {
+            case "local" -> local;
+            case "redis" -> cluster(local, new RedisSharedVelocityCounters(redisTemplate, listenerContainer,
+                    resetChannel, windows, bucketsPerWindow));
+            case "memory" -> cluster(local,
+                    new InMemorySharedVelocityCounters(windows, bucketsPerWindow, minorUnitDigits, maximumKeys));
+            default -> throw new IllegalArgumentException("Unknown velocity store: " + store);
+        };
+        log.info("Velocity engine initialized. Store: {}, windows: {}, buckets per window: {}",
+                store, windows, bucketsPerWindow);
+    }
+
+    /**
+     * İşlemi anahtarın tüm pencerelerine ekler ve güncel hızı döner.
+     *
+     * @param key Sayaç anahtarı
+     * @param amount İşlem tutarı; tutarsız işlemler için null veya sıfır
+     * @return İşlem dahil güncel hız
+     */
+    public VelocitySnapshot record(String key, BigDecimal amount) {
+        return backend.record(key, clock.millis(), toMinorUnits(amount));
+    }
+
+    /**
+     * Anahtarın güncel hızı; anahtar hiç görülmediyse veya silindiyse tüm pencereler sıfırdır.
+     */
+    public VelocitySnapshot getSnapshot(String key) {
+        return backend.snapshot(key, clock.millis());
+    }
+
+    /**
+     * Anahtarın sayaçlarını tüm düğümlerde sıfırlar (örn. başarılı girişten sonra başarısız deneme sayacı).
+     */
+    public void reset(String key) {
+        backend.delete(key);
+    }
+
+    /**
+     * Düğümde toplanan değişiklikleri paylaşılan depoya yazar.
+     */
+    @Scheduled(fixedDelayString = "${fraud.velocity.cluster.flush-interval-ms:200}")
+    public void flush() {
+        backend.flush();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        backend.flush();
+    }
+
+    /**
+     * Tutarı küçük para birimine çevirir (örn. 12.345 TL -> 1235 kuruş).
+     */
+    public long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.movePointRight(minorUnitDigits).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public boolean supports(Duration window) {
+        return windows.contains(window);
+    }
+
+    public List<Duration> getWindows() {
+        return windows;
+    }
+
+    /**
+     * Bu düğümde sayacı tutulan yaklaşık anahtar sayısı
+     */
+    public long getTrackedKeyCount() {
+        return backend.getTrackedKeyCount();
+    }
+
+    private VelocityBackend cluster(LocalVelocityBackend local, SharedVelocityCounters shared) {
+        return new ClusterVelocityBackend(local, shared, UUID.randomUUID().toString(),
+                Duration.ofMillis(readCacheMillis), maxPendingKeys, clock);
+    }
+}
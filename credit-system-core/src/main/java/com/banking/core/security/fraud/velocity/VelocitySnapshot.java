@@ -0,0 +1,40 @@
+package com.banking.core.security.fraud.velocity;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Bir anahtarın (örn. müşteri) yapılandırılmış tüm pencerelerdeki işlem hızı.
+ */
+@Value
+public class VelocitySnapshot {
+    List<VelocityWindowTotals> windows;
+    int minorUnitDigits;
+
+    public long getCount(Duration window) {
+        return totals(window).getCount();
+    }
+
+    public long getAmountMinor(Duration window) {
+        return totals(window).getAmountMinor();
+    }
+
+    /**
+     * Penceredeki toplam tutar, ana para birimi cinsinden
+     */
+    public BigDecimal getAmount(Duration window) {
+        return BigDecimal.valueOf(getAmountMinor(window), minorUnitDigits);
+    }
+
+    public VelocityWindowTotals totals(Duration window) {
+        for (VelocityWindowTotals totals : windows) {
+            if (totals.getWindow().equals(window)) {
+                return totals;
+            }
+        }
+        throw new IllegalArgumentException("Velocity window is not configured: " + window);
+    }
+}
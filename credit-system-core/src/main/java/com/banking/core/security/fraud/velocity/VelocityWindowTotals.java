@@ -0,0 +1,15 @@
+package com.banking.core.security.fraud.velocity;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Bir zaman penceresindeki işlem sayısı ve toplam tutar (küçük para birimi cinsinden, örn. kuruş)
+ */
+@Value
+public class VelocityWindowTotals {
+    Duration window;
+    long count;
+    long amountMinor;
+}
@@ -1,6 +1,8 @@
 package com.banking.core.security.signature;
 
+import com.banking.core.cache.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,12 +17,15 @@ import java.util.Map;
 /**
  * Türkiye e-İmza API'si ile entegrasyon sağlayan istemci.
  * Dijital imza oluşturma ve doğrulama işlemlerini gerçekleştirir.
+ * Aynı imza ve belge için eşzamanlı doğrulamalar tek API çağrısında birleştirilir. İmza oluşturma
+ * idempotent olmadığından birleştirilmez.
  */
 @Service
 @Slf4j
 public class ESignatureApiClient {
 
     private final RestTemplate restTemplate;
+    private final SingleFlight singleFlight;
     
     @Value("${esignature.api.url:https://api.e-imza.gov.tr}")
     private String apiUrl;
@@ -31,8 +36,9 @@ public class ESignatureApiClient {
     @Value("${esignature.enabled:false}")
     private boolean eSignatureEnabled;
     
-    public ESignatureApiClient(RestTemplate restTemplate) {
+    public ESignatureApiClient(RestTemplate restTemplate, SingleFlight singleFlight) {
         this.restTemplate = restTemplate;
+        this.singleFlight = singleFlight;
     }
     
     /**
@@ -109,7 +115,14 @@ public class ESignatureApiClient {
             log.info("e-Signature integration is disabled. Returning mock verification result");
             return createMockVerificationResponse();
         }
-        
+
+        // İmza verisi büyük olabileceğinden anahtarda SHA-256 özeti kullanılır; farklı imzalar aynı çağrıya bağlanamaz
+        String flightKey = documentHash + "|" + DigestUtils.sha256Hex(signatureData);
+        return singleFlight.execute("esignature-verify", flightKey,
+                () -> callVerifySignature(signatureData, documentHash));
+    }
+
+    private VerificationResponse callVerifySignature(String signatureData, String documentHash) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
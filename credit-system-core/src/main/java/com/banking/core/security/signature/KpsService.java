@@ -1,5 +1,6 @@
 package com.banking.core.security.signature;
 
+import com.banking.core.cache.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +15,7 @@ import java.util.Map;
 /**
  * Kimlik Paylaşım Sistemi (KPS) servisi.
  * Türkiye Cumhuriyeti vatandaşlarının kimlik bilgilerini doğrular.
+ * Aynı kimlik bilgileri için eşzamanlı doğrulamalar tek KPS çağrısında birleştirilir.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,6 +23,7 @@ import java.util.Map;
 public class KpsService {
 
     private final RestTemplate restTemplate;
+    private final SingleFlight singleFlight;
     
     @Value("${kps.api.url:https://kpsv2.nvi.gov.tr/Services/IdentityService}")
     private String kpsApiUrl;
@@ -42,7 +45,13 @@ public class KpsService {
             log.info("KPS integration is disabled. Returning mock verification result");
             return true;
         }
-        
+
+        String flightKey = String.join("|", identityNumber, firstName, lastName, String.valueOf(birthDate));
+        return singleFlight.execute("kps-identity", flightKey,
+                () -> callKps(firstName, lastName, identityNumber, birthDate));
+    }
+
+    private boolean callKps(String firstName, String lastName, String identityNumber, LocalDate birthDate) {
         try {
             Map<String, Object> request = new HashMap<>();
             request.put("firstName", firstName);
@@ -0,0 +1,133 @@
+package com.banking.core.utilities.counters;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sabit genişlikte zaman dilimlerine bölünmüş halka tamponlu sayaç.
+ * Her dilim kendi zaman damgasıyla birlikte tutulur; tampon döndükçe eski dilimler yeniden kullanılır.
+ * "Son N dilimdeki toplam" sorgusu N dilim okuyarak yanıtlanır, saklama süresi dilim sayısı ile sınırlıdır.
+ * Artırma işlemi kilitsizdir; yalnızca dilim yeniden kullanılırken kısa bir senkronizasyon yapılır.
+ */
+public class TimeBucketedCounter {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Clock clock;
+
+    private final AtomicLongArray bucketIds;
+    private final AtomicLongArray values;
+
+    /**
+     * @param bucketWidth Dilim genişliği (örn. 1 gün, 1 saat)
+     * @param bucketCount Saklanacak dilim sayısı
+     * @param clock Zaman kaynağı
+     */
+    public TimeBucketedCounter(Duration bucketWidth, int bucketCount, Clock clock) {
+        if (bucketWidth.toMillis() <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket width and bucket count must be positive");
+        }
+        this.bucketMillis = bucketWidth.toMillis();
+        this.bucketCount = bucketCount;
+        this.clock = clock;
+        this.bucketIds = new AtomicLongArray(bucketCount);
+        this.values = new AtomicLongArray(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            bucketIds.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    public TimeBucketedCounter(Duration bucketWidth, int bucketCount) {
+        this(bucketWidth, bucketCount, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Şu anki dilime ekleme yapar.
+     */
+    public void add(long delta) {
+        add(clock.millis(), delta);
+    }
+
+    /**
+     * Verilen zamana ait dilime ekleme yapar.
+     * Saklama süresinden eski veya gelecekteki zamanlar yok sayılır.
+     *
+     * @param epochMillis Olay zamanı (epoch milisaniye)
+     * @param delta Eklenecek değer
+     */
+    public void add(long epochMillis, long delta) {
+        long bucketId = bucketOf(epochMillis);
+        long currentBucketId = bucketOf(clock.millis());
+        if (bucketId > currentBucketId || bucketId <= currentBucketId - bucketCount) {
+            return;
+        }
+
+        int index = (int) Math.floorMod(bucketId, (long) bucketCount);
+        if (bucketIds.get(index) != bucketId && !claim(index, bucketId)) {
+            return;
+        }
+        values.addAndGet(index, delta);
+    }
+
+    /**
+     * Şu anki dilim dahil son {@code lastBuckets} dilimin toplamını döner.
+     *
+     * @param lastBuckets Dilim sayısı (1 ile saklanan dilim sayısı arasında)
+     * @return Toplam değer
+     */
+    public long sum(int lastBuckets) {
+        if (lastBuckets <= 0 || lastBuckets > bucketCount) {
+            throw new IllegalArgumentException("Bucket range must be between 1 and " + bucketCount + ": " + lastBuckets);
+        }
+        long currentBucketId = bucketOf(clock.millis());
+        long total = 0;
+        for (long bucketId = currentBucketId - lastBuckets + 1; bucketId <= currentBucketId; bucketId++) {
+            int index = (int) Math.floorMod(bucketId, (long) bucketCount);
+            if (bucketIds.get(index) == bucketId) {
+                total += values.get(index);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Tüm dilimleri temizler.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < bucketCount; i++) {
+            bucketIds.set(i, Long.MIN_VALUE);
+            values.set(i, 0);
+        }
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Dilim sınırlarını saat diliminin yerel zamanına hizalar (örn. günlük dilimler yerel gece yarısında başlar).
+     */
+    private long bucketOf(long epochMillis) {
+        long offsetMillis = clock.getZone().getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+        return Math.floorDiv(epochMillis + offsetMillis, bucketMillis);
+    }
+
+    /**
+     * Halka tampondaki dilimi yeni zaman dilimi için sıfırlar.
+     * Dilim zaten daha yeni bir zamana aitse eski olay yok sayılır.
+     */
+    private synchronized boolean claim(int index, long bucketId) {
+        long existing = bucketIds.get(index);
+        if (existing == bucketId) {
+            return true;
+        }
+        if (existing > bucketId) {
+            return false;
+        }
+        values.set(index, 0);
+        bucketIds.set(index, bucketId);
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.banking.core.utilities.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset (seek) sayfalama imleci.
+ * Bir önceki sayfanın son kaydının sıralama zamanı ve ID'sini taşır; sonraki sayfa bu değerlerden sonrasını okur.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetCursor {
+    private LocalDateTime lastTimestamp;
+    private Long lastId;
+}
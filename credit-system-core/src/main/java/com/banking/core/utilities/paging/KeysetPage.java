@@ -0,0 +1,20 @@
+package com.banking.core.utilities.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset sayfalama sonucu.
+ * Toplam kayıt sayısı hesaplanmaz; devam etmek için {@code nextCursor} kullanılır.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private List<T> content;
+    private KeysetCursor nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,17 @@
+package com.banking.core.utilities.writebehind;
+
+import java.util.List;
+
+/**
+ * {@link WriteBehindQueue} kayıtlarını kalıcı depoya toplu yazan işlem.
+ * Aynı anda kuyruğun iş parçacığından ve kuyruk dolduğunda çağıranın iş parçacığından çağrılabilir.
+ * Yazma başarısızsa istisna fırlatılmalıdır; grup bütün olarak yazılmalı veya hiç yazılmamalıdır, çünkü
+ * başarısız grup yeniden denenir.
+ *
+ * @param <T> Kayıt türü
+ */
+@FunctionalInterface
+public interface BatchWriter<T> {
+
+    void write(List<T> batch);
+}
@@ -0,0 +1,302 @@
+package com.banking.core.utilities.writebehind;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Dosya tabanlı yazma günlüğü.
+ * Kayıtlar {@code segment-<ilk numara>.log} dosyalarına satır satır ({@code <numara>\t<kayıt>}) eklenir,
+ * onaylar aynı adlı {@code .ack} dosyasına yazılır. Bir segment {@code segmentRecords} kayda ulaşınca yenisi
+ * açılır; tüm kayıtları onaylanmış eski segmentler silinir. Ölü kayıtlar {@code dead-letter.log} dosyasında
+ * birikir ve elle incelenir.
+ * <p>
+ * Her ekleme işletim sistemine yazılır, böylece süreç çökmesinde kayıt kaybolmaz. {@code fsync} açıksa her
+ * ekleme diske de zorlanır; makine çökmesine karşı koruma sağlar ancak eklemeyi yavaşlatır.
+ *
+ * @param <T> Kayıt türü
+ */
+@Slf4j
+public class FileWriteBehindJournal<T> implements WriteBehindJournal<T> {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String RECORD_SUFFIX = ".log";
+    private static final String ACK_SUFFIX = ".ack";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final boolean fsync;
+    private final Function<T, String> encoder;
+    private final Function<String, T> decoder;
+
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private List<JournaledRecord<T>> recovered = new ArrayList<>();
+    private Segment current;
+    private long nextId = 1;
+
+    /**
+     * @param directory Günlük dizini; yoksa oluşturulur
+     * @param segmentRecords Bir segmentteki en fazla kayıt
+     * @param fsync Her eklemenin diske zorlanıp zorlanmayacağı
+     * @param encoder Kaydı tek satırlık metne çeviren işlem
+     * @param decoder Metinden kaydı geri oluşturan işlem
+     */
+    public FileWriteBehindJournal(Path directory,
+                                  int segmentRecords,
+                                  boolean fsync,
+                                  Function<T, String> encoder,
+                                  Function<String, T> decoder) {
+        if (segmentRecords <= 0) {
+            throw new IllegalArgumentException("Journal segment size must be positive: " + segmentRecords);
+        }
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.fsync = fsync;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Write-behind journal could not be opened: " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized long append(T record) {
+        String line = encoder.apply(record);
+        if (line.indexOf('\n') >= 0 || line.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Journal records must be encoded on a single line");
+        }
+        if (current == null || current.appended >= segmentRecords) {
+            rotate();
+        }
+        long id = nextId++;
+        write(current.records(), id + "\t" + line);
+        current.appended++;
+        current.pending++;
+        return id;
+    }
+
+    @Override
+    public synchronized void acknowledge(long id) {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(id);
+        if (entry == null) {
+            return;
+        }
+        Segment segment = entry.getValue();
+        write(segment.acks(), Long.toString(id));
+        segment.pending--;
+        if (segment.pending <= 0 && segment != current) {
+            delete(segment);
+        }
+    }
+
+    @Override
+    public synchronized void deadLetter(long id, T record, String reason) {
+        Path file = directory.resolve(DEAD_LETTER_FILE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            String line = Instant.now() + "\t" + id + "\t" + singleLine(reason) + "\t" + encoder.apply(record) + "\n";
+            channel.write(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)));
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Dead letter could not be written: " + file, e);
+        }
+        acknowledge(id);
+    }
+
+    @Override
+    public synchronized List<JournaledRecord<T>> recover() {
+        List<JournaledRecord<T>> result = recovered;
+        recovered = List.of();
+        return result;
+    }
+
+    /**
+     * Henüz onaylanmamış kayıt sayısı
+     */
+    public synchronized long getPendingCount() {
+        return segments.values().stream().mapToLong(segment -> segment.pending).sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(RECORD_SUFFIX))
+                    .toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long startId = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - RECORD_SUFFIX.length()));
+            segments.put(startId, new Segment(startId));
+        }
+
+        for (Segment segment : segments.values()) {
+            Set<Long> acknowledged = new HashSet<>();
+            if (Files.exists(segment.ackPath)) {
+                for (String line : Files.readAllLines(segment.ackPath, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        acknowledged.add(Long.parseLong(line.trim()));
+                    }
+                }
+            }
+            try (BufferedReader reader = Files.newBufferedReader(segment.recordPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    if (tab <= 0) {
+                        continue;
+                    }
+                    long id = Long.parseLong(line.substring(0, tab));
+                    nextId = Math.max(nextId, id + 1);
+                    segment.appended++;
+                    if (acknowledged.contains(id)) {
+                        continue;
+                    }
+                    try {
+                        recovered.add(new JournaledRecord<>(id, decoder.apply(line.substring(tab + 1))));
+                        segment.pending++;
+                    } catch (RuntimeException e) {
+                        // Çökme sırasında yarım kalan satır; eklemesi çağırana hiç dönmemiştir
+                        log.warn("Skipping unreadable record {} in write-behind journal {}: {}",
+                                id, segment.recordPath, e.getMessage());
+                    }
+                }
+            }
+        }
+        for (Segment segment : List.copyOf(segments.values())) {
+            if (segment.pending == 0) {
+                delete(segment);
+            }
+        }
+        if (!recovered.isEmpty()) {
+            log.warn("Recovered {} unwritten records from write-behind journal {}", recovered.size(), directory);
+        }
+    }
+
+    private void rotate() {
+        if (current != null && current.pending <= 0) {
+            delete(current);
+        }
+        current = new Segment(nextId);
+        segments.put(nextId, current);
+    }
+
+    private void delete(Segment segment) {
+        segment.close();
+        segments.remove(segment.startId);
+        try {
+            Files.deleteIfExists(segment.recordPath);
+            Files.deleteIfExists(segment.ackPath);
+        } catch (IOException e) {
+            log.warn("Write-behind journal segment could not be deleted: {}", segment.recordPath, e);
+        }
+    }
+
+    private void write(FileChannel channel, String line) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Write-behind journal could not be written: " + directory, e);
+        }
+    }
+
+    private static String singleLine(String value) {
+        return value == null ? "" : value.replace('\n', ' ').replace('\r', ' ').replace('\t', ' ');
+    }
+
+    private final class Segment {
+
+        final long startId;
+        final Path recordPath;
+        final Path ackPath;
+        int appended;
+        int pending;
+        private FileChannel records;
+        private FileChannel acks;
+
+        Segment(long startId) {
+            this.startId = startId;
+            String base = SEGMENT_PREFIX + String.format("%020d", startId);
+            this.recordPath = directory.resolve(base + RECORD_SUFFIX);
+            this.ackPath = directory.resolve(base + ACK_SUFFIX);
+        }
+
+        FileChannel records() {
+            if (records == null) {
+                records = open(recordPath);
+            }
+            return records;
+        }
+
+        FileChannel acks() {
+            if (acks == null) {
+                acks = open(ackPath);
+            }
+            return acks;
+        }
+
+        void close() {
+            closeQuietly(records);
+            closeQuietly(acks);
+            records = null;
+            acks = null;
+        }
+
+        private FileChannel open(Path path) {
+            try {
+                return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Write-behind journal could not be opened: " + path, e);
+            }
+        }
+
+        private void closeQuietly(FileChannel channel) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Write-behind journal file could not be closed: {}", e.getMessage());
+            }
+        }
+    }
+}
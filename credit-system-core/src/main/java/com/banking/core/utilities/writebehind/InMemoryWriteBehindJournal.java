@@ -0,0 +1,78 @@
+package com.banking.core.utilities.writebehind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bellekte tutulan günlük; süreç çökmesine karşı koruma sağlamaz. Testler ve kalıcılığın gerekmediği
+ * kuyruklar için.
+ *
+ * @param <T> Kayıt türü
+ */
+public class InMemoryWriteBehindJournal<T> implements WriteBehindJournal<T> {
+
+    private final Map<Long, T> pending = new LinkedHashMap<>();
+    private final List<T> deadLetters = new ArrayList<>();
+    private List<JournaledRecord<T>> recovered;
+    private long nextId = 1;
+
+    public InMemoryWriteBehindJournal() {
+        this(List.of());
+    }
+
+    /**
+     * @param unwritten Önceki çalışmadan kalmış gibi {@link #recover()} ile dönülecek kayıtlar
+     */
+    public InMemoryWriteBehindJournal(List<T> unwritten) {
+        List<JournaledRecord<T>> records = new ArrayList<>();
+        for (T record : unwritten) {
+            long id = nextId++;
+            pending.put(id, record);
+            records.add(new JournaledRecord<>(id, record));
+        }
+        this.recovered = records;
+    }
+
+    @Override
+    public synchronized long append(T record) {
+        long id = nextId++;
+        pending.put(id, record);
+        return id;
+    }
+
+    @Override
+    public synchronized void acknowledge(long id) {
+        pending.remove(id);
+    }
+
+    @Override
+    public synchronized void deadLetter(long id, T record, String reason) {
+        deadLetters.add(record);
+        pending.remove(id);
+    }
+
+    @Override
+    public synchronized List<JournaledRecord<T>> recover() {
+        List<JournaledRecord<T>> result = recovered;
+        recovered = List.of();
+        return result;
+    }
+
+    /**
+     * Henüz onaylanmamış kayıtlar
+     */
+    public synchronized List<T> getPending() {
+        return List.copyOf(pending.values());
+    }
+
+    public synchronized List<T> getDeadLetters() {
+        return Collections.unmodifiableList(new ArrayList<>(deadLetters));
+    }
+
+    @Override
+    public void close() {
+    }
+}
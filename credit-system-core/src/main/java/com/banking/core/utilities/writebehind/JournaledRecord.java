@@ -0,0 +1,12 @@
+package com.banking.core.utilities.writebehind;
+
+import lombok.Value;
+
+/**
+ * Günlükten geri alınan kayıt ve günlük numarası.
+ */
+@Value
+public class JournaledRecord<T> {
+    long id;
+    T record;
+}
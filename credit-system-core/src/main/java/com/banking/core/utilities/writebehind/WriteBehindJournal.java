@@ -0,0 +1,39 @@
+package com.banking.core.utilities.writebehind;
+
+import java.util.List;
+
+/**
+ * {@link WriteBehindQueue} kayıtlarının yazılana kadar saklandığı kalıcı günlük.
+ * Kayıt kuyruğa girmeden önce günlüğe eklenir, yazıldıktan sonra onaylanır. Süreç beklenmedik şekilde
+ * sonlanırsa onaylanmamış kayıtlar sonraki açılışta {@link #recover()} ile geri alınır ve yeniden yazılır;
+ * bu nedenle bir kayıt en az bir kez yazılır.
+ *
+ * @param <T> Kayıt türü
+ */
+public interface WriteBehindJournal<T> extends AutoCloseable {
+
+    /**
+     * Kaydı günlüğe ekler.
+     *
+     * @return Kaydın günlük numarası
+     */
+    long append(T record);
+
+    /**
+     * Kaydın yazıldığını işaretler; kayıt yeniden yüklenmez.
+     */
+    void acknowledge(long id);
+
+    /**
+     * Kalıcı olarak yazılamayan kaydı ölü kayıt dosyasına taşır ve onaylar.
+     */
+    void deadLetter(long id, T record, String reason);
+
+    /**
+     * Önceki çalışmadan kalan onaylanmamış kayıtlar, günlük sırasıyla. Yalnızca bir kez döner.
+     */
+    List<JournaledRecord<T>> recover();
+
+    @Override
+    void close();
+}
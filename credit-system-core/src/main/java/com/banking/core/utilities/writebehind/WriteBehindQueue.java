@@ -0,0 +1,306 @@
+package com.banking.core.utilities.writebehind;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Kayıtları çağıranın iş parçacığından ayırarak toplu yazan sınırlı kuyruk.
+ * Tek bir arka plan iş parçacığı kuyruktaki kayıtları en fazla {@code batchSize} büyüklüğünde gruplar halinde
+ * {@link BatchWriter}'a verir; yük arttıkça gruplar kendiliğinden büyür, yük azken kayıt beklemeden yazılır.
+ * <p>
+ * Her kayıt kuyruğa girmeden önce {@link WriteBehindJournal}'a eklenir ve yazıldıktan sonra onaylanır; süreç
+ * çökerse onaylanmamış kayıtlar sonraki açılışta yeniden yazılır. Yazma hataları iki türlüdür:
+ * <ul>
+ *   <li>Geçici hata ({@code retryable}): grup elde tutulur ve artan beklemeyle yeniden denenir; bu sürede yeni
+ *       kayıt alınmaz, kuyruk dolunca geri basınç çağıranlara yansır.</li>
+ *   <li>Kalıcı hata: grup tek tek yeniden yazılır, yine yazılamayan kayıt ölü kayıt olarak günlüğe taşınır.</li>
+ * </ul>
+ * Kuyruk doluysa çağıran en fazla {@code offerTimeout} kadar bekler, yer açılmazsa kaydı kendi iş parçacığında
+ * yazar. Bu yazma geçici hatayla başarısız olursa istisna çağırana fırlatılır. {@link #close()} yeni kayıtları
+ * çağıranın iş parçacığına yönlendirir ve kuyrukta kalanları yazmayı dener; yazılamayanlar günlükte kalır.
+ *
+ * @param <T> Kayıt türü
+ */
+@Slf4j
+public class WriteBehindQueue<T> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String name;
+    private final WriteBehindSettings settings;
+    private final BlockingQueue<Entry<T>> queue;
+    private final Deque<Entry<T>> backlog = new ArrayDeque<>();
+    private final BatchWriter<T> writer;
+    private final WriteBehindJournal<T> journal;
+    private final Predicate<RuntimeException> retryable;
+    private final Thread worker;
+
+    private final Counter written;
+    private final Counter deadLettered;
+    private final Counter writeFailures;
+    private final Counter callerWrites;
+
+    private volatile boolean closed;
+    private volatile boolean stopped;
+
+    /**
+     * @param name Metrik etiketi ve iş parçacığı adı için kuyruk adı
+     * @param settings Kuyruk ayarları
+     * @param writer Toplu yazma işlemi
+     * @param journal Kayıtların yazılana kadar saklandığı günlük
+     * @param retryable Hatanın geçici olup yeniden denenmesi gerekip gerekmediği
+     * @param meterRegistry Metrik kaydı
+     */
+    public WriteBehindQueue(String name,
+                            WriteBehindSettings settings,
+                            BatchWriter<T> writer,
+                            WriteBehindJournal<T> journal,
+                            Predicate<RuntimeException> retryable,
+                            MeterRegistry meterRegistry) {
+        if (settings.getCapacity() <= 0 || settings.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("Write-behind capacity and batch size must be positive: " + name);
+        }
+        this.name = name;
+        this.settings = settings;
+        this.queue = new ArrayBlockingQueue<>(settings.getCapacity());
+        this.writer = writer;
+        this.journal = journal;
+        this.retryable = retryable;
+
+        Gauge.builder("writebehind.queue.depth", queue, BlockingQueue::size)
+                .description("Records waiting to be written")
+                .tag("queue", name)
+                .register(meterRegistry);
+        Gauge.builder("writebehind.queue.capacity", settings::getCapacity)
+                .tag("queue", name)
+                .register(meterRegistry);
+        this.written = Counter.builder("writebehind.records")
+                .tag("queue", name)
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("writebehind.records")
+                .tag("queue", name)
+                .tag("result", "dead_lettered")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("writebehind.write.failures")
+                .description("Batch writes that failed with a retryable error")
+                .tag("queue", name)
+                .register(meterRegistry);
+        this.callerWrites = Counter.builder("writebehind.caller.writes")
+                .description("Records written on the caller thread because the queue was full or closed")
+                .tag("queue", name)
+                .register(meterRegistry);
+
+        for (JournaledRecord<T> record : journal.recover()) {
+            backlog.add(new Entry<>(record.getId(), record.getRecord()));
+        }
+
+        this.worker = Thread.ofPlatform()
+                .name("write-behind-" + name)
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    /**
+     * Kaydı günlüğe ekler ve yazılmak üzere kuyruğa koyar. Kuyruk dolu veya kapalıysa kayıt çağıranın
+     * iş parçacığında yazılır.
+     *
+     * @param item Yazılacak kayıt
+     * @throws RuntimeException Kayıt çağıranın iş parçacığında yazılırken geçici hata oluştuysa
+     */
+    public void submit(T item) {
+        Entry<T> entry = new Entry<>(journal.append(item), item);
+        if (!closed) {
+            try {
+                if (queue.offer(entry, settings.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    // Kapanış kuyruğu bu kayıttan önce boşalttıysa kayıt burada yazılır
+                    if (closed && queue.remove(entry)) {
+                        writeOnCaller(entry);
+                    }
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeOnCaller(entry);
+    }
+
+    /**
+     * Kuyrukta bekleyen kayıt sayısı
+     */
+    public int getDepth() {
+        return queue.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            worker.join(settings.getShutdownTimeout().toMillis());
+            if (worker.isAlive()) {
+                stopped = true;
+                worker.interrupt();
+                worker.join(IDLE_POLL_MILLIS * 10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!worker.isAlive()) {
+            List<Entry<T>> batch = new ArrayList<>(settings.getBatchSize());
+            while (queue.drainTo(batch, settings.getBatchSize()) > 0) {
+                if (!writeBatch(batch)) {
+                    break;
+                }
+                batch.clear();
+            }
+        }
+        if (!queue.isEmpty() || stopped) {
+            log.warn("Write-behind queue {} closed with unwritten records; they stay in the journal and are "
+                    + "written on the next start", name);
+        }
+        journal.close();
+    }
+
+    private void drainLoop() {
+        List<Entry<T>> batch = new ArrayList<>(settings.getBatchSize());
+        int consecutiveFailures = 0;
+        while (!stopped && (!closed || !batch.isEmpty() || !backlog.isEmpty() || !queue.isEmpty())) {
+            try {
+                if (batch.isEmpty() && !fill(batch)) {
+                    continue;
+                }
+                if (writeBatch(batch)) {
+                    batch.clear();
+                    consecutiveFailures = 0;
+                } else {
+                    consecutiveFailures++;
+                    Thread.sleep(backoffMillis(consecutiveFailures));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in write-behind queue {}: {}", name, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Önce önceki çalışmadan kalan kayıtları, sonra kuyruktakileri gruba alır.
+     */
+    private boolean fill(List<Entry<T>> batch) throws InterruptedException {
+        while (!backlog.isEmpty() && batch.size() < settings.getBatchSize()) {
+            batch.add(backlog.poll());
+        }
+        if (!batch.isEmpty()) {
+            return true;
+        }
+        Entry<T> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        queue.drainTo(batch, settings.getBatchSize() - 1);
+        return true;
+    }
+
+    /**
+     * Grubu yazar; yazılan ve ölü kayda taşınan kayıtlar gruptan çıkar.
+     *
+     * @return Grup tamamen işlendiyse true, geçici hata nedeniyle kalan kayıtlar yeniden denenecekse false
+     */
+    private boolean writeBatch(List<Entry<T>> batch) {
+        try {
+            writer.write(records(batch));
+            for (Entry<T> entry : batch) {
+                journal.acknowledge(entry.id());
+            }
+            written.increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            if (retryable.test(e)) {
+                writeFailures.increment();
+                log.warn("Write-behind queue {} could not write {} records, will retry: {}",
+                        name, batch.size(), e.getMessage());
+                return false;
+            }
+            if (batch.size() == 1) {
+                deadLetter(batch.get(0), e);
+                return true;
+            }
+            log.warn("Write-behind queue {} batch of {} records failed, retrying one by one: {}",
+                    name, batch.size(), e.getMessage());
+            Iterator<Entry<T>> iterator = batch.iterator();
+            while (iterator.hasNext()) {
+                if (!writeBatch(new ArrayList<>(List.of(iterator.next())))) {
+                    return false;
+                }
+                iterator.remove();
+            }
+            return true;
+        }
+    }
+
+    private void writeOnCaller(Entry<T> entry) {
+        callerWrites.increment();
+        try {
+            writer.write(List.of(entry.record()));
+            journal.acknowledge(entry.id());
+            written.increment();
+        } catch (RuntimeException e) {
+            if (!retryable.test(e)) {
+                deadLetter(entry, e);
+                return;
+            }
+            // Çağıran hatayı görür; kayıt günlükten çıkarılır ki sonradan ayrıca yazılmasın
+            journal.acknowledge(entry.id());
+            throw e;
+        }
+    }
+
+    private void deadLetter(Entry<T> entry, RuntimeException cause) {
+        journal.deadLetter(entry.id(), entry.record(), cause.getMessage());
+        deadLettered.increment();
+        log.error("Write-behind queue {} moved record {} to the dead letter file: {}",
+                name, entry.id(), cause.getMessage(), cause);
+    }
+
+    private long backoffMillis(int consecutiveFailures) {
+        long initial = settings.getInitialBackoff().toMillis();
+        long max = settings.getMaxBackoff().toMillis();
+        int shift = Math.min(consecutiveFailures - 1, 30);
+        return Math.min(max, initial << shift);
+    }
+
+    private static <T> List<T> records(List<Entry<T>> batch) {
+        List<T> records = new ArrayList<>(batch.size());
+        for (Entry<T> entry : batch) {
+            records.add(entry.record());
+        }
+        return records;
+    }
+
+    private record Entry<T>(long id, T record) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.banking.core.utilities.writebehind;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * {@link WriteBehindQueue} ayarları.
+ */
+@Value
+@Builder
+public class WriteBehindSettings {
+
+    /**
+     * Kuyrukta bekleyebilecek en fazla kayıt
+     */
+    int capacity;
+
+    /**
+     * Tek yazmadaki en fazla kayıt
+     */
+    int batchSize;
+
+    /**
+     * Kuyruk doluyken çağıranın yer açılmasını bekleyeceği en uzun süre
+     */
+    Duration offerTimeout;
+
+    /**
+     * Kapanışta bekleyen kayıtların yazılması için beklenecek en uzun süre
+     */
+    Duration shutdownTimeout;
+
+    /**
+     * Geçici hatadan sonra ilk yeniden deneme beklemesi; her başarısız denemede iki katına çıkar
+     */
+    Duration initialBackoff;
+
+    /**
+     * Yeniden deneme beklemesinin üst sınırı
+     */
+    Duration maxBackoff;
+}
@@ -0,0 +1,102 @@
+package com.banking.core.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CacheConfigTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = CacheConfig.jsonSerializer();
+
+    record Statement(String customerNumber, BigDecimal balance, LocalDateTime createdAt, List<String> notes) {
+    }
+
+    record Customer(String name, Long id) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheBackend keyValueCacheBackend(String backend) {
+        CacheConfig cacheConfig = new CacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "keyValueBackend", backend);
+        ReflectionTestUtils.setField(cacheConfig, "keyValueLocalMaximumSize", 100L);
+        ReflectionTestUtils.setField(cacheConfig, "keyValueFormat", CacheValueFormat.JSON);
+        return cacheConfig.keyValueCacheBackend(mock(RedisConnectionFactory.class), mock(RedisTemplate.class),
+                mock(CompactRedisSerializer.class));
+    }
+
+    @Test
+    void keyValueCacheBackend_ShouldCreateBackendForConfiguredMode() {
+        // Act
+        CacheBackend memory = keyValueCacheBackend("memory");
+        CacheBackend redis = keyValueCacheBackend("redis");
+        CacheBackend tiered = keyValueCacheBackend("tiered");
+
+        // Assert
+        assertInstanceOf(InMemoryCacheBackend.class, memory);
+        assertInstanceOf(RedisCacheBackend.class, redis);
+        assertInstanceOf(TieredCacheBackend.class, tiered);
+        assertEquals("memory", memory.getName());
+        assertEquals("redis", redis.getName());
+        assertEquals("tiered", tiered.getName());
+    }
+
+    @Test
+    void keyValueCacheBackend_ShouldRejectUnknownMode() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> keyValueCacheBackend("memcached"));
+    }
+
+    @Test
+    void jsonSerializer_ShouldRoundTripFinalTypesWithJavaTimeFields() {
+        // Arrange
+        Statement statement = new Statement("IND-1", new BigDecimal("1250.50"),
+                LocalDateTime.of(2024, 3, 10, 12, 0), List.of("late fee waived"));
+
+        // Act
+        Object restored = jsonSerializer.deserialize(jsonSerializer.serialize(statement));
+
+        // Assert
+        assertEquals(statement, restored);
+    }
+
+    @Test
+    void jsonSerializer_ShouldReadEntriesWrittenByDefaultSerializer() {
+        // Arrange
+        GenericJackson2JsonRedisSerializer previousSerializer = new GenericJackson2JsonRedisSerializer();
+        Customer customer = new Customer("Ayşe", 7L);
+        List<Customer> customers = new ArrayList<>(List.of(customer));
+
+        // Act
+        Object restoredCustomer = jsonSerializer.deserialize(previousSerializer.serialize(customer));
+        Object restoredList = jsonSerializer.deserialize(previousSerializer.serialize(customers));
+        Object restoredFlag = jsonSerializer.deserialize(previousSerializer.serialize(Boolean.TRUE));
+
+        // Assert
+        assertEquals(customer, restoredCustomer);
+        assertEquals(customers, restoredList);
+        assertEquals(Boolean.TRUE, restoredFlag);
+    }
+
+    @Test
+    void jsonSerializer_ShouldWriteEntriesReadableByDefaultSerializer() {
+        // Arrange
+        GenericJackson2JsonRedisSerializer previousSerializer = new GenericJackson2JsonRedisSerializer();
+        Customer customer = new Customer("Ayşe", 7L);
+
+        // Act
+        Object restored = previousSerializer.deserialize(jsonSerializer.serialize(customer));
+
+        // Assert
+        assertEquals(customer, restored);
+    }
+}
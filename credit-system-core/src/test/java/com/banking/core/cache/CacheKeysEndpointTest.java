@@ -0,0 +1,86 @@
+package com.banking.core.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheKeysEndpointTest {
+
+    private static final String EMAIL = "ayse.yilmaz@bank.com";
+
+    private final InstrumentedCacheManager cacheManager = new InstrumentedCacheManager(
+            new ConcurrentMapCacheManager("customers"), new SimpleMeterRegistry(), 100);
+    private CacheKeysEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        // Apply the @PreAuthorize check the way method security does in the application context
+        ProxyFactory proxyFactory = new ProxyFactory(new CacheKeysEndpoint(cacheManager));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(AuthorizationManagerBeforeMethodInterceptor.preAuthorize());
+        endpoint = (CacheKeysEndpoint) proxyFactory.getProxy();
+
+        cacheManager.getCache("customers").get(EMAIL);
+        cacheManager.getCache("customers").get(EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticate(String... roles) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "password", roles));
+    }
+
+    @Test
+    void topKeys_ShouldReturnMaskedKeysWithAccessCounts() {
+        // Arrange
+        authenticate("ROLE_ADMIN");
+
+        // Act
+        List<CacheKeyFrequency> topKeys = endpoint.topKeys("customers", null);
+
+        // Assert
+        assertEquals(1, topKeys.size());
+        assertEquals(CacheKeysEndpoint.mask(EMAIL), topKeys.get(0).getKey());
+        assertFalse(topKeys.get(0).getKey().contains(EMAIL));
+        assertEquals("sha256:".length() + CacheKeysEndpoint.MASKED_KEY_LENGTH, topKeys.get(0).getKey().length());
+        assertEquals(2, topKeys.get(0).getAccesses());
+    }
+
+    @Test
+    void caches_ShouldSummarizeUsedCaches() {
+        // Arrange
+        authenticate("ROLE_ADMIN");
+
+        // Act
+        Map<String, Map<String, Object>> summary = endpoint.caches();
+
+        // Assert
+        assertEquals(0L, summary.get("customers").get("hits"));
+        assertEquals(2L, summary.get("customers").get("misses"));
+    }
+
+    @Test
+    void endpoint_ShouldRejectUsersWithoutAdminRole() {
+        // Arrange
+        authenticate("ROLE_USER", "ROLE_FRAUD_ANALYST");
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> endpoint.topKeys("customers", null));
+        assertThrows(AccessDeniedException.class, () -> endpoint.caches());
+    }
+}
@@ -0,0 +1,213 @@
+package com.banking.core.cache;
+
+import com.banking.core.testsupport.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CacheServiceTest {
+
+    private static final String KEY = "central_bank_report:7";
+    private static final String REDIS_KEY = "kv:" + KEY;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-10T12:00:00Z"));
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private CacheService cacheService(CacheBackend backend) {
+        return new CacheService(mock(CacheManager.class), backend);
+    }
+
+    private RedisCacheBackend redisBackend() {
+        return new RedisCacheBackend(redisTemplate, "kv:", clock);
+    }
+
+    private void redisEntry(Object value, long remainingMillis) {
+        when(valueOperations.get(REDIS_KEY)).thenReturn(value);
+        when(redisTemplate.getExpire(REDIS_KEY, TimeUnit.MILLISECONDS)).thenReturn(remainingMillis);
+    }
+
+    @Test
+    void memoryBackend_ShouldReturnValueUntilTtlExpires() {
+        // Arrange
+        CacheService cacheService = cacheService(new InMemoryCacheBackend(100, clock));
+        cacheService.put(KEY, "report", TTL);
+
+        // Act
+        Optional<String> beforeExpiry = cacheService.get(KEY, String.class);
+        clock.advance(TTL);
+        Optional<String> afterExpiry = cacheService.get(KEY, String.class);
+
+        // Assert
+        assertEquals(Optional.of("report"), beforeExpiry);
+        assertTrue(afterExpiry.isEmpty());
+        assertEquals(1, cacheService.getStatistics().getHits());
+        assertEquals(1, cacheService.getStatistics().getMisses());
+        assertEquals("memory", cacheService.getStatistics().getBackend());
+    }
+
+    @Test
+    void get_ShouldMiss_WhenCachedValueHasAnotherType() {
+        // Arrange
+        CacheService cacheService = cacheService(new InMemoryCacheBackend(100, clock));
+        cacheService.put(KEY, 42, TTL);
+
+        // Act
+        Optional<String> value = cacheService.get(KEY, String.class);
+
+        // Assert
+        assertTrue(value.isEmpty());
+        assertEquals(1, cacheService.getStatistics().getMisses());
+    }
+
+    @Test
+    void put_ShouldIgnoreMissingValueAndNonPositiveTtl() {
+        // Arrange
+        CacheService cacheService = cacheService(new InMemoryCacheBackend(100, clock));
+
+        // Act
+        boolean nullValue = cacheService.put(KEY, null, TTL);
+        boolean zeroTtl = cacheService.put(KEY, "report", Duration.ZERO);
+
+        // Assert
+        assertFalse(nullValue);
+        assertFalse(zeroTtl);
+        assertEquals(0, cacheService.getStatistics().getPuts());
+    }
+
+    @Test
+    void redisBackend_ShouldStorePrefixedKeyWithTtl() {
+        // Arrange
+        CacheService cacheService = cacheService(redisBackend());
+
+        // Act
+        boolean stored = cacheService.put(KEY, "report", TTL);
+
+        // Assert
+        assertTrue(stored);
+        verify(valueOperations).set(REDIS_KEY, "report", TTL);
+        assertEquals("redis", cacheService.getStatistics().getBackend());
+    }
+
+    @Test
+    void redisBackend_ShouldReturnEntryWithRemainingTtlOfKey() {
+        // Arrange
+        redisEntry("report", 60_000);
+
+        // Act
+        Optional<CacheEntry> entry = cacheService(redisBackend()).getEntry(KEY, String.class);
+
+        // Assert
+        assertEquals("report", entry.orElseThrow().getValue());
+        assertEquals(clock.instant().plusSeconds(60), entry.get().getExpiresAt());
+    }
+
+    @Test
+    void redisBackend_ShouldMiss_WhenKeyExpiresBetweenReads() {
+        // Arrange
+        redisEntry("report", -2);
+
+        // Act
+        Optional<String> value = cacheService(redisBackend()).get(KEY, String.class);
+
+        // Assert
+        assertTrue(value.isEmpty());
+    }
+
+    @Test
+    void redisBackend_ShouldReportFailuresAsMissAndFailedPut() {
+        // Arrange
+        CacheService cacheService = cacheService(redisBackend());
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations)
+                .set(anyString(), any(), any(Duration.class));
+
+        // Act
+        Optional<String> value = cacheService.get(KEY, String.class);
+        boolean stored = cacheService.put(KEY, "report", TTL);
+
+        // Assert
+        assertTrue(value.isEmpty());
+        assertFalse(stored);
+    }
+
+    @Test
+    void tieredBackend_ShouldReadThroughRedisAndKeepEntryLocallyForRemainingTtl() {
+        // Arrange
+        redisEntry("report", 60_000);
+        CacheService cacheService = cacheService(
+                new TieredCacheBackend(new InMemoryCacheBackend(100, clock), redisBackend()));
+
+        // Act
+        Optional<String> first = cacheService.get(KEY, String.class);
+        Optional<String> second = cacheService.get(KEY, String.class);
+        clock.advance(Duration.ofSeconds(60));
+        when(valueOperations.get(REDIS_KEY)).thenReturn(null);
+        Optional<String> afterRemoteExpiry = cacheService.get(KEY, String.class);
+
+        // Assert
+        assertEquals(Optional.of("report"), first);
+        assertEquals(Optional.of("report"), second);
+        assertTrue(afterRemoteExpiry.isEmpty());
+        verify(valueOperations, times(2)).get(REDIS_KEY);
+        assertEquals("tiered", cacheService.getStatistics().getBackend());
+    }
+
+    @Test
+    void tieredBackend_ShouldKeepServingLocally_WhenRedisIsDown() {
+        // Arrange
+        CacheService cacheService = cacheService(
+                new TieredCacheBackend(new InMemoryCacheBackend(100, clock), redisBackend()));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations)
+                .set(anyString(), any(), any(Duration.class));
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // Act
+        boolean stored = cacheService.put(KEY, "report", TTL);
+        Optional<String> cached = cacheService.get(KEY, String.class);
+        Optional<String> missing = cacheService.get("central_bank_report:8", String.class);
+
+        // Assert
+        assertTrue(stored);
+        assertEquals(Optional.of("report"), cached);
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    void tieredBackend_ShouldRemoveFromBothTiers() {
+        // Arrange
+        CacheService cacheService = cacheService(
+                new TieredCacheBackend(new InMemoryCacheBackend(100, clock), redisBackend()));
+        cacheService.put(KEY, "report", TTL);
+        when(redisTemplate.delete(REDIS_KEY)).thenReturn(true);
+
+        // Act
+        boolean removed = cacheService.remove(KEY);
+
+        // Assert
+        assertTrue(removed);
+        assertTrue(cacheService.get(KEY, String.class).isEmpty());
+        verify(redisTemplate).delete(REDIS_KEY);
+    }
+}
@@ -0,0 +1,64 @@
+package com.banking.core.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+
+import static com.banking.core.cache.CompactRedisSerializerTest.blacklistStatus;
+import static com.banking.core.cache.CompactRedisSerializerTest.centralBankReport;
+import static com.banking.core.cache.CompactRedisSerializerTest.creditHistorySummary;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Kompakt ve JSON serileştiricilerin payload boyutu ve gidiş-dönüş süresi karşılaştırması.
+ * Varsayılan test çalıştırmasına dahil değildir; {@code mvn test -Pbenchmark} ile çalıştırılır. Sonuçlar
+ * standart çıktıya değil JUnit raporuna yazılır.
+ */
+@Tag("benchmark")
+class CompactRedisSerializerBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private CompactRedisSerializer compactSerializer;
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+
+    @BeforeEach
+    void setUp() {
+        compactSerializer = new CompactRedisSerializer(CacheConfig.cacheTypeRegistry(), 512);
+        jsonSerializer = CacheConfig.jsonSerializer();
+    }
+
+    @Test
+    void roundTrip_CompactVersusJson(TestReporter reporter) {
+        List<Object> samples = List.of(centralBankReport(), blacklistStatus(), creditHistorySummary(3), creditHistorySummary(200));
+
+        for (Object sample : samples) {
+            byte[] json = jsonSerializer.serialize(sample);
+            byte[] compact = compactSerializer.serialize(sample);
+            assertNotNull(json);
+
+            long jsonNanos = measure(() -> jsonSerializer.deserialize(jsonSerializer.serialize(sample)));
+            long compactNanos = measure(() -> compactSerializer.deserialize(compactSerializer.serialize(sample)));
+
+            reporter.publishEntry(sample.getClass().getSimpleName(), String.format(
+                    "json: %d bytes %.0f ns/op | compact: %d bytes %.0f ns/op",
+                    json.length, (double) jsonNanos / ITERATIONS, compact.length, (double) compactNanos / ITERATIONS));
+        }
+    }
+
+    private static long measure(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,131 @@
+package com.banking.core.cache;
+
+import com.banking.core.dtos.response.BlacklistStatusResponse;
+import com.banking.core.dtos.response.CentralBankReportResponse;
+import com.banking.core.dtos.response.CreditHistorySummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRedisSerializerTest {
+
+    private CompactRedisSerializer compactSerializer;
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+
+    @BeforeEach
+    void setUp() {
+        compactSerializer = new CompactRedisSerializer(CacheConfig.cacheTypeRegistry(), 512);
+        jsonSerializer = CacheConfig.jsonSerializer();
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveResponseDtos() {
+        // Arrange
+        CentralBankReportResponse report = centralBankReport();
+        CreditHistorySummaryResponse summary = creditHistorySummary(3);
+
+        // Act
+        Object restoredReport = compactSerializer.deserialize(compactSerializer.serialize(report));
+        Object restoredSummary = compactSerializer.deserialize(compactSerializer.serialize(summary));
+        Object restoredNumber = compactSerializer.deserialize(compactSerializer.serialize(42L));
+
+        // Assert
+        assertEquals(report, restoredReport);
+        assertEquals(summary, restoredSummary);
+        assertEquals(42L, restoredNumber);
+    }
+
+    @Test
+    void serialize_ShouldCompressLargeValuesAndRoundTrip() {
+        // Arrange
+        CreditHistorySummaryResponse summary = creditHistorySummary(200);
+        CompactRedisSerializer uncompressedSerializer = new CompactRedisSerializer(CacheConfig.cacheTypeRegistry(), 0);
+
+        // Act
+        byte[] compressed = compactSerializer.serialize(summary);
+        byte[] uncompressed = uncompressedSerializer.serialize(summary);
+        Object restored = compactSerializer.deserialize(compressed);
+
+        // Assert
+        assertTrue(compressed.length < uncompressed.length);
+        assertEquals(summary, restored);
+    }
+
+    @Test
+    void serialize_ShouldRejectUnregisteredTypes() {
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> compactSerializer.serialize(new ArrayList<String>()));
+    }
+
+    @Test
+    void deserialize_ShouldReturnNullForEmptyValue() {
+        // Act
+        Object fromEmpty = compactSerializer.deserialize(new byte[0]);
+        Object fromNull = compactSerializer.deserialize(null);
+
+        // Assert
+        assertNull(fromEmpty);
+        assertNull(fromNull);
+    }
+
+    @Test
+    void serialize_ShouldProduceSmallerPayloadThanJson() {
+        // Arrange
+        List<Object> samples = List.of(centralBankReport(), blacklistStatus(), creditHistorySummary(3), creditHistorySummary(200));
+        List<byte[]> jsonPayloads = new ArrayList<>();
+        List<byte[]> compactPayloads = new ArrayList<>();
+
+        // Act
+        for (Object sample : samples) {
+            jsonPayloads.add(jsonSerializer.serialize(sample));
+            compactPayloads.add(compactSerializer.serialize(sample));
+        }
+
+        // Assert
+        for (int i = 0; i < samples.size(); i++) {
+            assertNotNull(jsonPayloads.get(i));
+            assertTrue(compactPayloads.get(i).length < jsonPayloads.get(i).length,
+                    "Compact payload should be smaller than JSON for " + samples.get(i).getClass().getSimpleName());
+        }
+    }
+
+    static CentralBankReportResponse centralBankReport() {
+        CentralBankReportResponse report = new CentralBankReportResponse();
+        report.setReportId("CBR-2024-000123456");
+        report.setCustomerId(123456L);
+        report.setCustomerName("Ayşe Yılmaz");
+        report.setIdentityNumber("12345678901");
+        report.setReportDate(LocalDateTime.of(2024, 3, 10, 12, 30));
+        report.setCacheDate(LocalDateTime.of(2024, 3, 10, 12, 31));
+        report.setCached(true);
+        report.setReportStatus("COMPLETED");
+        report.setReportType("FULL");
+        report.setReportSource("CENTRAL_BANK");
+        return report;
+    }
+
+    static BlacklistStatusResponse blacklistStatus() {
+        BlacklistStatusResponse status = new BlacklistStatusResponse();
+        status.setCustomerId(123456L);
+        status.setBlacklisted(false);
+        status.setReviewDate(LocalDateTime.of(2024, 3, 1, 9, 0));
+        status.setReviewedBy("system");
+        return status;
+    }
+
+    static CreditHistorySummaryResponse creditHistorySummary(int creditCount) {
+        List<String> creditTypes = new ArrayList<>();
+        for (int i = 0; i < creditCount; i++) {
+            creditTypes.add(i % 2 == 0 ? "PERSONAL" : "MORTGAGE");
+        }
+        return new CreditHistorySummaryResponse("12345678901", creditCount, creditCount / 2, creditCount - creditCount / 2,
+                250_000.0, 120_000.0, creditTypes, LocalDateTime.of(2024, 2, 1, 10, 0), LocalDateTime.of(2024, 3, 10, 12, 30));
+    }
+}
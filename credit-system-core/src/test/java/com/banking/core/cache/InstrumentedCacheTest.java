@@ -0,0 +1,132 @@
+package com.banking.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedCacheTest {
+
+    private static final String CACHE = "customers";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", CACHE).tag("result", result).counter().count();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("cache.evictions").tag("cache", CACHE).counter().count();
+    }
+
+    private long loads() {
+        return meterRegistry.get("cache.load").tag("cache", CACHE).tag("result", "success").timer().count();
+    }
+
+    @Test
+    void get_ShouldCountHitsAndMisses() {
+        // Arrange
+        InstrumentedCache cache = InstrumentedCache.create(new ConcurrentMapCache(CACHE), meterRegistry, 100);
+
+        // Act
+        cache.get("customer:1");
+        cache.put("customer:1", "Ayşe");
+        cache.get("customer:1");
+        cache.get("customer:1", String.class);
+
+        // Assert
+        assertEquals(2, gets("hit"));
+        assertEquals(1, gets("miss"));
+        assertEquals(1, meterRegistry.get("cache.puts").tag("cache", CACHE).counter().count());
+        assertEquals(2.0 / 3, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void get_ShouldTimeLoaderOnlyOnMiss() {
+        // Arrange
+        InstrumentedCache cache = InstrumentedCache.create(new ConcurrentMapCache(CACHE), meterRegistry, 100);
+
+        // Act
+        String loaded = cache.get("customer:1", () -> "Ayşe");
+        String cached = cache.get("customer:1", () -> "Mehmet");
+
+        // Assert
+        assertEquals("Ayşe", loaded);
+        assertEquals("Ayşe", cached);
+        assertEquals(1, gets("miss"));
+        assertEquals(1, gets("hit"));
+        assertEquals(1, loads());
+    }
+
+    @Test
+    void put_ShouldTimeCacheableLoad_WhenSameThreadWritesMissedKey() {
+        // Arrange
+        InstrumentedCache cache = InstrumentedCache.create(new ConcurrentMapCache(CACHE), meterRegistry, 100);
+
+        // Act
+        cache.get("customer:1");
+        cache.put("customer:1", "Ayşe");
+        cache.get("customer:2");
+        cache.put("customer:3", "Mehmet");
+
+        // Assert
+        assertEquals(1, loads());
+    }
+
+    @Test
+    void evict_ShouldCountExplicitEvictionsAndClears() {
+        // Arrange
+        InstrumentedCache cache = InstrumentedCache.create(new ConcurrentMapCache(CACHE), meterRegistry, 100);
+        cache.put("customer:1", "Ayşe");
+
+        // Act
+        cache.evict("customer:1");
+        boolean evictedMissing = cache.evictIfPresent("customer:1");
+        cache.clear();
+
+        // Assert
+        assertFalse(evictedMissing);
+        assertEquals(2, evictions());
+    }
+
+    @Test
+    void create_ShouldReportSizeAndLocalEvictionsOfCaffeineCache() {
+        // Arrange
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        InstrumentedCache cache = InstrumentedCache.create(new CaffeineCache(CACHE, nativeCache), meterRegistry, 0);
+
+        // Act
+        cache.put("customer:1", "Ayşe");
+        cache.put("customer:2", "Mehmet");
+        nativeCache.cleanUp();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("cache.size").tag("cache", CACHE).gauge().value());
+        assertEquals(1, meterRegistry.get("cache.local.evictions").tag("cache", CACHE).functionCounter().count());
+        assertEquals(0, evictions());
+        assertTrue(cache.getTopKeys(10).isEmpty());
+    }
+
+    @Test
+    void getTopKeys_ShouldOrderKeysByAccessCount() {
+        // Arrange
+        InstrumentedCache cache = InstrumentedCache.create(new ConcurrentMapCache(CACHE), meterRegistry, 100);
+
+        // Act
+        cache.get("customer:1");
+        cache.get("customer:2");
+        cache.get("customer:2");
+
+        // Assert
+        assertEquals(2, cache.getTopKeys(10).size());
+        assertEquals("customer:2", cache.getTopKeys(1).get(0).getKey());
+        assertEquals(2, cache.getTopKeys(1).get(0).getAccesses());
+    }
+}
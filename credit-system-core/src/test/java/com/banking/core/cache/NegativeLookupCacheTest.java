@@ -0,0 +1,102 @@
+package com.banking.core.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeLookupCacheTest {
+
+    private static final String EMAIL = "finance@acme.com";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private NegativeLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NegativeLookupCache(new ConcurrentMapCacheManager(NegativeLookupCache.CACHE_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Optional<String> missing() {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+
+    @Test
+    void find_ShouldSkipLoader_WhenKeyIsKnownMissing() {
+        // Arrange
+        cache.find(NegativeLookupCache.USER_EMAIL, EMAIL, this::missing);
+
+        // Act
+        Optional<String> result = cache.find(NegativeLookupCache.USER_EMAIL, EMAIL, this::missing);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1, loads.get());
+        assertTrue(cache.isKnownMissing(NegativeLookupCache.USER_EMAIL, EMAIL));
+    }
+
+    @Test
+    void find_ShouldNotRecordMiss_WhenLoaderFindsRecord() {
+        // Arrange
+        AtomicInteger found = new AtomicInteger();
+
+        // Act
+        Optional<String> first = cache.find(NegativeLookupCache.USER_EMAIL, EMAIL, () -> {
+            found.incrementAndGet();
+            return Optional.of("user");
+        });
+        Optional<String> second = cache.find(NegativeLookupCache.USER_EMAIL, EMAIL, () -> {
+            found.incrementAndGet();
+            return Optional.of("user");
+        });
+
+        // Assert
+        assertEquals(Optional.of("user"), first);
+        assertEquals(Optional.of("user"), second);
+        assertEquals(2, found.get());
+        assertFalse(cache.isKnownMissing(NegativeLookupCache.USER_EMAIL, EMAIL));
+    }
+
+    @Test
+    void invalidate_ShouldLetLookupFindCreatedRecord() {
+        // Arrange
+        cache.find(NegativeLookupCache.USER_EMAIL, EMAIL, this::missing);
+
+        // Act
+        cache.invalidate(NegativeLookupCache.USER_EMAIL, EMAIL);
+        Optional<String> result = cache.find(NegativeLookupCache.USER_EMAIL, EMAIL, () -> Optional.of("created"));
+
+        // Assert
+        assertEquals(Optional.of("created"), result);
+        assertFalse(cache.isKnownMissing(NegativeLookupCache.USER_EMAIL, EMAIL));
+    }
+
+    @Test
+    void invalidate_ShouldEvictAgainAfterCommit_WhenMissRecordedBeforeCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(NegativeLookupCache.USER_EMAIL, EMAIL);
+        cache.recordMissing(NegativeLookupCache.USER_EMAIL, EMAIL);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertFalse(cache.isKnownMissing(NegativeLookupCache.USER_EMAIL, EMAIL));
+    }
+}
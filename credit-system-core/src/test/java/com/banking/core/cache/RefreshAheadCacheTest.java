@@ -0,0 +1,180 @@
+package com.banking.core.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshAheadCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheService cacheService = mock(CacheService.class);
+    private final List<Runnable> queuedRefreshes = new ArrayList<>();
+    private ThreadPoolTaskExecutor boundedExecutor;
+
+    @BeforeEach
+    void setUp() {
+        // Entry inside the refresh window: the last 12 seconds (20%) of a 60 second TTL
+        when(cacheService.getEntry(anyString(), eq(String.class)))
+                .thenReturn(Optional.of(new CacheEntry("cached", Instant.now().plusSeconds(5))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (boundedExecutor != null) {
+            boundedExecutor.shutdown();
+        }
+    }
+
+    private RefreshAheadCache cache(Executor executor) {
+        RefreshAheadCache cache = new RefreshAheadCache(cacheService, new SingleFlight(meterRegistry, 5000),
+                executor, meterRegistry);
+        ReflectionTestUtils.setField(cache, "windowRatio", 0.2);
+        ReflectionTestUtils.setField(cache, "minAccesses", 3L);
+        ReflectionTestUtils.setField(cache, "trackedKeys", 100L);
+        cache.init();
+        return cache;
+    }
+
+    private double refreshes(String result) {
+        return meterRegistry.get("cache.refresh.ahead").tag("result", result).counter().count();
+    }
+
+    @Test
+    void get_ShouldRefreshOnlyAfterMinimumAccessesInsideWindow() {
+        // Arrange
+        RefreshAheadCache cache = cache(queuedRefreshes::add);
+
+        // Act
+        cache.get("report:1", String.class, TTL, () -> "fresh");
+        cache.get("report:1", String.class, TTL, () -> "fresh");
+        int queuedBeforeThreshold = queuedRefreshes.size();
+        String value = cache.get("report:1", String.class, TTL, () -> "fresh");
+
+        // Assert
+        assertEquals("cached", value);
+        assertEquals(0, queuedBeforeThreshold);
+        assertEquals(1, queuedRefreshes.size());
+        assertEquals(1, refreshes("started"));
+    }
+
+    @Test
+    void get_ShouldNotRefreshEntryOutsideWindow() {
+        // Arrange
+        when(cacheService.getEntry("report:1", String.class))
+                .thenReturn(Optional.of(new CacheEntry("cached", Instant.now().plusSeconds(55))));
+        RefreshAheadCache cache = cache(queuedRefreshes::add);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            cache.get("report:1", String.class, TTL, () -> "fresh");
+        }
+
+        // Assert
+        assertTrue(queuedRefreshes.isEmpty());
+        assertEquals(0, refreshes("started"));
+    }
+
+    @Test
+    void get_ShouldStartSingleRefreshPerKeyUntilItCompletes() {
+        // Arrange
+        RefreshAheadCache cache = cache(queuedRefreshes::add);
+
+        // Act
+        for (int i = 0; i < 6; i++) {
+            cache.get("report:1", String.class, TTL, () -> "fresh");
+        }
+        int queuedWhileRefreshing = queuedRefreshes.size();
+        queuedRefreshes.remove(0).run();
+        for (int i = 0; i < 3; i++) {
+            cache.get("report:1", String.class, TTL, () -> "fresh");
+        }
+
+        // Assert
+        assertEquals(1, queuedWhileRefreshing);
+        assertEquals(3, refreshes("skipped"));
+        assertEquals(1, queuedRefreshes.size());
+        assertEquals(2, refreshes("started"));
+        verify(cacheService).put("report:1", "fresh", TTL);
+    }
+
+    @Test
+    void get_ShouldRejectRefreshWhenExecutorIsAtConcurrencyCap() throws InterruptedException {
+        // Arrange
+        boundedExecutor = new ThreadPoolTaskExecutor();
+        boundedExecutor.setCorePoolSize(1);
+        boundedExecutor.setMaxPoolSize(1);
+        boundedExecutor.setQueueCapacity(0);
+        boundedExecutor.initialize();
+        RefreshAheadCache cache = cache(boundedExecutor);
+        CountDownLatch slowRefreshStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger otherLoads = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            cache.get("report:slow", String.class, TTL, () -> {
+                slowRefreshStarted.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            });
+        }
+        assertTrue(slowRefreshStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            cache.get("report:other", String.class, TTL, () -> {
+                otherLoads.incrementAndGet();
+                return "other";
+            });
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals(1, refreshes("started"));
+        assertEquals(1, refreshes("rejected"));
+        assertEquals(0, otherLoads.get());
+        assertEquals(1, cache.getRejectedRefreshCount());
+    }
+
+    @Test
+    void get_ShouldCountFailedRefreshAndKeepServingCachedValue() {
+        // Arrange
+        RefreshAheadCache cache = cache(Runnable::run);
+
+        // Act
+        String value = null;
+        for (int i = 0; i < 3; i++) {
+            value = cache.get("report:1", String.class, TTL, () -> {
+                throw new IllegalStateException("remote service unavailable");
+            });
+        }
+
+        // Assert
+        assertEquals("cached", value);
+        assertEquals(1, refreshes("failed"));
+        verify(cacheService, never()).put(anyString(), any(), any(Duration.class));
+    }
+}
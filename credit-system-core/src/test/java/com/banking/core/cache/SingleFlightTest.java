@@ -0,0 +1,143 @@
+package com.banking.core.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry, 5000);
+        executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ShouldCollapseConcurrentCallsForSameKey() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("test", "key", () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "value";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        List<Future<String>> followers = submitFollowers(() -> {
+            calls.incrementAndGet();
+            return "other";
+        });
+        awaitCollapsed(FOLLOWERS);
+        release.countDown();
+
+        // Assert
+        assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, meterRegistry.get("cache.single.flight.calls").tag("result", "executed").counter().count());
+        assertEquals(FOLLOWERS, meterRegistry.get("cache.single.flight.calls").tag("result", "collapsed").counter().count());
+    }
+
+    @Test
+    void execute_ShouldPropagateFailureToEveryWaiter() throws Exception {
+        // Arrange
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("test", "key", () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new IllegalStateException("remote failure");
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        // Act
+        List<Future<String>> followers = submitFollowers(() -> "unused");
+        awaitCollapsed(FOLLOWERS);
+        release.countDown();
+
+        // Assert
+        List<Future<String>> all = new ArrayList<>(followers);
+        all.add(leader);
+        for (Future<String> future : all) {
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+            assertEquals("remote failure", failure.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void execute_ShouldRemoveFlightAfterCompletion() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("test", "key", calls::incrementAndGet);
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("test", "key", () -> {
+            throw new IllegalStateException("failure");
+        }));
+        singleFlight.execute("test", "key", calls::incrementAndGet);
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals(3, singleFlight.getStatistics().get("test").getExecutions());
+    }
+
+    private List<Future<String>> submitFollowers(Supplier<String> loader) {
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("test", "key", loader)));
+        }
+        return followers;
+    }
+
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getStatistics().get("test").getCollapsed() < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Followers did not join the in-flight call");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
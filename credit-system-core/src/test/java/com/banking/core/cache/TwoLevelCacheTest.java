@@ -0,0 +1,179 @@
+package com.banking.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private static final String CACHE = "customers";
+    private static final String CHANNEL = "cache:invalidation";
+
+    private final SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry(), 5000);
+    private final ConcurrentMapCache remoteCache = new ConcurrentMapCache(CACHE, false);
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+
+    private TwoLevelCache cache() {
+        return new TwoLevelCache(CACHE, Caffeine.newBuilder().maximumSize(100).build(), remoteCache, "node-1",
+                published::add, singleFlight);
+    }
+
+    private TwoLevelCacheManager manager(RedisCacheManager redisCacheManager, StringRedisTemplate redisTemplate) {
+        CachePolicy policy = CachePolicy.builder()
+                .localMaximumSize(100)
+                .localTtl(Duration.ofMinutes(5))
+                .remoteTtl(Duration.ofHours(1))
+                .build();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisCacheManager, redisTemplate, CHANNEL,
+                Map.of(CACHE, policy), policy, singleFlight);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private static DefaultMessage message(String payload) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void get_ShouldReadThroughRemoteTierAndKeepValueLocally() {
+        // Arrange
+        TwoLevelCache cache = cache();
+        remoteCache.put("customer:1", "Ayşe");
+
+        // Act
+        Cache.ValueWrapper first = cache.get("customer:1");
+        remoteCache.evict("customer:1");
+        Cache.ValueWrapper second = cache.get("customer:1");
+
+        // Assert
+        assertEquals("Ayşe", first.get());
+        assertEquals("Ayşe", second.get());
+        assertEquals(1, cache.getLocalSize());
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenNeitherTierHasKey() {
+        // Arrange
+        TwoLevelCache cache = cache();
+
+        // Act
+        Cache.ValueWrapper value = cache.get("customer:1");
+
+        // Assert
+        assertNull(value);
+        assertEquals(0, cache.getLocalSize());
+    }
+
+    @Test
+    void get_WithLoader_ShouldLoadOnceAndFillBothTiers() {
+        // Arrange
+        TwoLevelCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String loaded = cache.get("customer:1", () -> "Ayşe" + loads.incrementAndGet());
+        String cached = cache.get("customer:1", () -> "Ayşe" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("Ayşe1", loaded);
+        assertEquals("Ayşe1", cached);
+        assertEquals(1, loads.get());
+        assertEquals("Ayşe1", remoteCache.get("customer:1").get());
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void put_ShouldWriteThroughToRemoteTierAndPublishKey() {
+        // Arrange
+        TwoLevelCache cache = cache();
+
+        // Act
+        cache.put("customer:1", "Ayşe");
+
+        // Assert
+        assertEquals("Ayşe", remoteCache.get("customer:1").get());
+        assertEquals("Ayşe", cache.get("customer:1").get());
+        assertEquals(List.of(new CacheInvalidationMessage("node-1", CACHE, "customer:1")), published);
+    }
+
+    @Test
+    void evictAndClear_ShouldRemoveFromBothTiersAndPublish() {
+        // Arrange
+        TwoLevelCache cache = cache();
+        cache.put("customer:1", "Ayşe");
+        cache.put("customer:2", "Mehmet");
+
+        // Act
+        cache.evict("customer:1");
+        boolean firstGone = cache.get("customer:1") == null && remoteCache.get("customer:1") == null;
+        cache.clear();
+
+        // Assert
+        assertTrue(firstGone);
+        assertNull(cache.get("customer:2"));
+        assertNull(remoteCache.get("customer:2"));
+        assertEquals(0, cache.getLocalSize());
+        assertEquals(new CacheInvalidationMessage("node-1", CACHE, "customer:1"), published.get(2));
+        assertTrue(published.get(3).isClear());
+    }
+
+    @Test
+    void onMessage_ShouldDropLocalCopyOfOtherNodeOnly_WhenAnotherNodeWrites() {
+        // Arrange
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCache(CACHE)).thenReturn(remoteCache);
+        StringRedisTemplate writerRedis = mock(StringRedisTemplate.class);
+        TwoLevelCacheManager writerNode = manager(redisCacheManager, writerRedis);
+        TwoLevelCacheManager readerNode = manager(redisCacheManager, mock(StringRedisTemplate.class));
+        remoteCache.put("customer:1", "Ayşe");
+        readerNode.getCache(CACHE).get("customer:1");
+
+        writerNode.getCache(CACHE).put("customer:1", "Ayşe Yılmaz");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(writerRedis).convertAndSend(eq(CHANNEL), payload.capture());
+        Object staleBeforeMessage = readerNode.getCache(CACHE).get("customer:1").get();
+
+        // Act
+        writerNode.onMessage(message(payload.getValue()), null);
+        readerNode.onMessage(message(payload.getValue()), null);
+
+        // Assert
+        assertEquals("Ayşe", staleBeforeMessage);
+        assertEquals("Ayşe Yılmaz", readerNode.getCache(CACHE).get("customer:1").get());
+        assertEquals(1, ((TwoLevelCache) writerNode.getCache(CACHE)).getLocalSize());
+    }
+
+    @Test
+    void onMessage_ShouldClearLocalTier_WhenAnotherNodeClears() {
+        // Arrange
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCache(CACHE)).thenReturn(remoteCache);
+        TwoLevelCacheManager node = manager(redisCacheManager, mock(StringRedisTemplate.class));
+        node.getCache(CACHE).put("customer:1", "Ayşe");
+        node.getCache(CACHE).put("customer:2", "Mehmet");
+
+        // Act
+        node.onMessage(message(new CacheInvalidationMessage("node-2", CACHE, null).encode()), null);
+        node.onMessage(message("malformed"), null);
+
+        // Assert
+        assertEquals(0, ((TwoLevelCache) node.getCache(CACHE)).getLocalSize());
+    }
+}
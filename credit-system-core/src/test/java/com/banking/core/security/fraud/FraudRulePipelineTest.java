@@ -0,0 +1,198 @@
+package com.banking.core.security.fraud;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudRulePipelineTest {
+
+    private static final FraudContext CONTEXT = FraudContext.builder()
+            .customerId(1L)
+            .transactionId("TX-1")
+            .amount(new BigDecimal("500.00"))
+            .ipAddress("10.0.0.1")
+            .build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private FraudRulePipeline pipeline(boolean parallelExpensiveRules, FraudDetectionRule... rules) {
+        FraudRulePipeline pipeline = new FraudRulePipeline(List.of(rules), meterRegistry, executor);
+        ReflectionTestUtils.setField(pipeline, "hardBlockScore", 100);
+        ReflectionTestUtils.setField(pipeline, "parallelExpensiveRules", parallelExpensiveRules);
+        pipeline.compile();
+        return pipeline;
+    }
+
+    @Test
+    void compile_ShouldOrderRulesByCostAndKeepRegistrationOrderOnTies() {
+        // Arrange
+        TestRule expensive = new TestRule("EXPENSIVE", FraudRuleCost.EXPENSIVE, 0);
+        TestRule firstCheap = new TestRule("CHEAP_1", FraudRuleCost.CHEAP, 0);
+        TestRule moderate = new TestRule("MODERATE", FraudRuleCost.MODERATE, 0);
+        TestRule secondCheap = new TestRule("CHEAP_2", FraudRuleCost.CHEAP, 0);
+
+        // Act
+        FraudRulePipeline pipeline = pipeline(false, expensive, firstCheap, moderate, secondCheap);
+
+        // Assert
+        assertEquals(List.of("CHEAP_1", "CHEAP_2", "MODERATE", "EXPENSIVE"), pipeline.getRuleCodes());
+    }
+
+    @Test
+    void compile_ShouldRejectDuplicateRuleCodes() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> pipeline(false,
+                new TestRule("SAME", FraudRuleCost.CHEAP, 0), new TestRule("SAME", FraudRuleCost.MODERATE, 0)));
+    }
+
+    @Test
+    void evaluate_ShouldMergeScoresAndReasonsOfTriggeredRules() {
+        // Arrange
+        FraudRulePipeline pipeline = pipeline(false,
+                new TestRule("FIRST", FraudRuleCost.CHEAP, 30),
+                new TestRule("QUIET", FraudRuleCost.CHEAP, 0),
+                new TestRule("SECOND", FraudRuleCost.MODERATE, 20));
+
+        // Act
+        FraudVerdict verdict = pipeline.evaluate(CONTEXT);
+
+        // Assert
+        assertEquals(50, verdict.getScore());
+        assertEquals(List.of("FIRST", "SECOND"), verdict.getReasonCodes());
+        assertEquals("FIRST", verdict.getTopReason().orElseThrow().getCode());
+        assertFalse(verdict.isHardBlock());
+    }
+
+    @Test
+    void evaluate_ShouldStopAtHardBlockScoreWithoutRunningRemainingRules() {
+        // Arrange
+        TestRule blocking = new TestRule("BLOCKING", FraudRuleCost.CHEAP, 100);
+        TestRule expensive = new TestRule("EXPENSIVE", FraudRuleCost.EXPENSIVE, 10);
+        FraudRulePipeline pipeline = pipeline(false, expensive, blocking);
+
+        // Act
+        FraudVerdict verdict = pipeline.evaluate(CONTEXT);
+
+        // Assert
+        assertTrue(verdict.isHardBlock());
+        assertEquals(List.of("BLOCKING"), verdict.getReasonCodes());
+        assertEquals(0, expensive.invocations.get());
+        assertEquals(1, meterRegistry.get("fraud.pipeline.short.circuits").counter().count());
+    }
+
+    @Test
+    void evaluate_ShouldRunExpensiveRulesConcurrentlyWhenEnabled() {
+        // Arrange
+        CyclicBarrier bothRunning = new CyclicBarrier(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        TestRule first = new TestRule("REMOTE_1", FraudRuleCost.EXPENSIVE, 60, bothRunning, threads);
+        TestRule second = new TestRule("REMOTE_2", FraudRuleCost.EXPENSIVE, 50, bothRunning, threads);
+        FraudRulePipeline pipeline = pipeline(true, new TestRule("LOCAL", FraudRuleCost.CHEAP, 0), first, second);
+
+        // Act
+        FraudVerdict verdict = pipeline.evaluate(CONTEXT);
+
+        // Assert
+        assertEquals(2, threads.size());
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+        assertEquals(110, verdict.getScore());
+        assertEquals(List.of("REMOTE_1", "REMOTE_2"), verdict.getReasonCodes());
+        assertTrue(verdict.isHardBlock());
+    }
+
+    @Test
+    void evaluateWithoutRecording_ShouldSkipRecordingRules() {
+        // Arrange
+        TestRule recording = new TestRule("KNOWN_LOCATION", FraudRuleCost.CHEAP, 40).recording();
+        TestRule amount = new TestRule("AMOUNT", FraudRuleCost.CHEAP, 30);
+        FraudRulePipeline pipeline = pipeline(false, recording, amount);
+
+        // Act
+        FraudVerdict readOnly = pipeline.evaluateWithoutRecording(CONTEXT);
+        FraudVerdict full = pipeline.evaluate(CONTEXT);
+
+        // Assert
+        assertEquals(List.of("AMOUNT"), readOnly.getReasonCodes());
+        assertEquals(List.of("KNOWN_LOCATION", "AMOUNT"), full.getReasonCodes());
+        assertEquals(1, recording.invocations.get());
+    }
+
+    private static final class TestRule implements FraudDetectionRule {
+
+        private final String code;
+        private final FraudRuleCost cost;
+        private final int score;
+        private final CyclicBarrier barrier;
+        private final Set<String> threads;
+        private final AtomicInteger invocations = new AtomicInteger();
+        private boolean recording;
+
+        TestRule(String code, FraudRuleCost cost, int score) {
+            this(code, cost, score, null, null);
+        }
+
+        TestRule(String code, FraudRuleCost cost, int score, CyclicBarrier barrier, Set<String> threads) {
+            this.code = code;
+            this.cost = cost;
+            this.score = score;
+            this.barrier = barrier;
+            this.threads = threads;
+        }
+
+        TestRule recording() {
+            this.recording = true;
+            return this;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public FraudRuleCost getCost() {
+            return cost;
+        }
+
+        @Override
+        public boolean isRecording() {
+            return recording;
+        }
+
+        @Override
+        public FraudVerdict evaluate(FraudContext context) {
+            invocations.incrementAndGet();
+            if (threads != null) {
+                threads.add(Thread.currentThread().getName());
+            }
+            if (barrier != null) {
+                try {
+                    // Run one after the other, the second rule never arrives and the wait times out
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Expensive rules did not run concurrently", e);
+                }
+            }
+            return score > 0 ? FraudVerdict.of(code, code + " triggered", score) : FraudVerdict.PASS;
+        }
+    }
+}
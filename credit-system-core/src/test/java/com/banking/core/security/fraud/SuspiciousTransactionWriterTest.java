@@ -0,0 +1,261 @@
+package com.banking.core.security.fraud;
+
+import com.banking.core.events.EventService;
+import com.banking.entities.IndividualCustomer;
+import com.banking.entities.SuspiciousTransaction;
+import com.banking.entities.enums.RiskLevel;
+import com.banking.entities.enums.TransactionStatus;
+import com.banking.entities.enums.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SuspiciousTransactionWriterTest {
+
+    private static final LocalDateTime TRANSACTION_DATE = LocalDateTime.of(2024, 3, 1, 10, 15);
+    private static final LocalDateTime DETECTION_DATE = LocalDateTime.of(2024, 3, 1, 10, 16);
+
+    private JdbcTemplate jdbcTemplate;
+    private EventService eventService;
+    private SuspiciousTransactionWriteBehind writeBehind;
+    private SuspiciousTransactionWriter writer;
+
+    @TempDir
+    Path journalDirectory;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventService = mock(EventService.class);
+        ObjectProvider<SuspiciousTransactionInsert<?>> inserts = mock(ObjectProvider.class);
+        writeBehind = new SuspiciousTransactionWriteBehind(jdbcTemplate, mock(PlatformTransactionManager.class),
+                new ObjectMapper().findAndRegisterModules(), inserts, new SimpleMeterRegistry());
+        writer = new SuspiciousTransactionWriter(writeBehind, eventService);
+        when(inserts.orderedStream()).thenAnswer(invocation -> Stream.of(writer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void startQueue() {
+        ReflectionTestUtils.setField(writeBehind, "capacity", 100);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 10);
+        ReflectionTestUtils.setField(writeBehind, "offerTimeoutMillis", 50L);
+        ReflectionTestUtils.setField(writeBehind, "shutdownTimeoutMillis", 5000L);
+        ReflectionTestUtils.setField(writeBehind, "initialBackoffMillis", 10L);
+        ReflectionTestUtils.setField(writeBehind, "maxBackoffMillis", 100L);
+        ReflectionTestUtils.setField(writeBehind, "journalDirectory", journalDirectory.toString());
+        ReflectionTestUtils.setField(writeBehind, "journalSegmentRecords", 100);
+        ReflectionTestUtils.setField(writeBehind, "journalFsync", false);
+        writeBehind.init();
+    }
+
+    private void verifyInserts(int times) {
+        verify(jdbcTemplate, times(times)).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+    }
+
+    private SuspiciousTransaction transaction() {
+        IndividualCustomer customer = new IndividualCustomer();
+        customer.setId(7L);
+        SuspiciousTransaction transaction = new SuspiciousTransaction();
+        transaction.setCustomer(customer);
+        transaction.setTransactionId("TX-1");
+        transaction.setAmount(new BigDecimal("1500.00"));
+        transaction.setTransactionDate(TRANSACTION_DATE);
+        transaction.setDetectionDate(DETECTION_DATE);
+        transaction.setDetectionRule("HIGH_AMOUNT");
+        transaction.setDescription("Amount above threshold");
+        transaction.setIpAddress("10.0.0.1");
+        transaction.setUserAgent("JUnit");
+        transaction.setRiskScore(0.85);
+        transaction.setRiskLevel(RiskLevel.HIGH);
+        transaction.setStatus(TransactionStatus.PENDING);
+        transaction.setTransactionType(TransactionType.TRANSFER);
+        return transaction;
+    }
+
+    @Test
+    void bind_ShouldSetColumnsInInsertOrder() throws Exception {
+        // Arrange
+        SuspiciousTransactionRow row = SuspiciousTransactionWriter.toRow(transaction(), null, null);
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        // Act
+        writer.bind(ps, row);
+
+        // Assert
+        verify(ps).setLong(1, 7L);
+        verify(ps).setString(2, "TX-1");
+        verify(ps).setBigDecimal(3, new BigDecimal("1500.00"));
+        verify(ps).setObject(4, TRANSACTION_DATE, Types.TIMESTAMP);
+        verify(ps).setObject(5, DETECTION_DATE, Types.TIMESTAMP);
+        verify(ps).setString(6, "HIGH_AMOUNT");
+        verify(ps).setString(7, "Amount above threshold");
+        verify(ps).setString(8, "10.0.0.1");
+        verify(ps).setString(9, "JUnit");
+        verify(ps).setString(10, "Amount above threshold");
+        verify(ps).setObject(11, 0.85, Types.DOUBLE);
+        verify(ps).setObject(12, DETECTION_DATE, Types.TIMESTAMP);
+        verify(ps).setString(13, "HIGH");
+        verify(ps).setString(14, "PENDING");
+        verify(ps).setString(15, "TRANSFER");
+        verify(ps).setObject(eq(16), any(LocalDateTime.class), eq(Types.TIMESTAMP));
+    }
+
+    @Test
+    void toRow_ShouldRejectTransactionWithoutPersistedCustomer() {
+        // Arrange
+        SuspiciousTransaction transaction = transaction();
+        transaction.setCustomer(null);
+
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> SuspiciousTransactionWriter.toRow(transaction, null, null));
+
+        // Assert
+        assertEquals("Suspicious transaction must reference a persisted customer", error.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_ShouldPublishEventWithGeneratedId() throws Exception {
+        // Arrange
+        SuspiciousTransactionRow row = SuspiciousTransactionWriter.toRow(transaction(), "FRAUD_DETECTED",
+                Map.of("customerId", 7));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    for (int i = 0; i < setter.getBatchSize(); i++) {
+                        setter.setValues(ps, i);
+                    }
+                    KeyHolder keyHolder = invocation.getArgument(2);
+                    keyHolder.getKeyList().add(Map.of("id", 41L));
+                    return new int[] {1};
+                });
+
+        // Act
+        writeBehind.write(List.of(writeBehind.toPending(writer, row)));
+
+        // Assert
+        verify(ps).setString(2, "TX-1");
+        ArgumentCaptor<Map<String, Object>> data = ArgumentCaptor.forClass(Map.class);
+        verify(eventService).publishEvent(eq("FRAUD_DETECTED"), data.capture());
+        assertEquals(41L, data.getValue().get("suspiciousTransactionId"));
+        assertEquals(7, data.getValue().get("customerId"));
+    }
+
+    @Test
+    void write_ShouldNotPublishEventWhenInsertFails() {
+        // Arrange
+        SuspiciousTransactionRow row = SuspiciousTransactionWriter.toRow(transaction(), "FRAUD_DETECTED", Map.of());
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act
+        assertThrows(QueryTimeoutException.class, () -> writeBehind.write(List.of(writeBehind.toPending(writer, row))));
+
+        // Assert
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void submit_ShouldQueueRowOnlyAfterCallerTransactionCommits() {
+        // Arrange
+        startQueue();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        writer.submit(transaction(), "FRAUD_DETECTED", Map.of());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        writeBehind.shutdown();
+
+        // Assert
+        assertEquals(1, synchronizations.size());
+        verifyInserts(1);
+        verify(eventService).publishEvent(eq("FRAUD_DETECTED"), any());
+    }
+
+    @Test
+    void submit_ShouldDropRow_WhenCallerTransactionRollsBack() {
+        // Arrange
+        startQueue();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        writer.submit(transaction(), "FRAUD_DETECTED", Map.of());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        writeBehind.shutdown();
+
+        // Assert
+        verifyInserts(0);
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void submit_ShouldQueueRowImmediately_WhenCalledOutsideTransaction() {
+        // Arrange
+        startQueue();
+
+        // Act
+        writer.submit(transaction(), "FRAUD_DETECTED", Map.of());
+        writeBehind.shutdown();
+
+        // Assert
+        verifyInserts(1);
+        verify(eventService).publishEvent(eq("FRAUD_DETECTED"), any());
+    }
+
+    @Test
+    void isRetryable_ShouldRetryOnlyTransientFailures() {
+        // Arrange
+        RuntimeException transientFailure = new QueryTimeoutException("timeout");
+        RuntimeException constraintViolation = new DataIntegrityViolationException("duplicate");
+
+        // Act
+        boolean transientRetryable = SuspiciousTransactionWriteBehind.isRetryable(transientFailure);
+        boolean constraintRetryable = SuspiciousTransactionWriteBehind.isRetryable(constraintViolation);
+
+        // Assert
+        assertTrue(transientRetryable);
+        assertFalse(constraintRetryable);
+        assertFalse(SuspiciousTransactionWriteBehind.isRetryable(new IllegalStateException("bug")));
+    }
+}
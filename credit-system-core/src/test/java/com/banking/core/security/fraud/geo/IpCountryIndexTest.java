@@ -0,0 +1,77 @@
+package com.banking.core.security.fraud.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IpCountryIndexTest {
+
+    private static IpCountryIndex read(String content) throws IOException {
+        return IpCountryIndex.read(new BufferedReader(new StringReader(content)));
+    }
+
+    @Test
+    void lookup_ShouldFindCountryOfContainingRange() throws IOException {
+        // Arrange
+        IpCountryIndex index = read("""
+                # start,end,country
+                "88.224.0.0","88.255.255.255","TR"
+                16777216,16777471,AU
+                5.2.0.0,5.2.255.255,de
+                """);
+
+        // Act
+        int turkey = index.lookup("88.230.1.10");
+        int australia = index.lookup("1.0.0.255");
+        int germany = index.lookup("5.2.0.0");
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals("TR", CountryCodes.decode(turkey));
+        assertEquals("AU", CountryCodes.decode(australia));
+        assertEquals("DE", CountryCodes.decode(germany));
+    }
+
+    @Test
+    void lookup_ShouldReturnUnknown_ForGapsAndInvalidAddresses() throws IOException {
+        // Arrange
+        IpCountryIndex index = read("5.2.0.0,5.2.255.255,DE\n88.224.0.0,88.255.255.255,TR\n");
+
+        // Act
+        int betweenRanges = index.lookup("5.3.0.0");
+        int belowRanges = index.lookup("1.1.1.1");
+        int invalidOctet = index.lookup("256.1.1.1");
+        int ipv6 = index.lookup("2001:db8::1");
+        int emptyIndex = IpCountryIndex.EMPTY.lookup("5.2.0.1");
+
+        // Assert
+        assertEquals(CountryCodes.UNKNOWN, betweenRanges);
+        assertEquals(CountryCodes.UNKNOWN, belowRanges);
+        assertEquals(CountryCodes.UNKNOWN, invalidOctet);
+        assertEquals(CountryCodes.UNKNOWN, ipv6);
+        assertEquals(CountryCodes.UNKNOWN, emptyIndex);
+    }
+
+    @Test
+    void read_ShouldRejectOverlappingRanges() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> read("5.2.0.0,5.2.255.255,DE\n5.2.128.0,5.3.0.0,TR\n"));
+    }
+
+    @Test
+    void countrySet_ShouldMatchEncodedCountries() {
+        // Act
+        CountrySet set = CountrySet.of("TR", "de");
+
+        // Assert
+        assertTrue(set.contains("DE"));
+        assertTrue(set.contains(CountryCodes.encode("tr")));
+        assertFalse(set.contains("US"));
+        assertFalse(set.contains(CountryCodes.UNKNOWN));
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.core.security.fraud.location;
+
+import com.banking.core.testsupport.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KnownLocationStoreTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-10T12:00:00Z"));
+
+    @Test
+    void history_ShouldRememberLocationPerCustomer() {
+        // Arrange
+        LocationHistoryStore store = new LocationHistoryStore(100, 4, Duration.ofDays(30), clock);
+
+        // Act
+        boolean firstVisit = store.checkAndRecord(1L, "10.0.0.1");
+        boolean secondVisit = store.checkAndRecord(1L, "10.0.0.1");
+        boolean otherCustomer = store.checkAndRecord(2L, "10.0.0.1");
+
+        // Assert
+        assertFalse(firstVisit);
+        assertTrue(secondVisit);
+        assertFalse(otherCustomer);
+    }
+
+    @Test
+    void history_ShouldForgetLocationsNotSeenWithinDecay() {
+        // Arrange
+        LocationHistoryStore store = new LocationHistoryStore(100, 4, Duration.ofDays(30), clock);
+        store.checkAndRecord(1L, "10.0.0.1");
+        clock.advance(Duration.ofDays(31));
+
+        // Act
+        boolean afterDecay = store.checkAndRecord(1L, "10.0.0.1");
+        boolean afterReRecord = store.checkAndRecord(1L, "10.0.0.1");
+
+        // Assert
+        assertFalse(afterDecay);
+        assertTrue(afterReRecord);
+    }
+
+    @Test
+    void history_ShouldReplaceLeastRecentlySeenLocation_WhenFull() {
+        // Arrange
+        LocationHistoryStore store = new LocationHistoryStore(100, 2, Duration.ofDays(30), clock);
+        store.checkAndRecord(1L, "10.0.0.1");
+        clock.advance(Duration.ofMinutes(1));
+        store.checkAndRecord(1L, "10.0.0.2");
+        clock.advance(Duration.ofMinutes(1));
+        store.checkAndRecord(1L, "10.0.0.1");
+        clock.advance(Duration.ofMinutes(1));
+
+        // Act
+        store.checkAndRecord(1L, "10.0.0.3");
+
+        // Assert
+        assertTrue(store.checkAndRecord(1L, "10.0.0.1"));
+        assertFalse(store.checkAndRecord(1L, "10.0.0.2"));
+    }
+
+    @Test
+    void bloom_ShouldRememberLocationsAcrossOneRotation() {
+        // Arrange
+        BloomLocationStore store = new BloomLocationStore(1 << 16, 10_000, Duration.ofDays(30), clock);
+
+        // Act
+        boolean firstVisit = store.checkAndRecord(1L, "10.0.0.1");
+        boolean secondVisit = store.checkAndRecord(1L, "10.0.0.1");
+        clock.advance(Duration.ofDays(31));
+        boolean afterOneRotation = store.checkAndRecord(1L, "10.0.0.1");
+        clock.advance(Duration.ofDays(61));
+        boolean afterTwoRotations = store.checkAndRecord(1L, "10.0.0.1");
+
+        // Assert
+        assertFalse(firstVisit);
+        assertTrue(secondVisit);
+        assertTrue(afterOneRotation);
+        assertFalse(afterTwoRotations);
+    }
+
+    @Test
+    void bloom_ShouldStayNearExpectedFalsePositiveRate() {
+        // Arrange
+        BloomLocationStore store = new BloomLocationStore(1 << 16, 20_000, Duration.ofDays(30), clock);
+        for (long customerId = 0; customerId < 10_000; customerId++) {
+            store.checkAndRecord(customerId, "10.0.0.1");
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (long customerId = 10_000; customerId < 20_000; customerId++) {
+            if (store.checkAndRecord(customerId, "10.0.0.2")) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives / 10_000.0 <= store.getExpectedFalsePositiveRate() * 3,
+                "False positive rate too high: " + falsePositives);
+    }
+}
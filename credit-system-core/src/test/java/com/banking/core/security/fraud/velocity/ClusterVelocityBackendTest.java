@@ -0,0 +1,162 @@
+package com.banking.core.security.fraud.velocity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterVelocityBackendTest {
+
+    private static final List<Duration> WINDOWS = List.of(Duration.ofMinutes(1), Duration.ofHours(1));
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    private static final Duration HOUR = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2024-03-10T12:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private InMemorySharedVelocityCounters shared;
+    private ClusterVelocityBackend nodeA;
+    private ClusterVelocityBackend nodeB;
+
+    @BeforeEach
+    void setUp() {
+        shared = new InMemorySharedVelocityCounters(WINDOWS, 30, 2, 1000);
+        nodeA = node("node-a", 100, clock);
+        nodeB = node("node-b", 100, clock);
+    }
+
+    private ClusterVelocityBackend node(String nodeId, int maxPendingKeys, Clock nodeClock) {
+        return new ClusterVelocityBackend(new LocalVelocityBackend(WINDOWS, 30, 2, 1000), shared, nodeId,
+                Duration.ZERO, maxPendingKeys, nodeClock);
+    }
+
+    @Test
+    void record_ShouldBufferWritesUntilFlush() {
+        // Arrange
+        long now = clock.millis();
+        nodeA.record("customer:1", now, 1000);
+        nodeA.record("customer:1", now, 500);
+        assertEquals(1, nodeA.getPendingKeyCount());
+        assertEquals(0, nodeB.snapshot("customer:1", now).getCount(HOUR));
+        assertEquals(2, nodeA.snapshot("customer:1", now).getCount(HOUR));
+
+        // Act
+        nodeA.flush();
+
+        // Assert
+        assertEquals(0, nodeA.getPendingKeyCount());
+        assertEquals(2, nodeB.snapshot("customer:1", now).getCount(HOUR));
+        assertEquals(1500, nodeB.snapshot("customer:1", now).getAmountMinor(HOUR));
+    }
+
+    @Test
+    void snapshot_ShouldCombineAllNodesWithoutCountingOwnWritesTwice() {
+        // Arrange
+        long now = clock.millis();
+        nodeA.record("customer:1", now, 100);
+        nodeA.flush();
+        nodeB.record("customer:1", now, 200);
+        nodeB.flush();
+
+        // Act
+        VelocitySnapshot fromA = nodeA.snapshot("customer:1", now);
+        VelocitySnapshot fromB = nodeB.snapshot("customer:1", now);
+
+        // Assert
+        assertEquals(2, fromA.getCount(HOUR));
+        assertEquals(300, fromA.getAmountMinor(HOUR));
+        assertEquals(2, fromB.getCount(MINUTE));
+    }
+
+    @Test
+    void record_ShouldFlushInline_WhenPendingKeysExceedLimit() {
+        // Arrange
+        ClusterVelocityBackend node = node("node-c", 2, clock);
+        long now = clock.millis();
+
+        // Act
+        node.record("customer:1", now, 0);
+        node.record("customer:2", now, 0);
+
+        // Assert
+        assertEquals(0, node.getPendingKeyCount());
+        assertEquals(1, nodeA.snapshot("customer:2", now).getCount(HOUR));
+    }
+
+    @Test
+    void flush_ShouldWriteDeltaToBucketOfTransaction_WhenFlushIsDelayed() {
+        // Arrange
+        long recordedAt = clock.millis();
+        Clock later = Clock.fixed(NOW.plus(Duration.ofMinutes(2)), ZoneOffset.UTC);
+        ClusterVelocityBackend delayed = node("node-c", 100, later);
+        delayed.record("customer:1", recordedAt, 700);
+
+        // Act
+        delayed.flush();
+
+        // Assert
+        VelocitySnapshot fromB = nodeB.snapshot("customer:1", later.millis());
+        assertEquals(0, fromB.getCount(MINUTE));
+        assertEquals(1, fromB.getCount(HOUR));
+        assertEquals(700, fromB.getAmountMinor(HOUR));
+    }
+
+    @Test
+    void record_ShouldKeepSeparateDeltasPerTimeSlot() {
+        // Arrange
+        long now = clock.millis();
+        nodeA.record("customer:1", now - Duration.ofMinutes(5).toMillis(), 100);
+        nodeA.record("customer:1", now, 200);
+
+        // Act
+        nodeA.flush();
+
+        // Assert
+        VelocitySnapshot fromB = nodeB.snapshot("customer:1", now);
+        assertEquals(1, fromB.getCount(MINUTE));
+        assertEquals(200, fromB.getAmountMinor(MINUTE));
+        assertEquals(2, fromB.getCount(HOUR));
+    }
+
+    @Test
+    void flush_ShouldDropDeltasOlderThanLongestWindow() {
+        // Arrange
+        long recordedAt = clock.millis();
+        Clock later = Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC);
+        ClusterVelocityBackend delayed = node("node-c", 100, later);
+        delayed.record("customer:1", recordedAt, 700);
+
+        // Act
+        delayed.flush();
+
+        // Assert
+        assertEquals(1, delayed.getDroppedDeltaCount());
+        assertEquals(0, delayed.getPendingKeyCount());
+        assertEquals(0, nodeB.snapshot("customer:1", recordedAt).getCount(HOUR));
+    }
+
+    @Test
+    void delete_ShouldResetCountersOnAllNodes() {
+        // Arrange
+        long now = clock.millis();
+        nodeA.record("failed_login:user", now, 0);
+        nodeA.flush();
+        nodeA.record("failed_login:user", now, 0);
+        assertEquals(1, nodeA.getPendingKeyCount());
+
+        // Act
+        nodeB.delete("failed_login:user");
+
+        // Assert
+        assertEquals(0, nodeB.snapshot("failed_login:user", now).getCount(HOUR));
+        assertEquals(0, nodeA.snapshot("failed_login:user", now).getCount(HOUR));
+        assertEquals(0, nodeA.getPendingKeyCount());
+        nodeA.flush();
+        assertEquals(0, nodeB.snapshot("failed_login:user", now).getCount(HOUR));
+    }
+}
@@ -0,0 +1,152 @@
+package com.banking.core.security.fraud.velocity;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lua betiklerini gerçek bir Redis üzerinde çalıştırır; Docker yoksa atlanır.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSharedVelocityCountersTest {
+
+    private static final List<Duration> WINDOWS = List.of(Duration.ofMinutes(1), Duration.ofHours(1));
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+    private static final Duration HOUR = Duration.ofHours(1);
+    private static final String RESET_CHANNEL = "fraud:velocity:reset";
+    private static final long NOW = Instant.parse("2024-03-10T12:00:00Z").toEpochMilli();
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    private RedisSharedVelocityCounters store() {
+        return new RedisSharedVelocityCounters(redisTemplate, listenerContainer, RESET_CHANNEL, WINDOWS, 30);
+    }
+
+    @Test
+    void otherNodeTotals_ShouldSumOtherNodesOnly() {
+        // Arrange
+        RedisSharedVelocityCounters store = store();
+        store.apply("node-a", List.of(new VelocityDelta("customer:1", NOW, 2, 300)));
+        store.apply("node-b", List.of(new VelocityDelta("customer:1", NOW, 1, 50)));
+
+        // Act
+        List<VelocityWindowTotals> fromB = store.otherNodeTotals("node-b", "customer:1", NOW);
+        List<VelocityWindowTotals> fromC = store.otherNodeTotals("node-c", "customer:1", NOW);
+
+        // Assert
+        assertEquals(new VelocityWindowTotals(MINUTE, 2, 300), fromB.get(0));
+        assertEquals(new VelocityWindowTotals(HOUR, 2, 300), fromB.get(1));
+        assertEquals(new VelocityWindowTotals(HOUR, 3, 350), fromC.get(1));
+    }
+
+    @Test
+    void apply_ShouldWriteDeltaToBucketOfItsTimestamp() {
+        // Arrange
+        RedisSharedVelocityCounters store = store();
+        long twoMinutesAgo = NOW - Duration.ofMinutes(2).toMillis();
+
+        // Act
+        store.apply("node-a", List.of(new VelocityDelta("customer:1", twoMinutesAgo, 1, 700)));
+
+        // Assert
+        List<VelocityWindowTotals> totals = store.otherNodeTotals("node-b", "customer:1", NOW);
+        assertEquals(0, totals.get(0).getCount());
+        assertEquals(1, totals.get(1).getCount());
+        assertEquals(700, totals.get(1).getAmountMinor());
+    }
+
+    @Test
+    void apply_ShouldPruneBucketsThatLeftTheWindow() {
+        // Arrange
+        RedisSharedVelocityCounters store = store();
+        store.apply("node-a", List.of(new VelocityDelta("customer:1", NOW - Duration.ofMinutes(5).toMillis(), 1, 10)));
+
+        // Act
+        store.apply("node-a", List.of(new VelocityDelta("customer:1", NOW, 1, 20)));
+
+        // Assert
+        assertEquals(2, redisTemplate.opsForHash().size("fraud:velocity:{customer:1}:60000"));
+        assertEquals(4, redisTemplate.opsForHash().size("fraud:velocity:{customer:1}:3600000"));
+        Long ttl = redisTemplate.getExpire("fraud:velocity:{customer:1}:60000", TimeUnit.MILLISECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= MINUTE.toMillis() + 2000);
+    }
+
+    @Test
+    void delete_ShouldRemoveKeysAndNotifyEveryNode() throws InterruptedException {
+        // Arrange
+        RedisSharedVelocityCounters nodeA = store();
+        RedisSharedVelocityCounters nodeB = store();
+        CountDownLatch reset = new CountDownLatch(1);
+        nodeA.addDeleteListener(key -> {
+            if (key.equals("failed_login:user")) {
+                reset.countDown();
+            }
+        });
+        listenerContainer.start();
+        nodeA.apply("node-a", List.of(new VelocityDelta("failed_login:user", NOW, 3, 0)));
+
+        // Act
+        nodeB.delete("failed_login:user");
+
+        // Assert
+        assertTrue(reset.await(5, TimeUnit.SECONDS));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("fraud:velocity:{failed_login:user}:60000")));
+        assertEquals(0, nodeB.otherNodeTotals("node-b", "failed_login:user", NOW).get(1).getCount());
+    }
+}
@@ -0,0 +1,103 @@
+package com.banking.core.security.fraud.velocity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private static final long NOW = Instant.parse("2024-03-10T12:00:00Z").toEpochMilli();
+    private static final long SECOND = 1000L;
+
+    @Test
+    void totals_ShouldSumCountAndAmountWithinWindow() {
+        // Arrange
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 60);
+        counter.record(NOW - 30 * SECOND, 1500);
+        counter.record(NOW, 2500);
+
+        // Act
+        VelocityWindowTotals totals = counter.totals(NOW);
+
+        // Assert
+        assertEquals(2, totals.getCount());
+        assertEquals(4000, totals.getAmountMinor());
+    }
+
+    @Test
+    void totals_ShouldDropEventsOlderThanWindow() {
+        // Arrange
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 60);
+        counter.record(NOW, 100);
+
+        // Act
+        VelocityWindowTotals insideWindow = counter.totals(NOW + 59 * SECOND);
+        VelocityWindowTotals afterWindow = counter.totals(NOW + 60 * SECOND);
+
+        // Assert
+        assertEquals(1, insideWindow.getCount());
+        assertEquals(0, afterWindow.getCount());
+    }
+
+    @Test
+    void record_ShouldIgnoreEventsForOverwrittenBuckets() {
+        // Arrange
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 60);
+        counter.record(NOW + 60 * SECOND, 100);
+
+        // Act
+        counter.record(NOW, 100);
+
+        // Assert
+        assertEquals(1, counter.totals(NOW + 60 * SECOND).getCount());
+    }
+
+    @Test
+    void record_ShouldNotLoseConcurrentUpdates() throws InterruptedException {
+        // Arrange
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofHours(1), 60);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.record(NOW, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        boolean terminated = executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(terminated);
+        assertEquals(80_000, counter.totals(NOW).getCount());
+        assertEquals(80_000, counter.totals(NOW).getAmountMinor());
+    }
+
+    @Test
+    void snapshot_ShouldReportEachConfiguredWindow() {
+        // Arrange
+        VelocityCounters counters = new VelocityCounters(
+                List.of(Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofHours(24)), 30, 2);
+        counters.record(NOW - Duration.ofMinutes(30).toMillis(), 10_000);
+        counters.record(NOW, 2_550);
+
+        // Act
+        VelocitySnapshot snapshot = counters.snapshot(NOW);
+
+        // Assert
+        assertEquals(1, snapshot.getCount(Duration.ofMinutes(1)));
+        assertEquals(2, snapshot.getCount(Duration.ofHours(1)));
+        assertEquals(12_550, snapshot.getAmountMinor(Duration.ofHours(24)));
+        assertEquals("125.50", snapshot.getAmount(Duration.ofHours(1)).toPlainString());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getCount(Duration.ofMinutes(5)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.banking.core.testsupport;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Testlerde elle ilerletilen UTC saat.
+ */
+public final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    public MutableClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
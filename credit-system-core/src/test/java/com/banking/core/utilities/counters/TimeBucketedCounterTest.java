@@ -0,0 +1,81 @@
+package com.banking.core.utilities.counters;
+
+import com.banking.core.testsupport.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeBucketedCounterTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private MutableClock clock;
+    private TimeBucketedCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-03-10T12:00:00Z"));
+        counter = new TimeBucketedCounter(Duration.ofDays(1), 7, clock);
+    }
+
+    @Test
+    void sum_ShouldOnlyIncludeRequestedBuckets() {
+        // Arrange
+        long now = clock.millis();
+        counter.add(now, 3);
+        counter.add(now - DAY, 2);
+        counter.add(now - 3 * DAY, 5);
+
+        // Act
+        long lastDay = counter.sum(1);
+        long lastTwoDays = counter.sum(2);
+        long lastWeek = counter.sum(7);
+
+        // Assert
+        assertEquals(3, lastDay);
+        assertEquals(5, lastTwoDays);
+        assertEquals(10, lastWeek);
+    }
+
+    @Test
+    void add_ShouldIgnoreEventsOutsideRetention() {
+        // Arrange
+        long now = clock.millis();
+
+        // Act
+        counter.add(now - 7 * DAY, 4);
+        counter.add(now + DAY, 4);
+
+        // Assert
+        assertEquals(0, counter.sum(7));
+    }
+
+    @Test
+    void sum_ShouldDropExpiredBuckets_WhenClockAdvances() {
+        // Arrange
+        counter.add(1);
+        clock.advance(Duration.ofDays(3));
+        counter.add(2);
+
+        // Act
+        long lastFourDays = counter.sum(4);
+        long lastThreeDays = counter.sum(3);
+        clock.advance(Duration.ofDays(7));
+        long afterRetention = counter.sum(7);
+
+        // Assert
+        assertEquals(3, lastFourDays);
+        assertEquals(2, lastThreeDays);
+        assertEquals(0, afterRetention);
+    }
+
+    @Test
+    void sum_ShouldRejectRangeLargerThanRetention() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> counter.sum(8));
+    }
+}
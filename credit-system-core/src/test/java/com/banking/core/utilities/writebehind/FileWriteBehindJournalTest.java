@@ -0,0 +1,128 @@
+package com.banking.core.utilities.writebehind;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileWriteBehindJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private FileWriteBehindJournal<String> open(int segmentRecords) {
+        return new FileWriteBehindJournal<>(directory, segmentRecords, false, Function.identity(), Function.identity());
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")
+                    && path.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+
+    @Test
+    void reopen_ShouldRecoverOnlyUnacknowledgedRecords() {
+        // Arrange
+        FileWriteBehindJournal<String> journal = open(100);
+        long first = journal.append("a");
+        journal.append("b");
+        long third = journal.append("c");
+        journal.acknowledge(first);
+        journal.acknowledge(third);
+        journal.close();
+
+        // Act
+        FileWriteBehindJournal<String> reopened = open(100);
+        List<JournaledRecord<String>> recovered = reopened.recover();
+
+        // Assert
+        assertEquals(List.of("b"), recovered.stream().map(JournaledRecord::getRecord).toList());
+        assertEquals(1, reopened.getPendingCount());
+        assertTrue(reopened.recover().isEmpty());
+        assertTrue(reopened.append("d") > third);
+        reopened.close();
+    }
+
+    @Test
+    void acknowledge_ShouldDeleteFullyAcknowledgedSegments() throws IOException {
+        // Arrange
+        FileWriteBehindJournal<String> journal = open(2);
+        long a = journal.append("a");
+        long b = journal.append("b");
+        long c = journal.append("c");
+        assertEquals(2, segmentFiles());
+
+        // Act
+        journal.acknowledge(a);
+        journal.acknowledge(b);
+
+        // Assert
+        assertEquals(1, segmentFiles());
+        assertEquals(1, journal.getPendingCount());
+        journal.acknowledge(c);
+        journal.close();
+        assertTrue(open(2).recover().isEmpty());
+    }
+
+    @Test
+    void deadLetter_ShouldWriteRecordAndReasonAndNotRecoverIt() throws IOException {
+        // Arrange
+        FileWriteBehindJournal<String> journal = open(100);
+        long id = journal.append("broken");
+
+        // Act
+        journal.deadLetter(id, "broken", "constraint\nviolation");
+        journal.close();
+
+        // Assert
+        List<String> lines = Files.readAllLines(directory.resolve("dead-letter.log"), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith("\t" + id + "\tconstraint violation\tbroken"));
+        assertTrue(open(100).recover().isEmpty());
+    }
+
+    @Test
+    void reopen_ShouldSkipTornLastLine() throws IOException {
+        // Arrange
+        FileWriteBehindJournal<Integer> journal = new FileWriteBehindJournal<>(directory, 100, false,
+                String::valueOf, Integer::valueOf);
+        journal.append(1);
+        journal.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        Files.writeString(segment, "2\t", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // Act
+        List<JournaledRecord<Integer>> recovered = new FileWriteBehindJournal<>(directory, 100, false,
+                String::valueOf, Integer::valueOf).recover();
+
+        // Assert
+        assertEquals(List.of(1), recovered.stream().map(JournaledRecord::getRecord).toList());
+    }
+
+    @Test
+    void append_ShouldRejectMultiLineRecords() {
+        // Arrange
+        FileWriteBehindJournal<String> journal = open(100);
+
+        // Act
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> journal.append("line-1\nline-2"));
+        journal.close();
+
+        // Assert
+        assertEquals("Journal records must be encoded on a single line", error.getMessage());
+    }
+}
@@ -0,0 +1,190 @@
+package com.banking.core.utilities.writebehind;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindQueueTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private WriteBehindQueue<String> queue(int capacity, int batchSize, BatchWriter<String> writer,
+                                           WriteBehindJournal<String> journal) {
+        WriteBehindSettings settings = WriteBehindSettings.builder()
+                .capacity(capacity)
+                .batchSize(batchSize)
+                .offerTimeout(Duration.ofMillis(10))
+                .shutdownTimeout(Duration.ofSeconds(5))
+                .initialBackoff(Duration.ofMillis(1))
+                .maxBackoff(Duration.ofMillis(5))
+                .build();
+        return new WriteBehindQueue<>("test", settings, writer, journal,
+                e -> e instanceof TransientFailure, meterRegistry);
+    }
+
+    private List<String> written() {
+        synchronized (batches) {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    @Test
+    void close_ShouldWriteAllQueuedRecordsInBoundedBatches() {
+        // Arrange
+        InMemoryWriteBehindJournal<String> journal = new InMemoryWriteBehindJournal<>();
+        WriteBehindQueue<String> queue = queue(1000, 50, batch -> batches.add(List.copyOf(batch)), journal);
+
+        // Act
+        for (int i = 0; i < 250; i++) {
+            queue.submit("record-" + i);
+        }
+        queue.close();
+
+        // Assert
+        assertEquals(250, written().size());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 50));
+        assertEquals(0, queue.getDepth());
+        assertTrue(journal.getPending().isEmpty());
+        assertEquals(250, meterRegistry.get("writebehind.records").tag("result", "written").counter().count());
+    }
+
+    @Test
+    void submit_ShouldWriteOnCallerThreadWhenQueueIsFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> callerThreadRecords = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindQueue<String> queue = queue(1, 10, batch -> {
+            if (Thread.currentThread().getName().equals("write-behind-test")) {
+                workerBusy.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                callerThreadRecords.addAll(batch);
+            }
+            batches.add(List.copyOf(batch));
+        }, new InMemoryWriteBehindJournal<>());
+
+        // Act
+        queue.submit("first");
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS));
+        queue.submit("queued");
+        queue.submit("overflow");
+
+        // Assert
+        assertEquals(List.of("overflow"), callerThreadRecords);
+        assertEquals(1, queue.getDepth());
+        assertEquals(1.0, meterRegistry.get("writebehind.queue.depth").gauge().value());
+        assertEquals(1, meterRegistry.get("writebehind.caller.writes").counter().count());
+
+        release.countDown();
+        queue.close();
+        assertEquals(3, written().size());
+    }
+
+    @Test
+    void retryableFailure_ShouldKeepRecordsAndRetryUntilWritten() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        InMemoryWriteBehindJournal<String> journal = new InMemoryWriteBehindJournal<>();
+        WriteBehindQueue<String> queue = queue(100, 10, batch -> {
+            if (attempts.incrementAndGet() <= 3) {
+                throw new TransientFailure();
+            }
+            batches.add(List.copyOf(batch));
+        }, journal);
+
+        // Act
+        queue.submit("a");
+        queue.close();
+
+        // Assert
+        assertEquals(List.of("a"), written());
+        assertTrue(journal.getPending().isEmpty());
+        assertTrue(journal.getDeadLetters().isEmpty());
+        assertEquals(3, meterRegistry.get("writebehind.write.failures").counter().count());
+    }
+
+    @Test
+    void permanentFailure_ShouldDeadLetterOnlyTheFailingRecord() {
+        // Arrange
+        InMemoryWriteBehindJournal<String> journal = new InMemoryWriteBehindJournal<>();
+        WriteBehindQueue<String> queue = queue(100, 10, batch -> {
+            if (batch.contains("bad")) {
+                throw new IllegalStateException("constraint violation");
+            }
+            batches.add(List.copyOf(batch));
+        }, journal);
+
+        // Act
+        queue.submit("a");
+        queue.submit("bad");
+        queue.submit("b");
+        queue.close();
+
+        // Assert
+        assertEquals(List.of("a", "b"), written());
+        assertEquals(List.of("bad"), journal.getDeadLetters());
+        assertTrue(journal.getPending().isEmpty());
+        assertEquals(1, meterRegistry.get("writebehind.records").tag("result", "dead_lettered").counter().count());
+    }
+
+    @Test
+    void construction_ShouldWriteRecordsRecoveredFromJournal() {
+        // Arrange
+        InMemoryWriteBehindJournal<String> journal = new InMemoryWriteBehindJournal<>(List.of("left-1", "left-2"));
+
+        // Act
+        WriteBehindQueue<String> queue = queue(100, 10, batch -> batches.add(List.copyOf(batch)), journal);
+        queue.submit("new");
+        queue.close();
+
+        // Assert
+        assertEquals(List.of("left-1", "left-2", "new"), written());
+        assertTrue(journal.getPending().isEmpty());
+    }
+
+    @Test
+    void close_ShouldLeaveRecordsInJournalWhenStoreStaysUnavailable() {
+        // Arrange
+        InMemoryWriteBehindJournal<String> journal = new InMemoryWriteBehindJournal<>();
+        WriteBehindSettings settings = WriteBehindSettings.builder()
+                .capacity(10)
+                .batchSize(10)
+                .offerTimeout(Duration.ofMillis(10))
+                .shutdownTimeout(Duration.ofMillis(100))
+                .initialBackoff(Duration.ofMillis(1))
+                .maxBackoff(Duration.ofMillis(5))
+                .build();
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>("unavailable", settings, batch -> {
+            throw new TransientFailure();
+        }, journal, e -> e instanceof TransientFailure, meterRegistry);
+
+        // Act
+        queue.submit("kept");
+        queue.close();
+
+        // Assert
+        assertEquals(List.of("kept"), journal.getPending());
+        assertTrue(journal.getDeadLetters().isEmpty());
+    }
+
+    private static class TransientFailure extends RuntimeException {
+        TransientFailure() {
+            super("connection refused");
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.banking.repositories.abstracts;
 import com.banking.entities.CreditApplication;
 import com.banking.entities.enums.CreditApplicationStatus;
 import com.banking.entities.enums.CreditType;
+import com.banking.repositories.projections.AmountStatistics;
+import com.banking.repositories.projections.CreditApplicationAggregate;
+import com.banking.repositories.projections.DailyCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -137,4 +141,111 @@ public interface CreditApplicationRepository extends JpaRepository<CreditApplica
     List<CreditApplication> findAllByCustomerIdAndStatus(
             @Param("customerId") Long customerId, 
             @Param("status") CreditApplicationStatus status);
-} 
\ No newline at end of file
+
+    /**
+     * Summarize active credit applications grouped by credit type and status.
+     * Returns one row per (credit type, status) pair instead of loading the entities.
+     * 
+     * @return a List of aggregate rows containing count and total amount
+     */
+    @Query("SELECT ca.creditType AS creditType, ca.status AS status, COUNT(ca) AS applicationCount, " +
+           "COALESCE(SUM(ca.amount), 0) AS totalAmount " +
+           "FROM CreditApplication ca WHERE ca.deletedDate IS NULL " +
+           "GROUP BY ca.creditType, ca.status")
+    @Transactional(readOnly = true)
+    List<CreditApplicationAggregate> summarizeByCreditTypeAndStatus();
+
+    /**
+     * Count active credit applications per creation day, starting from the given date.
+     * 
+     * @param startDate the date to count from (inclusive)
+     * @return a List of per-day application counts
+     */
+    @Query("SELECT CAST(ca.createdDate AS LocalDate) AS day, COUNT(ca) AS count " +
+           "FROM CreditApplication ca WHERE ca.createdDate >= :startDate AND ca.deletedDate IS NULL " +
+           "GROUP BY CAST(ca.createdDate AS LocalDate)")
+    @Transactional(readOnly = true)
+    List<DailyCount> countDailyCreatedSince(@Param("startDate") LocalDateTime startDate);
+
+    /**
+     * Count active credit applications with the given status per approval day, starting from the given date.
+     * 
+     * @param status the status to search for
+     * @param startDate the date to count from (inclusive)
+     * @return a List of per-day approval counts
+     */
+    @Query("SELECT CAST(ca.approvalDate AS LocalDate) AS day, COUNT(ca) AS count " +
+           "FROM CreditApplication ca WHERE ca.status = :status AND ca.approvalDate >= :startDate " +
+           "AND ca.deletedDate IS NULL GROUP BY CAST(ca.approvalDate AS LocalDate)")
+    @Transactional(readOnly = true)
+    List<DailyCount> countDailyApprovedSince(
+            @Param("status") CreditApplication.Status status,
+            @Param("startDate") LocalDateTime startDate);
+
+    /**
+     * Calculate count, sum and sum of squares of amounts for active applications with the given status.
+     * Used to derive mean and variance without loading the entities.
+     * 
+     * @param status the status to search for
+     * @return the amount statistics
+     */
+    @Query("SELECT COUNT(ca) AS count, COALESCE(SUM(ca.amount), 0) AS total, " +
+           "COALESCE(SUM(ca.amount * ca.amount), 0) AS totalOfSquares " +
+           "FROM CreditApplication ca WHERE ca.status = :status AND ca.deletedDate IS NULL")
+    @Transactional(readOnly = true)
+    AmountStatistics calculateAmountStatisticsByStatus(@Param("status") CreditApplication.Status status);
+
+    /**
+     * Find active credit applications with the given status, with pagination and sorting.
+     * Backed by the (status, created_date) index; only the requested page is loaded.
+     * 
+     * @param status the status to search for
+     * @param pageable pagination and sorting information
+     * @return a Page of credit applications
+     */
+    @Query(value = "SELECT ca FROM CreditApplication ca WHERE ca.status = :status AND ca.deletedDate IS NULL",
+           countQuery = "SELECT COUNT(ca) FROM CreditApplication ca WHERE ca.status = :status AND ca.deletedDate IS NULL")
+    @Transactional(readOnly = true)
+    Page<CreditApplication> findPageByStatus(@Param("status") CreditApplication.Status status, Pageable pageable);
+
+    /**
+     * Find the first keyset page of active applications in the given statuses
+     * whose last activity (update date, or creation date if never updated) is before the threshold.
+     * 
+     * @param statuses the statuses to search for
+     * @param threshold the last activity threshold (exclusive)
+     * @param pageable page size only; the sort order is fixed by the query
+     * @return a List of credit applications ordered by last activity and ID
+     */
+    @Query("SELECT ca FROM CreditApplication ca WHERE ca.status IN :statuses AND ca.deletedDate IS NULL " +
+           "AND COALESCE(ca.updatedDate, ca.createdDate) < :threshold " +
+           "ORDER BY COALESCE(ca.updatedDate, ca.createdDate), ca.id")
+    @Transactional(readOnly = true)
+    List<CreditApplication> findStaleApplications(
+            @Param("statuses") Collection<CreditApplication.Status> statuses,
+            @Param("threshold") LocalDateTime threshold,
+            Pageable pageable);
+
+    /**
+     * Find the next keyset page of stale applications after the given (last activity, ID) position.
+     * 
+     * @param statuses the statuses to search for
+     * @param threshold the last activity threshold (exclusive)
+     * @param lastTimestamp last activity of the final row of the previous page
+     * @param lastId ID of the final row of the previous page
+     * @param pageable page size only; the sort order is fixed by the query
+     * @return a List of credit applications ordered by last activity and ID
+     */
+    @Query("SELECT ca FROM CreditApplication ca WHERE ca.status IN :statuses AND ca.deletedDate IS NULL " +
+           "AND COALESCE(ca.updatedDate, ca.createdDate) < :threshold " +
+           "AND (COALESCE(ca.updatedDate, ca.createdDate) > :lastTimestamp " +
+           "OR (COALESCE(ca.updatedDate, ca.createdDate) = :lastTimestamp AND ca.id > :lastId)) " +
+           "ORDER BY COALESCE(ca.updatedDate, ca.createdDate), ca.id")
+    @Transactional(readOnly = true)
+    List<CreditApplication> findStaleApplicationsAfter(
+            @Param("statuses") Collection<CreditApplication.Status> statuses,
+            @Param("threshold") LocalDateTime threshold,
+            @Param("lastTimestamp") LocalDateTime lastTimestamp,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+}
@@ -3,8 +3,11 @@ package com.banking.repositories.abstracts;
 import com.banking.entities.CreditHistory;
 import com.banking.entities.enums.CreditHistoryStatus;
 import com.banking.entities.enums.CreditType;
+import com.banking.repositories.projections.CreditHistorySummaryAggregate;
+import com.banking.repositories.projections.PaymentPerformanceAggregate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,9 +19,11 @@ import java.util.List;
 /**
  * Repository interface for CreditHistory entity.
  * Provides methods for accessing credit history data.
+ * Dynamic, paged filtering is available through {@link JpaSpecificationExecutor}
+ * together with {@code CreditHistorySpecifications}.
  */
 @Repository
-public interface CreditHistoryRepository extends GenericRepository<CreditHistory, Long> {
+public interface CreditHistoryRepository extends GenericRepository<CreditHistory, Long>, JpaSpecificationExecutor<CreditHistory> {
     
     /**
      * Find all credit histories by customer ID.
@@ -250,6 +255,61 @@ public interface CreditHistoryRepository extends GenericRepository<CreditHistory
             """)
     Double calculateOnTimePaymentPercentageByCustomer(@Param("customerId") Long customerId);
     
+    /**
+     * Summarize the credit histories of a customer grouped by credit type in a single query.
+     * Status counts, amounts and the sums needed for averages are computed by the database,
+     * so no CreditHistory entity is hydrated.
+     *
+     * @param customerId the customer ID
+     * @return one aggregate row per credit type
+     */
+    @Query("""
+            SELECT
+                ch.creditType AS creditType,
+                COUNT(ch) AS totalCredits,
+                SUM(CASE WHEN ch.status = com.banking.entities.enums.CreditHistoryStatus.ACTIVE THEN 1 ELSE 0 END) AS activeCredits,
+                SUM(CASE WHEN ch.status = com.banking.entities.enums.CreditHistoryStatus.PAID_OFF THEN 1 ELSE 0 END) AS completedCredits,
+                SUM(CASE WHEN ch.status IN (com.banking.entities.enums.CreditHistoryStatus.DEFAULT,
+                        com.banking.entities.enums.CreditHistoryStatus.CHARGED_OFF) THEN 1 ELSE 0 END) AS defaultedCredits,
+                SUM(CASE WHEN ch.status = com.banking.entities.enums.CreditHistoryStatus.DELINQUENT THEN 1 ELSE 0 END) AS delinquentCredits,
+                SUM(CASE WHEN ch.status IN (com.banking.entities.enums.CreditHistoryStatus.DELINQUENT,
+                        com.banking.entities.enums.CreditHistoryStatus.DEFAULT,
+                        com.banking.entities.enums.CreditHistoryStatus.COLLECTION) THEN 1 ELSE 0 END) AS troubledCredits,
+                COALESCE(SUM(ch.originalAmount), 0) AS totalOriginalAmount,
+                COALESCE(SUM(CASE WHEN ch.isClosed = false THEN ch.outstandingAmount ELSE 0 END), 0) AS openOutstandingAmount,
+                COALESCE(SUM(ch.outstandingAmount), 0) AS totalOutstandingAmount,
+                COALESCE(SUM(ch.interestRate), 0) AS interestRateSum,
+                COUNT(ch.interestRate) AS interestRateCount,
+                COALESCE(SUM(ch.termMonths), 0) AS termMonthsSum,
+                COALESCE(SUM(ch.totalPaymentsMade), 0) AS totalPaymentsMade,
+                COALESCE(SUM(ch.onTimePayments), 0) AS onTimePayments
+            FROM CreditHistory ch
+            WHERE ch.customer.id = :customerId
+            GROUP BY ch.creditType
+            """)
+    List<CreditHistorySummaryAggregate> summarizeByCustomerGroupedByCreditType(@Param("customerId") Long customerId);
+    
+    /**
+     * Calculate the payment performance figures of a customer in a single aggregate query.
+     *
+     * @param customerId the customer ID
+     * @return the payment performance aggregate
+     */
+    @Query("""
+            SELECT
+                COALESCE(SUM(ch.totalPaymentsMade), 0) AS totalPayments,
+                COALESCE(SUM(ch.onTimePayments), 0) AS onTimePayments,
+                COALESCE(SUM(ch.latePayments), 0) AS latePayments,
+                COALESCE(SUM(ch.missedPayments), 0) AS missedPayments,
+                COALESCE(AVG(ch.averageDaysLate), 0) AS averageDaysLate,
+                COALESCE(SUM(CASE WHEN ch.originalAmount IS NOT NULL AND ch.outstandingAmount IS NOT NULL
+                        THEN ch.originalAmount - ch.outstandingAmount ELSE 0 END), 0) AS totalPaidAmount,
+                COALESCE(SUM(ch.totalLateFees), 0) AS totalPenaltyAmount
+            FROM CreditHistory ch
+            WHERE ch.customer.id = :customerId
+            """)
+    PaymentPerformanceAggregate calculatePaymentPerformanceByCustomer(@Param("customerId") Long customerId);
+    
     /**
      * Find all active credit histories.
      *
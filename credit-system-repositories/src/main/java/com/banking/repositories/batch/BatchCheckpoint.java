@@ -0,0 +1,39 @@
+package com.banking.repositories.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Committed progress of one partition of a batch job.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BatchCheckpoint {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        FAILED,
+        COMPLETED
+    }
+
+    String jobName;
+    int partitionId;
+    long rangeStart;
+    long rangeEnd;
+    long lastProcessedKey;
+    Status status;
+    long processedChunks;
+    long affectedRows;
+
+    /**
+     * Number of keys of the partition that have not been processed yet.
+     */
+    public long getRemainingKeys() {
+        return Math.max(0, rangeEnd - lastProcessedKey);
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+}
@@ -0,0 +1,105 @@
+package com.banking.repositories.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code batch_job_checkpoints} table.
+ * {@link #advance} is meant to run in the same transaction as the chunk it records.
+ * Updates made by a running job are fenced: they only apply while the given owner still holds the job's lease in
+ * {@code batch_job_locks}, so a node that lost its lock cannot move a checkpoint another node now owns.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointStore {
+
+    private static final RowMapper<BatchCheckpoint> ROW_MAPPER = (rs, rowNum) -> BatchCheckpoint.builder()
+            .jobName(rs.getString("job_name"))
+            .partitionId(rs.getInt("partition_id"))
+            .rangeStart(rs.getLong("range_start"))
+            .rangeEnd(rs.getLong("range_end"))
+            .lastProcessedKey(rs.getLong("last_processed_key"))
+            .status(BatchCheckpoint.Status.valueOf(rs.getString("status")))
+            .processedChunks(rs.getLong("processed_chunks"))
+            .affectedRows(rs.getLong("affected_rows"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<BatchCheckpoint> findByJobName(String jobName) {
+        return jdbcTemplate.query("""
+                SELECT job_name, partition_id, range_start, range_end, last_processed_key, status,
+                    processed_chunks, affected_rows
+                FROM batch_job_checkpoints
+                WHERE job_name = ?
+                ORDER BY partition_id
+                """, ROW_MAPPER, jobName);
+    }
+
+    public void insert(BatchCheckpoint checkpoint) {
+        jdbcTemplate.update("""
+                INSERT INTO batch_job_checkpoints (
+                    job_name, partition_id, range_start, range_end, last_processed_key, status,
+                    processed_chunks, affected_rows
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                checkpoint.getJobName(), checkpoint.getPartitionId(), checkpoint.getRangeStart(),
+                checkpoint.getRangeEnd(), checkpoint.getLastProcessedKey(), checkpoint.getStatus().name(),
+                checkpoint.getProcessedChunks(), checkpoint.getAffectedRows());
+    }
+
+    /**
+     * Record a chunk of a partition.
+     * The checkpoint only moves if it is still at the lower bound of the chunk and the owner still holds the lock;
+     * otherwise another run already processed or took over the range and the caller must roll the chunk back.
+     *
+     * @param jobName the job name
+     * @param partitionId the partition
+     * @param owner the node that holds the job's lock
+     * @param expectedLastProcessedKey the lower bound of the chunk, i.e. the checkpoint this run started from
+     * @param lastProcessedKey the upper bound of the chunk
+     * @param affectedRows the number of rows the chunk changed
+     * @return false if the checkpoint was not moved
+     */
+    public boolean advance(String jobName, int partitionId, String owner, long expectedLastProcessedKey,
+                           long lastProcessedKey, long affectedRows) {
+        return jdbcTemplate.update("""
+                UPDATE batch_job_checkpoints
+                SET last_processed_key = ?, processed_chunks = processed_chunks + 1,
+                    affected_rows = affected_rows + ?, status = 'RUNNING', updated_date = CURRENT_TIMESTAMP
+                WHERE job_name = ? AND partition_id = ? AND last_processed_key = ?
+                AND EXISTS (
+                    SELECT 1 FROM batch_job_locks l
+                    WHERE l.job_name = ? AND l.locked_by = ? AND l.locked_until > ?
+                )
+                """, lastProcessedKey, affectedRows, jobName, partitionId, expectedLastProcessedKey,
+                jobName, owner, Timestamp.from(Instant.now())) > 0;
+    }
+
+    /**
+     * Set the status of a partition if the owner still holds the job's lock.
+     *
+     * @return false if the lock is no longer held and the status was left unchanged
+     */
+    public boolean updateStatus(String jobName, int partitionId, String owner, BatchCheckpoint.Status status) {
+        return jdbcTemplate.update("""
+                UPDATE batch_job_checkpoints
+                SET status = ?, updated_date = CURRENT_TIMESTAMP
+                WHERE job_name = ? AND partition_id = ?
+                AND EXISTS (
+                    SELECT 1 FROM batch_job_locks l
+                    WHERE l.job_name = ? AND l.locked_by = ? AND l.locked_until > ?
+                )
+                """, status.name(), jobName, partitionId, jobName, owner, Timestamp.from(Instant.now())) > 0;
+    }
+
+    public void deleteByJobName(String jobName) {
+        jdbcTemplate.update("DELETE FROM batch_job_checkpoints WHERE job_name = ?", jobName);
+    }
+}
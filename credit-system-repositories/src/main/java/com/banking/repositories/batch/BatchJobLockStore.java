@@ -0,0 +1,77 @@
+package com.banking.repositories.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * JDBC access to the {@code batch_job_locks} table.
+ * A lock is a lease: the owner holds the job until {@code locked_until}, so the lock of a node that dies
+ * mid-run expires instead of blocking the job forever. Each statement commits on its own, so the lock is
+ * visible to other nodes while the job is running.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchJobLockStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Take the lock if nobody holds it or the previous lease has expired.
+     *
+     * @param jobName the job name
+     * @param owner the node taking the lock
+     * @param lease how long the lock is held unless extended
+     * @return true if the lock was taken
+     */
+    public boolean tryLock(String jobName, String owner, Duration lease) {
+        Instant now = Instant.now();
+        int taken = jdbcTemplate.update("""
+                UPDATE batch_job_locks
+                SET locked_by = ?, locked_at = ?, locked_until = ?
+                WHERE job_name = ? AND locked_until <= ?
+                """, owner, Timestamp.from(now), Timestamp.from(now.plus(lease)), jobName, Timestamp.from(now));
+        if (taken > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO batch_job_locks (job_name, locked_by, locked_at, locked_until)
+                    VALUES (?, ?, ?, ?)
+                    """, jobName, owner, Timestamp.from(now), Timestamp.from(now.plus(lease)));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Extend a lock that is still held by the given owner.
+     *
+     * @return false if the lease expired and the lock may have been taken by another node
+     */
+    public boolean extend(String jobName, String owner, Duration lease) {
+        Instant now = Instant.now();
+        return jdbcTemplate.update("""
+                UPDATE batch_job_locks
+                SET locked_until = ?
+                WHERE job_name = ? AND locked_by = ? AND locked_until > ?
+                """, Timestamp.from(now.plus(lease)), jobName, owner, Timestamp.from(now)) > 0;
+    }
+
+    /**
+     * Release the lock if it is still held by the given owner.
+     */
+    public void unlock(String jobName, String owner) {
+        jdbcTemplate.update("""
+                UPDATE batch_job_locks
+                SET locked_until = ?
+                WHERE job_name = ? AND locked_by = ?
+                """, Timestamp.from(Instant.now()), jobName, owner);
+    }
+}
@@ -0,0 +1,132 @@
+package com.banking.repositories.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress metrics for a chunked batch job.
+ * Tracks processed chunks, scanned keys and affected rows, and reports throughput.
+ * When the size of the key space is known, it also reports lag: remaining keys and the estimated time to finish.
+ * Chunks may complete concurrently from several partitions.
+ */
+@Slf4j
+public class BatchJobProgress {
+
+    private final String jobName;
+    private final long totalKeys;
+    private final Instant startedAt;
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong affected = new AtomicLong();
+    private volatile Instant lastChunkAt;
+    private volatile Instant finishedAt;
+
+    public BatchJobProgress(String jobName) {
+        this(jobName, 0);
+    }
+
+    /**
+     * @param jobName the job name
+     * @param totalKeys the number of keys the job has to scan, or 0 if unknown
+     */
+    public BatchJobProgress(String jobName, long totalKeys) {
+        this.jobName = jobName;
+        this.totalKeys = totalKeys;
+        this.startedAt = Instant.now();
+    }
+
+    /**
+     * Record a completed chunk.
+     *
+     * @param scannedInChunk the number of keys covered by the chunk
+     * @param affectedInChunk the number of rows changed by the chunk
+     */
+    public void chunkCompleted(long scannedInChunk, long affectedInChunk) {
+        long chunkCount = chunks.incrementAndGet();
+        scanned.addAndGet(scannedInChunk);
+        affected.addAndGet(affectedInChunk);
+        lastChunkAt = Instant.now();
+        log.debug("Batch job {} chunk {} completed. Scanned: {}, affected: {}",
+                jobName, chunkCount, scannedInChunk, affectedInChunk);
+    }
+
+    public void finish() {
+        finishedAt = Instant.now();
+        log.info("Batch job {} finished in {} ms. Chunks: {}, scanned: {}, affected: {}, throughput: {} rows/s",
+                jobName, getElapsed().toMillis(), getChunks(), getScanned(), getAffected(),
+                String.format("%.1f", getThroughputPerSecond()));
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public long getChunks() {
+        return chunks.get();
+    }
+
+    public long getScanned() {
+        return scanned.get();
+    }
+
+    public long getAffected() {
+        return affected.get();
+    }
+
+    public long getTotalKeys() {
+        return totalKeys;
+    }
+
+    /**
+     * Keys left to scan, or 0 if the size of the key space is unknown.
+     */
+    public long getRemaining() {
+        return Math.max(0, totalKeys - getScanned());
+    }
+
+    /**
+     * Estimated time to finish at the current throughput, or {@code null} if it cannot be estimated yet.
+     */
+    public Duration getEstimatedTimeRemaining() {
+        double throughput = getThroughputPerSecond();
+        if (totalKeys <= 0 || throughput <= 0) {
+            return null;
+        }
+        return Duration.ofMillis((long) (getRemaining() * 1000.0 / throughput));
+    }
+
+    /**
+     * Time since the last chunk committed; a growing value points to a stalled job.
+     */
+    public Duration getTimeSinceLastChunk() {
+        Instant reference = lastChunkAt != null ? lastChunkAt : startedAt;
+        return Duration.between(reference, finishedAt != null ? finishedAt : Instant.now());
+    }
+
+    public Instant getLastChunkAt() {
+        return lastChunkAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Duration getElapsed() {
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now());
+    }
+
+    /**
+     * Scanned keys per second since the job started.
+     */
+    public double getThroughputPerSecond() {
+        long millis = Math.max(1, getElapsed().toMillis());
+        return getScanned() * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,19 @@
+package com.banking.repositories.batch;
+
+/**
+ * Unit of work of a partitioned batch job.
+ * Processes every row whose partition key falls into {@code (fromExclusive, toInclusive]}.
+ * Implementations are called inside the chunk transaction and must not manage transactions themselves.
+ */
+@FunctionalInterface
+public interface ChunkProcessor {
+
+    /**
+     * Process one key range.
+     *
+     * @param fromExclusive the lower bound of the key range (exclusive)
+     * @param toInclusive the upper bound of the key range (inclusive)
+     * @return the number of affected rows
+     */
+    int process(long fromExclusive, long toInclusive);
+}
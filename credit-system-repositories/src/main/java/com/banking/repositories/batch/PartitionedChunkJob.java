@@ -0,0 +1,30 @@
+package com.banking.repositories.batch;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Definition of a partitioned, restartable batch job.
+ * The key space returned by {@code keyRangeSql} (a single row of MIN and MAX key) is split into
+ * {@code partitionCount} contiguous ranges, and each range is processed in chunks of {@code chunkSize} keys.
+ */
+@Value
+@Builder
+public class PartitionedChunkJob {
+
+    /**
+     * Unique job name, also the checkpoint key.
+     */
+    String name;
+
+    /**
+     * Query returning the smallest and largest partition key, e.g. {@code SELECT MIN(id), MAX(id) FROM customers}.
+     */
+    String keyRangeSql;
+
+    long chunkSize;
+
+    int partitionCount;
+
+    ChunkProcessor processor;
+}
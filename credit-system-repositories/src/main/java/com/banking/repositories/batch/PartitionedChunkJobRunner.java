@@ -0,0 +1,314 @@
+package com.banking.repositories.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs partitioned, restartable batch jobs.
+ * The key space of a job is split into contiguous partitions which are processed in parallel on the bounded
+ * {@code batchExecutor}. Every chunk runs in its own transaction together with its checkpoint update, so a
+ * failure only rolls back the current chunk and a later run of the same job resumes each unfinished partition
+ * from its last committed key.
+ * <p>
+ * Only one run per job name is allowed at a time across the cluster: a run takes a lease in
+ * {@code batch_job_locks} and extends it once a third of the lease has passed since the last extension.
+ * Every chunk is fenced: its checkpoint update only applies if the checkpoint is still where this run left it
+ * and this node still holds the lease, otherwise the chunk is rolled back. A node that lost its lease therefore
+ * never commits a range that another node took over, which matters for jobs that are not idempotent. Progress is exported to Micrometer as
+ * {@code batch.job.*} meters tagged with the job name.
+ */
+@Component
+@Slf4j
+public class PartitionedChunkJobRunner {
+
+    private static final int PROGRESS_LOG_INTERVAL_CHUNKS = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchCheckpointStore checkpointStore;
+    private final TransactionTemplate chunkTransaction;
+    private final BatchJobLockStore lockStore;
+    private final Executor batchExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, BatchJobProgress> runningJobs = new ConcurrentHashMap<>();
+    private final Set<String> instrumentedJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${batch.lock.lease-seconds:600}")
+    private long lockLeaseSeconds;
+
+    public PartitionedChunkJobRunner(JdbcTemplate jdbcTemplate,
+                                     BatchCheckpointStore checkpointStore,
+                                     BatchJobLockStore lockStore,
+                                     PlatformTransactionManager transactionManager,
+                                     @Qualifier("batchExecutor") Executor batchExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointStore = checkpointStore;
+        this.lockStore = lockStore;
+        this.batchExecutor = batchExecutor;
+        this.meterRegistry = meterRegistry;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Run a job to completion, resuming from its checkpoints if a previous run did not finish.
+     *
+     * @param job the job definition
+     * @return the progress of this run
+     * @throws IllegalStateException if the job is already running on any node or a partition failed
+     */
+    public BatchJobProgress run(PartitionedChunkJob job) {
+        if (job.getChunkSize() <= 0 || job.getPartitionCount() <= 0) {
+            throw new IllegalArgumentException("Chunk size and partition count must be positive for job " + job.getName());
+        }
+
+        Duration lease = Duration.ofSeconds(lockLeaseSeconds);
+        if (!lockStore.tryLock(job.getName(), nodeId, lease)) {
+            meterRegistry.counter("batch.job.lock.rejected", "job", job.getName()).increment();
+            throw new IllegalStateException("Batch job is already running: " + job.getName());
+        }
+
+        registerGauges(job.getName());
+        JobMeters meters = new JobMeters(job.getName());
+        Lease jobLease = new Lease(job.getName(), lease);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failed";
+        try {
+            List<BatchCheckpoint> partitions = preparePartitions(job);
+            long totalKeys = partitions.stream().mapToLong(BatchCheckpoint::getRemainingKeys).sum();
+            BatchJobProgress progress = new BatchJobProgress(job.getName(), totalKeys);
+            runningJobs.put(job.getName(), progress);
+
+            log.info("Starting batch job {}. Partitions: {}, keys to scan: {}, chunk size: {}",
+                    job.getName(), partitions.size(), totalKeys, job.getChunkSize());
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (BatchCheckpoint partition : partitions) {
+                futures.add(CompletableFuture.runAsync(
+                        () -> runPartition(job, partition, progress, meters, jobLease), batchExecutor));
+            }
+
+            List<Throwable> failures = new ArrayList<>();
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    failures.add(e.getCause() != null ? e.getCause() : e);
+                }
+            }
+
+            progress.finish();
+            if (!failures.isEmpty()) {
+                IllegalStateException exception = new IllegalStateException(
+                        "Batch job " + job.getName() + " failed in " + failures.size()
+                                + " partition(s); the next run resumes from the last checkpoint", failures.get(0));
+                failures.stream().skip(1).forEach(exception::addSuppressed);
+                throw exception;
+            }
+            result = "completed";
+            return progress;
+        } finally {
+            sample.stop(meterRegistry.timer("batch.job.duration", "job", job.getName(), "result", result));
+            runningJobs.remove(job.getName());
+            lockStore.unlock(job.getName(), nodeId);
+        }
+    }
+
+    /**
+     * Progress of a job currently running on this node.
+     */
+    public Optional<BatchJobProgress> getProgress(String jobName) {
+        return Optional.ofNullable(runningJobs.get(jobName));
+    }
+
+    public Map<String, BatchJobProgress> getRunningJobs() {
+        return Collections.unmodifiableMap(runningJobs);
+    }
+
+    /**
+     * Partitions to process: the unfinished checkpoints of an interrupted run, or a fresh split of the key space.
+     */
+    private List<BatchCheckpoint> preparePartitions(PartitionedChunkJob job) {
+        List<BatchCheckpoint> checkpoints = checkpointStore.findByJobName(job.getName());
+        if (!checkpoints.isEmpty() && !checkpoints.stream().allMatch(BatchCheckpoint::isCompleted)) {
+            log.info("Resuming batch job {} from checkpoints", job.getName());
+            return checkpoints.stream().filter(checkpoint -> !checkpoint.isCompleted()).toList();
+        }
+
+        checkpointStore.deleteByJobName(job.getName());
+
+        List<BatchCheckpoint> partitions = new ArrayList<>();
+        long[] range = jdbcTemplate.query(job.getKeyRangeSql(), rs -> {
+            if (!rs.next() || rs.getObject(1) == null || rs.getObject(2) == null) {
+                return null;
+            }
+            return new long[] {rs.getLong(1), rs.getLong(2)};
+        });
+        if (range == null) {
+            return partitions;
+        }
+
+        long firstKey = range[0];
+        long lastKey = range[1];
+        long keyCount = lastKey - firstKey + 1;
+        long chunks = (keyCount + job.getChunkSize() - 1) / job.getChunkSize();
+        int partitionCount = (int) Math.min(job.getPartitionCount(), chunks);
+        // Partition widths are whole chunks so that chunk boundaries stay aligned across partitions
+        long partitionWidth = ((chunks + partitionCount - 1) / partitionCount) * job.getChunkSize();
+
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            long rangeStart = firstKey + partitionId * partitionWidth;
+            if (rangeStart > lastKey) {
+                break;
+            }
+            long rangeEnd = Math.min(lastKey, rangeStart + partitionWidth - 1);
+            BatchCheckpoint checkpoint = BatchCheckpoint.builder()
+                    .jobName(job.getName())
+                    .partitionId(partitionId)
+                    .rangeStart(rangeStart)
+                    .rangeEnd(rangeEnd)
+                    .lastProcessedKey(rangeStart - 1)
+                    .status(BatchCheckpoint.Status.PENDING)
+                    .build();
+            checkpointStore.insert(checkpoint);
+            partitions.add(checkpoint);
+        }
+        return partitions;
+    }
+
+    private void runPartition(PartitionedChunkJob job, BatchCheckpoint partition, BatchJobProgress progress,
+                              JobMeters meters, Lease lease) {
+        long lastKey = partition.getLastProcessedKey();
+        try {
+            while (lastKey < partition.getRangeEnd()) {
+                long from = lastKey;
+                long to = Math.min(partition.getRangeEnd(), from + job.getChunkSize());
+                Integer affected = chunkTransaction.execute(status -> {
+                    int rows = job.getProcessor().process(from, to);
+                    if (!checkpointStore.advance(job.getName(), partition.getPartitionId(), nodeId, from, to, rows)) {
+                        // Rolls the chunk back: the range was taken over by another node or this node lost the lease
+                        throw new IllegalStateException("Batch job " + job.getName() + " partition "
+                                + partition.getPartitionId() + " lost ownership of keys (" + from + ", " + to + "]");
+                    }
+                    return rows;
+                });
+                long rows = affected != null ? affected : 0;
+                progress.chunkCompleted(to - from, rows);
+                meters.chunkCompleted(to - from, rows);
+                lastKey = to;
+                lease.extendIfDue();
+
+                if (progress.getChunks() % PROGRESS_LOG_INTERVAL_CHUNKS == 0) {
+                    log.info("Batch job {} progress. Affected: {}, remaining keys: {}, throughput: {} keys/s",
+                            job.getName(), progress.getAffected(), progress.getRemaining(),
+                            String.format("%.1f", progress.getThroughputPerSecond()));
+                }
+            }
+            if (!checkpointStore.updateStatus(job.getName(), partition.getPartitionId(), nodeId,
+                    BatchCheckpoint.Status.COMPLETED)) {
+                throw new IllegalStateException("Lost the lock of batch job " + job.getName());
+            }
+        } catch (RuntimeException e) {
+            log.error("Batch job {} partition {} failed after key {}", job.getName(), partition.getPartitionId(), lastKey, e);
+            checkpointStore.updateStatus(job.getName(), partition.getPartitionId(), nodeId, BatchCheckpoint.Status.FAILED);
+            throw e;
+        }
+    }
+
+    /**
+     * Gauges read the progress of the current run on this node and report 0 when the job is not running here.
+     */
+    private void registerGauges(String jobName) {
+        if (!instrumentedJobs.add(jobName)) {
+            return;
+        }
+        Gauge.builder("batch.job.keys.remaining", runningJobs,
+                        jobs -> jobs.containsKey(jobName) ? jobs.get(jobName).getRemaining() : 0)
+                .tag("job", jobName)
+                .description("Keys left to scan in the current run")
+                .register(meterRegistry);
+        Gauge.builder("batch.job.last.chunk.age", runningJobs,
+                        jobs -> jobs.containsKey(jobName) ? jobs.get(jobName).getTimeSinceLastChunk().toMillis() / 1000.0 : 0)
+                .tag("job", jobName)
+                .baseUnit("seconds")
+                .description("Time since the last chunk of the current run committed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The lease of one run, shared by its partitions.
+     * It is extended on a time basis so that slow chunks or many partitions cannot let it run out unnoticed.
+     */
+    private final class Lease {
+
+        private final String jobName;
+        private final Duration duration;
+        private final long extendIntervalMillis;
+        private final AtomicLong lastExtendedAt = new AtomicLong(System.currentTimeMillis());
+
+        Lease(String jobName, Duration duration) {
+            this.jobName = jobName;
+            this.duration = duration;
+            this.extendIntervalMillis = duration.toMillis() / 3;
+        }
+
+        void extendIfDue() {
+            long now = System.currentTimeMillis();
+            long last = lastExtendedAt.get();
+            if (now - last < extendIntervalMillis || !lastExtendedAt.compareAndSet(last, now)) {
+                return;
+            }
+            if (!lockStore.extend(jobName, nodeId, duration)) {
+                throw new IllegalStateException("Lost the lock of batch job " + jobName);
+            }
+        }
+    }
+
+    /**
+     * Counters of one job, resolved once per run instead of once per chunk.
+     */
+    private final class JobMeters {
+
+        private final Counter chunks;
+        private final Counter scanned;
+        private final Counter affected;
+
+        JobMeters(String jobName) {
+            this.chunks = meterRegistry.counter("batch.job.chunks", "job", jobName);
+            this.scanned = meterRegistry.counter("batch.job.keys.scanned", "job", jobName);
+            this.affected = meterRegistry.counter("batch.job.rows.affected", "job", jobName);
+        }
+
+        void chunkCompleted(long scannedInChunk, long affectedInChunk) {
+            chunks.increment();
+            scanned.increment(scannedInChunk);
+            affected.increment(affectedInChunk);
+        }
+    }
+}
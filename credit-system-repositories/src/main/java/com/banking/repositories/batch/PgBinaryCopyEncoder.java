@@ -0,0 +1,164 @@
+package com.banking.repositories.batch;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Encoder for the PostgreSQL {@code COPY ... FROM STDIN (FORMAT binary)} stream.
+ * Writes the file header, one tuple per {@link #startRow(int)} followed by its fields, and the trailer.
+ * The encoder does not buffer rows itself; memory use is bounded by the underlying stream.
+ */
+public class PgBinaryCopyEncoder {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDate POSTGRES_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime POSTGRES_EPOCH = POSTGRES_EPOCH_DATE.atStartOfDay();
+    private static final short NUMERIC_POSITIVE = 0x0000;
+    private static final short NUMERIC_NEGATIVE = 0x4000;
+
+    private final DataOutputStream out;
+    private long rows;
+
+    public PgBinaryCopyEncoder(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0); // flags
+        this.out.writeInt(0); // header extension length
+    }
+
+    public void startRow(int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+        rows++;
+    }
+
+    public void writeNull() throws IOException {
+        out.writeInt(-1);
+    }
+
+    /**
+     * {@code int8} field.
+     */
+    public void writeLong(Long value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(Long.BYTES);
+        out.writeLong(value);
+    }
+
+    /**
+     * {@code int4} field.
+     */
+    public void writeInt(Integer value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(Integer.BYTES);
+        out.writeInt(value);
+    }
+
+    /**
+     * {@code text} / {@code varchar} field.
+     */
+    public void writeText(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * {@code date} field, days since 2000-01-01.
+     */
+    public void writeDate(LocalDate value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(Integer.BYTES);
+        out.writeInt(Math.toIntExact(ChronoUnit.DAYS.between(POSTGRES_EPOCH_DATE, value)));
+    }
+
+    /**
+     * {@code timestamp} (without time zone) field, microseconds since 2000-01-01 00:00.
+     */
+    public void writeTimestamp(LocalDateTime value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(Long.BYTES);
+        out.writeLong(ChronoUnit.MICROS.between(POSTGRES_EPOCH, value));
+    }
+
+    /**
+     * {@code numeric} field: base-10000 digits with weight, sign and display scale.
+     */
+    public void writeNumeric(BigDecimal value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        int scale = Math.max(0, value.scale());
+        BigDecimal normalized = value.setScale(scale);
+        // Pad the fraction to a whole number of base-10000 digits so that digit groups align with the decimal point
+        int fractionGroups = (scale + 3) / 4;
+        BigInteger unscaled = normalized.movePointRight(fractionGroups * 4).toBigIntegerExact().abs();
+
+        String decimalDigits = unscaled.signum() == 0 ? "" : unscaled.toString();
+        decimalDigits = "0".repeat((4 - decimalDigits.length() % 4) % 4) + decimalDigits;
+        short[] digits = new short[decimalDigits.length() / 4];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = Short.parseShort(decimalDigits.substring(i * 4, i * 4 + 4));
+        }
+
+        int first = 0;
+        int last = digits.length - 1;
+        int weight = digits.length - fractionGroups - 1;
+        // Leading and trailing zero groups are not transmitted
+        while (first <= last && digits[first] == 0) {
+            first++;
+            weight--;
+        }
+        while (last >= first && digits[last] == 0) {
+            last--;
+        }
+        int transmitted = last - first + 1;
+        if (transmitted == 0) {
+            weight = 0;
+        }
+
+        out.writeInt(8 + transmitted * 2);
+        out.writeShort(transmitted);
+        out.writeShort(weight);
+        out.writeShort(value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        out.writeShort(scale);
+        for (int i = first; i <= last; i++) {
+            out.writeShort(digits[i]);
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Write the trailer and flush. The underlying stream is not closed.
+     */
+    public void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+}
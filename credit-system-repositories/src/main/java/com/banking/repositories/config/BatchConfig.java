@@ -1,11 +1,14 @@
 package com.banking.repositories.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import javax.sql.DataSource;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration class for batch processing.
@@ -37,4 +40,28 @@ public class BatchConfig {
     public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
         return new NamedParameterJdbcTemplate(dataSource);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Bounded executor for partitions of batch jobs.
+     * When the queue is full the submitting thread runs the partition itself, which throttles submission
+     * instead of rejecting work. Keep the pool below the connection pool size, as every partition holds
+     * one connection per chunk.
+     * 
+     * @param threads the number of worker threads
+     * @param queueCapacity the number of partitions that can wait for a worker
+     * @return the batch executor
+     */
+    @Bean(name = "batchExecutor")
+    public ThreadPoolTaskExecutor batchExecutor(@Value("${batch.partition.threads:4}") int threads,
+                                                @Value("${batch.partition.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("banking-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
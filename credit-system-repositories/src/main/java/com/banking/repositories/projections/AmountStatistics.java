@@ -0,0 +1,16 @@
+package com.banking.repositories.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Tutar alanı için tek sorguda hesaplanan sayım, toplam ve kareler toplamı projeksiyonu.
+ * Ortalama ve varyans bu üç değerden türetilir.
+ */
+public interface AmountStatistics {
+
+    Long getCount();
+
+    BigDecimal getTotal();
+
+    BigDecimal getTotalOfSquares();
+}
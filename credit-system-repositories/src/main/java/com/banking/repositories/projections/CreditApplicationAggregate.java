@@ -0,0 +1,21 @@
+package com.banking.repositories.projections;
+
+import com.banking.entities.CreditApplication;
+import com.banking.entities.enums.CreditType;
+
+import java.math.BigDecimal;
+
+/**
+ * Kredi başvurularının kredi tipi ve durum bazında gruplanmış özet projeksiyonu.
+ * Entity yüklemeden tek sorguda sayım ve toplam tutar döner.
+ */
+public interface CreditApplicationAggregate {
+
+    CreditType getCreditType();
+
+    CreditApplication.Status getStatus();
+
+    Long getApplicationCount();
+
+    BigDecimal getTotalAmount();
+}
@@ -0,0 +1,42 @@
+package com.banking.repositories.projections;
+
+import com.banking.entities.enums.CreditType;
+
+import java.math.BigDecimal;
+
+/**
+ * Bir müşterinin kredi geçmişinin kredi tipi bazında özet projeksiyonu.
+ * Ortalamalar gruplar arasında doğru birleştirilebilmesi için toplam ve adet olarak döner.
+ */
+public interface CreditHistorySummaryAggregate {
+
+    CreditType getCreditType();
+
+    Long getTotalCredits();
+
+    Long getActiveCredits();
+
+    Long getCompletedCredits();
+
+    Long getDefaultedCredits();
+
+    Long getDelinquentCredits();
+
+    Long getTroubledCredits();
+
+    BigDecimal getTotalOriginalAmount();
+
+    BigDecimal getOpenOutstandingAmount();
+
+    BigDecimal getTotalOutstandingAmount();
+
+    BigDecimal getInterestRateSum();
+
+    Long getInterestRateCount();
+
+    Long getTermMonthsSum();
+
+    Long getTotalPaymentsMade();
+
+    Long getOnTimePayments();
+}
@@ -0,0 +1,13 @@
+package com.banking.repositories.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Gün bazında gruplanmış sayım projeksiyonu.
+ */
+public interface DailyCount {
+
+    LocalDate getDay();
+
+    Long getCount();
+}
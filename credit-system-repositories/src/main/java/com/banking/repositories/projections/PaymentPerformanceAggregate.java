@@ -0,0 +1,23 @@
+package com.banking.repositories.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Bir müşterinin tüm kredi geçmişi üzerinden tek satırlık ödeme performansı projeksiyonu.
+ */
+public interface PaymentPerformanceAggregate {
+
+    Long getTotalPayments();
+
+    Long getOnTimePayments();
+
+    Long getLatePayments();
+
+    Long getMissedPayments();
+
+    Double getAverageDaysLate();
+
+    BigDecimal getTotalPaidAmount();
+
+    BigDecimal getTotalPenaltyAmount();
+}
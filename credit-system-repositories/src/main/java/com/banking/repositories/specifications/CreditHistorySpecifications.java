@@ -0,0 +1,77 @@
+package com.banking.repositories.specifications;
+
+import com.banking.entities.CreditHistory;
+import com.banking.entities.enums.CreditHistoryStatus;
+import com.banking.entities.enums.CreditType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Specifications for dynamic CreditHistory filtering.
+ * Every predicate is evaluated by the database so that only the requested page is loaded.
+ * A null argument produces no restriction, allowing optional filters to be combined freely.
+ */
+public final class CreditHistorySpecifications {
+
+    private CreditHistorySpecifications() {
+    }
+
+    /**
+     * Restrict to credit histories of the given customer.
+     *
+     * @param customerId the customer ID
+     * @return the specification
+     */
+    public static Specification<CreditHistory> hasCustomerId(Long customerId) {
+        return (root, query, cb) -> customerId == null
+                ? null
+                : cb.equal(root.get("customer").get("id"), customerId);
+    }
+
+    /**
+     * Restrict to credit histories with the given status.
+     *
+     * @param status the status
+     * @return the specification
+     */
+    public static Specification<CreditHistory> hasStatus(CreditHistoryStatus status) {
+        return (root, query, cb) -> status == null
+                ? null
+                : cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Restrict to credit histories with the given credit type.
+     *
+     * @param creditType the credit type
+     * @return the specification
+     */
+    public static Specification<CreditHistory> hasCreditType(CreditType creditType) {
+        return (root, query, cb) -> creditType == null
+                ? null
+                : cb.equal(root.get("creditType"), creditType);
+    }
+
+    /**
+     * Restrict to credit histories whose start date is within the given range (both ends inclusive).
+     *
+     * @param startDate the lower bound, or null for no lower bound
+     * @param endDate the upper bound, or null for no upper bound
+     * @return the specification
+     */
+    public static Specification<CreditHistory> startDateBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> {
+            if (startDate != null && endDate != null) {
+                return cb.between(root.get("startDate"), startDate, endDate);
+            }
+            if (startDate != null) {
+                return cb.greaterThanOrEqualTo(root.get("startDate"), startDate);
+            }
+            if (endDate != null) {
+                return cb.lessThanOrEqualTo(root.get("startDate"), endDate);
+            }
+            return null;
+        };
+    }
+}
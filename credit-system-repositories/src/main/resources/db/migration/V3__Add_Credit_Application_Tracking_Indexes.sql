@@ -0,0 +1,9 @@
+-- Back-office status listing (status filter, newest first)
+CREATE INDEX IF NOT EXISTS idx_credit_application_status_created_date_id
+    ON credit_applications(status, created_date, id)
+    WHERE deleted_date IS NULL;
+
+-- Keyset cursor for stale applications: last activity is updated_date, or created_date if never updated
+CREATE INDEX IF NOT EXISTS idx_credit_application_status_last_activity_id
+    ON credit_applications(status, (COALESCE(updated_date, created_date)), id)
+    WHERE deleted_date IS NULL;
@@ -0,0 +1,12 @@
+-- Customer-scoped credit history listings filtered by status / credit type and sorted by start date
+CREATE INDEX IF NOT EXISTS idx_credit_histories_customer_id_status_start_date
+    ON credit_histories(customer_id, status, start_date)
+    WHERE deleted_date IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_credit_histories_customer_id_credit_type_start_date
+    ON credit_histories(customer_id, credit_type, start_date)
+    WHERE deleted_date IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_credit_histories_customer_id_start_date
+    ON credit_histories(customer_id, start_date)
+    WHERE deleted_date IS NULL;
@@ -0,0 +1,17 @@
+-- Per-partition checkpoints of partitioned batch jobs.
+-- Each chunk advances last_processed_key in the same transaction as its work, so a restarted job resumes
+-- from the last committed chunk of every unfinished partition.
+CREATE TABLE IF NOT EXISTS batch_job_checkpoints (
+    job_name VARCHAR(100) NOT NULL,
+    partition_id INTEGER NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    last_processed_key BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    processed_chunks BIGINT NOT NULL DEFAULT 0,
+    affected_rows BIGINT NOT NULL DEFAULT 0,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_name, partition_id)
+);
+
@@ -0,0 +1,10 @@
+-- Cluster-wide locks of batch jobs.
+-- A node owns a job while locked_until is in the future; the lease is extended while the job makes progress
+-- and expires on its own if the owning node dies.
+CREATE TABLE IF NOT EXISTS batch_job_locks (
+    job_name VARCHAR(100) NOT NULL,
+    locked_by VARCHAR(100) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP NOT NULL,
+    PRIMARY KEY (job_name)
+);
@@ -0,0 +1,82 @@
+package com.banking.repositories.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchJobLockStoreTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private JdbcTemplate jdbcTemplate;
+    private BatchJobLockStore lockStore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE batch_job_locks (
+                    job_name VARCHAR(100) NOT NULL,
+                    locked_by VARCHAR(100) NOT NULL,
+                    locked_at TIMESTAMP NOT NULL,
+                    locked_until TIMESTAMP NOT NULL,
+                    PRIMARY KEY (job_name)
+                )
+                """);
+        lockStore = new BatchJobLockStore(jdbcTemplate);
+    }
+
+    @Test
+    void tryLock_ShouldRejectSecondNodeWhileLeaseIsHeld() {
+        // Arrange
+        assertTrue(lockStore.tryLock("credit-score-update", "node-a", LEASE));
+
+        // Act
+        boolean taken = lockStore.tryLock("credit-score-update", "node-b", LEASE);
+
+        // Assert
+        assertFalse(taken);
+        assertTrue(lockStore.tryLock("delinquency-classification", "node-b", LEASE));
+    }
+
+    @Test
+    void tryLock_ShouldTakeOverExpiredLease() {
+        // Arrange
+        assertTrue(lockStore.tryLock("credit-score-update", "node-a", LEASE));
+        jdbcTemplate.update("UPDATE batch_job_locks SET locked_until = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)));
+
+        // Act
+        boolean taken = lockStore.tryLock("credit-score-update", "node-b", LEASE);
+
+        // Assert
+        assertTrue(taken);
+        assertFalse(lockStore.extend("credit-score-update", "node-a", LEASE));
+        assertTrue(lockStore.extend("credit-score-update", "node-b", LEASE));
+    }
+
+    @Test
+    void unlock_ShouldReleaseOnlyOwnLock() {
+        // Arrange
+        assertTrue(lockStore.tryLock("credit-score-update", "node-a", LEASE));
+
+        // Act
+        lockStore.unlock("credit-score-update", "node-b");
+        boolean takenWhileHeld = lockStore.tryLock("credit-score-update", "node-b", LEASE);
+        lockStore.unlock("credit-score-update", "node-a");
+        boolean takenAfterRelease = lockStore.tryLock("credit-score-update", "node-b", LEASE);
+
+        // Assert
+        assertFalse(takenWhileHeld);
+        assertTrue(takenAfterRelease);
+    }
+}
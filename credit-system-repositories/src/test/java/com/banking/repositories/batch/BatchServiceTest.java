@@ -0,0 +1,203 @@
+package com.banking.repositories.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the set-based batch statements against H2 in PostgreSQL mode, which accepts {@code UPDATE ... FROM}.
+ */
+class BatchServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE customers (id BIGINT PRIMARY KEY, credit_score INTEGER)");
+        jdbcTemplate.execute("""
+                CREATE TABLE credit_histories (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    customer_id BIGINT NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    total_payments_made INTEGER,
+                    on_time_payments INTEGER,
+                    late_payments INTEGER,
+                    updated_date TIMESTAMP,
+                    deleted_date TIMESTAMP
+                )
+                """);
+    }
+
+    private void customer(long id, Integer creditScore) {
+        jdbcTemplate.update("INSERT INTO customers (id, credit_score) VALUES (?, ?)", id, creditScore);
+    }
+
+    private void history(long customerId, String status, int totalPayments, int onTimePayments) {
+        jdbcTemplate.update("""
+                INSERT INTO credit_histories (customer_id, status, total_payments_made, on_time_payments, late_payments)
+                VALUES (?, ?, ?, ?, ?)
+                """, customerId, status, totalPayments, onTimePayments, totalPayments - onTimePayments);
+    }
+
+    private long lateHistory(long customerId, String status, int latePayments) {
+        jdbcTemplate.update("""
+                INSERT INTO credit_histories (customer_id, status, total_payments_made, on_time_payments, late_payments)
+                VALUES (?, ?, 10, 0, ?)
+                """, customerId, status, latePayments);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM credit_histories", Long.class);
+    }
+
+    private Integer creditScore(long customerId) {
+        return jdbcTemplate.queryForObject("SELECT credit_score FROM customers WHERE id = ?", Integer.class, customerId);
+    }
+
+    private String status(long historyId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM credit_histories WHERE id = ?", String.class, historyId);
+    }
+
+    private int classify(long fromCustomerId, long toCustomerId) {
+        return jdbcTemplate.update(BatchService.CLASSIFY_DEFAULT_SQL, fromCustomerId, toCustomerId)
+                + jdbcTemplate.update(BatchService.CLASSIFY_DELINQUENT_SQL, fromCustomerId, toCustomerId);
+    }
+
+    @Test
+    void updateCreditScores_ShouldMapOnTimePercentageBoundariesToScoreIncrease() {
+        // Arrange
+        int[] onTimePercentages = {95, 90, 80, 70, 69};
+        for (int i = 0; i < onTimePercentages.length; i++) {
+            customer(i + 1, 500);
+            history(i + 1, "PAID_OFF", 100, onTimePercentages[i]);
+        }
+
+        // Act
+        int updated = jdbcTemplate.update(BatchService.UPDATE_CREDIT_SCORES_FOR_RANGE_SQL, 0L, 5L);
+
+        // Assert
+        assertEquals(4, updated);
+        assertEquals(List.of(530, 520, 510, 505, 500),
+                List.of(creditScore(1), creditScore(2), creditScore(3), creditScore(4), creditScore(5)));
+    }
+
+    @Test
+    void updateCreditScores_ShouldUsePaymentsOfAllCreditsOfCustomer() {
+        // Arrange
+        customer(1, 500);
+        history(1, "PAID_OFF", 10, 10);
+        history(1, "ACTIVE", 10, 8);
+
+        // Act
+        jdbcTemplate.update(BatchService.UPDATE_CREDIT_SCORES_FOR_RANGE_SQL, 0L, 1L);
+
+        // Assert
+        assertEquals(520, creditScore(1));
+    }
+
+    @Test
+    void updateCreditScores_ShouldLeaveCustomerWithoutCreditScoreUnscored() {
+        // Arrange
+        customer(1, null);
+        history(1, "PAID_OFF", 100, 100);
+
+        // Act
+        int updated = jdbcTemplate.update(BatchService.UPDATE_CREDIT_SCORES_FOR_RANGE_SQL, 0L, 1L);
+
+        // Assert
+        assertEquals(0, updated);
+        assertNull(creditScore(1));
+    }
+
+    @Test
+    void updateCreditScores_ShouldNotIncreaseScore_WhenCustomerHasNoPaidOffCredit() {
+        // Arrange
+        customer(1, 500);
+        history(1, "ACTIVE", 100, 100);
+        history(1, "DEFAULT", 100, 100);
+
+        // Act
+        int updated = jdbcTemplate.update(BatchService.UPDATE_CREDIT_SCORES_FOR_RANGE_SQL, 0L, 1L);
+
+        // Assert
+        assertEquals(0, updated);
+        assertEquals(500, creditScore(1));
+    }
+
+    @Test
+    void updateCreditScores_ShouldOnlyTouchCustomersInsideKeyRange() {
+        // Arrange
+        for (long id = 1; id <= 3; id++) {
+            customer(id, 500);
+            history(id, "PAID_OFF", 100, 100);
+        }
+
+        // Act
+        int updated = jdbcTemplate.update(BatchService.UPDATE_CREDIT_SCORES_FOR_RANGE_SQL, 1L, 2L);
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(List.of(500, 530, 500), List.of(creditScore(1), creditScore(2), creditScore(3)));
+    }
+
+    @Test
+    void classify_ShouldMoveCreditsByLatePaymentThresholds() {
+        // Arrange
+        long threeLate = lateHistory(1, "ACTIVE", 3);
+        long fourLate = lateHistory(1, "ACTIVE", 4);
+        long sixLate = lateHistory(1, "RESTRUCTURED", 6);
+        long sevenLate = lateHistory(1, "ACTIVE", 7);
+        long delinquentSevenLate = lateHistory(1, "DELINQUENT", 7);
+
+        // Act
+        int transitions = classify(0L, 1L);
+
+        // Assert
+        assertEquals(4, transitions);
+        assertEquals("ACTIVE", status(threeLate));
+        assertEquals("DELINQUENT", status(fourLate));
+        assertEquals("DELINQUENT", status(sixLate));
+        assertEquals("DEFAULT", status(sevenLate));
+        assertEquals("DEFAULT", status(delinquentSevenLate));
+    }
+
+    @Test
+    void classify_ShouldNeverMoveCreditsToMilderOrFromClosedStatus() {
+        // Arrange
+        long defaulted = lateHistory(1, "DEFAULT", 4);
+        long paidOff = lateHistory(1, "PAID_OFF", 7);
+
+        // Act
+        int transitions = classify(0L, 1L);
+
+        // Assert
+        assertEquals(0, transitions);
+        assertEquals("DEFAULT", status(defaulted));
+        assertEquals("PAID_OFF", status(paidOff));
+    }
+
+    @Test
+    void classify_ShouldOnlyTouchCreditsInsideKeyRangeAndNotDeleted() {
+        // Arrange
+        long below = lateHistory(1, "ACTIVE", 7);
+        long inside = lateHistory(2, "ACTIVE", 7);
+        long above = lateHistory(3, "ACTIVE", 7);
+        long deleted = lateHistory(2, "ACTIVE", 7);
+        jdbcTemplate.update("UPDATE credit_histories SET deleted_date = CURRENT_TIMESTAMP WHERE id = ?", deleted);
+
+        // Act
+        int transitions = classify(1L, 2L);
+
+        // Assert
+        assertEquals(1, transitions);
+        assertEquals("ACTIVE", status(below));
+        assertEquals("DEFAULT", status(inside));
+        assertEquals("ACTIVE", status(above));
+        assertEquals("ACTIVE", status(deleted));
+    }
+}
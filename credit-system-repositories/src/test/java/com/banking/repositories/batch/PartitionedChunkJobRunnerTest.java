@@ -0,0 +1,142 @@
+package com.banking.repositories.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedChunkJobRunnerTest {
+
+    private static final String JOB = "score-increment";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE batch_job_checkpoints (
+                    job_name VARCHAR(100) NOT NULL,
+                    partition_id INTEGER NOT NULL,
+                    range_start BIGINT NOT NULL,
+                    range_end BIGINT NOT NULL,
+                    last_processed_key BIGINT NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    processed_chunks BIGINT NOT NULL DEFAULT 0,
+                    affected_rows BIGINT NOT NULL DEFAULT 0,
+                    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    updated_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    PRIMARY KEY (job_name, partition_id)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE batch_job_locks (
+                    job_name VARCHAR(100) NOT NULL,
+                    locked_by VARCHAR(100) NOT NULL,
+                    locked_at TIMESTAMP NOT NULL,
+                    locked_until TIMESTAMP NOT NULL,
+                    PRIMARY KEY (job_name)
+                )
+                """);
+        jdbcTemplate.execute("CREATE TABLE scores (id BIGINT PRIMARY KEY, score INTEGER NOT NULL)");
+        for (long id = 1; id <= 10; id++) {
+            jdbcTemplate.update("INSERT INTO scores (id, score) VALUES (?, 0)", id);
+        }
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PartitionedChunkJobRunner runner() {
+        PartitionedChunkJobRunner runner = new PartitionedChunkJobRunner(jdbcTemplate,
+                new BatchCheckpointStore(jdbcTemplate), new BatchJobLockStore(jdbcTemplate),
+                new DataSourceTransactionManager(dataSource), Runnable::run, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(runner, "lockLeaseSeconds", 600L);
+        return runner;
+    }
+
+    private PartitionedChunkJob job(ChunkProcessor processor) {
+        return PartitionedChunkJob.builder()
+                .name(JOB)
+                .keyRangeSql("SELECT MIN(id), MAX(id) FROM scores")
+                .chunkSize(5)
+                .partitionCount(1)
+                .processor(processor)
+                .build();
+    }
+
+    private int increment(long fromId, long toId) {
+        return jdbcTemplate.update("UPDATE scores SET score = score + 1 WHERE id > ? AND id <= ?", fromId, toId);
+    }
+
+    @Test
+    void run_ShouldApplyEveryChunkOnce() {
+        // Arrange
+        PartitionedChunkJobRunner runner = runner();
+
+        // Act
+        BatchJobProgress progress = runner.run(job(this::increment));
+
+        // Assert
+        assertEquals(10, progress.getAffected());
+        assertEquals(List.of(1), jdbcTemplate.queryForList("SELECT DISTINCT score FROM scores", Integer.class));
+    }
+
+    @Test
+    void run_ShouldRollBackChunkOfNodeThatLostItsLease_WhenAnotherNodeTookOverThePartition() throws Exception {
+        // Arrange
+        CountDownLatch staleChunkStarted = new CountDownLatch(1);
+        CountDownLatch takeoverFinished = new CountDownLatch(1);
+        PartitionedChunkJobRunner staleNode = runner();
+        PartitionedChunkJobRunner takeoverNode = runner();
+        Future<BatchJobProgress> staleRun = executor.submit(() -> staleNode.run(job((fromId, toId) -> {
+            staleChunkStarted.countDown();
+            try {
+                takeoverFinished.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return increment(fromId, toId);
+        })));
+        assertTrue(staleChunkStarted.await(10, TimeUnit.SECONDS));
+        // The stale node stalls past its lease
+        jdbcTemplate.update("UPDATE batch_job_locks SET locked_until = ?", Timestamp.from(Instant.now().minusSeconds(1)));
+
+        // Act
+        BatchJobProgress takeover = takeoverNode.run(job(this::increment));
+        takeoverFinished.countDown();
+        ExecutionException staleFailure = assertThrows(ExecutionException.class, () -> staleRun.get(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, staleFailure.getCause());
+        assertEquals(10, takeover.getAffected());
+        assertEquals(List.of(1), jdbcTemplate.queryForList("SELECT DISTINCT score FROM scores", Integer.class));
+        assertEquals("COMPLETED", jdbcTemplate.queryForObject(
+                "SELECT status FROM batch_job_checkpoints WHERE job_name = ?", String.class, JOB));
+        assertEquals(10L, jdbcTemplate.queryForObject(
+                "SELECT last_processed_key FROM batch_job_checkpoints WHERE job_name = ?", Long.class, JOB));
+    }
+}
@@ -0,0 +1,157 @@
+package com.banking.repositories.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Expected bytes follow the PostgreSQL binary COPY file format and the {@code *_send} functions of the types.
+ */
+class PgBinaryCopyEncoderTest {
+
+    private static final String HEADER = "5047434f50590aff0d0a00" + "00000000" + "00000000";
+    private static final String TRAILER = "ffff";
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private static byte[] hex(String value) {
+        return HexFormat.of().parseHex(value.replace(" ", ""));
+    }
+
+    /**
+     * Bytes written after the file header.
+     */
+    private byte[] fieldBytes() {
+        byte[] bytes = out.toByteArray();
+        return Arrays.copyOfRange(bytes, hex(HEADER).length, bytes.length);
+    }
+
+    @Test
+    void constructor_ShouldWriteSignatureFlagsAndExtensionLength() throws IOException {
+        // Act
+        new PgBinaryCopyEncoder(out);
+
+        // Assert
+        assertArrayEquals(hex(HEADER), out.toByteArray());
+    }
+
+    @Test
+    void finish_ShouldWriteTrailerAfterRows() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.startRow(2);
+        encoder.writeLong(1L);
+        encoder.writeNull();
+        encoder.finish();
+
+        // Assert
+        assertArrayEquals(hex(HEADER
+                + "0002"
+                + "00000008 0000000000000001"
+                + "ffffffff"
+                + TRAILER), out.toByteArray());
+        assertEquals(1, encoder.getRows());
+    }
+
+    @Test
+    void write_ShouldEncodeNullAsMinusOneLengthForEveryType() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.writeLong(null);
+        encoder.writeInt(null);
+        encoder.writeText(null);
+        encoder.writeDate(null);
+        encoder.writeTimestamp(null);
+        encoder.writeNumeric(null);
+
+        // Assert
+        assertArrayEquals(hex("ffffffff".repeat(6)), fieldBytes());
+    }
+
+    @Test
+    void writeIntegers_ShouldWriteLengthAndBigEndianValue() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.writeInt(-2);
+        encoder.writeLong(4_294_967_296L);
+
+        // Assert
+        assertArrayEquals(hex("00000004 fffffffe" + "00000008 0000000100000000"), fieldBytes());
+    }
+
+    @Test
+    void writeText_ShouldWriteUtf8ByteLength() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.writeText("şü");
+        encoder.writeText("");
+
+        // Assert
+        assertArrayEquals(hex("00000004 c59fc3bc" + "00000000"), fieldBytes());
+    }
+
+    @Test
+    void writeDate_ShouldWriteDaysSincePostgresEpoch() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.writeDate(LocalDate.of(2000, 1, 2));
+        encoder.writeDate(LocalDate.of(1999, 12, 31));
+
+        // Assert
+        assertArrayEquals(hex("00000004 00000001" + "00000004 ffffffff"), fieldBytes());
+    }
+
+    @Test
+    void writeTimestamp_ShouldWriteMicrosecondsSincePostgresEpoch() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.writeTimestamp(LocalDateTime.of(2000, 1, 2, 0, 0, 0, 1_000));
+        encoder.writeTimestamp(LocalDateTime.of(1999, 12, 31, 23, 59, 59));
+
+        // Assert
+        assertArrayEquals(hex("00000008 000000141dd76001" + "00000008 fffffffffff0bdc0"), fieldBytes());
+    }
+
+    @Test
+    void writeNumeric_ShouldWriteBase10000DigitsWeightSignAndScale() throws IOException {
+        // Arrange
+        PgBinaryCopyEncoder encoder = new PgBinaryCopyEncoder(out);
+
+        // Act
+        encoder.writeNumeric(new BigDecimal("1234.56"));
+        encoder.writeNumeric(new BigDecimal("-0.05"));
+        encoder.writeNumeric(new BigDecimal("10000"));
+        encoder.writeNumeric(new BigDecimal("0.00"));
+
+        // Assert
+        assertArrayEquals(hex(
+                // ndigits 2, weight 0, positive, dscale 2, digits 1234 5600
+                "0000000c 0002 0000 0000 0002 04d2 15e0"
+                // ndigits 1, weight -1, negative, dscale 2, digit 0500
+                + "0000000a 0001 ffff 4000 0002 01f4"
+                // ndigits 1, weight 1, positive, dscale 0, digit 0001; trailing zero group not sent
+                + "0000000a 0001 0001 0000 0000 0001"
+                // zero: no digits, weight 0, dscale 2
+                + "00000008 0000 0000 0000 0002"), fieldBytes());
+    }
+}
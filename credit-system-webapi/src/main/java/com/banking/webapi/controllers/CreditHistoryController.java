@@ -150,6 +150,30 @@ public class CreditHistoryController {
         return creditHistoryService.getActiveByCustomerId(customerId, pageable);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search credit histories of a customer with optional status, credit type and date range filters")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Credit histories retrieved successfully"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @PreAuthorize("hasRole('ADMIN') or hasRole('INDIVIDUAL_CUSTOMER') or hasRole('CORPORATE_CUSTOMER')")
+    public DataResult<Page<CreditHistoryResponse>> search(
+            @RequestParam @Min(1) Long customerId,
+            @RequestParam(required = false) CreditHistoryStatus status,
+            @RequestParam(required = false) CreditType creditType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "startDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction) {
+        
+        Sort sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        return creditHistoryService.search(customerId, status, creditType, startDate, endDate, pageable);
+    }
+
     @GetMapping("/summary-by-customer")
     @Operation(summary = "Get credit history summary by customer ID")
     @ApiResponses(value = {
@@ -1,5 +1,6 @@
 package com.banking.webapi.services.auth;
 
+import com.banking.core.cache.NegativeLookupCache;
 import com.banking.core.security.jwt.JwtService;
 import com.banking.entities.User;
 import com.banking.entities.enums.Role;
@@ -34,6 +35,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final NegativeLookupCache negativeLookupCache;
     
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
@@ -76,6 +78,8 @@ public class AuthenticationService {
         }
         
         User savedUser = userRepository.save(user);
+        // Kayıttan önce yapılan bir girişin bıraktığı "bulunamadı" işareti commit sonrasında da temizlenir
+        negativeLookupCache.invalidate(NegativeLookupCache.USER_EMAIL, savedUser.getEmail());
         
         var jwtToken = jwtService.generateToken(savedUser);
         var refreshToken = jwtService.generateRefreshToken(savedUser);
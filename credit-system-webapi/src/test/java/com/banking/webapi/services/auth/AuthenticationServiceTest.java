@@ -0,0 +1,94 @@
+package com.banking.webapi.services.auth;
+
+import com.banking.business.concretes.UserDetailsServiceImpl;
+import com.banking.core.cache.NegativeLookupCache;
+import com.banking.core.security.jwt.JwtService;
+import com.banking.entities.User;
+import com.banking.repositories.abstracts.UserRepository;
+import com.banking.webapi.dtos.auth.RegisterRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuthenticationServiceTest {
+
+    private static final String EMAIL = "new.user@bank.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NegativeLookupCache negativeLookupCache =
+            new NegativeLookupCache(new ConcurrentMapCacheManager(NegativeLookupCache.CACHE_NAME));
+    private final UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository, negativeLookupCache);
+    private AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        authenticationService = new AuthenticationService(userRepository, mock(PasswordEncoder.class),
+                mock(JwtService.class), mock(AuthenticationManager.class), negativeLookupCache);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static RegisterRequest request() {
+        return RegisterRequest.builder()
+                .firstname("Ayşe")
+                .lastname("Yılmaz")
+                .email(EMAIL)
+                .username("ayse.yilmaz")
+                .password("Secret#123")
+                .build();
+    }
+
+    @Test
+    void register_ShouldClearMissingMarkerSoThatUserCanBeLoaded() {
+        // Arrange
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(EMAIL));
+
+        // Act
+        authenticationService.register(request());
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            User user = new User();
+            user.setEmail(EMAIL);
+            return Optional.of(user);
+        });
+        UserDetails loaded = userDetailsService.loadUserByUsername(EMAIL);
+
+        // Assert
+        assertNotNull(loaded);
+        assertFalse(negativeLookupCache.isKnownMissing(NegativeLookupCache.USER_EMAIL, EMAIL));
+    }
+
+    @Test
+    void register_ShouldClearMarkerRecordedBeforeCommitAgainAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        authenticationService.register(request());
+        // A login on another thread misses the uncommitted user and records the marker again
+        negativeLookupCache.recordMissing(NegativeLookupCache.USER_EMAIL, EMAIL);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertFalse(negativeLookupCache.isKnownMissing(NegativeLookupCache.USER_EMAIL, EMAIL));
+    }
+}